@@ -0,0 +1,73 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.Spliterator;
+
+/**
+ * The base of the spliterators over a range of indexes, such as the indexes of the dates of
+ * a {@link PersianDateRange} or of the points of a {@link PersianDateTimeRange}.
+ * <p>
+ * The elements of the range are computed from their index, so a spliterator only keeps the
+ * next index and the fence, and splits at the middle index. The elements are distinct,
+ * non-null and in ascending order, and the sizes of all splits are exact.
+ * <p>
+ * This class is mutable and not thread-safe.
+ *
+ * @param <S> the type of the spliterator
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+abstract class IndexSpliterator<S extends Spliterator<?>> {
+
+    static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+            | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.DISTINCT;
+
+    /**
+     * The next index, inclusive.
+     */
+    long index;
+
+    /**
+     * The last index, exclusive.
+     */
+    final long fence;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param index the first index, inclusive
+     * @param fence the last index, exclusive
+     */
+    IndexSpliterator(long index, long fence) {
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Creates a spliterator over the given indexes.
+     *
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @return a new spliterator, not null
+     */
+    abstract S split(long from, long to);
+
+    public S trySplit() {
+        final long middle = (index + fence) >>> 1;
+        if (middle <= index) {
+            return null;
+        }
+        final S prefix = split(index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,270 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * An index of ids, such as user ids, by a recurring Persian month-day, such as a birthday
+ * or the anniversary of a subscription.
+ * <p>
+ * The ids are kept in a single {@code long} array sorted by month-day, along with the
+ * offset of the first id of every month-day, so the ids of a month-day are a contiguous
+ * slice of the array. Finding the ids of a day, or of the next few days, costs time in
+ * proportion to the number of days and ids found, independent of the size of the index.
+ * <p>
+ * In a non-leap year, the anniversaries of Esfand 30 are observed on Esfand 29, the last
+ * day of the year, as described in {@link PersianMonthDay#atYear(int)}. For example:
+ * <pre>
+ *     PersianAnniversaryIndex.Builder builder = PersianAnniversaryIndex.builder();
+ *     for (User user : users) {
+ *         builder.add(user.getId(), user.getBirthDate());
+ *     }
+ *     PersianAnniversaryIndex index = builder.build();
+ *     long[] birthdaysToday = index.idsOn(PersianDate.now());
+ * </pre>
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianAnniversaryIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    /**
+     * The ids, sorted by the ordinal of their month-day.
+     */
+    private final long[] ids;
+
+    /**
+     * The offsets into {@link #ids}, where the ids of the month-day of ordinal {@code i}
+     * are found from {@code offsets[i]} inclusive to {@code offsets[i + 1]} exclusive.
+     */
+    private final int[] offsets;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param ids the ids, sorted by the ordinal of their month-day
+     * @param offsets the offsets of the first id of each month-day
+     */
+    private PersianAnniversaryIndex(long[] ids, int[] offsets) {
+        this.ids = ids;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Returns a new builder of an index.
+     *
+     * @return a new builder, not {@code null}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the number of ids in this index.
+     *
+     * @return the number of ids
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the number of ids of the given month-day.
+     *
+     * @param monthDay the month-day, not {@code null}
+     * @return the number of ids of the month-day
+     */
+    public int count(final PersianMonthDay monthDay) {
+        final int ordinal = monthDay.ordinal();
+        return offsets[ordinal + 1] - offsets[ordinal];
+    }
+
+    /**
+     * Returns the ids of exactly the given month-day, in the order they were added.
+     *
+     * @param monthDay the month-day, not {@code null}
+     * @return a new array of the ids of the month-day, not {@code null}
+     */
+    public long[] idsOf(final PersianMonthDay monthDay) {
+        final int ordinal = monthDay.ordinal();
+        return slice(offsets[ordinal], offsets[ordinal + 1]);
+    }
+
+    /**
+     * Returns the ids whose anniversary is observed on the given date. On Esfand 29 of a
+     * non-leap year these are the ids of both Esfand 29 and Esfand 30.
+     *
+     * @param date the date, not {@code null}
+     * @return a new array of the ids whose anniversary is on the date, not {@code null}
+     */
+    public long[] idsOn(final PersianDate date) {
+        Objects.requireNonNull(date, "date");
+        final int from = date.getDayOfYear() - 1;
+        return slice(offsets[from], offsets[lastOrdinalOn(date, from) + 1]);
+    }
+
+    /**
+     * Performs the given action for each id whose anniversary is observed in the given
+     * number of days starting from the given date, in the order of the days. An id is
+     * reported once for every observed anniversary, so spans longer than a year report
+     * the ids more than once.
+     *
+     * @param start the first day, not {@code null}
+     * @param days the number of days, not negative
+     * @param action the action, receiving the date of the anniversary and the id, not {@code null}
+     * @throws java.time.DateTimeException if the days exceed the supported date range
+     */
+    public void forEachInNextDays(final PersianDate start, final int days, final ObjLongConsumer<PersianDate> action) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(action, "action");
+        MyUtils.intRequireRange(days, 0, Integer.MAX_VALUE, "days");
+        PersianDate date = start;
+        for (int i = 0; i < days; i++) {
+            if (i > 0) {
+                date = date.plusDays(1);
+            }
+            final int from = date.getDayOfYear() - 1;
+            final int end = offsets[lastOrdinalOn(date, from) + 1];
+            for (int j = offsets[from]; j < end; j++) {
+                action.accept(date, ids[j]);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids whose anniversary is observed in the given number of days starting
+     * from the given date, in the order of the days, as described in
+     * {@link #forEachInNextDays(PersianDate, int, ObjLongConsumer)}.
+     *
+     * @param start the first day, not {@code null}
+     * @param days the number of days, not negative
+     * @return a new array of the ids, not {@code null}
+     * @throws java.time.DateTimeException if the days exceed the supported date range
+     */
+    public long[] idsInNextDays(final PersianDate start, final int days) {
+        Objects.requireNonNull(start, "start");
+        MyUtils.intRequireRange(days, 0, Integer.MAX_VALUE, "days");
+        // first pass to size the result exactly
+        int count = 0;
+        PersianDate date = start;
+        for (int i = 0; i < days; i++) {
+            if (i > 0) {
+                date = date.plusDays(1);
+            }
+            final int from = date.getDayOfYear() - 1;
+            count += offsets[lastOrdinalOn(date, from) + 1] - offsets[from];
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        final long[] result = new long[count];
+        int position = 0;
+        date = start;
+        for (int i = 0; i < days; i++) {
+            if (i > 0) {
+                date = date.plusDays(1);
+            }
+            final int from = offsets[date.getDayOfYear() - 1];
+            final int length = offsets[lastOrdinalOn(date, date.getDayOfYear() - 1) + 1] - from;
+            System.arraycopy(ids, from, result, position, length);
+            position += length;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the last ordinal observed on the given date, which is the ordinal of Esfand 30
+     * on the last day of a non-leap year, and the ordinal of the date otherwise.
+     */
+    private static int lastOrdinalOn(PersianDate date, int ordinal) {
+        return ordinal == PersianMonthDay.COUNT - 2 && !date.isLeapYear() ? ordinal + 1 : ordinal;
+    }
+
+    private long[] slice(int from, int to) {
+        return from == to ? EMPTY : Arrays.copyOfRange(ids, from, to);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A builder of {@link PersianAnniversaryIndex}, collecting pairs of ids and month-days
+     * into primitive arrays.
+     * <p>
+     * This class is mutable and not thread-safe.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+
+        private long[] ids = new long[16];
+
+        private short[] ordinals = new short[16];
+
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an id with the given month-day.
+         *
+         * @param id the id
+         * @param monthDay the month-day of the anniversary, not {@code null}
+         * @return this builder
+         */
+        public Builder add(final long id, final PersianMonthDay monthDay) {
+            Objects.requireNonNull(monthDay, "monthDay");
+            if (size == ids.length) {
+                final int capacity = Math.max(size + 1, size + (size >> 1));
+                ids = Arrays.copyOf(ids, capacity);
+                ordinals = Arrays.copyOf(ordinals, capacity);
+            }
+            ids[size] = id;
+            ordinals[size] = (short) monthDay.ordinal();
+            size++;
+            return this;
+        }
+
+        /**
+         * Adds an id with the month-day of the given date, such as a birth date.
+         *
+         * @param id the id
+         * @param date the date of the first occurrence, not {@code null}
+         * @return this builder
+         */
+        public Builder add(final long id, final PersianDate date) {
+            return add(id, PersianMonthDay.of(date));
+        }
+
+        /**
+         * Builds the index of the ids added so far, sorted by month-day with a counting
+         * sort. The builder can be used further after this call.
+         *
+         * @return the index, not {@code null}
+         */
+        public PersianAnniversaryIndex build() {
+            final int[] offsets = new int[PersianMonthDay.COUNT + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[ordinals[i] + 1]++;
+            }
+            for (int i = 0; i < PersianMonthDay.COUNT; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            final int[] positions = Arrays.copyOf(offsets, PersianMonthDay.COUNT);
+            final long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[positions[ordinals[i]]++] = ids[i];
+            }
+            return new PersianAnniversaryIndex(sorted, offsets);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Rolls up time series points, pairs of an instant and a value, into the buckets of a
+ * {@link PersianBuckets} table, keeping the count, sum, minimum and maximum of each bucket.
+ * <p>
+ * A point is added by finding its bucket with {@link PersianBuckets#indexOf(long)} and updating
+ * four primitive arrays, so adding a point creates no objects. Points out of the table are
+ * not added, and are only counted by {@link #getRejectedCount()}.
+ * <p>
+ * To aggregate in parallel, each worker fills its own aggregator of the same table, and the
+ * partial aggregators are then combined with {@link #merge(PersianBucketAggregator)}. For example:
+ * <pre>
+ *     PersianBuckets days = PersianBuckets.of(start, end, ChronoUnit.DAYS, ZoneId.of("Asia/Tehran"));
+ *     PersianBucketAggregator total = chunks.parallelStream()
+ *             .map(chunk -&gt; new PersianBucketAggregator(days).addAll(chunk.millis, chunk.values))
+ *             .reduce(PersianBucketAggregator::merge)
+ *             .orElseGet(() -&gt; new PersianBucketAggregator(days));
+ *     SortedMap&lt;PersianDate, PersianBucketAggregator.Stats&gt; daily = total.toMap();
+ * </pre>
+ * <p>
+ * This class is mutable and not thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+public final class PersianBucketAggregator {
+
+    private final PersianBuckets buckets;
+    private final long[] counts;
+    private final double[] sums;
+    private final double[] mins;
+    private final double[] maxs;
+    private long rejected;
+
+    /**
+     * Creates an empty aggregator of the given buckets.
+     *
+     * @param buckets the buckets, not null
+     */
+    public PersianBucketAggregator(PersianBuckets buckets) {
+        this.buckets = Objects.requireNonNull(buckets, "buckets");
+        final int size = buckets.size();
+        this.counts = new long[size];
+        this.sums = new double[size];
+        this.mins = new double[size];
+        this.maxs = new double[size];
+        Arrays.fill(mins, Double.POSITIVE_INFINITY);
+        Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Returns the buckets of this aggregator.
+     *
+     * @return the buckets, not null
+     */
+    public PersianBuckets getBuckets() {
+        return buckets;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Adds a point.
+     *
+     * @param epochMilli the instant of the point, as milliseconds from 1970-01-01T00:00Z
+     * @param value the value of the point
+     * @return true if the point was added, false if it is out of all buckets
+     */
+    public boolean add(long epochMilli, double value) {
+        final int index = buckets.indexOf(epochMilli);
+        if (index < 0) {
+            rejected++;
+            return false;
+        }
+        counts[index]++;
+        sums[index] += value;
+        if (value < mins[index]) {
+            mins[index] = value;
+        }
+        if (value > maxs[index]) {
+            maxs[index] = value;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the points of two parallel arrays.
+     *
+     * @param epochMillis the instants of the points, not null
+     * @param values the values of the points, of the same length, not null
+     * @return this aggregator, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public PersianBucketAggregator addAll(long[] epochMillis, double[] values) {
+        if (epochMillis.length != values.length) {
+            throw new IllegalArgumentException("arrays have different lengths: " +
+                    epochMillis.length + ", " + values.length);
+        }
+        for (int i = 0; i < epochMillis.length; i++) {
+            add(epochMillis[i], values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the statistics of another aggregator of the same buckets to this aggregator. The
+     * other aggregator is not changed.
+     *
+     * @param other the other aggregator, not null
+     * @return this aggregator, not null
+     * @throws IllegalArgumentException if the other aggregator has other buckets
+     */
+    public PersianBucketAggregator merge(PersianBucketAggregator other) {
+        if (!buckets.equals(other.buckets)) {
+            throw new IllegalArgumentException("Cannot merge aggregators of different buckets: " +
+                    buckets + ", " + other.buckets);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+            sums[i] += other.sums[i];
+            mins[i] = Math.min(mins[i], other.mins[i]);
+            maxs[i] = Math.max(maxs[i], other.maxs[i]);
+        }
+        rejected += other.rejected;
+        return this;
+    }
+
+    /**
+     * Clears all statistics of this aggregator.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(sums, 0);
+        Arrays.fill(mins, Double.POSITIVE_INFINITY);
+        Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+        rejected = 0;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the number of points of a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the number of points
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getCount(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Returns the sum of the values of a bucket, or zero if it is empty.
+     *
+     * @param index the index of the bucket
+     * @return the sum of the values
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getSum(int index) {
+        return sums[index];
+    }
+
+    /**
+     * Returns the minimum value of a bucket, or positive infinity if it is empty.
+     *
+     * @param index the index of the bucket
+     * @return the minimum value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getMin(int index) {
+        return mins[index];
+    }
+
+    /**
+     * Returns the maximum value of a bucket, or negative infinity if it is empty.
+     *
+     * @param index the index of the bucket
+     * @return the maximum value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getMax(int index) {
+        return maxs[index];
+    }
+
+    /**
+     * Returns the number of points that were out of all buckets.
+     *
+     * @return the number of rejected points
+     */
+    public long getRejectedCount() {
+        return rejected;
+    }
+
+    /**
+     * Returns the statistics of a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the statistics of the bucket, not null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Stats getStats(int index) {
+        return new Stats(counts[index], sums[index], mins[index], maxs[index]);
+    }
+
+    /**
+     * Returns the statistics of the non-empty buckets, keyed by the first day of each bucket.
+     *
+     * @return the statistics of the non-empty buckets, not null
+     */
+    public SortedMap<PersianDate, Stats> toMap() {
+        final SortedMap<PersianDate, Stats> map = new TreeMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                map.put(buckets.getStartDate(i), getStats(i));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Returns the statistics of the non-empty buckets, keyed by the first month of each
+     * bucket. The buckets must be months or longer.
+     *
+     * @return the statistics of the non-empty buckets, not null
+     * @throws UnsupportedTemporalTypeException if the buckets are days or weeks
+     */
+    public SortedMap<PersianYearMonth, Stats> toYearMonthMap() {
+        if (buckets.getUnit() == ChronoUnit.DAYS || buckets.getUnit() == ChronoUnit.WEEKS) {
+            throw new UnsupportedTemporalTypeException("Buckets are shorter than a month: " + buckets.getUnit());
+        }
+        final SortedMap<PersianYearMonth, Stats> map = new TreeMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                map.put(buckets.getYearMonth(i), getStats(i));
+            }
+        }
+        return map;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * The statistics of a bucket.
+     * <p>
+     * This class is immutable and can be used in multi-threaded environments.
+     */
+    @Immutable
+    public static final class Stats {
+
+        private final long count;
+        private final double sum;
+        private final double min;
+        private final double max;
+
+        Stats(long count, double sum, double min, double max) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Returns the number of points.
+         *
+         * @return the number of points
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of the values.
+         *
+         * @return the sum of the values
+         */
+        public double getSum() {
+            return sum;
+        }
+
+        /**
+         * Returns the minimum value, or positive infinity if there are no points.
+         *
+         * @return the minimum value
+         */
+        public double getMin() {
+            return min;
+        }
+
+        /**
+         * Returns the maximum value, or negative infinity if there are no points.
+         *
+         * @return the maximum value
+         */
+        public double getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the mean of the values, or {@code NaN} if there are no points.
+         *
+         * @return the mean of the values
+         */
+        public double getMean() {
+            return count == 0 ? Double.NaN : sum / count;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Stats other = (Stats) obj;
+            return count == other.count && Double.compare(sum, other.sum) == 0
+                    && Double.compare(min, other.min) == 0 && Double.compare(max, other.max) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, sum, min, max);
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max + "]";
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A table of consecutive Persian calendar periods in a time-zone, such as the days, weeks or
+ * months between two dates, with the instants at which the periods start.
+ * <p>
+ * The periods of a table are called buckets, and are numbered from zero. Bucket {@code i}
+ * starts at {@link #getStartEpochMilli(int)} inclusive and ends at the start of bucket
+ * {@code i + 1} exclusive. The start of a bucket is the start of its first day in the zone,
+ * so a bucket that starts at a daylight saving time gap starts at the end of the gap. The
+ * buckets are:
+ * <ul>
+ * <li>{@link ChronoUnit#DAYS}, the days</li>
+ * <li>{@link ChronoUnit#WEEKS}, the weeks starting on Saturday</li>
+ * <li>{@link ChronoUnit#MONTHS}, the Persian months</li>
+ * <li>{@link PersianFields#QUARTER_YEARS}, the seasons</li>
+ * <li>{@link PersianFields#HALF_YEARS}, the half-years</li>
+ * <li>{@link ChronoUnit#YEARS}, the Persian years</li>
+ * </ul>
+ * The boundaries are computed once, when the table is created, so that finding the bucket of
+ * an instant with {@link #indexOf(long)} needs neither a {@link PersianDateTime} nor the rules
+ * of the zone. The buckets are almost equally long, so the bucket of an instant is first
+ * estimated from the average length of a bucket and then corrected by a step or two, which
+ * makes a lookup take constant time whatever the size of the table. For example:
+ * <pre>
+ *     PersianBuckets months = PersianBuckets.of(PersianDate.of(1400, 1, 1), PersianDate.of(1403, 1, 1),
+ *             ChronoUnit.MONTHS, ZoneId.of("Asia/Tehran"));
+ *     int bucket = months.indexOf(epochMilli);    // 0 to 35, or -1 if out of the table
+ *     PersianYearMonth month = months.getYearMonth(bucket);
+ * </pre>
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianBuckets {
+
+    private final TemporalUnit unit;
+    private final ZoneId zone;
+
+    /**
+     * The epoch days of the starts of the buckets, followed by the end of the last bucket.
+     */
+    private final int[] epochDays;
+
+    /**
+     * The epoch milliseconds of the starts of the buckets, followed by the end of the last bucket.
+     */
+    private final long[] boundaries;
+
+    /**
+     * The average length of a bucket in milliseconds, at least one.
+     */
+    private final long averageMillis;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param unit the unit of the buckets
+     * @param zone the time-zone
+     * @param epochDays the epoch days of the boundaries
+     */
+    private PersianBuckets(TemporalUnit unit, ZoneId zone, int[] epochDays) {
+        this.unit = unit;
+        this.zone = zone;
+        this.epochDays = epochDays;
+        this.boundaries = new long[epochDays.length];
+        final ZoneOffsetCache offsets = ZoneOffsetCache.of(zone);
+        for (int i = 0; i < epochDays.length; i++) {
+            final long localSecond = epochDays[i] * 86_400L;
+            boundaries[i] = (localSecond - offsets.getOffsetOfLocal(localSecond).getTotalSeconds()) * 1000L;
+        }
+        final int size = epochDays.length - 1;
+        this.averageMillis = size == 0 ? 1 : Math.max(1, (boundaries[size] - boundaries[0]) / size);
+    }
+
+    /**
+     * Obtains the buckets that cover the dates from the start date inclusive to the end date
+     * exclusive. The first bucket is the one that contains the start date, and the last
+     * bucket is the one that contains the day before the end date, so the buckets of weeks,
+     * months and longer periods may start before the start date and end after the end date.
+     * If the end date is equal to the start date, the table has no buckets.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive the end date, exclusive, not null
+     * @param unit the unit of the buckets, not null
+     * @param zone the time-zone of the boundaries, not null
+     * @return the table of buckets, not null
+     * @throws DateTimeException if the end date is before the start date, or the end of the
+     *                           last bucket is out of the range of {@code PersianDate}
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public static PersianBuckets of(PersianDate startInclusive, PersianDate endExclusive, TemporalUnit unit,
+                                    ZoneId zone) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        Objects.requireNonNull(zone, "zone");
+        if (endExclusive.isBefore(startInclusive)) {
+            throw new DateTimeException("End date must not be before start date: " +
+                    startInclusive + ", " + endExclusive);
+        }
+        final long end = endExclusive.toEpochDay();
+        int[] epochDays;
+        final int days = daysOf(unit);
+        if (days > 0) {
+            final long first = days == 7
+                    ? PersianWeekFields.startOfWeek(startInclusive.toEpochDay())
+                    : startInclusive.toEpochDay();
+            final int size = (int) ((end - first + days - 1) / days);
+            epochDays = new int[size + 1];
+            for (int i = 0; i <= size; i++) {
+                epochDays[i] = (int) (first + (long) i * days);
+            }
+        } else {
+            final int months = monthsOf(unit);
+            final int firstMonth = (startInclusive.getMonthValue() - 1) / months * months;
+            final int firstProlepticMonth = startInclusive.getYear() * 12 + firstMonth;
+            int size = 0;
+            int[] table = new int[16];
+            table[0] = (int) PersianDate.toEpochDay(startInclusive.getYear(), firstMonth + 1, 1);
+            while (table[size] < end) {
+                size++;
+                if (size == table.length) {
+                    table = Arrays.copyOf(table, size * 2);
+                }
+                final int prolepticMonth = firstProlepticMonth + size * months;
+                table[size] = (int) PersianDate.toEpochDay(prolepticMonth / 12, prolepticMonth % 12 + 1, 1);
+            }
+            epochDays = Arrays.copyOf(table, size + 1);
+        }
+        if (end == startInclusive.toEpochDay()) {
+            // no day to cover, even if the start date is within the first bucket
+            epochDays = Arrays.copyOf(epochDays, 1);
+        }
+        if (epochDays[epochDays.length - 1] > PersianDate.MAX.toEpochDay() + 1) {
+            throw new DateTimeException("Out of the range of PersianDate: " + startInclusive + ", " + endExclusive);
+        }
+        return new PersianBuckets(unit, zone, epochDays);
+    }
+
+    private static int daysOf(TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        return unit == ChronoUnit.DAYS ? 1 : unit == ChronoUnit.WEEKS ? 7 : 0;
+    }
+
+    private static int monthsOf(TemporalUnit unit) {
+        if (unit == ChronoUnit.MONTHS) {
+            return 1;
+        } else if (unit == PersianFields.QUARTER_YEARS) {
+            return 3;
+        } else if (unit == PersianFields.HALF_YEARS) {
+            return 6;
+        } else if (unit == ChronoUnit.YEARS) {
+            return 12;
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the unit of the buckets.
+     *
+     * @return the unit, not null
+     */
+    public TemporalUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the time-zone of the boundaries.
+     *
+     * @return the time-zone, not null
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns the number of buckets.
+     *
+     * @return the number of buckets, zero or more
+     */
+    public int size() {
+        return epochDays.length - 1;
+    }
+
+    /**
+     * Returns the index of the bucket that contains the given instant.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00Z
+     * @return the index of the bucket, or -1 if the instant is out of all buckets
+     */
+    public int indexOf(long epochMilli) {
+        final long[] boundaries = this.boundaries;
+        final int size = boundaries.length - 1;
+        if (epochMilli < boundaries[0] || epochMilli >= boundaries[size]) {
+            return -1;
+        }
+        int index = (int) Math.min((epochMilli - boundaries[0]) / averageMillis, size - 1);
+        while (boundaries[index] > epochMilli) {
+            index--;
+        }
+        while (boundaries[index + 1] <= epochMilli) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the bucket that contains the given date.
+     *
+     * @param date the date, not null
+     * @return the index of the bucket, or -1 if the date is out of all buckets
+     */
+    public int indexOf(PersianDate date) {
+        return indexOfEpochDay(date.toEpochDay());
+    }
+
+    /**
+     * Returns the index of the bucket that contains the given epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the index of the bucket, or -1 if the epoch day is out of all buckets
+     */
+    public int indexOfEpochDay(long epochDay) {
+        final int[] epochDays = this.epochDays;
+        if (epochDay < epochDays[0] || epochDay >= epochDays[epochDays.length - 1]) {
+            return -1;
+        }
+        final int index = Arrays.binarySearch(epochDays, (int) epochDay);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Returns the epoch milliseconds of the start of a bucket. The index may be equal to the
+     * size, for the end of the last bucket.
+     *
+     * @param index the index of the bucket, from zero to the size inclusive
+     * @return the epoch milliseconds of the start of the bucket
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getStartEpochMilli(int index) {
+        return boundaries[index];
+    }
+
+    /**
+     * Returns the epoch milliseconds of the end of a bucket, exclusive.
+     *
+     * @param index the index of the bucket, from zero to the size exclusive
+     * @return the epoch milliseconds of the end of the bucket
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEndEpochMilli(int index) {
+        checkIndex(index);
+        return boundaries[index + 1];
+    }
+
+    /**
+     * Returns the epoch day of the first day of a bucket. The index may be equal to the size,
+     * for the day after the last bucket.
+     *
+     * @param index the index of the bucket, from zero to the size inclusive
+     * @return the epoch day of the first day of the bucket
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getStartEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * Returns the first day of a bucket.
+     *
+     * @param index the index of the bucket, from zero to the size exclusive
+     * @return the first day of the bucket, not null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersianDate getStartDate(int index) {
+        checkIndex(index);
+        return PersianDate.ofEpochDay(epochDays[index]);
+    }
+
+    /**
+     * Returns the year-month of the first day of a bucket.
+     *
+     * @param index the index of the bucket, from zero to the size exclusive
+     * @return the year-month of the bucket, not null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersianYearMonth getYearMonth(int index) {
+        return PersianYearMonth.of(getStartDate(index));
+    }
+
+    /**
+     * Returns the epoch milliseconds of the boundaries of the buckets, that is the starts of
+     * all buckets followed by the end of the last bucket. The returned array is a copy and
+     * may be modified.
+     *
+     * @return the size plus one boundaries, not null
+     */
+    public long[] getBoundaries() {
+        return boundaries.clone();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks if this table is equal to another one, that is if they have the same unit,
+     * zone and buckets.
+     *
+     * @param obj the object to check, null returns false
+     * @return true if this is equal to the other table
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PersianBuckets other = (PersianBuckets) obj;
+        return unit.equals(other.unit) && zone.equals(other.zone) && Arrays.equals(epochDays, other.epochDays);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(unit, zone, epochDays[0], epochDays.length);
+    }
+
+    /**
+     * Returns a string representation of this table, like
+     * {@code Months[1400-01-01, size=36, Asia/Tehran]}, with the first day of the first bucket.
+     *
+     * @return a string representation of this table, not null
+     */
+    @Override
+    public String toString() {
+        return unit + "[" + PersianDate.ofEpochDay(epochDays[0]) + ", size=" + size() + ", " + zone + "]";
+    }
+}
@@ -0,0 +1,540 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
+import net.jcip.annotations.ThreadSafe;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A calendar of working days over a range of Persian years, for counting deadlines in
+ * business days.
+ * <p>
+ * A day is a business day unless it is a weekend day or a holiday. By default Friday is the
+ * only weekend day; Thursday can be made a weekend day, or a half-day that still counts as
+ * a business day. Holidays are either dates, or month-days that recur every year, such as
+ * Nowruz.
+ * <p>
+ * The holidays are kept in a bit set of the days of the range, along with the number of
+ * business days before every day and the list of the business days themselves. So checking
+ * a day, counting the business days between two days, and moving a day by a number of
+ * business days, all take constant time whatever the distance. For example:
+ * <pre>
+ *     PersianBusinessCalendar calendar = PersianBusinessCalendar.builder()
+ *             .years(1400, 1410)
+ *             .halfDays(DayOfWeek.THURSDAY)
+ *             .annualHoliday(PersianMonthDay.of(1, 1))
+ *             .holiday(PersianDate.of(1402, 4, 6))
+ *             .build();
+ *     PersianDate dueDate = calendar.plusBusinessDays(PersianDate.now(), 10);
+ * </pre>
+ * The holidays can be changed at runtime with {@link #addHoliday(PersianDate)},
+ * {@link #removeHoliday(PersianDate)} and {@link #setHolidays(Iterable)}. A change builds
+ * new tables and publishes them at once, so readers never block and always see either the
+ * tables before or after the change.
+ * <p>
+ * Methods of this class throw {@link DateTimeException} for dates out of the years of the
+ * calendar. This class is thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@ThreadSafe
+public final class PersianBusinessCalendar {
+
+    private final int firstYear;
+    private final int lastYear;
+    private final int firstEpochDay;
+    private final int length;
+
+    /**
+     * The weekend days, as bits indexed by {@code DayOfWeek.ordinal()}.
+     */
+    private final int weekendMask;
+
+    /**
+     * The half-days, as bits indexed by {@code DayOfWeek.ordinal()}.
+     */
+    private final int halfDayMask;
+
+    /**
+     * The ordinals of the month-days of the annual holidays.
+     */
+    private final int[] annualHolidays;
+
+    private volatile Tables tables;
+
+    /**
+     * Creates a new instance of this class from a builder.
+     *
+     * @param builder the builder, not null
+     */
+    private PersianBusinessCalendar(Builder builder) {
+        this.firstYear = builder.firstYear;
+        this.lastYear = builder.lastYear;
+        this.firstEpochDay = (int) PersianYear.of(firstYear).getFirstEpochDay();
+        this.length = (int) (PersianYear.of(lastYear).getLastEpochDay() - firstEpochDay + 1);
+        this.weekendMask = builder.weekendMask;
+        this.halfDayMask = builder.halfDayMask;
+        this.annualHolidays = Arrays.copyOf(builder.annualHolidays, builder.annualHolidayCount);
+        this.tables = new Tables(holidaysOf(builder.holidays, builder.holidayCount));
+    }
+
+    /**
+     * Returns a new builder of a calendar.
+     *
+     * @return a new builder, not {@code null}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the first date of this calendar, the first day of its first year.
+     *
+     * @return the first date of this calendar, not null
+     */
+    public PersianDate getFirstDate() {
+        return PersianDate.ofEpochDay(firstEpochDay);
+    }
+
+    /**
+     * Returns the last date of this calendar, the last day of its last year.
+     *
+     * @return the last date of this calendar, not null
+     */
+    public PersianDate getLastDate() {
+        return PersianDate.ofEpochDay(firstEpochDay + length - 1);
+    }
+
+    /**
+     * Checks if the given date is a business day.
+     *
+     * @param date the date to check, not null
+     * @return true if the date is neither a weekend day nor a holiday
+     * @throws DateTimeException if the date is out of the range of this calendar
+     */
+    public boolean isBusinessDay(PersianDate date) {
+        return isBusinessDay(date.toEpochDay());
+    }
+
+    /**
+     * Checks if the given epoch day is a business day.
+     *
+     * @param epochDay the epoch day to check
+     * @return true if the day is neither a weekend day nor a holiday
+     * @throws DateTimeException if the day is out of the range of this calendar
+     */
+    public boolean isBusinessDay(long epochDay) {
+        final int index = indexOf(epochDay);
+        final int[] before = tables.businessBefore;
+        return before[index + 1] != before[index];
+    }
+
+    /**
+     * Checks if the given date is a holiday, whatever its day-of-week.
+     *
+     * @param date the date to check, not null
+     * @return true if the date is a holiday
+     * @throws DateTimeException if the date is out of the range of this calendar
+     */
+    public boolean isHoliday(PersianDate date) {
+        return isSet(tables.holidays, indexOf(date.toEpochDay()));
+    }
+
+    /**
+     * Checks if the given date is a business day that is a half-day, such as a Thursday.
+     *
+     * @param date the date to check, not null
+     * @return true if the date is a business day and a half-day
+     * @throws DateTimeException if the date is out of the range of this calendar
+     */
+    public boolean isHalfDay(PersianDate date) {
+        final long epochDay = date.toEpochDay();
+        return isBusinessDay(epochDay) && (halfDayMask & dayOfWeekBit(epochDay)) != 0;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the date that is the given number of business days after the given date.
+     * <p>
+     * For a positive amount, the result is the {@code n}-th business day after the date; for
+     * a negative amount, it is the {@code n}-th business day before the date. The date itself
+     * is not counted, and is returned unchanged if the amount is zero.
+     *
+     * @param date the date to start from, not null
+     * @param businessDays the number of business days to add, may be negative
+     * @return the resulting date, not null
+     * @throws DateTimeException if the date or the result is out of the range of this calendar
+     */
+    public PersianDate plusBusinessDays(PersianDate date, int businessDays) {
+        final long epochDay = plusBusinessDays(date.toEpochDay(), businessDays);
+        return businessDays == 0 ? date : PersianDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the date that is the given number of business days before the given date.
+     *
+     * @param date the date to start from, not null
+     * @param businessDays the number of business days to subtract, may be negative
+     * @return the resulting date, not null
+     * @throws DateTimeException if the date or the result is out of the range of this calendar
+     * @see #plusBusinessDays(PersianDate, int)
+     */
+    public PersianDate minusBusinessDays(PersianDate date, int businessDays) {
+        return plusBusinessDays(date, Math.negateExact(businessDays));
+    }
+
+    /**
+     * Returns the epoch day that is the given number of business days after the given
+     * epoch day.
+     *
+     * @param epochDay the epoch day to start from
+     * @param businessDays the number of business days to add, may be negative
+     * @return the resulting epoch day
+     * @throws DateTimeException if the day or the result is out of the range of this calendar
+     * @see #plusBusinessDays(PersianDate, int)
+     */
+    public long plusBusinessDays(long epochDay, int businessDays) {
+        final int index = indexOf(epochDay);
+        if (businessDays == 0) {
+            return epochDay;
+        }
+        final Tables current = tables;
+        final long target = businessDays > 0
+                ? (long) current.businessBefore[index + 1] + businessDays - 1
+                : (long) current.businessBefore[index] + businessDays;
+        if (target < 0 || target >= current.businessDays.length) {
+            throw new DateTimeException("Result out of the range of the business calendar: " +
+                    PersianDate.ofEpochDay(epochDay) + " plus " + businessDays + " business days");
+        }
+        return firstEpochDay + current.businessDays[(int) target];
+    }
+
+    /**
+     * Returns the first business day after the given date.
+     *
+     * @param date the date to start from, not null
+     * @return the next business day, not null
+     * @throws DateTimeException if the date or the result is out of the range of this calendar
+     */
+    public PersianDate nextBusinessDay(PersianDate date) {
+        return plusBusinessDays(date, 1);
+    }
+
+    /**
+     * Returns the given date if it is a business day, otherwise the first business day
+     * after it.
+     *
+     * @param date the date to start from, not null
+     * @return the date or the next business day, not null
+     * @throws DateTimeException if the date or the result is out of the range of this calendar
+     */
+    public PersianDate nextOrSameBusinessDay(PersianDate date) {
+        return isBusinessDay(date) ? date : plusBusinessDays(date, 1);
+    }
+
+    /**
+     * Returns the last business day before the given date.
+     *
+     * @param date the date to start from, not null
+     * @return the previous business day, not null
+     * @throws DateTimeException if the date or the result is out of the range of this calendar
+     */
+    public PersianDate previousBusinessDay(PersianDate date) {
+        return plusBusinessDays(date, -1);
+    }
+
+    /**
+     * Counts the business days from the start date inclusive to the end date exclusive.
+     * The result is negative if the end is before the start.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive the end date, exclusive, not null
+     * @return the number of business days between the dates
+     * @throws DateTimeException if a date is out of the range of this calendar
+     */
+    public int businessDaysBetween(PersianDate startInclusive, PersianDate endExclusive) {
+        return businessDaysBetween(startInclusive.toEpochDay(), endExclusive.toEpochDay());
+    }
+
+    /**
+     * Counts the business days from the start epoch day inclusive to the end epoch day
+     * exclusive. The result is negative if the end is before the start.
+     *
+     * @param startInclusive the start epoch day, inclusive
+     * @param endExclusive the end epoch day, exclusive
+     * @return the number of business days between the days
+     * @throws DateTimeException if a day is out of the range of this calendar
+     */
+    public int businessDaysBetween(long startInclusive, long endExclusive) {
+        final int start = indexOf(startInclusive);
+        final int end = endExclusive == firstEpochDay + length ? length : indexOf(endExclusive);
+        final int[] before = tables.businessBefore;
+        return before[end] - before[start];
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Adds a holiday to this calendar.
+     *
+     * @param date the holiday, not null
+     * @throws DateTimeException if the date is out of the range of this calendar
+     */
+    public synchronized void addHoliday(PersianDate date) {
+        final int index = indexOf(date.toEpochDay());
+        final long[] holidays = tables.holidays.clone();
+        holidays[index >>> 6] |= 1L << index;
+        tables = new Tables(holidays);
+    }
+
+    /**
+     * Removes a holiday from this calendar, which can be a date or an occurrence of an
+     * annual holiday.
+     *
+     * @param date the holiday, not null
+     * @throws DateTimeException if the date is out of the range of this calendar
+     */
+    public synchronized void removeHoliday(PersianDate date) {
+        final int index = indexOf(date.toEpochDay());
+        final long[] holidays = tables.holidays.clone();
+        holidays[index >>> 6] &= ~(1L << index);
+        tables = new Tables(holidays);
+    }
+
+    /**
+     * Replaces the holidays of this calendar with the given dates along with the annual
+     * holidays of the builder. Dates out of the range of this calendar are ignored.
+     *
+     * @param dates the new holidays, not null
+     */
+    public synchronized void setHolidays(Iterable<PersianDate> dates) {
+        Objects.requireNonNull(dates, "dates");
+        final Builder builder = new Builder();
+        for (PersianDate date : dates) {
+            builder.holiday(date);
+        }
+        tables = new Tables(holidaysOf(builder.holidays, builder.holidayCount));
+    }
+
+    private long[] holidaysOf(int[] epochDays, int count) {
+        final long[] holidays = new long[(length + 63) >>> 6];
+        for (int year = firstYear; year <= lastYear; year++) {
+            final PersianYear persianYear = PersianYear.of(year);
+            for (int ordinal : annualHolidays) {
+                final PersianMonthDay monthDay = PersianMonthDay.ofOrdinal(ordinal);
+                if (monthDay.isValidYear(year)) {
+                    final int index = (int) (persianYear.getFirstEpochDay() - firstEpochDay) + ordinal;
+                    holidays[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            final long index = (long) epochDays[i] - firstEpochDay;
+            if (index >= 0 && index < length) {
+                holidays[(int) index >>> 6] |= 1L << index;
+            }
+        }
+        return holidays;
+    }
+
+    private int indexOf(long epochDay) {
+        final long index = epochDay - firstEpochDay;
+        if (index < 0 || index >= length) {
+            throw new DateTimeException("Out of the range of the business calendar: " + epochDay +
+                    ", expected epoch days from " + firstEpochDay + " to " + (firstEpochDay + length - 1));
+        }
+        return (int) index;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & 1L << index) != 0;
+    }
+
+    private static int dayOfWeekBit(long epochDay) {
+        // 1970-01-01 is a Thursday, with the ordinal 3
+        return 1 << (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    /**
+     * A string representation of this calendar, like
+     * {@code PersianBusinessCalendar[1400..1410]}.
+     *
+     * @return a string representation of this calendar, not null
+     */
+    @Override
+    public String toString() {
+        return "PersianBusinessCalendar[" + firstYear + ".." + lastYear + ']';
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * The tables of a set of holidays, which are replaced as a whole when the holidays change.
+     */
+    @Immutable
+    private final class Tables {
+
+        /**
+         * The holidays, as bits indexed by the day from the start of the calendar.
+         */
+        private final long[] holidays;
+
+        /**
+         * The number of business days before each day, from the start of the calendar.
+         * The last element is the number of business days in the calendar.
+         */
+        private final int[] businessBefore;
+
+        /**
+         * The indexes of the business days, from the start of the calendar.
+         */
+        private final int[] businessDays;
+
+        private Tables(long[] holidays) {
+            this.holidays = holidays;
+            this.businessBefore = new int[length + 1];
+            final int[] days = new int[length];
+            int count = 0;
+            for (int index = 0; index < length; index++) {
+                if (!isSet(holidays, index) && (weekendMask & dayOfWeekBit(firstEpochDay + index)) == 0) {
+                    days[count++] = index;
+                }
+                businessBefore[index + 1] = count;
+            }
+            this.businessDays = Arrays.copyOf(days, count);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A builder of {@link PersianBusinessCalendar}. By default the calendar covers the years
+     * from 1350 to 1450, with Friday as the weekend, no half-days and no holidays.
+     * <p>
+     * This class is not thread-safe.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+
+        private int firstYear = 1350;
+        private int lastYear = 1450;
+        private int weekendMask = 1 << DayOfWeek.FRIDAY.ordinal();
+        private int halfDayMask;
+        private int[] annualHolidays = new int[16];
+        private int annualHolidayCount;
+        private int[] holidays = new int[64];
+        private int holidayCount;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the years of the calendar.
+         *
+         * @param firstYear the first year, inclusive
+         * @param lastYear the last year, inclusive, not before the first year
+         * @return this builder, not null
+         * @throws DateTimeException if a year is out of the range of {@code PersianDate}
+         * @throws IllegalArgumentException if the last year is before the first year
+         */
+        public Builder years(int firstYear, int lastYear) {
+            PersianYear.of(firstYear);
+            PersianYear.of(lastYear);
+            MyUtils.intRequireRange(lastYear, firstYear, Integer.MAX_VALUE, "lastYear");
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+            return this;
+        }
+
+        /**
+         * Sets the weekend days, replacing Friday.
+         *
+         * @param days the weekend days, not null, may be empty
+         * @return this builder, not null
+         */
+        public Builder weekend(DayOfWeek... days) {
+            weekendMask = maskOf(days);
+            return this;
+        }
+
+        /**
+         * Sets the half-days, which count as business days unless they are holidays.
+         *
+         * @param days the half-days, not null, may be empty
+         * @return this builder, not null
+         */
+        public Builder halfDays(DayOfWeek... days) {
+            halfDayMask = maskOf(days);
+            return this;
+        }
+
+        /**
+         * Adds a holiday that recurs every year. A holiday on Esfand 30 is observed in leap
+         * years only.
+         *
+         * @param monthDay the month-day of the holiday, not null
+         * @return this builder, not null
+         */
+        public Builder annualHoliday(PersianMonthDay monthDay) {
+            Objects.requireNonNull(monthDay, "monthDay");
+            if (annualHolidayCount == annualHolidays.length) {
+                annualHolidays = Arrays.copyOf(annualHolidays, annualHolidayCount * 2);
+            }
+            annualHolidays[annualHolidayCount++] = monthDay.ordinal();
+            return this;
+        }
+
+        /**
+         * Adds a holiday. Holidays out of the years of the calendar are ignored.
+         *
+         * @param date the holiday, not null
+         * @return this builder, not null
+         */
+        public Builder holiday(PersianDate date) {
+            Objects.requireNonNull(date, "date");
+            if (holidayCount == holidays.length) {
+                holidays = Arrays.copyOf(holidays, holidayCount * 2);
+            }
+            holidays[holidayCount++] = (int) date.toEpochDay();
+            return this;
+        }
+
+        /**
+         * Adds holidays. Holidays out of the years of the calendar are ignored.
+         *
+         * @param dates the holidays, not null
+         * @return this builder, not null
+         */
+        public Builder holidays(Iterable<PersianDate> dates) {
+            Objects.requireNonNull(dates, "dates");
+            for (PersianDate date : dates) {
+                holiday(date);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the calendar.
+         *
+         * @return a new calendar, not null
+         */
+        public PersianBusinessCalendar build() {
+            return new PersianBusinessCalendar(this);
+        }
+
+        private static int maskOf(DayOfWeek[] days) {
+            int mask = 0;
+            for (DayOfWeek day : days) {
+                mask |= 1 << day.ordinal();
+            }
+            return mask;
+        }
+    }
+}
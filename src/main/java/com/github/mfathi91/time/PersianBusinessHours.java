@@ -0,0 +1,404 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.NANO_OF_DAY;
+
+/**
+ * Working hours of a week, for computing deadlines counted in working time, such as the
+ * response time of a support ticket.
+ * <p>
+ * Each day-of-week has its own shifts, and holidays have no working time at all. For
+ * example, the usual office hours in Iran are:
+ * <pre>
+ *     PersianBusinessHours hours = PersianBusinessHours.builder()
+ *             .shift(DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(16, 0))
+ *             .shift(DayOfWeek.SUNDAY, LocalTime.of(8, 0), LocalTime.of(16, 0))
+ *             .shift(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(16, 0))
+ *             .shift(DayOfWeek.TUESDAY, LocalTime.of(8, 0), LocalTime.of(16, 0))
+ *             .shift(DayOfWeek.WEDNESDAY, LocalTime.of(8, 0), LocalTime.of(16, 0))
+ *             .shift(DayOfWeek.THURSDAY, LocalTime.of(8, 0), LocalTime.of(12, 0))
+ *             .holidays(PersianHolidays.official().getHolidays(1402))
+ *             .build();
+ *     PersianDateTime deadline = hours.plusWorkingTime(ticket.getCreated(), Duration.ofHours(8));
+ * </pre>
+ * The working time from a fixed Saturday to any instant is computed from the working time of
+ * a whole week and tables of the working time of every day and shift, minus the working time
+ * lost on the holidays before it. The working time between two date-times is the difference
+ * of two such values, and a deadline is found by inverting it, skipping whole weeks at once.
+ * So neither depends on the distance between the dates.
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianBusinessHours {
+
+    /**
+     * The epoch day of a Saturday, 1970-01-03, from which the weeks are counted.
+     */
+    private static final int SATURDAY_EPOCH_DAY = 2;
+
+    /**
+     * The start nano-of-day of the shifts of each day, indexed by the day from Saturday.
+     */
+    private final long[][] shiftStarts;
+
+    /**
+     * The end nano-of-day of the shifts of each day, indexed by the day from Saturday.
+     */
+    private final long[][] shiftEnds;
+
+    /**
+     * The working time of a week before each day, indexed by the day from Saturday. The
+     * last element is the working time of a whole week.
+     */
+    private final long[] weekBefore;
+
+    /**
+     * The epoch days of the holidays with working time, in ascending order.
+     */
+    private final int[] holidays;
+
+    /**
+     * The working time lost on the holidays before each holiday. The last element is the
+     * working time lost on all holidays.
+     */
+    private final long[] lostBefore;
+
+    /**
+     * Creates a new instance of this class from a builder.
+     *
+     * @param builder the builder, not null
+     */
+    private PersianBusinessHours(Builder builder) {
+        this.shiftStarts = new long[7][];
+        this.shiftEnds = new long[7][];
+        this.weekBefore = new long[8];
+        for (int day = 0; day < 7; day++) {
+            final int count = builder.shiftCounts[day];
+            final long[] starts = Arrays.copyOf(builder.shiftStarts[day], count);
+            final long[] ends = Arrays.copyOf(builder.shiftEnds[day], count);
+            sortShifts(starts, ends);
+            long dayTotal = 0;
+            for (int i = 0; i < count; i++) {
+                if (i > 0 && starts[i] < ends[i - 1]) {
+                    throw new IllegalArgumentException("Overlapping shifts on " + dayOfWeekOf(day) + ": " +
+                            LocalTime.ofNanoOfDay(starts[i - 1]) + "-" + LocalTime.ofNanoOfDay(ends[i - 1]) + ", " +
+                            LocalTime.ofNanoOfDay(starts[i]) + "-" + LocalTime.ofNanoOfDay(ends[i]));
+                }
+                dayTotal += ends[i] - starts[i];
+            }
+            shiftStarts[day] = starts;
+            shiftEnds[day] = ends;
+            weekBefore[day + 1] = weekBefore[day] + dayTotal;
+        }
+        if (weekBefore[7] == 0) {
+            throw new IllegalArgumentException("No working time in the week");
+        }
+        final int[] sorted = Arrays.copyOf(builder.holidays, builder.holidayCount);
+        Arrays.sort(sorted);
+        final int[] withWork = new int[sorted.length];
+        final long[] lost = new long[sorted.length + 1];
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            final long dayTotal = dayTotal(dayOf(sorted[i]));
+            if (dayTotal > 0 && (count == 0 || withWork[count - 1] != sorted[i])) {
+                withWork[count] = sorted[i];
+                lost[count + 1] = lost[count] + dayTotal;
+                count++;
+            }
+        }
+        this.holidays = Arrays.copyOf(withWork, count);
+        this.lostBefore = Arrays.copyOf(lost, count + 1);
+    }
+
+    /**
+     * Returns a new builder of working hours, with no shifts and no holidays.
+     *
+     * @return a new builder, not {@code null}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the working time of a week without holidays.
+     *
+     * @return the working time of a week, positive
+     */
+    public Duration getWeeklyWorkingTime() {
+        return Duration.ofNanos(weekBefore[7]);
+    }
+
+    /**
+     * Checks if the given date-time is in a shift of a working day. A shift includes its
+     * start and excludes its end.
+     *
+     * @param dateTime the date-time to check, not null
+     * @return true if the date-time is working time
+     */
+    public boolean isWorkingTime(PersianDateTime dateTime) {
+        final long epochDay = dateTime.getLong(EPOCH_DAY);
+        final long nanoOfDay = dateTime.getLong(NANO_OF_DAY);
+        if (isHoliday(epochDay)) {
+            return false;
+        }
+        final int day = dayOf(epochDay);
+        final long[] starts = shiftStarts[day];
+        final long[] ends = shiftEnds[day];
+        for (int i = 0; i < starts.length; i++) {
+            if (nanoOfDay >= starts[i] && nanoOfDay < ends[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the working time from the start date-time to the end date-time. The result is
+     * negative if the end is before the start.
+     *
+     * @param start the start date-time, not null
+     * @param end the end date-time, not null
+     * @return the working time between the date-times, not null
+     */
+    public Duration workingTimeBetween(PersianDateTime start, PersianDateTime end) {
+        return Duration.ofNanos(workingNanosBetween(start, end));
+    }
+
+    /**
+     * Returns the working time from the start date-time to the end date-time in nanoseconds.
+     * The result is negative if the end is before the start.
+     *
+     * @param start the start date-time, not null
+     * @param end the end date-time, not null
+     * @return the working time between the date-times in nanoseconds
+     */
+    public long workingNanosBetween(PersianDateTime start, PersianDateTime end) {
+        return positionOf(end.getLong(EPOCH_DAY), end.getLong(NANO_OF_DAY))
+                - positionOf(start.getLong(EPOCH_DAY), start.getLong(NANO_OF_DAY));
+    }
+
+    /**
+     * Returns the date-time when the given working time has elapsed from the start.
+     * <p>
+     * The result is the earliest date-time that has the given working time from the start,
+     * so a deadline that is reached at the end of a shift is the end of that shift, rather
+     * than the start of the next one. For a zero working time the start is returned.
+     *
+     * @param start the start date-time, not null
+     * @param workingTime the working time, not null, not negative
+     * @return the deadline, not null
+     * @throws IllegalArgumentException if the working time is negative
+     * @throws java.time.DateTimeException if the deadline is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusWorkingTime(PersianDateTime start, Duration workingTime) {
+        Objects.requireNonNull(workingTime, "workingTime");
+        if (workingTime.isNegative()) {
+            throw new IllegalArgumentException("workingTime " + workingTime + " is negative");
+        }
+        if (workingTime.isZero()) {
+            Objects.requireNonNull(start, "start");
+            return start;
+        }
+        final long target = Math.addExact(
+                positionOf(start.getLong(EPOCH_DAY), start.getLong(NANO_OF_DAY)), workingTime.toNanos());
+        // the first day whose end reaches the target, skipping the holidays before it
+        long epochDay = dayReaching(target);
+        for (long next = dayReaching(target + lostBefore(epochDay + 1)); next != epochDay; ) {
+            epochDay = next;
+            next = dayReaching(target + lostBefore(epochDay + 1));
+        }
+        long remaining = target - startPositionOf(epochDay);
+        final int day = dayOf(epochDay);
+        final long[] starts = shiftStarts[day];
+        final long[] ends = shiftEnds[day];
+        int shift = 0;
+        while (remaining > ends[shift] - starts[shift]) {
+            remaining -= ends[shift] - starts[shift];
+            shift++;
+        }
+        return PersianDateTime.ofEpochDay(epochDay, starts[shift] + remaining);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the working time from the Saturday of the epoch to the given instant.
+     */
+    private long positionOf(long epochDay, long nanoOfDay) {
+        final long position = startPositionOf(epochDay);
+        if (isHoliday(epochDay)) {
+            return position;
+        }
+        final int day = dayOf(epochDay);
+        final long[] starts = shiftStarts[day];
+        final long[] ends = shiftEnds[day];
+        long within = 0;
+        for (int i = 0; i < starts.length && nanoOfDay > starts[i]; i++) {
+            within += Math.min(nanoOfDay, ends[i]) - starts[i];
+        }
+        return position + within;
+    }
+
+    /**
+     * Returns the working time from the Saturday of the epoch to the start of the given day.
+     */
+    private long startPositionOf(long epochDay) {
+        final long days = epochDay - SATURDAY_EPOCH_DAY;
+        return Math.floorDiv(days, 7L) * weekBefore[7] + weekBefore[(int) Math.floorMod(days, 7L)]
+                - lostBefore(epochDay);
+    }
+
+    /**
+     * Returns the first day whose end reaches the given working time from the Saturday of
+     * the epoch, ignoring holidays.
+     */
+    private long dayReaching(long position) {
+        final long week = Math.floorDiv(position - 1, weekBefore[7]);
+        final long remaining = position - week * weekBefore[7];
+        int day = 0;
+        while (weekBefore[day + 1] < remaining) {
+            day++;
+        }
+        return SATURDAY_EPOCH_DAY + week * 7 + day;
+    }
+
+    /**
+     * Returns the working time lost on the holidays before the given day.
+     */
+    private long lostBefore(long epochDay) {
+        if (holidays.length == 0 || epochDay <= holidays[0]) {
+            return 0;
+        }
+        final int index = Arrays.binarySearch(holidays, (int) Math.min(epochDay, Integer.MAX_VALUE));
+        return lostBefore[index >= 0 ? index : -index - 1];
+    }
+
+    private boolean isHoliday(long epochDay) {
+        return holidays.length > 0 && Arrays.binarySearch(holidays, (int) epochDay) >= 0;
+    }
+
+    private long dayTotal(int day) {
+        return weekBefore[day + 1] - weekBefore[day];
+    }
+
+    private static int dayOf(long epochDay) {
+        return (int) Math.floorMod(epochDay - SATURDAY_EPOCH_DAY, 7L);
+    }
+
+    private static DayOfWeek dayOfWeekOf(int day) {
+        return DayOfWeek.SATURDAY.plus(day);
+    }
+
+    private static void sortShifts(long[] starts, long[] ends) {
+        for (int i = 1; i < starts.length; i++) {
+            for (int j = i; j > 0 && starts[j - 1] > starts[j]; j--) {
+                final long start = starts[j];
+                starts[j] = starts[j - 1];
+                starts[j - 1] = start;
+                final long end = ends[j];
+                ends[j] = ends[j - 1];
+                ends[j - 1] = end;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A builder of {@link PersianBusinessHours}.
+     * <p>
+     * This class is not thread-safe.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+
+        private final long[][] shiftStarts = new long[7][4];
+        private final long[][] shiftEnds = new long[7][4];
+        private final int[] shiftCounts = new int[7];
+        private int[] holidays = new int[64];
+        private int holidayCount;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a shift to a day-of-week. The shifts of a day must not overlap.
+         *
+         * @param dayOfWeek the day-of-week, not null
+         * @param start the start of the shift, inclusive, not null
+         * @param end the end of the shift, exclusive, not null, after the start
+         * @return this builder, not null
+         * @throws IllegalArgumentException if the end is not after the start
+         */
+        public Builder shift(DayOfWeek dayOfWeek, LocalTime start, LocalTime end) {
+            Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+            if (!end.isAfter(start)) {
+                throw new IllegalArgumentException("Shift end " + end + " is not after its start " + start);
+            }
+            final int day = dayOf(dayOfWeek.getValue() + 3);
+            final int count = shiftCounts[day];
+            if (count == shiftStarts[day].length) {
+                shiftStarts[day] = Arrays.copyOf(shiftStarts[day], count * 2);
+                shiftEnds[day] = Arrays.copyOf(shiftEnds[day], count * 2);
+            }
+            shiftStarts[day][count] = start.toNanoOfDay();
+            shiftEnds[day][count] = end.toNanoOfDay();
+            shiftCounts[day]++;
+            return this;
+        }
+
+        /**
+         * Adds a holiday, which has no working time.
+         *
+         * @param date the holiday, not null
+         * @return this builder, not null
+         */
+        public Builder holiday(PersianDate date) {
+            Objects.requireNonNull(date, "date");
+            if (holidayCount == holidays.length) {
+                holidays = Arrays.copyOf(holidays, holidayCount * 2);
+            }
+            holidays[holidayCount++] = (int) date.toEpochDay();
+            return this;
+        }
+
+        /**
+         * Adds holidays, which have no working time.
+         *
+         * @param dates the holidays, not null
+         * @return this builder, not null
+         */
+        public Builder holidays(Iterable<PersianDate> dates) {
+            Objects.requireNonNull(dates, "dates");
+            for (PersianDate date : dates) {
+                holiday(date);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the working hours.
+         *
+         * @return new working hours, not null
+         * @throws IllegalArgumentException if the shifts of a day overlap, or there is no
+         *                                  working time in the week
+         */
+        public PersianBusinessHours build() {
+            return new PersianBusinessHours(this);
+        }
+    }
+}
@@ -3,15 +3,18 @@ package com.github.mfathi91.time;
 import net.jcip.annotations.Immutable;
 
 import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.chrono.AbstractChronology;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.Era;
+import java.time.format.ResolverStyle;
 import java.time.temporal.*;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoField.*;
 
 /**
  * The Persian calendar (also known as Jalali calendar or Iranian calendar) is a solar calendar.
@@ -128,8 +131,7 @@ public final class PersianChronology extends AbstractChronology {
      */
     @Override
     public PersianDate dateYearDay(int prolepticYear, int dayOfYear) {
-        checkDayOfYear(prolepticYear, dayOfYear);
-        return PersianDate.of(prolepticYear, 1, 1).plusDays(dayOfYear - 1);
+        return PersianDate.ofYearDay(prolepticYear, dayOfYear);
     }
 
     /**
@@ -167,10 +169,108 @@ public final class PersianChronology extends AbstractChronology {
      */
     @Override
     public PersianDate date(TemporalAccessor temporal) {
+        Objects.requireNonNull(temporal, "temporal");
         if (temporal instanceof PersianDate) {
             return (PersianDate) temporal;
         }
-        return PersianDate.ofJulianDays(JulianFields.JULIAN_DAY.getFrom(temporal));
+        if (temporal instanceof LocalDate) {
+            return PersianDate.ofEpochDay(((LocalDate) temporal).toEpochDay());
+        }
+        return PersianDate.ofEpochDay(temporal.getLong(EPOCH_DAY));
+    }
+
+    /**
+     * Resolves parsed {@code ChronoField} values into a date during parsing.
+     * <p>
+     * The common combinations of fields are resolved here directly with the rules of the
+     * Persian calendar:
+     * <ul>
+     * <li>{@code EPOCH_DAY}</li>
+     * <li>{@code YEAR} (or {@code YEAR_OF_ERA}), {@code MONTH_OF_YEAR} and {@code DAY_OF_MONTH}</li>
+     * <li>{@code YEAR} (or {@code YEAR_OF_ERA}) and {@code DAY_OF_YEAR}</li>
+     * </ul>
+     * In the {@link ResolverStyle#SMART smart} style a day-of-month after the end of the month
+     * resolves to the last day of the month, and in the {@link ResolverStyle#LENIENT lenient}
+     * style months and days out of range are added to the start of the year. All other
+     * combinations of fields are resolved by {@link AbstractChronology#resolveDate}.
+     *
+     * @param fieldValues the map of fields to values, which can be updated, not null
+     * @param resolverStyle the requested type of resolve, not null
+     * @return the resolved date, null if insufficient information to create a date
+     * @throws DateTimeException if the date cannot be resolved, typically
+     *                           because of a conflict in the input data
+     */
+    @Override
+    public PersianDate resolveDate(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+        if (fieldValues.containsKey(EPOCH_DAY)) {
+            return dateEpochDay(fieldValues.remove(EPOCH_DAY));
+        }
+        if (!fieldValues.containsKey(PROLEPTIC_MONTH) && resolveYearOfEra(fieldValues, resolverStyle)) {
+            if (fieldValues.containsKey(MONTH_OF_YEAR) && fieldValues.containsKey(DAY_OF_MONTH)) {
+                return resolveYMD(fieldValues, resolverStyle);
+            }
+            if (fieldValues.containsKey(DAY_OF_YEAR)) {
+                return resolveYD(fieldValues, resolverStyle);
+            }
+        }
+        return (PersianDate) super.resolveDate(fieldValues, resolverStyle);
+    }
+
+    /**
+     * Merges {@code YEAR_OF_ERA} and {@code ERA} into {@code YEAR}. As the Persian calendar has
+     * a single era, the year-of-era is the same as the proleptic year.
+     *
+     * @return true if the map contains a {@code YEAR} afterwards
+     */
+    private boolean resolveYearOfEra(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+        final Long yearOfEra = fieldValues.get(YEAR_OF_ERA);
+        if (yearOfEra == null) {
+            return fieldValues.containsKey(YEAR);
+        }
+        final Long era = fieldValues.get(ERA);
+        final Long year = fieldValues.get(YEAR);
+        if (era == null && year == null && resolverStyle == ResolverStyle.STRICT) {
+            return false;
+        }
+        if (resolverStyle != ResolverStyle.LENIENT) {
+            range(YEAR_OF_ERA).checkValidValue(yearOfEra, YEAR_OF_ERA);
+        }
+        if (era != null) {
+            eraOf(range(ERA).checkValidIntValue(era, ERA));
+            fieldValues.remove(ERA);
+        }
+        if (year != null && !year.equals(yearOfEra)) {
+            throw new DateTimeException("Conflict found: " + YEAR + " " + year +
+                    " differs from " + YEAR_OF_ERA + " " + yearOfEra);
+        }
+        fieldValues.remove(YEAR_OF_ERA);
+        fieldValues.put(YEAR, yearOfEra);
+        return true;
+    }
+
+    private PersianDate resolveYMD(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+        final int year = range(YEAR).checkValidIntValue(fieldValues.remove(YEAR), YEAR);
+        if (resolverStyle == ResolverStyle.LENIENT) {
+            final long months = Math.subtractExact(fieldValues.remove(MONTH_OF_YEAR), 1);
+            final long days = Math.subtractExact(fieldValues.remove(DAY_OF_MONTH), 1);
+            return PersianDate.of(year, 1, 1).plusMonths(months).plusDays(days);
+        }
+        final int month = range(MONTH_OF_YEAR).checkValidIntValue(fieldValues.remove(MONTH_OF_YEAR), MONTH_OF_YEAR);
+        int dayOfMonth = range(DAY_OF_MONTH).checkValidIntValue(fieldValues.remove(DAY_OF_MONTH), DAY_OF_MONTH);
+        if (resolverStyle == ResolverStyle.SMART) {
+            dayOfMonth = Math.min(dayOfMonth, PersianMonth.of(month).length(PersianDate.isLeapYear(year)));
+        }
+        return PersianDate.of(year, month, dayOfMonth);
+    }
+
+    private PersianDate resolveYD(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+        final int year = range(YEAR).checkValidIntValue(fieldValues.remove(YEAR), YEAR);
+        if (resolverStyle == ResolverStyle.LENIENT) {
+            final long days = Math.subtractExact(fieldValues.remove(DAY_OF_YEAR), 1);
+            return PersianDate.ofYearDay(year, 1).plusDays(days);
+        }
+        final int dayOfYear = range(DAY_OF_YEAR).checkValidIntValue(fieldValues.remove(DAY_OF_YEAR), DAY_OF_YEAR);
+        return PersianDate.ofYearDay(year, dayOfYear);
     }
 
     /**
@@ -4,7 +4,6 @@ import net.jcip.annotations.Immutable;
 
 import java.time.*;
 import java.time.chrono.ChronoLocalDate;
-import java.time.chrono.ChronoPeriod;
 import java.time.chrono.Chronology;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.*;
@@ -89,6 +88,12 @@ public final class PersianDate implements ChronoLocalDate {
      */
     private final int day;
 
+    /**
+     * The epoch day, computed once on construction. Comparison, equality, hashing,
+     * day-of-week and day differences are all derived from this field.
+     */
+    private final int epochDay;
+
     /**
      * @return the year
      */
@@ -134,7 +139,7 @@ public final class PersianDate implements ChronoLocalDate {
      * @return day-of-week, which is an enum {@link DayOfWeek}
      */
     public DayOfWeek getDayOfWeek() {
-        int dow0 = Math.floorMod((int) toEpochDay() + 3, 7);
+        int dow0 = Math.floorMod(epochDay + 3, 7);
         return DayOfWeek.of(dow0 + 1);
     }
 
@@ -144,7 +149,7 @@ public final class PersianDate implements ChronoLocalDate {
      * @return current Persian date from the system clock in the default time zone
      */
     public static PersianDate now() {
-        return ofJulianDays(JulianFields.JULIAN_DAY.getFrom(LocalDate.now()));
+        return ofEpochDay(LocalDate.now().toEpochDay());
     }
 
     /**
@@ -186,7 +191,7 @@ public final class PersianDate implements ChronoLocalDate {
      */
     public static PersianDate fromGregorian(LocalDate localDate) {
         Objects.requireNonNull(localDate, "localDate");
-        return ofJulianDays(JulianFields.JULIAN_DAY.getFrom(localDate));
+        return ofEpochDay(localDate.toEpochDay());
     }
 
     /**
@@ -246,6 +251,21 @@ public final class PersianDate implements ChronoLocalDate {
      * @see <a href="https://github.com/soroush/libcalendars">libcalendars</a>
      */
     public static PersianDate ofJulianDays(long julianDays) {
+        final int packed = packedOfJulianDay(julianDays);
+        return new PersianDate(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F,
+                (int) (julianDays - JULIAN_DAY_TO_1970));
+    }
+
+    /**
+     * Returns the year, month and day-of-month of the given julian day packed into an
+     * {@code int} as {@code year << 9 | month << 5 | dayOfMonth}. This method is provided
+     * in order to convert julian days without creating instances of {@code PersianDate}.
+     *
+     * @param julianDays julian days
+     * @return the packed year, month and day-of-month
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    static int packedOfJulianDay(long julianDays) {
         final long offset = julianDays - PERSIAN_DATE_EPOCH;
         long cycle_no = offset / CYCLE_DAYS;
         if (offset < 0) {
@@ -253,25 +273,69 @@ public final class PersianDate implements ChronoLocalDate {
         }
         final long cycleStart = PERSIAN_DATE_EPOCH + cycle_no * CYCLE_DAYS;
         final int yc = (int) (Math.floor((julianDays - cycleStart) / YEAR_LENGTH));
-        long year = yc + 475 + cycle_no * 2820;
-        final long lll = PERSIAN_DATE_EPOCH + cycle_no * CYCLE_DAYS + (long) Math.floor((yc * YEAR_LENGTH));
-        long day = julianDays - lll + 1;
-        if (day > (isLeapYear((int) year) ? 366 : 365)) {
-            year++;
-            day = 1;
+        long year = yc + 475 + cycle_no * CYCLE_YEARS;
+        if (!MyUtils.isBetween(year, 0, 2000)) {
+            // far out of range, fails the check with a suitable message
+            PersianChronology.INSTANCE.checkValidValue(year, YEAR);
         }
-        if (year <= 0) {
+        // The estimated year can be one off on the first day of a year, so it is settled
+        // against the start of the year, which keeps this method the exact inverse of toJulianDay
+        long yearStart = toJulianDay((int) year, 1, 1);
+        if (julianDays < yearStart) {
             year--;
-        }
-        int month;
-        for (month = 1; month < 12; ++month) {
-            if (day > PersianMonth.of(month).length(isLeapYear((int) year))){
-                day -= PersianMonth.of(month).length(isLeapYear((int) year));
-            } else {
-                break;
+            yearStart = toJulianDay((int) year, 1, 1);
+        } else {
+            final long nextYearStart = toJulianDay((int) year + 1, 1, 1);
+            if (julianDays >= nextYearStart) {
+                year++;
+                yearStart = nextYearStart;
             }
         }
-        return PersianDate.of((int) year, month, (int) day);
+        PersianChronology.INSTANCE.checkValidValue(year, YEAR);
+        final int dayOfYear = (int) (julianDays - yearStart) + 1;
+        if (dayOfYear <= 186) {
+            return (int) year << 9 | ((dayOfYear - 1) / 31 + 1) << 5 | ((dayOfYear - 1) % 31 + 1);
+        }
+        return (int) year << 9 | ((dayOfYear - 187) / 30 + 7) << 5 | ((dayOfYear - 187) % 30 + 1);
+    }
+
+    /**
+     * Returns the number of epoch days of the given date, without validating it. This method
+     * is provided in order to prevent creating unnecessary instances of {@code PersianDate}
+     * only to calculate the epoch day.
+     *
+     * @param year the year
+     * @param month the month-of-year, from 1 to 12
+     * @param dayOfMonth the day-of-month
+     * @return the number of epoch days of the given date
+     */
+    static long toEpochDay(int year, int month, int dayOfMonth) {
+        return toJulianDay(year, month, dayOfMonth) - JULIAN_DAY_TO_1970;
+    }
+
+    /**
+     * Returns the length of the given month of the given year in days. This
+     * method is provided in order to prevent creating unnecessary instances of
+     * {@code PersianDate} only to calculate the length of a month.
+     *
+     * @param year the year
+     * @param month the month-of-year, from 1 to 12
+     * @return the length of the month in days
+     */
+    static int lengthOfMonth(int year, int month) {
+        return month < 7 ? 31 : (month < 12 || isLeapYear(year) ? 30 : 29);
+    }
+
+    /**
+     * Returns the year, month and day-of-month of the given epoch day packed into an
+     * {@code int}, as described in {@link #packedOfJulianDay(long)}.
+     *
+     * @param epochDays epoch days
+     * @return the packed year, month and day-of-month
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    static int packedOfEpochDay(long epochDays) {
+        return packedOfJulianDay(epochDays + JULIAN_DAY_TO_1970);
     }
 
     /**
@@ -296,6 +360,36 @@ public final class PersianDate implements ChronoLocalDate {
         this.year = year;
         this.month = month;
         this.day = dayOfMonth;
+        this.epochDay = (int) (toJulianDay(year, month, dayOfMonth) - JULIAN_DAY_TO_1970);
+    }
+
+    /**
+     * Constructor for values that are already known to be valid.
+     *
+     * @param year the year to represent, from 1 to MAX_YEAR
+     * @param month the month-of-year to represent, from 1 to 12
+     * @param dayOfMonth the dayOfMonth-of-month to represent, valid for the month
+     * @param epochDay the epoch day of the given date
+     */
+    private PersianDate(int year, int month, int dayOfMonth, int epochDay) {
+        this.year = year;
+        this.month = month;
+        this.day = dayOfMonth;
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDate} from values that are already known to be
+     * valid, without any validation or conversion.
+     *
+     * @param year the year to represent, from 1 to MAX_YEAR
+     * @param month the month-of-year to represent, from 1 to 12
+     * @param dayOfMonth the dayOfMonth-of-month to represent, valid for the month
+     * @param epochDay the epoch day of the given date
+     * @return an instance of {@code PersianDate}
+     */
+    static PersianDate ofValidDate(int year, int month, int dayOfMonth, int epochDay) {
+        return new PersianDate(year, month, dayOfMonth, epochDay);
     }
 
     //-----------------------------------------------------------------------
@@ -403,7 +497,7 @@ public final class PersianDate implements ChronoLocalDate {
     }
 
     private long daysUntil(PersianDate end) {
-        return end.toEpochDay() - toEpochDay();  // no overflow
+        return end.epochDay - epochDay;  // no overflow
     }
 
     private long monthsUntil(PersianDate end) {
@@ -413,15 +507,15 @@ public final class PersianDate implements ChronoLocalDate {
     }
 
     /**
-     * Calculates the period between this date and another date as a {@code Period}.
+     * Calculates the period between this date and another date as a {@code PersianPeriod}.
      * <p>
-     * This calculates the period between two dates in terms of years, months and days.
+     * This calculates the period between two dates in terms of Persian years, months and days.
      * The start and end points are {@code this} and the specified date.
      * The result will be negative if the end is before the start.
      * The negative sign will be the same in each of year, month and day.
      * <p>
-     * The calculation is performed using the ISO calendar system.
-     * If necessary, the input date will be converted to ISO.
+     * The calculation is performed using the Persian calendar system.
+     * If necessary, the input date will be converted to Persian.
      * <p>
      * The start date is included, but the end date is not.
      * The period is calculated by removing complete months, then calculating
@@ -429,15 +523,15 @@ public final class PersianDate implements ChronoLocalDate {
      * The number of months is then normalized into years and months based on a 12 month year.
      * A month is considered to be complete if the end day-of-month is greater
      * than or equal to the start day-of-month.
-     * For example, from {@code 2010-01-15} to {@code 2011-03-18} is "1 year, 2 months and 3 days".
+     * For example, from {@code 1401-01-15} to {@code 1402-03-18} is "1 year, 2 months and 3 days".
      * <p>
      * There are two equivalent ways of using this method.
      * The first is to invoke this method.
-     * The second is to use {@link Period#between(LocalDate, LocalDate)}:
+     * The second is to use {@link PersianPeriod#between(PersianDate, PersianDate)}:
      * <pre>
      *   // these two lines are equivalent
      *   period = start.until(end);
-     *   period = Period.between(start, end);
+     *   period = PersianPeriod.between(start, end);
      * </pre>
      * The choice should be made based on which makes the code more readable.
      *
@@ -445,22 +539,43 @@ public final class PersianDate implements ChronoLocalDate {
      * @return the period between this date and the end date, not null
      */
     @Override
-    public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+    public PersianPeriod until(ChronoLocalDate endDateExclusive) {
         Objects.requireNonNull(endDateExclusive, "endDateExclusive");
-        PersianDate end = PersianChronology.INSTANCE.date(endDateExclusive);
-        long totalMonths = end.getLong(PROLEPTIC_MONTH) - this.getLong(PROLEPTIC_MONTH);  // safe
-        int days = end.day - this.day;
-        if (totalMonths > 0 && days < 0) {
-            totalMonths--;
-            PersianDate calcDate = this.plusMonths(totalMonths);
-            days = (int) (end.toEpochDay() - calcDate.toEpochDay());  // safe
-        } else if (totalMonths < 0 && days > 0) {
-            totalMonths++;
-            days -= end.lengthOfMonth();
+        return PersianPeriod.between(this, PersianChronology.INSTANCE.date(endDateExclusive));
+    }
+
+    /**
+     * Gets the range of valid values for the specified field.
+     * <p>
+     * The range object expresses the minimum and maximum valid values for a field.
+     * This date is used to enhance the accuracy of the returned range, so the ranges of
+     * {@code DAY_OF_MONTH}, {@code DAY_OF_YEAR} and {@code ALIGNED_WEEK_OF_MONTH} reflect
+     * the length of the month and year of this date.
+     *
+     * @param field the field to query the range for, not null
+     * @return the range of valid values for the field, not null
+     * @throws DateTimeException                if the range for the field cannot be obtained
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (isSupported(field)) {
+                ChronoField f = (ChronoField) field;
+                switch (f) {
+                    case DAY_OF_MONTH:
+                        return ValueRange.of(1, lengthOfMonth());
+                    case DAY_OF_YEAR:
+                        return ValueRange.of(1, lengthOfYear());
+                    case ALIGNED_WEEK_OF_MONTH:
+                        return ValueRange.of(1, (lengthOfMonth() - 1) / 7 + 1);
+                    default:
+                        return PersianChronology.INSTANCE.range(f);
+                }
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
         }
-        long years = totalMonths / 12;  // safe
-        int months = (int) (totalMonths % 12);  // safe
-        return Period.of(Math.toIntExact(years), months, days);
+        return field.rangeRefinedBy(this);
     }
 
     /**
@@ -501,7 +616,7 @@ public final class PersianDate implements ChronoLocalDate {
                 case DAY_OF_YEAR:
                     return this.getDayOfYear();
                 case EPOCH_DAY:
-                    return this.toEpochDay();
+                    return epochDay;
                 case ALIGNED_WEEK_OF_MONTH:
                     return ((day - 1) / 7) + 1;
                 case ALIGNED_WEEK_OF_YEAR:
@@ -517,8 +632,266 @@ public final class PersianDate implements ChronoLocalDate {
                 case ERA:
                     return (year >= 1 ? 1 : 0);
             }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.getFrom(this);
+    }
+
+    /**
+     * Returns an adjusted copy of this date.
+     * <p>
+     * This returns a {@code PersianDate} based on this one, with the date adjusted.
+     * The adjustment takes place using the specified adjuster strategy object.
+     * Read the documentation of the adjuster to understand what adjustment will be made.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param adjuster the adjuster to use, not null
+     * @return a {@code PersianDate} based on {@code this} with the adjustment made, not null
+     * @throws DateTimeException if the adjustment cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianDate with(TemporalAdjuster adjuster) {
+        Objects.requireNonNull(adjuster, "adjuster");
+        if (adjuster instanceof PersianDate) {
+            return (PersianDate) adjuster;
+        }
+        return (PersianDate) ChronoLocalDate.super.with(adjuster);
+    }
+
+    /**
+     * Returns a copy of this date with the specified field set to a new value.
+     * <p>
+     * If the field is a {@link ChronoField} then the adjustment is implemented here,
+     * directly on the year, month and day fields of this date:
+     * <ul>
+     * <li>{@code DAY_OF_MONTH}, {@code DAY_OF_YEAR}, {@code MONTH_OF_YEAR}, {@code YEAR}
+     * and {@code YEAR_OF_ERA} replace the field, adjusting the day-of-month to the last
+     * valid day of the month where necessary for month and year changes.</li>
+     * <li>{@code DAY_OF_WEEK}, the aligned day-of-week and aligned week fields move the
+     * date by whole days or weeks within the current week, month or year.</li>
+     * <li>{@code PROLEPTIC_MONTH} moves the date by whole months.</li>
+     * <li>{@code EPOCH_DAY} returns the date of the given epoch day.</li>
+     * <li>{@code ERA} only accepts the single Persian era.</li>
+     * </ul>
+     * All other {@code ChronoField} instances will throw an {@code UnsupportedTemporalTypeException}.
+     * <p>
+     * If the field is not a {@code ChronoField}, then the result of this method
+     * is obtained by invoking {@code TemporalField.adjustInto(Temporal, long)}
+     * passing {@code this} as the argument.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param field the field to set in the result, not null
+     * @param newValue the new value of the field in the result
+     * @return a {@code PersianDate} based on {@code this} with the specified field set, not null
+     * @throws DateTimeException if the field cannot be set
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            ChronoField f = (ChronoField) field;
+            if (!f.isDateBased()) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            PersianChronology.INSTANCE.checkValidValue(newValue, f);
+            switch (f) {
+                case DAY_OF_WEEK:
+                    return plusDays(newValue - getDayOfWeek().getValue());
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                    return plusDays(newValue - getLong(ALIGNED_DAY_OF_WEEK_IN_MONTH));
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return plusDays(newValue - getLong(ALIGNED_DAY_OF_WEEK_IN_YEAR));
+                case DAY_OF_MONTH:
+                    return withDayOfMonth((int) newValue);
+                case DAY_OF_YEAR:
+                    return withDayOfYear((int) newValue);
+                case EPOCH_DAY:
+                    return PersianDate.ofEpochDay(newValue);
+                case ALIGNED_WEEK_OF_MONTH:
+                    return plusWeeks(newValue - getLong(ALIGNED_WEEK_OF_MONTH));
+                case ALIGNED_WEEK_OF_YEAR:
+                    return plusWeeks(newValue - getLong(ALIGNED_WEEK_OF_YEAR));
+                case MONTH_OF_YEAR:
+                    return withMonth((int) newValue);
+                case PROLEPTIC_MONTH:
+                    return plusMonths(newValue - getLong(PROLEPTIC_MONTH));
+                case YEAR_OF_ERA:
+                case YEAR:
+                    return withYear((int) newValue);
+                case ERA:
+                    return this;
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
         }
-        throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        return (PersianDate) ChronoLocalDate.super.with(field, newValue);
+    }
+
+    /**
+     * Returns a copy of this {@code PersianDate} with the year altered.
+     * <p>
+     * If the day-of-month is invalid for the year, it will be changed to the last valid day
+     * of the month.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param year the year to set in the result, from 1 to MAX_YEAR
+     * @return a {@code PersianDate} based on this date with the requested year, not null
+     * @throws DateTimeException if the year value is invalid
+     */
+    public PersianDate withYear(int year) {
+        if (this.year == year) {
+            return this;
+        }
+        PersianChronology.INSTANCE.checkValidValue(year, YEAR);
+        return resolvePreviousValid(year, month, day);
+    }
+
+    /**
+     * Returns a copy of this {@code PersianDate} with the month-of-year altered.
+     * <p>
+     * If the day-of-month is invalid for the year, it will be changed to the last valid day
+     * of the month.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param month the month-of-year to set in the result, from 1 (Farvardin) to 12 (Esfand)
+     * @return a {@code PersianDate} based on this date with the requested month, not null
+     * @throws DateTimeException if the month-of-year value is invalid
+     */
+    public PersianDate withMonth(int month) {
+        if (this.month == month) {
+            return this;
+        }
+        PersianChronology.INSTANCE.checkValidValue(month, MONTH_OF_YEAR);
+        return resolvePreviousValid(year, month, day);
+    }
+
+    /**
+     * Returns a copy of this {@code PersianDate} with the day-of-month altered.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param dayOfMonth the day-of-month to set in the result, from 1 to 29-31
+     * @return a {@code PersianDate} based on this date with the requested day, not null
+     * @throws DateTimeException if the day-of-month value is invalid,
+     *                           or if the day-of-month is invalid for the month-year
+     */
+    public PersianDate withDayOfMonth(int dayOfMonth) {
+        if (this.day == dayOfMonth) {
+            return this;
+        }
+        PersianChronology.INSTANCE.checkValidValue(dayOfMonth, DAY_OF_MONTH);
+        if (dayOfMonth > lengthOfMonth(year, month)) {
+            if (month == 12 && dayOfMonth == 30) {
+                throw new DateTimeException("Invalid date ESFAND 30, as " + year + " is not a leap year");
+            }
+            throw new DateTimeException("Invalid date " + PersianMonth.of(month).name() + " " + dayOfMonth);
+        }
+        return new PersianDate(year, month, dayOfMonth, epochDay + dayOfMonth - day);
+    }
+
+    /**
+     * Returns a copy of this {@code PersianDate} with the day-of-year altered.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param dayOfYear the day-of-year to set in the result, from 1 to 365 or 366 in a leap year
+     * @return a {@code PersianDate} based on this date with the requested day, not null
+     * @throws DateTimeException if the day-of-year value is invalid,
+     *                           or if the day-of-year is invalid for the year
+     */
+    public PersianDate withDayOfYear(int dayOfYear) {
+        if (getDayOfYear() == dayOfYear) {
+            return this;
+        }
+        return ofYearDay(year, dayOfYear);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDate} from a year and day-of-year, without any
+     * conversion to julian days, see {@link PersianYear#atDay(int)}.
+     *
+     * @param year the year to represent, from 1 to MAX_YEAR
+     * @param dayOfYear the day-of-year to represent, from 1 to 365 or 366 in a leap year
+     * @return an instance of {@code PersianDate}
+     * @throws DateTimeException if the day-of-year is invalid for the year
+     */
+    static PersianDate ofYearDay(int year, int dayOfYear) {
+        return PersianYear.of(year).atDay(dayOfYear);
+    }
+
+    /**
+     * Returns a copy of this date with the specified amount added.
+     * <p>
+     * This returns a {@code PersianDate}, based on this one, with the amount
+     * in terms of the unit added. If it is not possible to add the amount, because the
+     * unit is not supported or for some other reason, an exception is thrown.
+     * <p>
+     * If the unit is a {@link ChronoUnit} then the addition is implemented here.
+     * The units {@code DAYS}, {@code WEEKS}, {@code MONTHS}, {@code YEARS},
+     * {@code DECADES}, {@code CENTURIES}, {@code MILLENNIA} and {@code ERAS}
+     * are supported. Other {@code ChronoUnit} values will throw an exception.
+     * Month and year based units adjust the day-of-month to the last valid day of the
+     * month where necessary, see {@link #plusMonths(long)}.
+     * <p>
+     * If the unit is not a {@code ChronoUnit}, then the result of this method
+     * is obtained by invoking {@code TemporalUnit.addTo(Temporal, long)}
+     * passing {@code this} as the argument.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amountToAdd the amount of the unit to add to the result, may be negative
+     * @param unit the unit of the amount to add, not null
+     * @return a {@code PersianDate} based on this date with the specified amount added, not null
+     * @throws DateTimeException if the addition cannot be made
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return plusDays(amountToAdd);
+                case WEEKS:
+                    return plusWeeks(amountToAdd);
+                case MONTHS:
+                    return plusMonths(amountToAdd);
+                case YEARS:
+                    return plusYears(amountToAdd);
+                case DECADES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 10L));
+                case CENTURIES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 100L));
+                case MILLENNIA:
+                    return plusYears(Math.multiplyExact(amountToAdd, 1000L));
+                case ERAS:
+                    return with(ERA, Math.addExact(getLong(ERA), amountToAdd));
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return (PersianDate) ChronoLocalDate.super.plus(amountToAdd, unit);
+    }
+
+    @Override
+    public PersianDate plus(TemporalAmount amount) {
+        return (PersianDate) ChronoLocalDate.super.plus(amount);
+    }
+
+    @Override
+    public PersianDate minus(long amountToSubtract, TemporalUnit unit) {
+        return (amountToSubtract == Long.MIN_VALUE
+                ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit));
+    }
+
+    @Override
+    public PersianDate minus(TemporalAmount amount) {
+        return (PersianDate) ChronoLocalDate.super.minus(amount);
     }
 
     /**
@@ -542,7 +915,12 @@ public final class PersianDate implements ChronoLocalDate {
      * @throws DateTimeException if the result exceeds the supported date range
      */
     public PersianDate plusYears(long yearsToAdd) {
-        return plusMonths(yearsToAdd * 12);
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        long newYear = year + yearsToAdd;  // no overflow for any year that passes the check below
+        PersianChronology.INSTANCE.checkValidValue(newYear, YEAR);
+        return resolvePreviousValid((int) newYear, month, day);
     }
 
     /**
@@ -570,10 +948,27 @@ public final class PersianDate implements ChronoLocalDate {
             return this;
         }
         long monthCount = year * 12L + (month - 1);
-        long calcMonths = monthCount + monthsToAdd;
-        int newYear = (int) Math.floorDiv(calcMonths, 12L);
+        long calcMonths = Math.addExact(monthCount, monthsToAdd);
+        long newYear = Math.floorDiv(calcMonths, 12L);
         int newMonth = (int) Math.floorMod(calcMonths, 12L) + 1;
-        return resolvePreviousValid(newYear, newMonth, day);
+        PersianChronology.INSTANCE.checkValidValue(newYear, YEAR);
+        return resolvePreviousValid((int) newYear, newMonth, day);
+    }
+
+    /**
+     * Returns a copy of this {@code PersianDate} with the specified number of weeks added.
+     * <p>
+     * This method adds the specified amount in weeks to the days field incrementing the
+     * month and year fields as necessary to ensure the result remains valid.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param weeksToAdd the weeks to add, may be negative
+     * @return a {@code PersianDate} based on this date with the weeks added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDate plusWeeks(long weeksToAdd) {
+        return plusDays(Math.multiplyExact(weeksToAdd, 7L));
     }
 
     /**
@@ -595,7 +990,10 @@ public final class PersianDate implements ChronoLocalDate {
         if (daysToAdd == 0) {
             return this;
         }
-        return ofJulianDays(toJulianDay() + daysToAdd);
+        if (daysToAdd > -day && daysToAdd <= lengthOfMonth() - day) {
+            return new PersianDate(year, month, day + (int) daysToAdd, epochDay + (int) daysToAdd);
+        }
+        return ofEpochDay(Math.addExact(epochDay, daysToAdd));
     }
 
     /**
@@ -648,7 +1046,7 @@ public final class PersianDate implements ChronoLocalDate {
 
     @Override
     public long toEpochDay() {
-        return toJulianDay() - JULIAN_DAY_TO_1970;
+        return epochDay;
     }
 
     /**
@@ -661,7 +1059,7 @@ public final class PersianDate implements ChronoLocalDate {
      * @see <a href="http://www.fourmilab.ch/documents/calendar/">calendar convertor</a>
      */
     public long toJulianDay() {
-        return toJulianDay(year, month, day);
+        return epochDay + JULIAN_DAY_TO_1970;
     }
 
     /**
@@ -699,11 +1097,29 @@ public final class PersianDate implements ChronoLocalDate {
             return true;
         }
         if (obj instanceof PersianDate) {
-            return compareTo((PersianDate) obj) == 0;
+            return epochDay == ((PersianDate) obj).epochDay;
         }
         return false;
     }
 
+    /**
+     * Compares this date to another date.
+     * <p>
+     * The comparison is primarily based on the date, from earliest to latest.
+     * Two {@code PersianDate} instances are compared by their epoch day alone, other
+     * dates are compared as specified by {@link ChronoLocalDate#compareTo(ChronoLocalDate)}.
+     *
+     * @param other the other date to compare to, not null
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(ChronoLocalDate other) {
+        if (other instanceof PersianDate) {
+            return Integer.compare(epochDay, ((PersianDate) other).epochDay);
+        }
+        return ChronoLocalDate.super.compareTo(other);
+    }
+
     /**
      * A hash code for this persian date.
      *
@@ -711,7 +1127,7 @@ public final class PersianDate implements ChronoLocalDate {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(year, month, day);
+        return epochDay;
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,315 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+
+/**
+ * A mutable position on the Persian calendar, for walking over many days without creating
+ * an object per day.
+ * <p>
+ * A cursor holds the year, month, day-of-month and epoch day of its current date, and moving
+ * it by a day only increments or decrements these fields. The length of the month is looked
+ * up only when the cursor crosses into another month, and the leap year rule only when it
+ * crosses into another year, so the getters of a cursor are plain field reads. For example:
+ * <pre>
+ *     PersianDateCursor cursor = PersianDateCursor.of(PersianDate.of(1390, 1, 1));
+ *     while (cursor.getYear() &lt; 1403) {
+ *         totals[cursor.getMonthValue() - 1] += dailyValues.get(cursor.getEpochDay());
+ *         cursor.nextDay();
+ *     }
+ * </pre>
+ * {@link #toPersianDate()} creates the {@code PersianDate} of the current position when it
+ * is needed.
+ * <p>
+ * This class is mutable and not thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+public final class PersianDateCursor {
+
+    private static final long MIN_EPOCH_DAY = PersianDate.MIN.toEpochDay();
+    private static final long MAX_EPOCH_DAY = PersianDate.MAX.toEpochDay();
+
+    private int year;
+    private PersianMonth month;
+    private int day;
+    private int epochDay;
+    private boolean leapYear;
+    private int lengthOfMonth;
+
+    /**
+     * Creates a new instance of this class, positioned on the given epoch day.
+     *
+     * @param epochDay the epoch day
+     */
+    private PersianDateCursor(long epochDay) {
+        seek(epochDay);
+    }
+
+    /**
+     * Obtains a cursor positioned on the given date.
+     *
+     * @param date the date, not null
+     * @return a new cursor, not null
+     */
+    public static PersianDateCursor of(PersianDate date) {
+        return new PersianDateCursor(date.toEpochDay());
+    }
+
+    /**
+     * Obtains a cursor positioned on the given epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return a new cursor, not null
+     * @throws DateTimeException if the epoch day is out of the range of {@code PersianDate}
+     */
+    public static PersianDateCursor ofEpochDay(long epochDay) {
+        return new PersianDateCursor(epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the year of the current date.
+     *
+     * @return the year
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns the month of the current date.
+     *
+     * @return the month, not null
+     */
+    public PersianMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the month-of-year of the current date, from 1 to 12.
+     *
+     * @return the month-of-year
+     */
+    public int getMonthValue() {
+        return month.getValue();
+    }
+
+    /**
+     * Returns the day-of-month of the current date, from 1 to 31.
+     *
+     * @return the day-of-month
+     */
+    public int getDayOfMonth() {
+        return day;
+    }
+
+    /**
+     * Returns the day-of-year of the current date, from 1 to 366.
+     *
+     * @return the day-of-year
+     */
+    public int getDayOfYear() {
+        return month.daysToFirstOfMonth() + day;
+    }
+
+    /**
+     * Returns the epoch day of the current date.
+     *
+     * @return the epoch day
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the day-of-week of the current date.
+     *
+     * @return the day-of-week, not null
+     */
+    public DayOfWeek getDayOfWeek() {
+        return DayOfWeek.of(Math.floorMod(epochDay + 3, 7) + 1);
+    }
+
+    /**
+     * Checks if the year of the current date is a leap year.
+     *
+     * @return true if the year is leap
+     */
+    public boolean isLeapYear() {
+        return leapYear;
+    }
+
+    /**
+     * Returns the length of the month of the current date in days.
+     *
+     * @return the length of the month
+     */
+    public int lengthOfMonth() {
+        return lengthOfMonth;
+    }
+
+    /**
+     * Returns the current date.
+     *
+     * @return the current date, not null
+     */
+    public PersianDate toPersianDate() {
+        return PersianDate.ofValidDate(year, month.getValue(), day, epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Moves this cursor to the next day.
+     *
+     * @return this cursor, not null
+     * @throws DateTimeException if the current date is {@link PersianDate#MAX}
+     */
+    public PersianDateCursor nextDay() {
+        if (day < lengthOfMonth) {
+            day++;
+            epochDay++;
+        } else if (month != PersianMonth.ESFAND) {
+            setMonth(month.plus(1), 1);
+            epochDay++;
+        } else {
+            checkMoveTo(epochDay + 1L);
+            setYear(year + 1, PersianMonth.FARVARDIN, 1);
+        }
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the previous day.
+     *
+     * @return this cursor, not null
+     * @throws DateTimeException if the current date is {@link PersianDate#MIN}
+     */
+    public PersianDateCursor prevDay() {
+        if (day > 1) {
+            day--;
+            epochDay--;
+        } else if (month != PersianMonth.FARVARDIN) {
+            final PersianMonth previous = month.minus(1);
+            setMonth(previous, previous.length(leapYear));
+            epochDay--;
+        } else {
+            checkMoveTo(epochDay - 1L);
+            setYear(year - 1, PersianMonth.ESFAND, 0);
+        }
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the first day of the next month.
+     *
+     * @return this cursor, not null
+     * @throws DateTimeException if the current date is in the last month of {@code PersianDate}
+     */
+    public PersianDateCursor nextMonth() {
+        if (month != PersianMonth.ESFAND) {
+            epochDay += lengthOfMonth - day + 1;
+            setMonth(month.plus(1), 1);
+        } else {
+            checkMoveTo(epochDay + lengthOfMonth - day + 1L);
+            setYear(year + 1, PersianMonth.FARVARDIN, 1);
+        }
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the first day of the previous month.
+     *
+     * @return this cursor, not null
+     * @throws DateTimeException if the current date is in the first month of {@code PersianDate}
+     */
+    public PersianDateCursor prevMonth() {
+        if (month != PersianMonth.FARVARDIN) {
+            final PersianMonth previous = month.minus(1);
+            epochDay -= day - 1 + previous.length(leapYear);
+            setMonth(previous, 1);
+        } else {
+            checkMoveTo(epochDay - day);
+            setYear(year - 1, PersianMonth.ESFAND, 1);
+        }
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the given epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return this cursor, not null
+     * @throws DateTimeException if the epoch day is out of the range of {@code PersianDate}
+     */
+    public PersianDateCursor seek(long epochDay) {
+        checkMoveTo(epochDay);
+        final int packed = PersianDate.packedOfEpochDay(epochDay);
+        this.year = packed >>> 9;
+        this.leapYear = hasLeapDay(year);
+        setMonth(PersianMonth.of(packed >>> 5 & 15), packed & 31);
+        this.epochDay = (int) epochDay;
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the given date.
+     *
+     * @param date the date, not null
+     * @return this cursor, not null
+     */
+    public PersianDateCursor seek(PersianDate date) {
+        return seek(date.toEpochDay());
+    }
+
+    private void setMonth(PersianMonth month, int day) {
+        this.month = month;
+        this.day = day;
+        this.lengthOfMonth = month.length(leapYear);
+    }
+
+    /**
+     * Moves to another year, where a day of zero stands for the last day of the month.
+     * The epoch day is computed from the new date, so it stays consistent with
+     * {@link PersianDate#toEpochDay()}.
+     */
+    private void setYear(int year, PersianMonth month, int day) {
+        this.year = year;
+        this.leapYear = hasLeapDay(year);
+        setMonth(month, day);
+        if (day == 0) {
+            this.day = lengthOfMonth;
+        }
+        this.epochDay = (int) PersianDate.toEpochDay(year, month.getValue(), this.day);
+    }
+
+    /**
+     * Checks if the given year has 366 days by the epoch days of its bounds, which can differ
+     * from {@link PersianDate#isLeapYear(int)}, so that walking day by day visits the same
+     * dates as {@link PersianDate#ofEpochDay(long)}.
+     */
+    private static boolean hasLeapDay(int year) {
+        return PersianDate.toEpochDay(year + 1, 1, 1) - PersianDate.toEpochDay(year, 1, 1) == 366;
+    }
+
+    private static void checkMoveTo(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new DateTimeException("Out of the range of PersianDate: epoch day " + epochDay);
+        }
+    }
+
+    /**
+     * Returns the current date as a {@code String}, like {@code 1402-01-01}.
+     *
+     * @return the current date as a {@code String}, not null
+     */
+    @Override
+    public String toString() {
+        return String.format("%04d-%02d-%02d", year, month.getValue(), day);
+    }
+}
@@ -0,0 +1,490 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.YEAR;
+
+/**
+ * A filter on Persian dates, such as "the year 1402 and the month Mehr", that can be compiled
+ * into ranges of Gregorian epoch days or instants, so that a query on a Gregorian date or
+ * timestamp column can be answered with index range scans.
+ * <p>
+ * Filters are created from the factory methods of this class, and combined with
+ * {@link #and(PersianDateFilter)} and {@link #or(PersianDateFilter)}. For example:
+ * <pre>
+ *     PersianDateFilter filter = PersianDateFilter.years(1401, 1402)
+ *             .and(PersianDateFilter.months(PersianMonth.MEHR))
+ *             .or(PersianDateFilter.between(PersianDate.of(1401, 12, 15), PersianDate.of(1402, 1, 15)));
+ *     long[] ranges = filter.toEpochMilliRanges(ZoneId.of("Asia/Tehran"));
+ *     for (int i = 0; i &lt; ranges.length; i += 2) {
+ *         sql.append(i == 0 ? " WHERE " : " OR ")
+ *            .append("(ts &gt;= ").append(ranges[i]).append(" AND ts &lt; ").append(ranges[i + 1]).append(')');
+ *     }
+ * </pre>
+ * The ranges of a filter are the maximal runs of consecutive matching days, so they are the
+ * fewest ranges that select exactly the matching days: adjacent days, months and years are
+ * merged into one range, also across the end of a year. The ranges are computed month by month
+ * between the bounds of the filter, which are those of its years and {@code between} filters,
+ * or the whole range of {@link PersianDate} for a filter on months alone, and only the months
+ * in which some but not all days match are walked day by day. A filter on days-of-month or
+ * days-of-week matches about one day in seven over two thousand years unless it is combined
+ * with years or a {@code between} filter, so the {@code toXxx} methods without bounds throw
+ * an exception for it; the {@code toXxx} methods with bounds accept any filter, and restrict
+ * the ranges further. Since a range of epoch days is also a range of Gregorian dates,
+ * {@link LocalDate#ofEpochDay(long)} converts its ends to the dates of a {@code DATE} column.
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianDateFilter {
+
+    private static final long MIN_EPOCH_DAY = PersianDate.MIN.toEpochDay();
+    private static final long END_EPOCH_DAY = PersianDate.MAX.toEpochDay() + 1;
+
+    /**
+     * The results of {@link Condition#testMonth}, ordered so that the result of {@code and} is
+     * the minimum of its operands, and the result of {@code or} the maximum.
+     */
+    private static final int NONE = 0;
+    private static final int SOME = 1;
+    private static final int ALL = 2;
+
+    /**
+     * The condition on the fields of a date.
+     */
+    private interface Condition {
+        boolean test(int year, int month, int dayOfMonth, long epochDay);
+
+        /**
+         * Returns whether {@code ALL}, {@code NONE} or {@code SOME} of the days of a month
+         * from the start epoch day inclusive to the end epoch day exclusive match.
+         */
+        default int testMonth(int year, int month, long startEpochDay, long endEpochDay) {
+            return SOME;
+        }
+    }
+
+    /**
+     * The condition on the year and month of a date alone.
+     */
+    private interface MonthCondition extends Condition {
+        boolean test(int year, int month);
+
+        @Override
+        default boolean test(int year, int month, int dayOfMonth, long epochDay) {
+            return test(year, month);
+        }
+
+        @Override
+        default int testMonth(int year, int month, long startEpochDay, long endEpochDay) {
+            return test(year, month) ? ALL : NONE;
+        }
+    }
+
+    private final Condition condition;
+
+    /**
+     * The epoch day before which no date matches, inclusive.
+     */
+    private final long lower;
+
+    /**
+     * The epoch day from which no date matches, exclusive.
+     */
+    private final long upper;
+
+    /**
+     * Whether the matching dates are within the bounds of years or a {@code between} filter.
+     */
+    private final boolean bounded;
+
+    /**
+     * Whether the filter has conditions on days-of-month or days-of-week outside the bounds of
+     * years or a {@code between} filter.
+     */
+    private final boolean unboundedDays;
+
+    /**
+     * Creates a new instance of this class.
+     */
+    private PersianDateFilter(Condition condition, long lower, long upper, boolean bounded, boolean unboundedDays) {
+        this.condition = condition;
+        this.lower = lower;
+        this.upper = upper;
+        this.bounded = bounded;
+        this.unboundedDays = unboundedDays;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Obtains a filter of the dates from the start date to the end date, both inclusive.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endInclusive the end date, inclusive, not null
+     * @return a new filter, not null
+     * @throws DateTimeException if the end date is before the start date
+     */
+    public static PersianDateFilter between(PersianDate startInclusive, PersianDate endInclusive) {
+        final long lower = startInclusive.toEpochDay();
+        final long upper = endInclusive.toEpochDay() + 1;
+        if (upper <= lower) {
+            throw new DateTimeException("End date must not be before start date: " +
+                    startInclusive + ", " + endInclusive);
+        }
+        final Condition condition = new Condition() {
+            @Override
+            public boolean test(int year, int month, int dayOfMonth, long epochDay) {
+                return epochDay >= lower && epochDay < upper;
+            }
+
+            @Override
+            public int testMonth(int year, int month, long startEpochDay, long endEpochDay) {
+                if (startEpochDay >= lower && endEpochDay <= upper) {
+                    return ALL;
+                }
+                return endEpochDay <= lower || startEpochDay >= upper ? NONE : SOME;
+            }
+        };
+        return new PersianDateFilter(condition, lower, upper, true, false);
+    }
+
+    /**
+     * Obtains a filter of the dates of a Persian year.
+     *
+     * @param year the year, within the range of {@code PersianDate}
+     * @return a new filter, not null
+     * @throws DateTimeException if the year is out of range
+     */
+    public static PersianDateFilter year(int year) {
+        return years(year, year);
+    }
+
+    /**
+     * Obtains a filter of the dates from the first Persian year to the last Persian year,
+     * both inclusive.
+     *
+     * @param firstInclusive the first year, within the range of {@code PersianDate}
+     * @param lastInclusive the last year, not before the first year
+     * @return a new filter, not null
+     * @throws DateTimeException if any of the years is out of range, or the last year is
+     *                           before the first year
+     */
+    public static PersianDateFilter years(int firstInclusive, int lastInclusive) {
+        PersianChronology.INSTANCE.checkValidValue(firstInclusive, YEAR);
+        PersianChronology.INSTANCE.checkValidValue(lastInclusive, YEAR);
+        if (lastInclusive < firstInclusive) {
+            throw new DateTimeException("Last year must not be before first year: " +
+                    firstInclusive + ", " + lastInclusive);
+        }
+        final MonthCondition condition = (y, m) -> y >= firstInclusive && y <= lastInclusive;
+        return new PersianDateFilter(condition, PersianDate.toEpochDay(firstInclusive, 1, 1),
+                PersianDate.toEpochDay(lastInclusive + 1, 1, 1), true, false);
+    }
+
+    /**
+     * Obtains a filter of the dates in any of the given months, in any year.
+     *
+     * @param months the months, not null
+     * @return a new filter, not null
+     */
+    public static PersianDateFilter months(PersianMonth... months) {
+        int mask = 0;
+        for (PersianMonth month : months) {
+            mask |= 1 << Objects.requireNonNull(month, "month").getValue();
+        }
+        return ofMonthMask(mask);
+    }
+
+    /**
+     * Obtains a filter of the dates in any of the given seasons, in any year, where the
+     * quarters are those of {@link PersianFields#QUARTER_OF_YEAR}.
+     *
+     * @param quarters the quarters-of-year, from 1 to 4, not null
+     * @return a new filter, not null
+     * @throws DateTimeException if any of the quarters is out of range
+     */
+    public static PersianDateFilter quarters(int... quarters) {
+        int mask = 0;
+        for (int quarter : quarters) {
+            PersianFields.QUARTER_OF_YEAR.range().checkValidValue(quarter, PersianFields.QUARTER_OF_YEAR);
+            mask |= 0b1110 << (quarter - 1) * 3;
+        }
+        return ofMonthMask(mask);
+    }
+
+    private static PersianDateFilter ofMonthMask(int mask) {
+        final MonthCondition condition = (y, m) -> (mask >>> m & 1) != 0;
+        return new PersianDateFilter(condition, MIN_EPOCH_DAY, END_EPOCH_DAY, false, false);
+    }
+
+    /**
+     * Obtains a filter of the dates with any of the given days-of-month, in any month.
+     *
+     * @param daysOfMonth the days-of-month, from 1 to 31, not null
+     * @return a new filter, not null
+     * @throws DateTimeException if any of the days-of-month is out of range
+     */
+    public static PersianDateFilter daysOfMonth(int... daysOfMonth) {
+        long mask = 0;
+        for (int dayOfMonth : daysOfMonth) {
+            PersianChronology.INSTANCE.checkValidValue(dayOfMonth, DAY_OF_MONTH);
+            mask |= 1L << dayOfMonth;
+        }
+        final long days = mask;
+        return new PersianDateFilter((y, m, d, epochDay) -> (days >>> d & 1) != 0,
+                MIN_EPOCH_DAY, END_EPOCH_DAY, false, true);
+    }
+
+    /**
+     * Obtains a filter of the dates on any of the given days-of-week.
+     *
+     * @param daysOfWeek the days-of-week, not null
+     * @return a new filter, not null
+     */
+    public static PersianDateFilter daysOfWeek(DayOfWeek... daysOfWeek) {
+        int mask = 0;
+        for (DayOfWeek dayOfWeek : daysOfWeek) {
+            mask |= 1 << Objects.requireNonNull(dayOfWeek, "dayOfWeek").getValue();
+        }
+        final int days = mask;
+        return new PersianDateFilter((y, m, d, epochDay) -> (days >>> (Math.floorMod(epochDay + 3, 7) + 1) & 1) != 0,
+                MIN_EPOCH_DAY, END_EPOCH_DAY, false, true);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns a filter of the dates that match both this filter and the other filter.
+     *
+     * @param other the other filter, not null
+     * @return a new filter, not null
+     */
+    public PersianDateFilter and(PersianDateFilter other) {
+        final Condition first = condition;
+        final Condition second = other.condition;
+        final Condition condition = new Condition() {
+            @Override
+            public boolean test(int year, int month, int dayOfMonth, long epochDay) {
+                return first.test(year, month, dayOfMonth, epochDay) && second.test(year, month, dayOfMonth, epochDay);
+            }
+
+            @Override
+            public int testMonth(int year, int month, long startEpochDay, long endEpochDay) {
+                final int result = first.testMonth(year, month, startEpochDay, endEpochDay);
+                return result == NONE ? NONE : Math.min(result, second.testMonth(year, month, startEpochDay, endEpochDay));
+            }
+        };
+        return new PersianDateFilter(condition, Math.max(lower, other.lower), Math.min(upper, other.upper),
+                bounded || other.bounded, unboundedDays && !other.bounded || other.unboundedDays && !bounded);
+    }
+
+    /**
+     * Returns a filter of the dates that match this filter, the other filter or both.
+     *
+     * @param other the other filter, not null
+     * @return a new filter, not null
+     */
+    public PersianDateFilter or(PersianDateFilter other) {
+        final Condition first = condition;
+        final Condition second = other.condition;
+        final Condition condition = new Condition() {
+            @Override
+            public boolean test(int year, int month, int dayOfMonth, long epochDay) {
+                return first.test(year, month, dayOfMonth, epochDay) || second.test(year, month, dayOfMonth, epochDay);
+            }
+
+            @Override
+            public int testMonth(int year, int month, long startEpochDay, long endEpochDay) {
+                final int result = first.testMonth(year, month, startEpochDay, endEpochDay);
+                return result == ALL ? ALL : Math.max(result, second.testMonth(year, month, startEpochDay, endEpochDay));
+            }
+        };
+        return new PersianDateFilter(condition, Math.min(lower, other.lower), Math.max(upper, other.upper),
+                bounded && other.bounded, unboundedDays || other.unboundedDays);
+    }
+
+    /**
+     * Checks if a date matches this filter.
+     *
+     * @param date the date, not null
+     * @return true if the date matches
+     */
+    public boolean test(PersianDate date) {
+        return condition.test(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), date.toEpochDay());
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the ranges of epoch days of the matching dates, as pairs of a start inclusive and
+     * an end exclusive, in ascending order.
+     *
+     * @return the start and end of each range, in a flat array, not null
+     * @throws DateTimeException if the filter has days-of-month or days-of-week without years
+     *                           or a {@code between} filter to bound them
+     */
+    public long[] toEpochDayRanges() {
+        return compileBounded();
+    }
+
+    /**
+     * Returns the ranges of epoch days of the matching dates from the start date inclusive to
+     * the end date exclusive, as pairs of a start inclusive and an end exclusive, in
+     * ascending order.
+     *
+     * @param startInclusive the first date to consider, not null
+     * @param endExclusive the date after the last date to consider, not null
+     * @return the start and end of each range, in a flat array, not null
+     */
+    public long[] toEpochDayRanges(PersianDate startInclusive, PersianDate endExclusive) {
+        return compile(Math.max(lower, startInclusive.toEpochDay()), Math.min(upper, endExclusive.toEpochDay()));
+    }
+
+    /**
+     * Returns the ranges of the matching dates, in ascending order.
+     *
+     * @return an unmodifiable list of daily ranges, not null
+     * @throws DateTimeException if the filter has days-of-month or days-of-week without years
+     *                           or a {@code between} filter to bound them
+     */
+    public List<PersianDateRange> toRanges() {
+        return toRanges(compileBounded());
+    }
+
+    /**
+     * Returns the ranges of the matching dates from the start date inclusive to the end date
+     * exclusive, in ascending order.
+     *
+     * @param startInclusive the first date to consider, not null
+     * @param endExclusive the date after the last date to consider, not null
+     * @return an unmodifiable list of daily ranges, not null
+     */
+    public List<PersianDateRange> toRanges(PersianDate startInclusive, PersianDate endExclusive) {
+        return toRanges(toEpochDayRanges(startInclusive, endExclusive));
+    }
+
+    /**
+     * Returns the ranges of instants of the matching dates in the given time-zone, as pairs of
+     * epoch milliseconds of a start inclusive and an end exclusive, in ascending order. Each
+     * range starts at the start of its first day, and ends at the start of the day after its
+     * last day.
+     *
+     * @param zone the time-zone, not null
+     * @return the start and end of each range, in a flat array, not null
+     * @throws DateTimeException if the filter has days-of-month or days-of-week without years
+     *                           or a {@code between} filter to bound them
+     */
+    public long[] toEpochMilliRanges(ZoneId zone) {
+        return toEpochMillis(compileBounded(), zone);
+    }
+
+    /**
+     * Returns the ranges of instants of the matching dates from the start date inclusive to
+     * the end date exclusive in the given time-zone, as by {@link #toEpochMilliRanges(ZoneId)}.
+     *
+     * @param startInclusive the first date to consider, not null
+     * @param endExclusive the date after the last date to consider, not null
+     * @param zone the time-zone, not null
+     * @return the start and end of each range, in a flat array, not null
+     */
+    public long[] toEpochMilliRanges(PersianDate startInclusive, PersianDate endExclusive, ZoneId zone) {
+        return toEpochMillis(toEpochDayRanges(startInclusive, endExclusive), zone);
+    }
+
+    private static long[] toEpochMillis(long[] ranges, ZoneId zone) {
+        final ZoneOffsetCache offsets = ZoneOffsetCache.of(zone);
+        for (int i = 0; i < ranges.length; i++) {
+            final long localSecond = ranges[i] * 86_400L;
+            ranges[i] = (localSecond - offsets.getOffsetOfLocal(localSecond).getTotalSeconds()) * 1000L;
+        }
+        return ranges;
+    }
+
+    private static List<PersianDateRange> toRanges(long[] ranges) {
+        final List<PersianDateRange> list = new ArrayList<>(ranges.length / 2);
+        for (int i = 0; i < ranges.length; i += 2) {
+            list.add(PersianDateRange.ofEpochDays(ranges[i], ranges[i + 1]));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    private long[] compileBounded() {
+        if (unboundedDays) {
+            throw new DateTimeException("Filter on days-of-month or days-of-week must be bounded by " +
+                    "years, a between filter or the start and end dates");
+        }
+        return compile(lower, upper);
+    }
+
+    /**
+     * Returns the runs of matching days between the given epoch days, walking over the months,
+     * and over the days of the months in which only some days match.
+     */
+    private long[] compile(long from, long to) {
+        final long start = Math.max(from, MIN_EPOCH_DAY);
+        final long end = Math.min(to, END_EPOCH_DAY);
+        if (start >= end) {
+            return new long[0];
+        }
+        long[] ranges = new long[8];
+        int length = 0;
+        boolean inRun = false;
+        long runStart = 0;
+        final int packed = PersianDate.packedOfEpochDay(start);
+        int year = packed >>> 9;
+        int month = (packed >>> 5) & 0xF;
+        long firstOfMonth = PersianDate.toEpochDay(year, month, 1);
+        while (firstOfMonth < end) {
+            final int nextYear = month == 12 ? year + 1 : year;
+            final int nextMonth = month == 12 ? 1 : month + 1;
+            final long firstOfNextMonth = PersianDate.toEpochDay(nextYear, nextMonth, 1);
+            final long monthStart = Math.max(firstOfMonth, start);
+            final long monthEnd = Math.min(firstOfNextMonth, end);
+            final int result = condition.testMonth(year, month, monthStart, monthEnd);
+            for (long epochDay = monthStart; epochDay < monthEnd; epochDay++) {
+                final boolean matches = result == ALL || result == SOME &&
+                        condition.test(year, month, (int) (epochDay - firstOfMonth) + 1, epochDay);
+                if (matches && !inRun) {
+                    inRun = true;
+                    runStart = epochDay;
+                } else if (!matches && inRun) {
+                    if (length == ranges.length) {
+                        ranges = Arrays.copyOf(ranges, length * 2);
+                    }
+                    ranges[length++] = runStart;
+                    ranges[length++] = epochDay;
+                    inRun = false;
+                }
+                if (result != SOME) {
+                    // the other days of the month match as the first one does
+                    break;
+                }
+            }
+            year = nextYear;
+            month = nextMonth;
+            firstOfMonth = firstOfNextMonth;
+        }
+        if (inRun) {
+            if (length == ranges.length) {
+                ranges = Arrays.copyOf(ranges, length * 2);
+            }
+            ranges[length++] = runStart;
+            ranges[length++] = end;
+        }
+        return Arrays.copyOf(ranges, length);
+    }
+}
@@ -0,0 +1,463 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of Persian dates from a start date inclusive to an end date exclusive, stepping by
+ * a number of days, weeks, months or years.
+ * <p>
+ * The dates of a range are computed from their index, so the size of a range and any of its
+ * dates are available in constant time. With a step of months or years, every date is
+ * computed from the start date, and the day-of-month is clamped to the length of each month
+ * without drifting: the monthly range from Shahrivar 31 has Mehr 30, Aban 30 and so on to
+ * Esfand 29 or 30, and then Farvardin 31.
+ * <p>
+ * The {@link #spliterator()} of a range is {@code SIZED} and {@code SUBSIZED}, and splits
+ * into halves, so parallel streams of dates scale. The streams of {@link #epochDays()} and
+ * {@link #intEpochDays()} compute epoch days without creating any {@code PersianDate}.
+ * For example:
+ * <pre>
+ *     long fridays = PersianDateRange.ofYear(1402).stream()
+ *             .filter(date -&gt; date.getDayOfWeek() == DayOfWeek.FRIDAY)
+ *             .count();
+ *     PersianDateRange monthStarts = PersianDateRange.of(PersianDate.of(1392, 1, 1), PersianDate.of(1402, 1, 1))
+ *             .withStep(1, ChronoUnit.MONTHS);
+ * </pre>
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianDateRange implements Iterable<PersianDate> {
+
+    private final int startEpochDay;
+    private final int endEpochDay;
+
+    /**
+     * The step, in days if {@link #monthly} is false, in months otherwise.
+     */
+    private final int step;
+    private final boolean monthly;
+
+    /**
+     * The proleptic month of the start date, used for monthly steps.
+     */
+    private final int startProlepticMonth;
+    private final int startDayOfMonth;
+    private final int size;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param startEpochDay the epoch day of the start date, inclusive
+     * @param endEpochDay the epoch day of the end date, exclusive
+     * @param step the step, in days or months, positive
+     * @param monthly whether the step is in months
+     */
+    private PersianDateRange(int startEpochDay, int endEpochDay, int step, boolean monthly) {
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = endEpochDay;
+        this.step = step;
+        this.monthly = monthly;
+        final int packed = PersianDate.packedOfEpochDay(startEpochDay);
+        this.startProlepticMonth = (packed >>> 9) * 12 + (packed >>> 5 & 15) - 1;
+        this.startDayOfMonth = packed & 31;
+        this.size = monthly ? monthlySize() : (int) ((endEpochDay - (long) startEpochDay + step - 1) / step);
+    }
+
+    /**
+     * Obtains a daily range from the start date inclusive to the end date exclusive.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive the end date, exclusive, not null
+     * @return a daily range, not null
+     * @throws DateTimeException if the end date is before the start date
+     */
+    public static PersianDateRange of(PersianDate startInclusive, PersianDate endExclusive) {
+        return ofEpochDays(startInclusive.toEpochDay(), endExclusive.toEpochDay());
+    }
+
+    /**
+     * Obtains a daily range from the start date to the end date, both inclusive.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endInclusive the end date, inclusive, not null
+     * @return a daily range, not null
+     * @throws DateTimeException if the end date is before the start date
+     */
+    public static PersianDateRange ofClosed(PersianDate startInclusive, PersianDate endInclusive) {
+        return ofEpochDays(startInclusive.toEpochDay(), endInclusive.toEpochDay() + 1);
+    }
+
+    /**
+     * Obtains a daily range of all the days of a Persian year.
+     *
+     * @param year the Persian year
+     * @return a daily range of the year, not null
+     * @throws DateTimeException if the year is out of the range of {@code PersianDate}
+     */
+    public static PersianDateRange ofYear(int year) {
+        final PersianYear persianYear = PersianYear.of(year);
+        return ofEpochDays(persianYear.getFirstEpochDay(), persianYear.getLastEpochDay() + 1);
+    }
+
+    /**
+     * Obtains a daily range of all the days of a Persian month.
+     *
+     * @param yearMonth the Persian year-month, not null
+     * @return a daily range of the month, not null
+     */
+    public static PersianDateRange ofMonth(PersianYearMonth yearMonth) {
+        return ofEpochDays(yearMonth.getFirstEpochDay(), yearMonth.getLastEpochDay() + 1);
+    }
+
+    static PersianDateRange ofEpochDays(long startEpochDay, long endEpochDay) {
+        if (endEpochDay < startEpochDay) {
+            throw new DateTimeException("End date must not be before start date: " +
+                    PersianDate.ofEpochDay(startEpochDay) + ", " + PersianDate.ofEpochDay(endEpochDay));
+        }
+        return new PersianDateRange((int) startEpochDay, (int) endEpochDay, 1, false);
+    }
+
+    /**
+     * Returns a copy of this range with the given step. Years are stepped as twelve months,
+     * and weeks as seven days.
+     *
+     * @param amount the amount of the step, positive
+     * @param unit the unit of the step, {@code DAYS}, {@code WEEKS}, {@code MONTHS} or {@code YEARS}
+     * @return a range with the given step, not null
+     * @throws IllegalArgumentException if the amount is not positive or too large
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public PersianDateRange withStep(int amount, TemporalUnit unit) {
+        MyUtils.intRequirePositive(amount, "amount");
+        Objects.requireNonNull(unit, "unit");
+        if (unit == ChronoUnit.DAYS) {
+            return new PersianDateRange(startEpochDay, endEpochDay, amount, false);
+        } else if (unit == ChronoUnit.WEEKS) {
+            return new PersianDateRange(startEpochDay, endEpochDay, MyUtils.intRequireRange(amount, 1,
+                    Integer.MAX_VALUE / 7, "amount") * 7, false);
+        } else if (unit == ChronoUnit.MONTHS) {
+            return new PersianDateRange(startEpochDay, endEpochDay, amount, true);
+        } else if (unit == ChronoUnit.YEARS) {
+            return new PersianDateRange(startEpochDay, endEpochDay, MyUtils.intRequireRange(amount, 1,
+                    Integer.MAX_VALUE / 12, "amount") * 12, true);
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the start date of this range, inclusive.
+     *
+     * @return the start date, not null
+     */
+    public PersianDate getStart() {
+        return PersianDate.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Returns the end date of this range, exclusive.
+     *
+     * @return the end date, not null
+     * @throws DateTimeException if the range ends at {@link PersianDate#MAX}, so the end
+     *                           date is out of the range of {@code PersianDate}
+     */
+    public PersianDate getEnd() {
+        return PersianDate.ofEpochDay(endEpochDay);
+    }
+
+    /**
+     * Returns the number of dates in this range.
+     *
+     * @return the number of dates, zero or more
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this range has no dates.
+     *
+     * @return true if the range is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the date at the given index.
+     *
+     * @param index the index, from zero to the size exclusive
+     * @return the date at the index, not null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersianDate get(int index) {
+        return PersianDate.ofEpochDay(getEpochDay(index));
+    }
+
+    /**
+     * Returns the epoch day of the date at the given index.
+     *
+     * @param index the index, from zero to the size exclusive
+     * @return the epoch day of the date at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochDay(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return epochDayAt(index);
+    }
+
+    /**
+     * Checks if the given date is one of the dates of this range.
+     *
+     * @param date the date to check, not null
+     * @return true if the date is in this range
+     */
+    public boolean contains(PersianDate date) {
+        final long epochDay = date.toEpochDay();
+        if (epochDay < startEpochDay || epochDay >= endEpochDay) {
+            return false;
+        }
+        if (!monthly) {
+            return (epochDay - startEpochDay) % step == 0;
+        }
+        final long months = date.getLong(ChronoField.PROLEPTIC_MONTH) - startProlepticMonth;
+        return months % step == 0 && epochDayAt((int) (months / step)) == epochDay;
+    }
+
+    private long epochDayAt(int index) {
+        if (!monthly) {
+            return startEpochDay + (long) index * step;
+        }
+        final long prolepticMonth = startProlepticMonth + (long) index * step;
+        final int year = (int) (prolepticMonth / 12);
+        final int month = (int) (prolepticMonth % 12) + 1;
+        return PersianDate.toEpochDay(year, month, Math.min(startDayOfMonth, PersianDate.lengthOfMonth(year, month)));
+    }
+
+    private int monthlySize() {
+        if (endEpochDay <= startEpochDay) {
+            return 0;
+        }
+        // the last day rather than the end, which is out of range for a range ending at MAX
+        final int lastDay = PersianDate.packedOfEpochDay(endEpochDay - 1);
+        final long months = (lastDay >>> 9) * 12L + (lastDay >>> 5 & 15) - 1 - startProlepticMonth;
+        final int last = (int) (months / step);
+        return epochDayAt(last) < endEpochDay ? last + 1 : last;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns an iterator over the dates of this range, in ascending order.
+     *
+     * @return an iterator over the dates, not null
+     */
+    @Override
+    public Iterator<PersianDate> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the dates of this range. The spliterator is {@code SIZED}
+     * and {@code SUBSIZED}, and splits at the middle index.
+     *
+     * @return a spliterator over the dates, not null
+     */
+    @Override
+    public Spliterator<PersianDate> spliterator() {
+        return new DateSpliterator(0, size);
+    }
+
+    /**
+     * Returns a sequential stream of the dates of this range.
+     *
+     * @return a stream of the dates, not null
+     */
+    public Stream<PersianDate> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a sequential stream of the epoch days of the dates of this range.
+     *
+     * @return a stream of the epoch days, not null
+     */
+    public LongStream epochDays() {
+        return StreamSupport.longStream(new EpochDaySpliterator(0, size), false);
+    }
+
+    /**
+     * Returns a sequential stream of the epoch days of the dates of this range, as
+     * {@code int} values. All the epoch days of {@code PersianDate} fit in an {@code int}.
+     *
+     * @return a stream of the epoch days, not null
+     */
+    public IntStream intEpochDays() {
+        return StreamSupport.intStream(new IntEpochDaySpliterator(0, size), false);
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PersianDateRange other = (PersianDateRange) obj;
+        return startEpochDay == other.startEpochDay && endEpochDay == other.endEpochDay
+                && step == other.step && monthly == other.monthly;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startEpochDay, endEpochDay, step, monthly);
+    }
+
+    /**
+     * Returns a string representation of this range, like {@code 1402-01-01/1403-01-01} for
+     * a daily range, or {@code 1402-01-01/1403-01-01/P1M} for other steps.
+     *
+     * @return a string representation of this range, not null
+     */
+    @Override
+    public String toString() {
+        final String dates = PersianDate.ofEpochDay(startEpochDay) + "/" + formatEnd();
+        if (!monthly && step == 1) {
+            return dates;
+        }
+        return dates + "/P" + step + (monthly ? "M" : "D");
+    }
+
+    private String formatEnd() {
+        // the day after the last day, which is out of range for a range ending at MAX
+        final int packed = PersianDate.packedOfEpochDay(endEpochDay - 1);
+        int year = packed >>> 9;
+        int month = packed >>> 5 & 15;
+        int day = (packed & 31) + 1;
+        if (day > PersianDate.lengthOfMonth(year, month)) {
+            day = 1;
+            if (++month > 12) {
+                month = 1;
+                year++;
+            }
+        }
+        return String.format("%04d-%02d-%02d", year, month, day);
+    }
+
+    //-----------------------------------------------------------------------
+
+    private final class DateSpliterator extends IndexSpliterator<DateSpliterator>
+            implements Spliterator<PersianDate> {
+
+        DateSpliterator(long index, long fence) {
+            super(index, fence);
+        }
+
+        @Override
+        DateSpliterator split(long from, long to) {
+            return new DateSpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super PersianDate> action) {
+            Objects.requireNonNull(action, "action");
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(PersianDate.ofEpochDay(epochDayAt((int) index++)));
+            return true;
+        }
+    }
+
+    private final class EpochDaySpliterator extends IndexSpliterator<EpochDaySpliterator>
+            implements Spliterator.OfLong {
+
+        EpochDaySpliterator(long index, long fence) {
+            super(index, fence);
+        }
+
+        @Override
+        EpochDaySpliterator split(long from, long to) {
+            return new EpochDaySpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action, "action");
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(epochDayAt((int) index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action, "action");
+            final int end = (int) fence;
+            for (int i = (int) index; i < end; i++) {
+                action.accept(epochDayAt(i));
+            }
+            index = end;
+        }
+    }
+
+    private final class IntEpochDaySpliterator extends IndexSpliterator<IntEpochDaySpliterator>
+            implements Spliterator.OfInt {
+
+        IntEpochDaySpliterator(long index, long fence) {
+            super(index, fence);
+        }
+
+        @Override
+        IntEpochDaySpliterator split(long from, long to) {
+            return new IntEpochDaySpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action, "action");
+            if (index >= fence) {
+                return false;
+            }
+            action.accept((int) epochDayAt((int) index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action, "action");
+            final int end = (int) fence;
+            for (int i = (int) index; i < end; i++) {
+                action.accept((int) epochDayAt(i));
+            }
+            index = end;
+        }
+    }
+}
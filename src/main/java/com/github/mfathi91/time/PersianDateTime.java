@@ -3,11 +3,13 @@ package com.github.mfathi91.time;
 import net.jcip.annotations.Immutable;
 
 import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.chrono.ChronoLocalDateTime;
-import java.time.chrono.ChronoZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.*;
 import java.util.Objects;
@@ -16,6 +18,10 @@ import java.util.Objects;
  * A wrapper class for {@link PersianDate} and {@link LocalTime} to encapsulate these classes in one class for the sake
  * of simplicity and convenience.
  * <p>
+ * In order to keep the memory footprint of large collections of date-times small, an instance of this class is a
+ * single object that stores the epoch day and the nano-of-day. The {@link PersianDate} and {@link LocalTime} parts are
+ * created on demand by {@link #toLocalDate()} and {@link #toLocalTime()}.
+ * <p>
  * This class is immutable and can be used in multi-threaded environments.
  *
  * @author Mahmoud Fathi
@@ -34,14 +40,19 @@ public final class PersianDateTime implements ChronoLocalDateTime<PersianDate> {
     private static final PersianDateTime MAX = new PersianDateTime(PersianDate.MAX, LocalTime.MAX);
 
     /**
-     * The Persian date.
+     * The number of nanoseconds in a day.
      */
-    private final PersianDate date;
+    private static final long NANOS_PER_DAY = 86_400_000_000_000L;
 
     /**
-     * The local time.
+     * The epoch day of the date part.
      */
-    private final LocalTime time;
+    private final int epochDay;
+
+    /**
+     * The nano-of-day of the time part.
+     */
+    private final long nanoOfDay;
 
     /**
      * Returns an instance of this class with the actual current date and time.
@@ -194,7 +205,23 @@ public final class PersianDateTime implements ChronoLocalDateTime<PersianDate> {
      */
     public static PersianDateTime fromGregorian(final LocalDateTime localDateTime) {
         Objects.requireNonNull(localDateTime, "localDateTime");
-        return new PersianDateTime(PersianDate.fromGregorian(localDateTime.toLocalDate()), localDateTime.toLocalTime());
+        return ofEpochDay(localDateTime.toLocalDate().toEpochDay(), localDateTime.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * Obtains an instance of this class from an epoch day and a nano-of-day, without creating the date and time parts.
+     *
+     * @param epochDay the epoch day, within the range of {@link PersianDate}
+     * @param nanoOfDay the nano-of-day, from 0 to 24 * 60 * 60 * 1,000,000,000 - 1
+     * @return an instance of {@code PersianDateTime}
+     * @throws DateTimeException if the epoch day or the nano-of-day is out of range
+     */
+    static PersianDateTime ofEpochDay(final long epochDay, final long nanoOfDay) {
+        if (!MyUtils.isBetween(epochDay, PersianDate.MIN.toEpochDay(), PersianDate.MAX.toEpochDay())) {
+            throw new DateTimeException("Invalid epoch day " + epochDay + ", out of the range of PersianDate");
+        }
+        ChronoField.NANO_OF_DAY.checkValidValue(nanoOfDay);
+        return new PersianDateTime((int) epochDay, nanoOfDay);
     }
 
     /**
@@ -255,28 +282,39 @@ public final class PersianDateTime implements ChronoLocalDateTime<PersianDate> {
      * @param time the time, not {@code null}
      */
     private PersianDateTime(final PersianDate date, final LocalTime time) {
-        this.date = Objects.requireNonNull(date, "date");
-        this.time = Objects.requireNonNull(time, "time");
+        this.epochDay = (int) Objects.requireNonNull(date, "date").toEpochDay();
+        this.nanoOfDay = Objects.requireNonNull(time, "time").toNanoOfDay();
     }
 
     /**
-     * Returns the date part of this date-time.
+     * Creates a new instance of this class.
+     *
+     * @param epochDay the epoch day, within the range of {@link PersianDate}
+     * @param nanoOfDay the nano-of-day, valid for {@link LocalTime}
+     */
+    private PersianDateTime(final int epochDay, final long nanoOfDay) {
+        this.epochDay = epochDay;
+        this.nanoOfDay = nanoOfDay;
+    }
+
+    /**
+     * Returns the date part of this date-time. The date is created on each call.
      *
      * @return the date part of this date-time.
      */
     @Override
     public PersianDate toLocalDate() {
-        return date;
+        return PersianDate.ofEpochDay(epochDay);
     }
 
     /**
-     * Returns the time part of this date-time.
+     * Returns the time part of this date-time. The time is created on each call.
      *
      * @return the time part of this date-time.
      */
     @Override
     public LocalTime toLocalTime() {
-        return time;
+        return LocalTime.ofNanoOfDay(nanoOfDay);
     }
 
     /**
@@ -286,12 +324,49 @@ public final class PersianDateTime implements ChronoLocalDateTime<PersianDate> {
      * @return the corresponding Gregorian date-time of this Persian date-time
      */
     public LocalDateTime toGregorian() {
-        return LocalDateTime.of(date.toGregorian(), time);
+        return LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay(nanoOfDay));
     }
 
+    @Override
+    public long toEpochSecond(final ZoneOffset offset) {
+        Objects.requireNonNull(offset, "offset");
+        return epochDay * 86400L + nanoOfDay / 1_000_000_000L - offset.getTotalSeconds();
+    }
+
+    @Override
+    public Instant toInstant(final ZoneOffset offset) {
+        return Instant.ofEpochSecond(toEpochSecond(offset), nanoOfDay % 1_000_000_000L);
+    }
+
+    /**
+     * Checks if the specified field is supported. All the date-based fields of
+     * {@link PersianDate} and the time-based fields of {@link LocalTime} are supported.
+     *
+     * @param field the field to check, null returns false
+     * @return true if the field is supported on this date-time, false if not
+     */
     @Override
     public boolean isSupported(final TemporalField field) {
-        return false;
+        if (field instanceof ChronoField) {
+            return field.isDateBased() || field.isTimeBased();
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    /**
+     * Returns the range of valid values for the specified field.
+     *
+     * @param field the field to query the range for, not {@code null}
+     * @return the range of valid values for the field, not null
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     * @see PersianDate#range(TemporalField)
+     */
+    @Override
+    public ValueRange range(final TemporalField field) {
+        if (field instanceof ChronoField) {
+            return (field.isTimeBased() ? field.range() : toLocalDate().range(field));
+        }
+        return field.rangeRefinedBy(this);
     }
 
     /**
@@ -307,29 +382,281 @@ public final class PersianDateTime implements ChronoLocalDateTime<PersianDate> {
         Objects.requireNonNull(field, "field");
         if (field instanceof ChronoField) {
             final ChronoField chronoField = (ChronoField) field;
-            return (chronoField.isTimeBased() ? time.getLong(field) : date.getLong(field));
+            if (chronoField == ChronoField.EPOCH_DAY) {
+                return epochDay;
+            }
+            if (chronoField == ChronoField.NANO_OF_DAY) {
+                return nanoOfDay;
+            }
+            return (chronoField.isTimeBased() ? toLocalTime().getLong(field) : toLocalDate().getLong(field));
         }
         return field.getFrom(this);
     }
 
+    /**
+     * Returns a copy of this date-time adjusted by the given adjuster. A {@link PersianDate}
+     * replaces the date part, and a {@link LocalTime} replaces the time part.
+     *
+     * @param adjuster the adjuster to use, not {@code null}
+     * @return a date-time based on this one with the adjustment made
+     * @throws DateTimeException if the adjustment cannot be made
+     */
     @Override
-    public ChronoLocalDateTime<PersianDate> with(final TemporalField field, final long newValue) {
-        throw new UnsupportedOperationException();
+    public PersianDateTime with(final TemporalAdjuster adjuster) {
+        Objects.requireNonNull(adjuster, "adjuster");
+        if (adjuster instanceof PersianDate) {
+            return new PersianDateTime((int) ((PersianDate) adjuster).toEpochDay(), nanoOfDay);
+        }
+        if (adjuster instanceof LocalTime) {
+            return new PersianDateTime(epochDay, ((LocalTime) adjuster).toNanoOfDay());
+        }
+        return (PersianDateTime) adjuster.adjustInto(this);
     }
 
+    /**
+     * Returns a copy of this date-time with the specified field set to a new value.
+     * <p>
+     * Time-based fields are set on the time part as by {@link LocalTime#with(TemporalField, long)},
+     * and date-based fields on the date part as by {@link PersianDate#with(TemporalField, long)}.
+     *
+     * @param field the field to set in the result, not {@code null}
+     * @param newValue the new value of the field in the result
+     * @return a date-time based on this one with the specified field set
+     * @throws DateTimeException if the value is invalid
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
     @Override
-    public ChronoLocalDateTime<PersianDate> plus(final long amountToAdd, final TemporalUnit temporalUnit) {
-        throw new UnsupportedOperationException();
+    public PersianDateTime with(final TemporalField field, final long newValue) {
+        Objects.requireNonNull(field, "field");
+        if (field instanceof ChronoField) {
+            if (field == ChronoField.NANO_OF_DAY) {
+                ChronoField.NANO_OF_DAY.checkValidValue(newValue);
+                return new PersianDateTime(epochDay, newValue);
+            }
+            if (field.isTimeBased()) {
+                return new PersianDateTime(epochDay, toLocalTime().with(field, newValue).toNanoOfDay());
+            }
+            return new PersianDateTime((int) toLocalDate().with(field, newValue).toEpochDay(), nanoOfDay);
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified amount added.
+     * <p>
+     * Time-based units are added to the nano-of-day, carrying over to the date. Date-based
+     * units are added to the date part as by {@link PersianDate#plus(long, TemporalUnit)},
+     * with the time part unchanged. Other units are added by {@code TemporalUnit.addTo}.
+     *
+     * @param amountToAdd the amount of the unit to add, may be negative
+     * @param temporalUnit the unit of the amount to add, not {@code null}
+     * @return a date-time with the specified amount added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianDateTime plus(final long amountToAdd, final TemporalUnit temporalUnit) {
+        Objects.requireNonNull(temporalUnit, "temporalUnit");
+        if (temporalUnit instanceof ChronoUnit) {
+            if (temporalUnit.isTimeBased()) {
+                final long unitNanos = temporalUnit.getDuration().toNanos();
+                final long unitsPerDay = NANOS_PER_DAY / unitNanos;
+                return plusDaysAndNanos(amountToAdd / unitsPerDay, (amountToAdd % unitsPerDay) * unitNanos);
+            }
+            if (amountToAdd == 0) {
+                return this;
+            }
+            return new PersianDateTime((int) toLocalDate().plus(amountToAdd, temporalUnit).toEpochDay(), nanoOfDay);
+        }
+        return temporalUnit.addTo(this, amountToAdd);
+    }
+
+    @Override
+    public PersianDateTime plus(final TemporalAmount amount) {
+        return (PersianDateTime) Objects.requireNonNull(amount, "amount").addTo(this);
+    }
+
+    @Override
+    public PersianDateTime minus(final long amountToSubtract, final TemporalUnit temporalUnit) {
+        return (amountToSubtract == Long.MIN_VALUE
+                ? plus(Long.MAX_VALUE, temporalUnit).plus(1, temporalUnit)
+                : plus(-amountToSubtract, temporalUnit));
+    }
+
+    @Override
+    public PersianDateTime minus(final TemporalAmount amount) {
+        return (PersianDateTime) Objects.requireNonNull(amount, "amount").subtractFrom(this);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of years added, adjusting
+     * the day-of-month as by {@link PersianDate#plusYears(long)}.
+     *
+     * @param years the years to add, may be negative
+     * @return a date-time with the years added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusYears(final long years) {
+        return plus(years, ChronoUnit.YEARS);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of months added, adjusting
+     * the day-of-month as by {@link PersianDate#plusMonths(long)}.
+     *
+     * @param months the months to add, may be negative
+     * @return a date-time with the months added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusMonths(final long months) {
+        return plus(months, ChronoUnit.MONTHS);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of weeks added.
+     *
+     * @param weeks the weeks to add, may be negative
+     * @return a date-time with the weeks added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusWeeks(final long weeks) {
+        return plusDaysAndNanos(Math.multiplyExact(weeks, 7L), 0);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of days added.
+     *
+     * @param days the days to add, may be negative
+     * @return a date-time with the days added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusDays(final long days) {
+        return plusDaysAndNanos(days, 0);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of hours added.
+     *
+     * @param hours the hours to add, may be negative
+     * @return a date-time with the hours added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusHours(final long hours) {
+        return plus(hours, ChronoUnit.HOURS);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of minutes added.
+     *
+     * @param minutes the minutes to add, may be negative
+     * @return a date-time with the minutes added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusMinutes(final long minutes) {
+        return plus(minutes, ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of seconds added.
+     *
+     * @param seconds the seconds to add, may be negative
+     * @return a date-time with the seconds added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusSeconds(final long seconds) {
+        return plus(seconds, ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of nanoseconds added.
+     *
+     * @param nanos the nanoseconds to add, may be negative
+     * @return a date-time with the nanoseconds added
+     * @throws DateTimeException if the result is out of the range of {@code PersianDateTime}
+     */
+    public PersianDateTime plusNanos(final long nanos) {
+        return plus(nanos, ChronoUnit.NANOS);
+    }
+
+    /**
+     * Returns a copy of this date-time with a number of days and a number of nanoseconds
+     * added, where the nanoseconds are less than a day.
+     */
+    private PersianDateTime plusDaysAndNanos(final long days, final long nanos) {
+        if (days == 0 && nanos == 0) {
+            return this;
+        }
+        final long totalNanos = nanoOfDay + nanos;
+        final long newEpochDay = Math.addExact(Math.addExact(epochDay, days), Math.floorDiv(totalNanos, NANOS_PER_DAY));
+        return ofEpochDay(newEpochDay, Math.floorMod(totalNanos, NANOS_PER_DAY));
     }
 
+    /**
+     * Calculates the amount of time until another date-time in terms of the specified unit.
+     * <p>
+     * The end is converted to a {@code PersianDateTime}, and the result is the number of
+     * complete units between the two date-times, negative if the end is before this one.
+     * For a date-based unit, the date part of the end is moved a day towards this date-time
+     * if its time part has not reached the time part of this one.
+     *
+     * @param temporal the end date-time, exclusive, not {@code null}
+     * @param temporalUnit the unit to measure the amount in, not {@code null}
+     * @return the amount of time between this date-time and the end date-time
+     * @throws DateTimeException if the end cannot be converted to a {@code PersianDateTime}
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
     @Override
     public long until(final Temporal temporal, final TemporalUnit temporalUnit) {
-        throw new UnsupportedOperationException();
+        Objects.requireNonNull(temporalUnit, "temporalUnit");
+        final PersianDateTime end = PersianDateTime.from(temporal);
+        if (temporalUnit instanceof ChronoUnit) {
+            if (temporalUnit.isTimeBased()) {
+                long days = (long) end.epochDay - epochDay;
+                long nanos = end.nanoOfDay - nanoOfDay;
+                if (days > 0 && nanos < 0) {
+                    days--;
+                    nanos += NANOS_PER_DAY;
+                } else if (days < 0 && nanos > 0) {
+                    days++;
+                    nanos -= NANOS_PER_DAY;
+                }
+                final long unitNanos = temporalUnit.getDuration().toNanos();
+                return Math.addExact(Math.multiplyExact(days, NANOS_PER_DAY / unitNanos), nanos / unitNanos);
+            }
+            long endEpochDay = end.epochDay;
+            if (endEpochDay > epochDay && end.nanoOfDay < nanoOfDay) {
+                endEpochDay--;
+            } else if (endEpochDay < epochDay && end.nanoOfDay > nanoOfDay) {
+                endEpochDay++;
+            }
+            return toLocalDate().until(PersianDate.ofEpochDay(endEpochDay), temporalUnit);
+        }
+        return temporalUnit.between(this, end);
     }
 
+    /**
+     * Combines this date-time with a time-zone to create a {@link PersianZonedDateTime}. If the
+     * local date-time is in a gap of the zone, it is moved forward by the length of the gap, and
+     * if it is in an overlap, the earlier offset is used.
+     *
+     * @param zoneId the time-zone, not {@code null}
+     * @return the zoned date-time formed from this date-time and the given zone
+     */
     @Override
-    public ChronoZonedDateTime<PersianDate> atZone(final ZoneId zoneId) {
-        throw new UnsupportedOperationException();
+    public PersianZonedDateTime atZone(final ZoneId zoneId) {
+        return PersianZonedDateTime.of(this, zoneId);
+    }
+
+    /**
+     * Combines this date-time with an offset to create a {@link PersianOffsetDateTime}.
+     *
+     * @param offset the offset, not {@code null}
+     * @return the offset date-time formed from this date-time and the given offset
+     */
+    public PersianOffsetDateTime atOffset(final ZoneOffset offset) {
+        return PersianOffsetDateTime.of(this, offset);
     }
 
     //-----------------------------------------------------------------------
@@ -340,29 +667,53 @@ public final class PersianDateTime implements ChronoLocalDateTime<PersianDate> {
         int result = 0;
         if (other instanceof PersianDateTime) {
             final PersianDateTime otherPersianDateTime = (PersianDateTime) other;
-            result = date.compareTo(otherPersianDateTime.date);
+            result = Integer.compare(epochDay, otherPersianDateTime.epochDay);
             if (result == 0) {
-                result = time.compareTo(otherPersianDateTime.time);
+                result = Long.compare(nanoOfDay, otherPersianDateTime.nanoOfDay);
             }
         }
         return result;
     }
 
+    @Override
+    public boolean isAfter(final ChronoLocalDateTime<?> other) {
+        if (other instanceof PersianDateTime) {
+            return compareTo(other) > 0;
+        }
+        return ChronoLocalDateTime.super.isAfter(other);
+    }
+
+    @Override
+    public boolean isBefore(final ChronoLocalDateTime<?> other) {
+        if (other instanceof PersianDateTime) {
+            return compareTo(other) < 0;
+        }
+        return ChronoLocalDateTime.super.isBefore(other);
+    }
+
+    @Override
+    public boolean isEqual(final ChronoLocalDateTime<?> other) {
+        if (other instanceof PersianDateTime) {
+            return compareTo(other) == 0;
+        }
+        return ChronoLocalDateTime.super.isEqual(other);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
             return true;
         }
         if (obj instanceof PersianDateTime) {
-            return compareTo((PersianDateTime) obj) == 0;
+            final PersianDateTime other = (PersianDateTime) obj;
+            return epochDay == other.epochDay && nanoOfDay == other.nanoOfDay;
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-
-        return Objects.hash(date, time);
+        return 31 * epochDay + Long.hashCode(nanoOfDay);
     }
 
     /**
@@ -380,6 +731,6 @@ public final class PersianDateTime implements ChronoLocalDateTime<PersianDate> {
      * @see LocalTime#toString()
      */
     public String toString() {
-        return String.format("%sT%s", date, time);
+        return String.format("%sT%s", toLocalDate(), toLocalTime());
     }
 }
@@ -0,0 +1,179 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * A stateful converter of instants to Persian date-times in a given zone, optimized for
+ * streams of mostly non-decreasing timestamps.
+ * <p>
+ * The converter remembers the range of epoch milliseconds of the last converted day, along
+ * with its {@link PersianDate}. As long as the following timestamps fall in that range, only
+ * the time-of-day is computed, and the Persian calendar decomposition is done again only when
+ * the day changes. The range is also cut at the offset transitions of the zone, so a day with
+ * a daylight saving time transition is handled as two ranges.
+ * <p>
+ * Timestamps may arrive out of order; a timestamp outside the remembered range simply costs a
+ * full conversion. For example:
+ * <pre>
+ *     PersianDateTimeConverter converter = PersianDateTimeConverter.of(ZoneId.of("Asia/Tehran"));
+ *     for (Event event : events) {
+ *         PersianDateTime dateTime = converter.toPersianDateTime(event.getTimestamp());
+ *         ...
+ *     }
+ * </pre>
+ * <p>
+ * This class is mutable and not thread-safe. Use one instance per thread or per partition of
+ * the stream.
+ *
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+public final class PersianDateTimeConverter {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * The zone of the converted date-times.
+     */
+    private final ZoneId zone;
+
+    /**
+     * The offset transitions of the zone.
+     */
+    private final ZoneOffsetCache offsets;
+
+    /**
+     * The date of the remembered range.
+     */
+    private PersianDate date;
+
+    /**
+     * The offset of the remembered range.
+     */
+    private ZoneOffset offset;
+
+    /**
+     * The epoch milliseconds of the start of the local day of {@link #date}.
+     */
+    private long dayStart;
+
+    /**
+     * The first epoch millisecond of the remembered range, inclusive.
+     */
+    private long rangeStart;
+
+    /**
+     * The last epoch millisecond of the remembered range, exclusive. The range is empty until
+     * the first conversion.
+     */
+    private long rangeEnd;
+
+    /**
+     * Obtains a new converter for the given zone.
+     *
+     * @param zone the zone of the converted date-times, not {@code null}
+     * @return a new converter for the given zone
+     */
+    public static PersianDateTimeConverter of(final ZoneId zone) {
+        return new PersianDateTimeConverter(zone);
+    }
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param zone the zone of the converted date-times, not {@code null}
+     */
+    private PersianDateTimeConverter(final ZoneId zone) {
+        this.zone = Objects.requireNonNull(zone, "zone");
+        this.offsets = ZoneOffsetCache.of(zone);
+    }
+
+    /**
+     * Returns the zone of the converted date-times.
+     *
+     * @return the zone of the converted date-times
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns the Persian date of the given epoch milliseconds in the zone of this converter.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00Z
+     * @return the Persian date of the given epoch milliseconds
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDate toPersianDate(final long epochMilli) {
+        if (epochMilli < rangeStart || epochMilli >= rangeEnd) {
+            seek(epochMilli);
+        }
+        return date;
+    }
+
+    /**
+     * Returns the Persian date-time of the given epoch milliseconds in the zone of this converter.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00Z
+     * @return the Persian date-time of the given epoch milliseconds
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime toPersianDateTime(final long epochMilli) {
+        final PersianDate date = toPersianDate(epochMilli);
+        return PersianDateTime.of(date, LocalTime.ofNanoOfDay((epochMilli - dayStart) * 1_000_000L));
+    }
+
+    /**
+     * Returns the Persian date-time of the given instant in the zone of this converter.
+     *
+     * @param instant the instant, not {@code null}
+     * @return the Persian date-time of the given instant
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime toPersianDateTime(final Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        final long epochMilli = instant.toEpochMilli();
+        final PersianDate date = toPersianDate(epochMilli);
+        final long nanoOfDay = (epochMilli - dayStart) * 1_000_000L + instant.getNano() % 1_000_000;
+        return PersianDateTime.of(date, LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Returns the Persian zoned date-time of the given epoch milliseconds in the zone of this
+     * converter.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00Z
+     * @return the Persian zoned date-time of the given epoch milliseconds
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianZonedDateTime toPersianZonedDateTime(final long epochMilli) {
+        final PersianDateTime dateTime = toPersianDateTime(epochMilli);
+        // the remembered offset is the offset of the instant, so it needs no resolving
+        return new PersianZonedDateTime(dateTime, offset, zone);
+    }
+
+    /**
+     * Converts the given epoch milliseconds from scratch and remembers the resulting range.
+     */
+    private void seek(final long epochMilli) {
+        final long epochSecond = Math.floorDiv(epochMilli, 1000L);
+        final ZoneOffset newOffset = offsets.getOffset(epochSecond);
+        final long offsetMillis = newOffset.getTotalSeconds() * 1000L;
+        final long epochDay = Math.floorDiv(epochMilli + offsetMillis, MILLIS_PER_DAY);
+        final PersianDate newDate = PersianDate.ofEpochDay(epochDay);
+        final long previous = offsets.previousTransition(epochSecond);
+        final long next = offsets.nextTransition(epochSecond);
+        date = newDate;
+        offset = newOffset;
+        dayStart = epochDay * MILLIS_PER_DAY - offsetMillis;
+        rangeStart = previous == Long.MIN_VALUE ? dayStart : Math.max(dayStart, previous * 1000L);
+        rangeEnd = next == Long.MAX_VALUE ? dayStart + MILLIS_PER_DAY : Math.min(dayStart + MILLIS_PER_DAY, next * 1000L);
+    }
+}
@@ -0,0 +1,478 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.NANO_OF_DAY;
+
+/**
+ * A grid of Persian date-times from a start date-time inclusive to an end date-time exclusive,
+ * stepping by a fixed duration or by a number of Persian months or years.
+ * <p>
+ * The points of a grid are computed from their index, so the size of a grid and any of its
+ * points are available in constant time, whatever the step. With a step of months or years,
+ * every point is computed from the start, and the day-of-month is clamped to the length of
+ * each month without drifting, as in {@link PersianDateRange}; the time part is unchanged.
+ * <p>
+ * The {@link #spliterator()} of a grid is {@code SIZED} and {@code SUBSIZED}, and splits into
+ * halves, so parallel streams scale. The streams of {@link #epochMillis(ZoneOffset)} and
+ * {@link #epochMillis(ZoneId)} compute the epoch milliseconds of the points without creating
+ * any {@code PersianDateTime}, which is usually what filling the gaps of a time series needs.
+ * For example:
+ * <pre>
+ *     PersianDateTimeRange grid = PersianDateTimeRange.of(
+ *             PersianDateTime.of(1402, 7, 1, 0, 0), PersianDateTime.of(1402, 8, 1, 0, 0), Duration.ofMinutes(5));
+ *     long[] buckets = grid.epochMillis(ZoneId.of("Asia/Tehran")).toArray();
+ * </pre>
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianDateTimeRange implements Iterable<PersianDateTime> {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private final PersianDateTime start;
+    private final PersianDateTime end;
+
+    /**
+     * The local epoch second and the nano-of-second of the start.
+     */
+    private final long startSecond;
+    private final int startNano;
+
+    /**
+     * The fixed step, or {@code null} if the step is in months.
+     */
+    private final Duration step;
+    private final long stepSeconds;
+    private final int stepNanos;
+
+    /**
+     * The step in months, or zero if the step is fixed.
+     */
+    private final int stepMonths;
+
+    /**
+     * The proleptic month and the day-of-month of the start, used for steps in months.
+     */
+    private final int startProlepticMonth;
+    private final int startDayOfMonth;
+
+    private final long size;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param start the start date-time, inclusive
+     * @param end the end date-time, exclusive, not before the start
+     * @param step the fixed step, or null
+     * @param stepMonths the step in months, or zero
+     */
+    private PersianDateTimeRange(PersianDateTime start, PersianDateTime end, Duration step, int stepMonths) {
+        this.start = start;
+        this.end = end;
+        final long startNanoOfDay = start.getLong(NANO_OF_DAY);
+        this.startSecond = start.getLong(EPOCH_DAY) * SECONDS_PER_DAY + startNanoOfDay / NANOS_PER_SECOND;
+        this.startNano = (int) (startNanoOfDay % NANOS_PER_SECOND);
+        this.step = step;
+        this.stepSeconds = step == null ? 0 : step.getSeconds();
+        this.stepNanos = step == null ? 0 : step.getNano();
+        this.stepMonths = stepMonths;
+        final int packed = PersianDate.packedOfEpochDay(start.getLong(EPOCH_DAY));
+        this.startProlepticMonth = (packed >>> 9) * 12 + (packed >>> 5 & 15) - 1;
+        this.startDayOfMonth = packed & 31;
+        this.size = step != null ? fixedSize() : monthlySize();
+    }
+
+    /**
+     * Obtains a grid from the start date-time inclusive to the end date-time exclusive,
+     * stepping by the given duration.
+     *
+     * @param startInclusive the start date-time, inclusive, not null
+     * @param endExclusive the end date-time, exclusive, not null
+     * @param step the step, positive, not null
+     * @return a grid, not null
+     * @throws DateTimeException if the end is before the start, or the grid has more than
+     *                           {@code Long.MAX_VALUE} points
+     * @throws IllegalArgumentException if the step is not positive
+     */
+    public static PersianDateTimeRange of(PersianDateTime startInclusive, PersianDateTime endExclusive,
+                                          Duration step) {
+        Objects.requireNonNull(step, "step");
+        if (step.isNegative() || step.isZero()) {
+            throw new IllegalArgumentException("step " + step + " is not positive");
+        }
+        return new PersianDateTimeRange(checkOrder(startInclusive, endExclusive), endExclusive, step, 0);
+    }
+
+    /**
+     * Obtains a grid from the start date-time inclusive to the end date-time exclusive,
+     * stepping by an amount of a unit. Time-based units, days and weeks are fixed steps, and
+     * months and years are steps of Persian months.
+     *
+     * @param startInclusive the start date-time, inclusive, not null
+     * @param endExclusive the end date-time, exclusive, not null
+     * @param amount the amount of the step, positive
+     * @param unit the unit of the step, not null
+     * @return a grid, not null
+     * @throws DateTimeException if the end is before the start, or the grid has more than
+     *                           {@code Long.MAX_VALUE} points
+     * @throws IllegalArgumentException if the amount is not positive or too large
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public static PersianDateTimeRange of(PersianDateTime startInclusive, PersianDateTime endExclusive,
+                                          int amount, TemporalUnit unit) {
+        MyUtils.intRequirePositive(amount, "amount");
+        Objects.requireNonNull(unit, "unit");
+        if (unit == ChronoUnit.MONTHS) {
+            return new PersianDateTimeRange(checkOrder(startInclusive, endExclusive), endExclusive, null, amount);
+        } else if (unit == ChronoUnit.YEARS) {
+            return new PersianDateTimeRange(checkOrder(startInclusive, endExclusive), endExclusive, null,
+                    MyUtils.intRequireRange(amount, 1, Integer.MAX_VALUE / 12, "amount") * 12);
+        } else if (unit instanceof ChronoUnit && (unit.isTimeBased() || unit == ChronoUnit.DAYS
+                || unit == ChronoUnit.WEEKS)) {
+            return of(startInclusive, endExclusive, unit.getDuration().multipliedBy(amount));
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    private static PersianDateTime checkOrder(PersianDateTime startInclusive, PersianDateTime endExclusive) {
+        if (endExclusive.isBefore(startInclusive)) {
+            throw new DateTimeException("End date-time must not be before start date-time: " +
+                    startInclusive + ", " + endExclusive);
+        }
+        return startInclusive;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the start date-time of this grid, inclusive.
+     *
+     * @return the start date-time, not null
+     */
+    public PersianDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end date-time of this grid, exclusive.
+     *
+     * @return the end date-time, not null
+     */
+    public PersianDateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the number of points of this grid.
+     *
+     * @return the number of points, zero or more
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Checks if this grid has no points.
+     *
+     * @return true if the grid is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the point at the given index.
+     *
+     * @param index the index, from zero to the size exclusive
+     * @return the point at the index, not null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersianDateTime get(long index) {
+        checkIndex(index);
+        return pointAt(index);
+    }
+
+    /**
+     * Returns the epoch milliseconds of the point at the given index at the given offset.
+     *
+     * @param index the index, from zero to the size exclusive
+     * @param offset the offset, not null
+     * @return the epoch milliseconds of the point
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochMilli(long index, ZoneOffset offset) {
+        checkIndex(index);
+        return epochMilliAt(index, offset.getTotalSeconds());
+    }
+
+    /**
+     * Returns the epoch milliseconds of the point at the given index in the given time-zone.
+     * A point in a gap of the zone is moved forward by the length of the gap, and a point in
+     * an overlap uses the earlier offset, as in {@link PersianDateTime#atZone(ZoneId)}.
+     *
+     * @param index the index, from zero to the size exclusive
+     * @param zone the time-zone, not null
+     * @return the epoch milliseconds of the point
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochMilli(long index, ZoneId zone) {
+        checkIndex(index);
+        return epochMilliAt(index, ZoneOffsetCache.of(zone));
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the local epoch second of the point at the given index, where the nano-of-second
+     * is given by {@link #nanoAt(long)}.
+     */
+    private long secondAt(long index) {
+        if (step == null) {
+            final long prolepticMonth = startProlepticMonth + index * stepMonths;
+            final int year = (int) (prolepticMonth / 12);
+            final int month = (int) (prolepticMonth % 12) + 1;
+            final long epochDay = PersianDate.toEpochDay(year, month,
+                    Math.min(startDayOfMonth, PersianDate.lengthOfMonth(year, month)));
+            return epochDay * SECONDS_PER_DAY + Math.floorMod(startSecond, SECONDS_PER_DAY);
+        }
+        // index * stepNanos is split to avoid overflow for fine steps over long grids
+        final long nanoProduct = (index % NANOS_PER_SECOND) * stepNanos + startNano;
+        return startSecond + index * stepSeconds + (index / NANOS_PER_SECOND) * stepNanos
+                + nanoProduct / NANOS_PER_SECOND;
+    }
+
+    private int nanoAt(long index) {
+        if (step == null) {
+            return startNano;
+        }
+        return (int) (((index % NANOS_PER_SECOND) * stepNanos + startNano) % NANOS_PER_SECOND);
+    }
+
+    private PersianDateTime pointAt(long index) {
+        final long second = secondAt(index);
+        return PersianDateTime.ofEpochDay(Math.floorDiv(second, SECONDS_PER_DAY),
+                Math.floorMod(second, SECONDS_PER_DAY) * NANOS_PER_SECOND + nanoAt(index));
+    }
+
+    private long epochMilliAt(long index, int offsetSeconds) {
+        return (secondAt(index) - offsetSeconds) * 1000L + nanoAt(index) / 1_000_000;
+    }
+
+    private long epochMilliAt(long index, ZoneOffsetCache offsets) {
+        final long second = secondAt(index);
+        return (second - offsets.getOffsetOfLocal(second).getTotalSeconds()) * 1000L + nanoAt(index) / 1_000_000;
+    }
+
+    private long fixedSize() {
+        final long endNanoOfDay = end.getLong(NANO_OF_DAY);
+        final long endSecond = end.getLong(EPOCH_DAY) * SECONDS_PER_DAY + endNanoOfDay / NANOS_PER_SECOND;
+        final BigInteger billion = BigInteger.valueOf(NANOS_PER_SECOND);
+        final BigInteger span = BigInteger.valueOf(endSecond - startSecond).multiply(billion)
+                .add(BigInteger.valueOf(endNanoOfDay % NANOS_PER_SECOND - startNano));
+        final BigInteger stepNanosTotal = BigInteger.valueOf(stepSeconds).multiply(billion)
+                .add(BigInteger.valueOf(stepNanos));
+        final BigInteger count = span.add(stepNanosTotal).subtract(BigInteger.ONE).divide(stepNanosTotal);
+        if (count.bitLength() > 63) {
+            throw new DateTimeException("Too many points in the range: " + count);
+        }
+        return count.longValue();
+    }
+
+    private long monthlySize() {
+        if (!end.isAfter(start)) {
+            return 0;
+        }
+        final int packed = PersianDate.packedOfEpochDay(end.getLong(EPOCH_DAY));
+        final long months = (packed >>> 9) * 12L + (packed >>> 5 & 15) - 1 - startProlepticMonth;
+        final long last = months / stepMonths;
+        return isBeforeEnd(last) ? last + 1 : last;
+    }
+
+    private boolean isBeforeEnd(long index) {
+        final long second = secondAt(index);
+        final long endNanoOfDay = end.getLong(NANO_OF_DAY);
+        final long endSecond = end.getLong(EPOCH_DAY) * SECONDS_PER_DAY + endNanoOfDay / NANOS_PER_SECOND;
+        return second < endSecond || second == endSecond && nanoAt(index) < endNanoOfDay % NANOS_PER_SECOND;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns an iterator over the points of this grid, in ascending order.
+     *
+     * @return an iterator over the points, not null
+     */
+    @Override
+    public Iterator<PersianDateTime> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the points of this grid. The spliterator is {@code SIZED}
+     * and {@code SUBSIZED}, and splits at the middle index.
+     *
+     * @return a spliterator over the points, not null
+     */
+    @Override
+    public Spliterator<PersianDateTime> spliterator() {
+        return new PointSpliterator(0, size);
+    }
+
+    /**
+     * Returns a sequential stream of the points of this grid.
+     *
+     * @return a stream of the points, not null
+     */
+    public Stream<PersianDateTime> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a sequential stream of the epoch milliseconds of the points of this grid at the
+     * given offset.
+     *
+     * @param offset the offset, not null
+     * @return a stream of the epoch milliseconds, not null
+     */
+    public LongStream epochMillis(ZoneOffset offset) {
+        final int offsetSeconds = offset.getTotalSeconds();
+        return StreamSupport.longStream(new EpochMilliSpliterator(0, size, index -> epochMilliAt(index, offsetSeconds)),
+                false);
+    }
+
+    /**
+     * Returns a sequential stream of the epoch milliseconds of the points of this grid in the
+     * given time-zone, resolved as by {@link #getEpochMilli(long, ZoneId)}.
+     *
+     * @param zone the time-zone, not null
+     * @return a stream of the epoch milliseconds, not null
+     */
+    public LongStream epochMillis(ZoneId zone) {
+        final ZoneOffsetCache offsets = ZoneOffsetCache.of(zone);
+        return StreamSupport.longStream(new EpochMilliSpliterator(0, size, index -> epochMilliAt(index, offsets)),
+                false);
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PersianDateTimeRange other = (PersianDateTimeRange) obj;
+        return start.equals(other.start) && end.equals(other.end)
+                && Objects.equals(step, other.step) && stepMonths == other.stepMonths;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, step, stepMonths);
+    }
+
+    /**
+     * Returns a string representation of this grid, like
+     * {@code 1402-07-01T00:00/1402-08-01T00:00/PT5M}.
+     *
+     * @return a string representation of this grid, not null
+     */
+    @Override
+    public String toString() {
+        return start + "/" + end + "/" + (step != null ? step.toString() : "P" + stepMonths + "M");
+    }
+
+    //-----------------------------------------------------------------------
+
+    private final class PointSpliterator extends IndexSpliterator<PointSpliterator>
+            implements Spliterator<PersianDateTime> {
+
+        PointSpliterator(long index, long fence) {
+            super(index, fence);
+        }
+
+        @Override
+        PointSpliterator split(long from, long to) {
+            return new PointSpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super PersianDateTime> action) {
+            Objects.requireNonNull(action, "action");
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(pointAt(index++));
+            return true;
+        }
+    }
+
+    private static final class EpochMilliSpliterator extends IndexSpliterator<EpochMilliSpliterator>
+            implements Spliterator.OfLong {
+
+        private final LongUnaryOperator function;
+
+        EpochMilliSpliterator(long index, long fence, LongUnaryOperator function) {
+            super(index, fence);
+            this.function = function;
+        }
+
+        @Override
+        EpochMilliSpliterator split(long from, long to) {
+            return new EpochMilliSpliterator(from, to, function);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action, "action");
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(function.applyAsLong(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action, "action");
+            final long end = fence;
+            for (long i = index; i < end; i++) {
+                action.accept(function.applyAsLong(i));
+            }
+            index = end;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.chrono.ChronoLocalDate;
+import java.time.format.ResolverStyle;
+import java.time.temporal.*;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoUnit.*;
+
+/**
+ * Fields and units specific to the Persian calendar system, for the seasons of the year.
+ * <p>
+ * Iranian reporting is organized by season: the quarters of the Persian year are the
+ * seasons, spring from Farvardin to Khordad, summer from Tir to Shahrivar, autumn from Mehr
+ * to Azar and winter from Dey to Esfand. The first two quarters have 93 days, the third one
+ * 90 days and the last one 89 days, or 90 days in a leap year.
+ * <p>
+ * The fields are similar to those of {@link IsoFields}, and can be used with
+ * {@link PersianDate#getLong(TemporalField)}, {@link PersianDate#with(TemporalField, long)}
+ * and a {@link java.time.format.DateTimeFormatter} of the Persian chronology:
+ * <ul>
+ * <li>{@link #QUARTER_OF_YEAR}, from 1 to 4</li>
+ * <li>{@link #DAY_OF_QUARTER}, from 1 to 93</li>
+ * <li>{@link #HALF_OF_YEAR}, from 1 to 2</li>
+ * <li>{@link #WEEK_OF_QUARTER}, the aligned week of the quarter, counted in blocks of seven
+ * days from the first day of the quarter, from 1 to 14</li>
+ * </ul>
+ * A date is resolved by a formatter from a {@code YEAR}, a {@code QUARTER_OF_YEAR} and a
+ * {@code DAY_OF_QUARTER}. The values are read from tables indexed by month, so getting a
+ * field of a {@link PersianDate} creates no objects.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianFields {
+
+    /**
+     * The field that represents the quarter-of-year, which is the season, from 1 to 4.
+     */
+    public static final TemporalField QUARTER_OF_YEAR = Field.QUARTER_OF_YEAR;
+
+    /**
+     * The field that represents the day-of-quarter, from 1 to 93 in the first two quarters,
+     * to 90 in the third one, and to 89 or 90 in the last one.
+     */
+    public static final TemporalField DAY_OF_QUARTER = Field.DAY_OF_QUARTER;
+
+    /**
+     * The field that represents the half-year, from 1 for Farvardin to Shahrivar, to 2 for
+     * Mehr to Esfand.
+     */
+    public static final TemporalField HALF_OF_YEAR = Field.HALF_OF_YEAR;
+
+    /**
+     * The field that represents the aligned week of the quarter, from 1 to 14. The first
+     * week starts on the first day of the quarter, whatever its day-of-week.
+     */
+    public static final TemporalField WEEK_OF_QUARTER = Field.WEEK_OF_QUARTER;
+
+    /**
+     * The unit that represents the concept of a quarter-year, three Persian months.
+     */
+    public static final TemporalUnit QUARTER_YEARS = Unit.QUARTER_YEARS;
+
+    /**
+     * The unit that represents the concept of a half-year, six Persian months.
+     */
+    public static final TemporalUnit HALF_YEARS = Unit.HALF_YEARS;
+
+    /**
+     * The quarter of each month, indexed by the month-of-year.
+     */
+    private static final int[] QUARTER_OF_MONTH = {0, 1, 1, 1, 2, 2, 2, 3, 3, 3, 4, 4, 4};
+
+    /**
+     * The number of days of the quarter before each month, indexed by the month-of-year.
+     */
+    private static final int[] DAYS_BEFORE_MONTH_IN_QUARTER = {0, 0, 31, 62, 0, 31, 62, 0, 30, 60, 0, 30, 60};
+
+    /**
+     * The length of each quarter in a non-leap year, indexed by the quarter-of-year.
+     */
+    private static final int[] QUARTER_LENGTH = {0, 93, 93, 90, 89};
+
+    // Ensure non-instantiability
+    private PersianFields() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the length of the given quarter in days.
+     *
+     * @param quarter the quarter-of-year, from 1 to 4
+     * @param leapYear whether the year is leap
+     * @return the length of the quarter in days
+     */
+    static int lengthOfQuarter(int quarter, boolean leapYear) {
+        return quarter == 4 && leapYear ? 90 : QUARTER_LENGTH[quarter];
+    }
+
+    private static void requirePersian(TemporalAccessor temporal) {
+        if (!isPersian(temporal)) {
+            throw new DateTimeException("Resolve requires Persian chronology: " + temporal);
+        }
+    }
+
+    private static boolean isPersian(TemporalAccessor temporal) {
+        return temporal instanceof PersianDate
+                || PersianChronology.INSTANCE.equals(temporal.query(TemporalQueries.chronology()));
+    }
+
+    private static int monthOf(TemporalAccessor temporal) {
+        if (temporal instanceof PersianDate) {
+            return ((PersianDate) temporal).getMonthValue();
+        }
+        return temporal.get(MONTH_OF_YEAR);
+    }
+
+    private static int dayOfQuarter(TemporalAccessor temporal) {
+        if (temporal instanceof PersianDate) {
+            final PersianDate date = (PersianDate) temporal;
+            return DAYS_BEFORE_MONTH_IN_QUARTER[date.getMonthValue()] + date.getDayOfMonth();
+        }
+        return DAYS_BEFORE_MONTH_IN_QUARTER[temporal.get(MONTH_OF_YEAR)] + temporal.get(DAY_OF_MONTH);
+    }
+
+    private static boolean isLeapYear(TemporalAccessor temporal) {
+        if (temporal instanceof PersianDate) {
+            return ((PersianDate) temporal).isLeapYear();
+        }
+        return PersianChronology.INSTANCE.isLeapYear(temporal.getLong(YEAR));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Implementation of the fields.
+     */
+    private enum Field implements TemporalField {
+
+        QUARTER_OF_YEAR("QuarterOfYear", Unit.QUARTER_YEARS, YEARS, ValueRange.of(1, 4)) {
+            @Override
+            public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+                return range();
+            }
+
+            @Override
+            public long getFrom(TemporalAccessor temporal) {
+                requireSupported(temporal);
+                return QUARTER_OF_MONTH[monthOf(temporal)];
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+                final long current = getFrom(temporal);
+                range().checkValidValue(newValue, this);
+                return (R) temporal.with(MONTH_OF_YEAR, temporal.getLong(MONTH_OF_YEAR) + (newValue - current) * 3);
+            }
+        },
+
+        DAY_OF_QUARTER("DayOfQuarter", DAYS, Unit.QUARTER_YEARS, ValueRange.of(1, 89, 93)) {
+            @Override
+            public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+                requireSupported(temporal);
+                return ValueRange.of(1, lengthOfQuarter(QUARTER_OF_MONTH[monthOf(temporal)], isLeapYear(temporal)));
+            }
+
+            @Override
+            public long getFrom(TemporalAccessor temporal) {
+                requireSupported(temporal);
+                return dayOfQuarter(temporal);
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+                final long current = getFrom(temporal);
+                rangeRefinedBy(temporal).checkValidValue(newValue, this);
+                return (R) temporal.plus(newValue - current, DAYS);
+            }
+
+            @Override
+            public ChronoLocalDate resolve(Map<TemporalField, Long> fieldValues,
+                                           TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
+                final Long yearLong = fieldValues.get(YEAR);
+                final Long quarterLong = fieldValues.get(Field.QUARTER_OF_YEAR);
+                if (yearLong == null || quarterLong == null) {
+                    return null;
+                }
+                requirePersian(partialTemporal);
+                final int year = PersianChronology.INSTANCE.range(YEAR).checkValidIntValue(yearLong, YEAR);
+                final long dayOfQuarter = fieldValues.get(DAY_OF_QUARTER);
+                PersianDate date;
+                if (resolverStyle == ResolverStyle.LENIENT) {
+                    date = PersianDate.of(year, 1, 1)
+                            .plusMonths(Math.multiplyExact(Math.subtractExact(quarterLong, 1), 3));
+                } else {
+                    final int quarter = Field.QUARTER_OF_YEAR.range().checkValidIntValue(quarterLong, Field.QUARTER_OF_YEAR);
+                    date = PersianDate.of(year, (quarter - 1) * 3 + 1, 1);
+                    if (resolverStyle == ResolverStyle.STRICT) {
+                        rangeRefinedBy(date).checkValidValue(dayOfQuarter, this);
+                    } else {
+                        range().checkValidValue(dayOfQuarter, this);
+                    }
+                }
+                date = date.plusDays(Math.subtractExact(dayOfQuarter, 1));
+                fieldValues.remove(this);
+                fieldValues.remove(YEAR);
+                fieldValues.remove(Field.QUARTER_OF_YEAR);
+                return date;
+            }
+        },
+
+        HALF_OF_YEAR("HalfOfYear", Unit.HALF_YEARS, YEARS, ValueRange.of(1, 2)) {
+            @Override
+            public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+                return range();
+            }
+
+            @Override
+            public long getFrom(TemporalAccessor temporal) {
+                requireSupported(temporal);
+                return monthOf(temporal) <= 6 ? 1 : 2;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+                final long current = getFrom(temporal);
+                range().checkValidValue(newValue, this);
+                return (R) temporal.with(MONTH_OF_YEAR, temporal.getLong(MONTH_OF_YEAR) + (newValue - current) * 6);
+            }
+        },
+
+        WEEK_OF_QUARTER("WeekOfQuarter", WEEKS, Unit.QUARTER_YEARS, ValueRange.of(1, 13, 14)) {
+            @Override
+            public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+                requireSupported(temporal);
+                final int length = lengthOfQuarter(QUARTER_OF_MONTH[monthOf(temporal)], isLeapYear(temporal));
+                return ValueRange.of(1, (length - 1) / 7 + 1);
+            }
+
+            @Override
+            public long getFrom(TemporalAccessor temporal) {
+                requireSupported(temporal);
+                return (dayOfQuarter(temporal) - 1) / 7 + 1;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+                final long current = getFrom(temporal);
+                rangeRefinedBy(temporal).checkValidValue(newValue, this);
+                return (R) temporal.plus(newValue - current, WEEKS);
+            }
+        };
+
+        private final String name;
+        private final TemporalUnit baseUnit;
+        private final TemporalUnit rangeUnit;
+        private final ValueRange range;
+
+        Field(String name, TemporalUnit baseUnit, TemporalUnit rangeUnit, ValueRange range) {
+            this.name = name;
+            this.baseUnit = baseUnit;
+            this.rangeUnit = rangeUnit;
+            this.range = range;
+        }
+
+        @Override
+        public TemporalUnit getBaseUnit() {
+            return baseUnit;
+        }
+
+        @Override
+        public TemporalUnit getRangeUnit() {
+            return rangeUnit;
+        }
+
+        @Override
+        public ValueRange range() {
+            return range;
+        }
+
+        @Override
+        public boolean isDateBased() {
+            return true;
+        }
+
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+
+        @Override
+        public boolean isSupportedBy(TemporalAccessor temporal) {
+            return temporal instanceof PersianDate
+                    || (temporal.isSupported(MONTH_OF_YEAR) && temporal.isSupported(DAY_OF_MONTH) && isPersian(temporal));
+        }
+
+        void requireSupported(TemporalAccessor temporal) {
+            if (!isSupportedBy(temporal)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + name);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Implementation of the units.
+     */
+    private enum Unit implements TemporalUnit {
+
+        QUARTER_YEARS("QuarterYears", 3, Duration.ofSeconds(31556952L / 4)),
+
+        HALF_YEARS("HalfYears", 6, Duration.ofSeconds(31556952L / 2));
+
+        private final String name;
+        private final int months;
+        private final Duration duration;
+
+        Unit(String name, int months, Duration estimatedDuration) {
+            this.name = name;
+            this.months = months;
+            this.duration = estimatedDuration;
+        }
+
+        @Override
+        public Duration getDuration() {
+            return duration;
+        }
+
+        @Override
+        public boolean isDurationEstimated() {
+            return true;
+        }
+
+        @Override
+        public boolean isDateBased() {
+            return true;
+        }
+
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+
+        @Override
+        public boolean isSupportedBy(Temporal temporal) {
+            return temporal.isSupported(MONTHS);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R extends Temporal> R addTo(R temporal, long amount) {
+            return (R) temporal.plus(Math.multiplyExact(amount, months), MONTHS);
+        }
+
+        @Override
+        public long between(Temporal temporal1Inclusive, Temporal temporal2Exclusive) {
+            Objects.requireNonNull(temporal1Inclusive, "temporal1Inclusive");
+            return temporal1Inclusive.until(temporal2Exclusive, MONTHS) / months;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
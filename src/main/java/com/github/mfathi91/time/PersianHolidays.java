@@ -0,0 +1,415 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
+import net.jcip.annotations.ThreadSafe;
+
+import java.time.DateTimeException;
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.time.temporal.ChronoField.YEAR;
+
+/**
+ * A generator of the holidays of Persian years, made of solar holidays on fixed Persian
+ * month-days and lunar holidays on fixed days of the Hijri calendar.
+ * <p>
+ * The lunar holidays are mapped onto the Persian calendar through {@link HijrahChronology},
+ * so they move about eleven days earlier every Persian year, and a lunar holiday can occur
+ * twice in the same Persian year. {@link #official()} returns a generator of the official
+ * holidays of Iran. The holidays of a year are computed once, and then kept as a sorted
+ * array of epoch days, so later queries of the same year are a binary search.
+ * <p>
+ * The Hijri calendar of {@code HijrahChronology} is computed in advance, and can differ by
+ * a day from the dates announced on sighting the moon. Such adjustments are recorded with
+ * {@link #adjust(PersianDate, PersianDate)} and {@link #cancel(PersianDate)}, and take the
+ * place of the computed holidays. One-off holidays that are announced by the government
+ * are added with {@link #announce(PersianDate)}. For example:
+ * <pre>
+ *     PersianHolidays holidays = PersianHolidays.official();
+ *     holidays.adjust(PersianDate.of(1402, 2, 1), PersianDate.of(1402, 2, 3));
+ *     holidays.announce(PersianDate.of(1402, 11, 14));
+ *     PersianBusinessCalendar calendar = PersianBusinessCalendar.builder()
+ *             .years(1402, 1402)
+ *             .holidays(holidays.getHolidays(1402))
+ *             .build();
+ * </pre>
+ * <p>
+ * Lunar holidays are only supported for the years within the range of
+ * {@code HijrahChronology}. This class is thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@ThreadSafe
+public final class PersianHolidays {
+
+    /**
+     * The value of an adjustment that cancels a holiday.
+     */
+    private static final int CANCELLED = Integer.MIN_VALUE;
+
+    /**
+     * The value of an adjustment that announces an extra holiday on its own date.
+     */
+    private static final int ANNOUNCED = Integer.MAX_VALUE;
+
+    /**
+     * The ordinals of the month-days of the solar holidays.
+     */
+    private final int[] solarHolidays;
+
+    /**
+     * The lunar holidays, each packed as {@code month << 5 | day} of the Hijri calendar.
+     */
+    private final int[] lunarHolidays;
+
+    private volatile Adjustments adjustments = new Adjustments(Collections.emptyMap());
+
+    /**
+     * Creates a new instance of this class from a builder.
+     *
+     * @param builder the builder, not null
+     */
+    private PersianHolidays(Builder builder) {
+        this.solarHolidays = Arrays.copyOf(builder.solarHolidays, builder.solarHolidayCount);
+        this.lunarHolidays = Arrays.copyOf(builder.lunarHolidays, builder.lunarHolidayCount);
+    }
+
+    /**
+     * Returns a new generator of the official holidays of Iran.
+     * <p>
+     * The solar holidays are the four days of Nowruz, Islamic Republic Day and Nature Day on
+     * Farvardin 12 and 13, Khordad 14 and 15, Bahman 22 and Esfand 29. The lunar holidays
+     * are Tasua and Ashura, Arbaeen, Safar 28 and the last day of Safar, Rabi al-Awwal 8 and
+     * 17, Jumada al-Thani 3, Rajab 13 and 27, Shaban 15, Ramadan 21, Eid al-Fitr and its
+     * following day, Shawwal 25, Eid al-Adha and Eid al-Ghadir.
+     *
+     * @return a new generator of the official holidays, not null
+     */
+    public static PersianHolidays official() {
+        return builder()
+                .solar(1, 1).solar(1, 2).solar(1, 3).solar(1, 4)
+                .solar(1, 12).solar(1, 13)
+                .solar(3, 14).solar(3, 15)
+                .solar(11, 22)
+                .solar(12, 29)
+                .lunar(1, 9).lunar(1, 10)
+                .lunar(2, 20).lunar(2, 28).lunar(2, 30)
+                .lunar(3, 8).lunar(3, 17)
+                .lunar(6, 3)
+                .lunar(7, 13).lunar(7, 27)
+                .lunar(8, 15)
+                .lunar(9, 21)
+                .lunar(10, 1).lunar(10, 2).lunar(10, 25)
+                .lunar(12, 10).lunar(12, 18)
+                .build();
+    }
+
+    /**
+     * Returns a new builder of a generator, with no holidays.
+     *
+     * @return a new builder, not {@code null}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the holidays of the given Persian year, in chronological order.
+     *
+     * @param year the Persian year
+     * @return the holidays of the year, not null
+     * @throws DateTimeException if the year is out of the range of {@code PersianDate}, or
+     *                           lunar holidays are not supported for the year
+     */
+    public List<PersianDate> getHolidays(int year) {
+        final int[] epochDays = holidaysOf(year);
+        final List<PersianDate> holidays = new ArrayList<>(epochDays.length);
+        for (int epochDay : epochDays) {
+            holidays.add(PersianDate.ofEpochDay(epochDay));
+        }
+        return holidays;
+    }
+
+    /**
+     * Returns the epoch days of the holidays of the given Persian year, in ascending order.
+     *
+     * @param year the Persian year
+     * @return a new array of the epoch days of the holidays of the year, not null
+     * @throws DateTimeException if the year is out of the range of {@code PersianDate}, or
+     *                           lunar holidays are not supported for the year
+     */
+    public int[] getHolidayEpochDays(int year) {
+        return holidaysOf(year).clone();
+    }
+
+    /**
+     * Checks if the given date is a holiday.
+     *
+     * @param date the date to check, not null
+     * @return true if the date is a holiday
+     * @throws DateTimeException if lunar holidays are not supported for the year of the date
+     */
+    public boolean isHoliday(PersianDate date) {
+        return Arrays.binarySearch(holidaysOf(date.getYear()), (int) date.toEpochDay()) >= 0;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Moves a computed holiday to the announced date, which must be in the same Persian
+     * year. An earlier adjustment of the same holiday is replaced.
+     *
+     * @param computed the holiday as computed by this generator, not null
+     * @param announced the announced date of the holiday, not null
+     * @throws DateTimeException if the first date is not a computed holiday, or the dates
+     *                           are not in the same Persian year
+     */
+    public synchronized void adjust(PersianDate computed, PersianDate announced) {
+        Objects.requireNonNull(announced, "announced");
+        if (computed.getYear() != announced.getYear()) {
+            throw new DateTimeException("Adjusted holiday must be in the same year: " +
+                    computed + ", " + announced);
+        }
+        checkComputed(computed);
+        putAdjustment(computed, (int) announced.toEpochDay());
+    }
+
+    /**
+     * Cancels a computed holiday, or removes a holiday added with {@link #announce(PersianDate)}.
+     *
+     * @param holiday the holiday as computed by this generator, or as announced, not null
+     * @throws DateTimeException if the date is neither a computed nor an announced holiday
+     */
+    public synchronized void cancel(PersianDate holiday) {
+        final Integer value = adjustments.table.get((int) holiday.toEpochDay());
+        if (value != null && value == ANNOUNCED) {
+            removeAdjustment(holiday);
+            return;
+        }
+        checkComputed(holiday);
+        putAdjustment(holiday, CANCELLED);
+    }
+
+    /**
+     * Adds a one-off holiday, such as a holiday announced for air pollution or for a
+     * national event. If the date is a computed holiday, an earlier adjustment or
+     * cancellation of it is replaced, so that it is a holiday again.
+     *
+     * @param holiday the date of the holiday, not null
+     */
+    public synchronized void announce(PersianDate holiday) {
+        putAdjustment(holiday, ANNOUNCED);
+    }
+
+    /**
+     * Removes all the adjustments and cancellations.
+     */
+    public synchronized void clearAdjustments() {
+        adjustments = new Adjustments(Collections.emptyMap());
+    }
+
+    private void checkComputed(PersianDate computed) {
+        if (Arrays.binarySearch(compute(computed.getYear()), (int) computed.toEpochDay()) < 0) {
+            throw new DateTimeException("Not a computed holiday: " + computed);
+        }
+    }
+
+    private void putAdjustment(PersianDate date, int value) {
+        final Map<Integer, Integer> table = new HashMap<>(adjustments.table);
+        table.put((int) date.toEpochDay(), value);
+        adjustments = new Adjustments(table);
+    }
+
+    private void removeAdjustment(PersianDate date) {
+        final Map<Integer, Integer> table = new HashMap<>(adjustments.table);
+        table.remove((int) date.toEpochDay());
+        adjustments = new Adjustments(table);
+    }
+
+    private int[] holidaysOf(int year) {
+        PersianChronology.INSTANCE.range(YEAR).checkValidValue(year, YEAR);
+        final Adjustments current = adjustments;
+        int[] holidays = current.cache.get(year);
+        if (holidays == null) {
+            final PersianYear persianYear = PersianYear.of(year);
+            holidays = current.apply(compute(year), persianYear.getFirstEpochDay(), persianYear.getLastEpochDay());
+            current.cache.set(year, holidays);
+        }
+        return holidays;
+    }
+
+    /**
+     * Computes the holidays of a year, before adjustments.
+     *
+     * @param year the Persian year
+     * @return the sorted, distinct epoch days of the holidays
+     */
+    private int[] compute(int year) {
+        final PersianYear persianYear = PersianYear.of(year);
+        final long first = persianYear.getFirstEpochDay();
+        final long last = persianYear.getLastEpochDay();
+        final int[] holidays = new int[solarHolidays.length + 2 * lunarHolidays.length];
+        int count = 0;
+        for (int ordinal : solarHolidays) {
+            if (ordinal < persianYear.length()) {
+                holidays[count++] = (int) (first + ordinal);
+            }
+        }
+        if (lunarHolidays.length > 0) {
+            final int firstHijriYear = HijrahChronology.INSTANCE.dateEpochDay(first).get(YEAR);
+            final int lastHijriYear = HijrahChronology.INSTANCE.dateEpochDay(last).get(YEAR);
+            for (int hijriYear = firstHijriYear; hijriYear <= lastHijriYear; hijriYear++) {
+                for (int packed : lunarHolidays) {
+                    final HijrahDate monthStart = HijrahChronology.INSTANCE.date(hijriYear, packed >>> 5, 1);
+                    final long epochDay = monthStart.toEpochDay()
+                            + Math.min(packed & 31, monthStart.lengthOfMonth()) - 1;
+                    if (epochDay >= first && epochDay <= last) {
+                        holidays[count++] = (int) epochDay;
+                    }
+                }
+            }
+        }
+        return distinct(holidays, count);
+    }
+
+    private static int[] distinct(int[] values, int count) {
+        Arrays.sort(values, 0, count);
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (size == 0 || values[size - 1] != values[i]) {
+                values[size++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A table of adjustments, along with the holidays of the years computed with it.
+     * A change of the adjustments replaces the whole table, which drops the cached years.
+     */
+    @Immutable
+    private static final class Adjustments {
+
+        /**
+         * The announced epoch day of each adjusted holiday, by its computed epoch day, or
+         * {@link #CANCELLED}, or {@link #ANNOUNCED} for an extra holiday on its own date.
+         */
+        private final Map<Integer, Integer> table;
+
+        /**
+         * The holidays of each year, indexed by year.
+         */
+        private final AtomicReferenceArray<int[]> cache =
+                new AtomicReferenceArray<>(PersianDate.MAX.getYear() + 1);
+
+        private Adjustments(Map<Integer, Integer> table) {
+            this.table = table;
+        }
+
+        private int[] apply(int[] holidays, long first, long last) {
+            if (table.isEmpty()) {
+                return holidays;
+            }
+            final int[] adjusted = new int[holidays.length + table.size()];
+            int count = 0;
+            for (int epochDay : holidays) {
+                final Integer value = table.get(epochDay);
+                if (value == null || value == ANNOUNCED) {
+                    adjusted[count++] = epochDay;
+                } else if (value != CANCELLED) {
+                    adjusted[count++] = value;
+                }
+            }
+            for (Map.Entry<Integer, Integer> entry : table.entrySet()) {
+                final int epochDay = entry.getKey();
+                if (entry.getValue() == ANNOUNCED && epochDay >= first && epochDay <= last) {
+                    adjusted[count++] = epochDay;
+                }
+            }
+            return distinct(adjusted, count);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A builder of {@link PersianHolidays}.
+     * <p>
+     * This class is not thread-safe.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+
+        private int[] solarHolidays = new int[16];
+        private int solarHolidayCount;
+        private int[] lunarHolidays = new int[32];
+        private int lunarHolidayCount;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a solar holiday on a Persian month-day. A holiday on Esfand 30 occurs in leap
+         * years only.
+         *
+         * @param month the Persian month-of-year, from 1 to 12
+         * @param dayOfMonth the day-of-month, from 1 to 31
+         * @return this builder, not null
+         * @throws DateTimeException if the month-day is invalid
+         */
+        public Builder solar(int month, int dayOfMonth) {
+            return solar(PersianMonthDay.of(month, dayOfMonth));
+        }
+
+        /**
+         * Adds a solar holiday on a Persian month-day. A holiday on Esfand 30 occurs in leap
+         * years only.
+         *
+         * @param monthDay the month-day of the holiday, not null
+         * @return this builder, not null
+         */
+        public Builder solar(PersianMonthDay monthDay) {
+            Objects.requireNonNull(monthDay, "monthDay");
+            if (solarHolidayCount == solarHolidays.length) {
+                solarHolidays = Arrays.copyOf(solarHolidays, solarHolidayCount * 2);
+            }
+            solarHolidays[solarHolidayCount++] = monthDay.ordinal();
+            return this;
+        }
+
+        /**
+         * Adds a lunar holiday on a day of the Hijri calendar. A holiday on day 30 of a
+         * 29-day month is observed on its last day, day 29.
+         *
+         * @param hijriMonth the Hijri month-of-year, from 1 to 12
+         * @param dayOfMonth the day-of-month, from 1 to 30
+         * @return this builder, not null
+         * @throws IllegalArgumentException if the month or the day is out of range
+         */
+        public Builder lunar(int hijriMonth, int dayOfMonth) {
+            MyUtils.intRequireRange(hijriMonth, 1, 12, "hijriMonth");
+            MyUtils.intRequireRange(dayOfMonth, 1, 30, "dayOfMonth");
+            if (lunarHolidayCount == lunarHolidays.length) {
+                lunarHolidays = Arrays.copyOf(lunarHolidays, lunarHolidayCount * 2);
+            }
+            lunarHolidays[lunarHolidayCount++] = hijriMonth << 5 | dayOfMonth;
+            return this;
+        }
+
+        /**
+         * Builds the generator.
+         *
+         * @return a new generator, not null
+         */
+        public PersianHolidays build() {
+            return new PersianHolidays(this);
+        }
+    }
+}
@@ -96,6 +96,12 @@ public enum PersianMonth {
      */
     ESFAND("اسفند");
 
+    /**
+     * The months, indexed by their value minus one. A shared copy of {@link #values()},
+     * which would create a new array on every call.
+     */
+    private static final PersianMonth[] VALUES = values();
+
     private final String persianName;
 
     PersianMonth(String persianName) {
@@ -120,7 +126,7 @@ public enum PersianMonth {
      */
     static PersianMonth of(int month) {
         MyUtils.intRequireRange(month, 1, 12, "month");
-        return PersianMonth.values()[month - 1];
+        return VALUES[month - 1];
     }
 
     /**
@@ -178,7 +184,7 @@ public enum PersianMonth {
         int amount = (int) (months % 12);
         // For negative argument
         amount = (amount + 12) % 12;
-        return PersianMonth.values()[(ordinal() + amount) % 12];
+        return VALUES[(ordinal() + amount) % 12];
     }
 
     /**
@@ -0,0 +1,375 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.*;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+
+/**
+ * A month-day in the Persian calendar system, such as {@code --12-30}.
+ * <p>
+ * {@code PersianMonthDay} is the Persian counterpart of {@link java.time.MonthDay}. It
+ * represents a recurring day of the year, such as a birthday or an anniversary, without a
+ * year. Esfand 30 is a valid month-day, even though it only exists in leap years; see
+ * {@link #atYear(int)} for how it is applied to other years.
+ * <p>
+ * There is exactly one instance of each of the 366 month-days, created up front.
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianMonthDay implements TemporalAccessor, Comparable<PersianMonthDay> {
+
+    /**
+     * The formatter of the {@code --MM-dd} format.
+     */
+    private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
+            .appendLiteral("--")
+            .appendValue(MONTH_OF_YEAR, 2)
+            .appendLiteral('-')
+            .appendValue(DAY_OF_MONTH, 2)
+            .toFormatter()
+            .withChronology(PersianChronology.INSTANCE);
+
+    /**
+     * The number of month-days, the length of a leap year.
+     */
+    static final int COUNT = 366;
+
+    /**
+     * The canonical instances, indexed by their ordinal.
+     */
+    private static final PersianMonthDay[] CACHE = new PersianMonthDay[COUNT];
+
+    static {
+        for (PersianMonth month : PersianMonth.values()) {
+            for (int day = 1; day <= month.maxLength(); day++) {
+                final int ordinal = month.daysToFirstOfMonth() + day - 1;
+                CACHE[ordinal] = new PersianMonthDay(month.getValue(), day, ordinal);
+            }
+        }
+    }
+
+    /**
+     * The month-of-year, from 1 to 12.
+     */
+    private final int month;
+
+    /**
+     * The day-of-month, from 1 to 31.
+     */
+    private final int day;
+
+    /**
+     * The zero-based day-of-year of this month-day in a leap year.
+     */
+    private final int ordinal;
+
+    /**
+     * Creates a new instance of this class.
+     */
+    private PersianMonthDay(int month, int day, int ordinal) {
+        this.month = month;
+        this.day = day;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Obtains the current month-day from the system clock in the default time zone.
+     *
+     * @return the current month-day from the system clock in the default time zone
+     */
+    public static PersianMonthDay now() {
+        return of(PersianDate.now());
+    }
+
+    /**
+     * Obtains the current month-day from the system clock in the given time zone.
+     *
+     * @param zone the time-zone, not {@code null}
+     * @return the current month-day from the system clock in the given time zone
+     */
+    public static PersianMonthDay now(final ZoneId zone) {
+        return of(PersianDate.ofEpochDay(LocalDate.now(zone).toEpochDay()));
+    }
+
+    /**
+     * Obtains an instance of {@code PersianMonthDay}.
+     *
+     * @param month the month-of-year, from 1 to 12
+     * @param dayOfMonth the day-of-month, from 1 to the maximum length of the month
+     * @return the month-day, not {@code null}
+     * @throws DateTimeException if any of the values is invalid
+     */
+    public static PersianMonthDay of(final int month, final int dayOfMonth) {
+        PersianChronology.INSTANCE.checkValidValue(month, MONTH_OF_YEAR);
+        final PersianMonth persianMonth = PersianMonth.of(month);
+        if (dayOfMonth < 1 || dayOfMonth > persianMonth.maxLength()) {
+            throw new DateTimeException("Invalid date " + persianMonth.name() + " " + dayOfMonth);
+        }
+        return CACHE[persianMonth.daysToFirstOfMonth() + dayOfMonth - 1];
+    }
+
+    /**
+     * Obtains an instance of {@code PersianMonthDay}.
+     *
+     * @param month the month-of-year, not {@code null}
+     * @param dayOfMonth the day-of-month, from 1 to the maximum length of the month
+     * @return the month-day, not {@code null}
+     * @throws DateTimeException if the day-of-month is invalid for the month
+     */
+    public static PersianMonthDay of(final PersianMonth month, final int dayOfMonth) {
+        Objects.requireNonNull(month, "month");
+        return of(month.getValue(), dayOfMonth);
+    }
+
+    /**
+     * Returns the month-day of the given date.
+     *
+     * @param date the date, not {@code null}
+     * @return the month-day of the date, not {@code null}
+     */
+    public static PersianMonthDay of(final PersianDate date) {
+        Objects.requireNonNull(date, "date");
+        return CACHE[date.getDayOfYear() - 1];
+    }
+
+    /**
+     * Obtains an instance of {@code PersianMonthDay} from a temporal object. The month and
+     * the day-of-month are read from temporal objects of the Persian calendar system that
+     * support them, other temporal objects are converted to {@link PersianDate} first.
+     *
+     * @param temporal the temporal object to convert, not {@code null}
+     * @return the month-day, not {@code null}
+     * @throws DateTimeException if unable to convert to a {@code PersianMonthDay}
+     */
+    public static PersianMonthDay from(final TemporalAccessor temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (temporal instanceof PersianMonthDay) {
+            return (PersianMonthDay) temporal;
+        }
+        if (temporal instanceof PersianDate) {
+            return of((PersianDate) temporal);
+        }
+        if (temporal.query(TemporalQueries.chronology()) == PersianChronology.INSTANCE
+                && temporal.isSupported(MONTH_OF_YEAR) && temporal.isSupported(DAY_OF_MONTH)) {
+            return of(temporal.get(MONTH_OF_YEAR), temporal.get(DAY_OF_MONTH));
+        }
+        return of(PersianChronology.INSTANCE.date(temporal));
+    }
+
+    /**
+     * Obtains an instance of {@code PersianMonthDay} from a text such as {@code --12-30}.
+     *
+     * @param text the text to parse, not {@code null}
+     * @return the parsed month-day, not {@code null}
+     * @throws java.time.format.DateTimeParseException if the text cannot be parsed
+     */
+    public static PersianMonthDay parse(final CharSequence text) {
+        return parse(text, FORMATTER);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianMonthDay} from a text using a specific formatter.
+     *
+     * @param text the text to parse, not {@code null}
+     * @param formatter the formatter to use, not {@code null}
+     * @return the parsed month-day, not {@code null}
+     * @throws java.time.format.DateTimeParseException if the text cannot be parsed
+     */
+    public static PersianMonthDay parse(final CharSequence text, final DateTimeFormatter formatter) {
+        Objects.requireNonNull(formatter, "formatter");
+        return formatter.withChronology(PersianChronology.INSTANCE).parse(text, PersianMonthDay::from);
+    }
+
+    /**
+     * Returns the month-day of the given ordinal.
+     *
+     * @param ordinal the zero-based day-of-year in a leap year, from 0 to 365
+     * @return the month-day, not {@code null}
+     */
+    static PersianMonthDay ofOrdinal(final int ordinal) {
+        return CACHE[ordinal];
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the month-of-year field using the {@code PersianMonth} enum
+     * @see #getMonthValue()
+     */
+    public PersianMonth getMonth() {
+        return PersianMonth.of(month);
+    }
+
+    /**
+     * @return the month-of-year, from 1 to 12
+     * @see #getMonth()
+     */
+    public int getMonthValue() {
+        return month;
+    }
+
+    /**
+     * @return the day-of-month, from 1 to 31
+     */
+    public int getDayOfMonth() {
+        return day;
+    }
+
+    /**
+     * Returns the zero-based day-of-year of this month-day in a leap year, from 0 for
+     * Farvardin 1 to 365 for Esfand 30. The ordinal follows the order of month-days.
+     *
+     * @return the ordinal of this month-day
+     */
+    int ordinal() {
+        return ordinal;
+    }
+
+    /**
+     * Checks if this month-day exists in the given year, which is false only for Esfand 30
+     * in a non-leap year.
+     *
+     * @param year the year to check
+     * @return true if this month-day exists in the given year
+     */
+    public boolean isValidYear(final int year) {
+        return ordinal < COUNT - 1 || PersianDate.isLeapYear(year);
+    }
+
+    /**
+     * Returns the date of this month-day in the given year. Esfand 30 in a non-leap year
+     * is adjusted to Esfand 29, the last day of that year, which is the day its anniversary
+     * is observed on.
+     *
+     * @param year the year, from 1 to 1999
+     * @return the date of this month-day in the given year, not {@code null}
+     * @throws DateTimeException if the year is out of range
+     */
+    public PersianDate atYear(final int year) {
+        final PersianYear persianYear = PersianYear.of(year);
+        return persianYear.atDay(Math.min(ordinal + 1, persianYear.length()));
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean isSupported(final TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field == MONTH_OF_YEAR || field == DAY_OF_MONTH;
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    @Override
+    public ValueRange range(final TemporalField field) {
+        if (field == MONTH_OF_YEAR) {
+            return field.range();
+        } else if (field == DAY_OF_MONTH) {
+            final PersianMonth persianMonth = PersianMonth.of(month);
+            return ValueRange.of(1, persianMonth.minLength(), persianMonth.maxLength());
+        }
+        return TemporalAccessor.super.range(field);
+    }
+
+    @Override
+    public long getLong(final TemporalField field) {
+        Objects.requireNonNull(field, "field");
+        if (field == MONTH_OF_YEAR) {
+            return month;
+        } else if (field == DAY_OF_MONTH) {
+            return day;
+        } else if (field instanceof ChronoField) {
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.getFrom(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R query(final TemporalQuery<R> query) {
+        if (query == TemporalQueries.chronology()) {
+            return (R) PersianChronology.INSTANCE;
+        }
+        return TemporalAccessor.super.query(query);
+    }
+
+    /**
+     * Formats this month-day using the given formatter.
+     *
+     * @param formatter the formatter to use, not {@code null}
+     * @return the formatted month-day, not {@code null}
+     * @throws DateTimeException if an error occurs during printing
+     */
+    public String format(final DateTimeFormatter formatter) {
+        Objects.requireNonNull(formatter, "formatter");
+        return formatter.format(this);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Compares this month-day to another month-day, first by month and then by day.
+     *
+     * @param other the other month-day to compare to, not {@code null}
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(final PersianMonthDay other) {
+        return Integer.compare(ordinal, other.ordinal);
+    }
+
+    /**
+     * Checks if this month-day is after the given month-day.
+     *
+     * @param other the other month-day to compare to, not {@code null}
+     * @return true if this is after the given month-day
+     */
+    public boolean isAfter(final PersianMonthDay other) {
+        return ordinal > other.ordinal;
+    }
+
+    /**
+     * Checks if this month-day is before the given month-day.
+     *
+     * @param other the other month-day to compare to, not {@code null}
+     * @return true if this is before the given month-day
+     */
+    public boolean isBefore(final PersianMonthDay other) {
+        return ordinal < other.ordinal;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof PersianMonthDay && ordinal == ((PersianMonthDay) obj).ordinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
+    }
+
+    /**
+     * Returns the string representation of this month-day, such as {@code --12-30}.
+     *
+     * @return a suitable representation of this month-day
+     */
+    @Override
+    public String toString() {
+        return String.format("--%02d-%02d", month, day);
+    }
+}
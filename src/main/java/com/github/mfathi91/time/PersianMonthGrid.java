@@ -0,0 +1,355 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongPredicate;
+
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+
+/**
+ * The calendar sheet of a Persian month, as a grid of 6 weeks of 7 days starting on Saturday.
+ * <p>
+ * The cells of a grid are numbered from 0 to 41, row by row, so that cell {@code 7 * row + column}
+ * is on the {@code column}-th day of the week, counting from Saturday. The first cells of the
+ * grid are the last days of the previous month and the last cells are the first days of the next
+ * month, as on a printed calendar. A grid is computed only from the lengths of the months, the
+ * leap year rule and the day-of-week of the first day of the month, and is cached per month, so
+ * rendering a month is a lookup. For example:
+ * <pre>
+ *     PersianMonthGrid grid = PersianMonthGrid.of(1402, 1);
+ *     int[] days = grid.getDaysOfMonth();
+ *     int today = grid.indexOf(PersianDate.now().toEpochDay());
+ *     long offDays = grid.mask(epochDay -&gt; !calendar.isBusinessDay(epochDay));
+ *     for (int cell = 0; cell &lt; grid.getRowCount() * 7; cell++) {
+ *         render(days[cell], grid.isInMonth(cell), cell == today, (offDays &gt;&gt;&gt; cell &amp; 1) != 0);
+ *     }
+ * </pre>
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianMonthGrid {
+
+    /**
+     * The number of rows of a grid.
+     */
+    public static final int ROWS = 6;
+
+    /**
+     * The number of columns of a grid.
+     */
+    public static final int COLUMNS = 7;
+
+    /**
+     * The number of cells of a grid.
+     */
+    public static final int CELLS = ROWS * COLUMNS;
+
+    /**
+     * The first supported year.
+     */
+    private static final int MIN_YEAR = PersianDate.MIN.getYear();
+
+    /**
+     * The grids created so far, indexed by the number of months from the first month of
+     * {@link #MIN_YEAR}.
+     */
+    private static final AtomicReferenceArray<PersianMonthGrid> CACHE =
+            new AtomicReferenceArray<>((PersianDate.MAX.getYear() - MIN_YEAR + 1) * 12);
+
+    private final int year;
+    private final PersianMonth month;
+
+    /**
+     * The index of the cell of the first day of the month, from 0 to 6.
+     */
+    private final int offset;
+
+    private final int lengthOfMonth;
+
+    /**
+     * The epoch day of the first cell.
+     */
+    private final int firstEpochDay;
+
+    private final int[] epochDays;
+    private final int[] daysOfMonth;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param year the year
+     * @param month the month
+     */
+    private PersianMonthGrid(int year, PersianMonth month) {
+        this.year = year;
+        this.month = month;
+        final long firstOfMonth = PersianDate.toEpochDay(year, month.getValue(), 1);
+        this.offset = (int) Math.floorMod(firstOfMonth - 2, 7L);
+        // the lengths are taken from the epoch days of the month bounds, so that every epoch
+        // day is in exactly one month, as with PersianDate.ofEpochDay and PersianDateCursor
+        final long firstOfNextMonth = month == PersianMonth.ESFAND
+                ? PersianDate.toEpochDay(year + 1, 1, 1)
+                : PersianDate.toEpochDay(year, month.getValue() + 1, 1);
+        final long firstOfPreviousMonth = month == PersianMonth.FARVARDIN
+                ? PersianDate.toEpochDay(year - 1, 12, 1)
+                : PersianDate.toEpochDay(year, month.getValue() - 1, 1);
+        this.lengthOfMonth = (int) (firstOfNextMonth - firstOfMonth);
+        this.firstEpochDay = (int) (firstOfMonth - offset);
+        final int lengthOfPreviousMonth = (int) (firstOfMonth - firstOfPreviousMonth);
+        this.epochDays = new int[CELLS];
+        this.daysOfMonth = new int[CELLS];
+        for (int cell = 0; cell < CELLS; cell++) {
+            epochDays[cell] = firstEpochDay + cell;
+            if (cell < offset) {
+                daysOfMonth[cell] = lengthOfPreviousMonth - offset + cell + 1;
+            } else if (cell < offset + lengthOfMonth) {
+                daysOfMonth[cell] = cell - offset + 1;
+            } else {
+                daysOfMonth[cell] = cell - offset - lengthOfMonth + 1;
+            }
+        }
+    }
+
+    /**
+     * Obtains the grid of a month.
+     *
+     * @param year the year, from 1 to 1999
+     * @param month the month-of-year, from 1 to 12
+     * @return the grid of the month, not {@code null}
+     * @throws DateTimeException if any of the values is out of range
+     */
+    public static PersianMonthGrid of(int year, int month) {
+        PersianChronology.INSTANCE.checkValidValue(year, YEAR);
+        PersianChronology.INSTANCE.checkValidValue(month, MONTH_OF_YEAR);
+        final int index = (year - MIN_YEAR) * 12 + month - 1;
+        PersianMonthGrid grid = CACHE.get(index);
+        if (grid == null) {
+            // racing threads create equal grids, and all of them end up using the first one
+            CACHE.compareAndSet(index, null, new PersianMonthGrid(year, PersianMonth.of(month)));
+            grid = CACHE.get(index);
+        }
+        return grid;
+    }
+
+    /**
+     * Obtains the grid of a month.
+     *
+     * @param year the year, from 1 to 1999
+     * @param month the month-of-year, not {@code null}
+     * @return the grid of the month, not {@code null}
+     * @throws DateTimeException if the year is out of range
+     */
+    public static PersianMonthGrid of(int year, PersianMonth month) {
+        Objects.requireNonNull(month, "month");
+        return of(year, month.getValue());
+    }
+
+    /**
+     * Obtains the grid of a year-month.
+     *
+     * @param yearMonth the year-month, not {@code null}
+     * @return the grid of the month, not {@code null}
+     */
+    public static PersianMonthGrid of(PersianYearMonth yearMonth) {
+        Objects.requireNonNull(yearMonth, "yearMonth");
+        return of(yearMonth.getYear(), yearMonth.getMonthValue());
+    }
+
+    /**
+     * Obtains the grid of the month of a date.
+     *
+     * @param date the date, not {@code null}
+     * @return the grid of the month of the date, not {@code null}
+     */
+    public static PersianMonthGrid of(PersianDate date) {
+        Objects.requireNonNull(date, "date");
+        return of(date.getYear(), date.getMonthValue());
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the year of this grid.
+     *
+     * @return the year
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Returns the month of this grid.
+     *
+     * @return the month, not {@code null}
+     */
+    public PersianMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the year-month of this grid.
+     *
+     * @return the year-month, not {@code null}
+     */
+    public PersianYearMonth getYearMonth() {
+        return PersianYearMonth.of(year, month);
+    }
+
+    /**
+     * Returns the length of the month of this grid in days.
+     *
+     * @return the length of the month
+     */
+    public int lengthOfMonth() {
+        return lengthOfMonth;
+    }
+
+    /**
+     * Returns the index of the cell of the first day of the month, which is also the number
+     * of days of the previous month shown in the grid.
+     *
+     * @return the index of the first day of the month, from 0 to 6
+     */
+    public int getFirstDayIndex() {
+        return offset;
+    }
+
+    /**
+     * Returns the index of the cell of the last day of the month.
+     *
+     * @return the index of the last day of the month, from 28 to 36
+     */
+    public int getLastDayIndex() {
+        return offset + lengthOfMonth - 1;
+    }
+
+    /**
+     * Returns the day-of-week of the first day of the month.
+     *
+     * @return the day-of-week of the first day, not {@code null}
+     */
+    public DayOfWeek getFirstDayOfWeek() {
+        return DayOfWeek.SATURDAY.plus(offset);
+    }
+
+    /**
+     * Returns the number of rows needed to show all days of the month, which is 5 or 6.
+     *
+     * @return the number of rows with days of the month
+     */
+    public int getRowCount() {
+        return (offset + lengthOfMonth + COLUMNS - 1) / COLUMNS;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the epoch day of a cell.
+     *
+     * @param cell the index of the cell, from 0 to 41
+     * @return the epoch day of the cell
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochDay(int cell) {
+        return epochDays[cell];
+    }
+
+    /**
+     * Returns the day-of-month of a cell, which is a day of the previous or the next month
+     * for the cells out of the month.
+     *
+     * @param cell the index of the cell, from 0 to 41
+     * @return the day-of-month of the cell, from 1 to 31
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getDayOfMonth(int cell) {
+        return daysOfMonth[cell];
+    }
+
+    /**
+     * Checks if a cell is a day of the month of this grid.
+     *
+     * @param cell the index of the cell, from 0 to 41
+     * @return true if the cell is in the month
+     */
+    public boolean isInMonth(int cell) {
+        return cell >= offset && cell < offset + lengthOfMonth;
+    }
+
+    /**
+     * Returns the index of the cell of an epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the index of the cell, or -1 if the epoch day is not in this grid
+     */
+    public int indexOf(long epochDay) {
+        final long cell = epochDay - firstEpochDay;
+        return cell >= 0 && cell < CELLS ? (int) cell : -1;
+    }
+
+    /**
+     * Returns the index of the cell of a date.
+     *
+     * @param date the date, not {@code null}
+     * @return the index of the cell, or -1 if the date is not in this grid
+     */
+    public int indexOf(PersianDate date) {
+        return indexOf(date.toEpochDay());
+    }
+
+    /**
+     * Returns the epoch days of all cells. The returned array is a copy and may be modified.
+     *
+     * @return the 42 epoch days of the cells, not {@code null}
+     */
+    public int[] getEpochDays() {
+        return epochDays.clone();
+    }
+
+    /**
+     * Returns the days-of-month of all cells. The returned array is a copy and may be modified.
+     *
+     * @return the 42 days-of-month of the cells, not {@code null}
+     */
+    public int[] getDaysOfMonth() {
+        return daysOfMonth.clone();
+    }
+
+    /**
+     * Returns a bit mask of the cells whose epoch day matches the given predicate, where bit
+     * {@code i} stands for cell {@code i}. This is the way to flag holidays, weekends or
+     * the current day in a single {@code long}.
+     *
+     * @param predicate the predicate on epoch days, not {@code null}
+     * @return the bit mask of the matching cells
+     */
+    public long mask(LongPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        long mask = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (predicate.test(epochDays[cell])) {
+                mask |= 1L << cell;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns a string representation of this grid, like {@code 1402-01[3+31]}, where the
+     * numbers are the index of the first day and the length of the month.
+     *
+     * @return a string representation of this grid, not {@code null}
+     */
+    @Override
+    public String toString() {
+        return String.format("%04d-%02d[%d+%d]", year, month.getValue(), offset, lengthOfMonth);
+    }
+}
@@ -0,0 +1,280 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.*;
+import java.time.temporal.*;
+import java.util.Comparator;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.INSTANT_SECONDS;
+import static java.time.temporal.ChronoField.OFFSET_SECONDS;
+
+/**
+ * A Persian date-time with an offset from UTC/Greenwich, such as {@code 1402-01-01T10:15:30+03:30}.
+ * <p>
+ * {@code PersianOffsetDateTime} is the Persian counterpart of {@link OffsetDateTime}. Unlike
+ * {@link PersianZonedDateTime} it does not carry zone rules, which makes it the natural type for
+ * storing and exchanging instants together with the local Persian date-time they were observed at.
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianOffsetDateTime implements TemporalAccessor, Comparable<PersianOffsetDateTime> {
+
+    /**
+     * Orders instances by their instant, then by their local date-time.
+     */
+    private static final Comparator<PersianOffsetDateTime> INSTANT_COMPARATOR =
+            Comparator.comparingLong(PersianOffsetDateTime::toEpochSecond)
+                    .thenComparingInt(odt -> odt.dateTime.toLocalTime().getNano())
+                    .thenComparing(odt -> odt.dateTime);
+
+    /**
+     * The local date-time.
+     */
+    private final PersianDateTime dateTime;
+
+    /**
+     * The offset from UTC/Greenwich.
+     */
+    private final ZoneOffset offset;
+
+    /**
+     * Obtains an instance of this class from a local date-time and an offset.
+     *
+     * @param dateTime the local date-time, not {@code null}
+     * @param offset the offset, not {@code null}
+     * @return an instance of {@code PersianOffsetDateTime}
+     */
+    public static PersianOffsetDateTime of(final PersianDateTime dateTime, final ZoneOffset offset) {
+        return new PersianOffsetDateTime(dateTime, offset);
+    }
+
+    /**
+     * Obtains an instance of this class from an instant, using the offset in effect in the
+     * given zone at that instant.
+     *
+     * @param instant the instant, not {@code null}
+     * @param zone the time-zone, which may be an offset, not {@code null}
+     * @return an instance of {@code PersianOffsetDateTime}
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public static PersianOffsetDateTime ofInstant(final Instant instant, final ZoneId zone) {
+        Objects.requireNonNull(instant, "instant");
+        Objects.requireNonNull(zone, "zone");
+        final ZoneOffset offset = ZoneOffsetCache.of(zone).getOffset(instant.getEpochSecond());
+        return new PersianOffsetDateTime(
+                PersianZonedDateTime.toLocal(instant.getEpochSecond(), instant.getNano(), offset), offset);
+    }
+
+    /**
+     * Returns the Persian offset date-time of the given Gregorian offset date-time.
+     *
+     * @param offsetDateTime the Gregorian offset date-time, not {@code null}
+     * @return the corresponding Persian offset date-time
+     */
+    public static PersianOffsetDateTime fromGregorian(final OffsetDateTime offsetDateTime) {
+        Objects.requireNonNull(offsetDateTime, "offsetDateTime");
+        return new PersianOffsetDateTime(PersianDateTime.fromGregorian(offsetDateTime.toLocalDateTime()),
+                offsetDateTime.getOffset());
+    }
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param dateTime the local date-time, not {@code null}
+     * @param offset the offset, not {@code null}
+     */
+    private PersianOffsetDateTime(final PersianDateTime dateTime, final ZoneOffset offset) {
+        this.dateTime = Objects.requireNonNull(dateTime, "dateTime");
+        this.offset = Objects.requireNonNull(offset, "offset");
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the local date-time part of this date-time.
+     *
+     * @return the local date-time part of this date-time
+     */
+    public PersianDateTime toLocalDateTime() {
+        return dateTime;
+    }
+
+    /**
+     * Returns the date part of this date-time.
+     *
+     * @return the date part of this date-time
+     */
+    public PersianDate toLocalDate() {
+        return dateTime.toLocalDate();
+    }
+
+    /**
+     * Returns the time part of this date-time.
+     *
+     * @return the time part of this date-time
+     */
+    public LocalTime toLocalTime() {
+        return dateTime.toLocalTime();
+    }
+
+    /**
+     * Returns the offset of this date-time.
+     *
+     * @return the offset of this date-time
+     */
+    public ZoneOffset getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of seconds from 1970-01-01T00:00Z of this date-time.
+     *
+     * @return the number of seconds from 1970-01-01T00:00Z
+     */
+    public long toEpochSecond() {
+        return dateTime.toEpochSecond(offset);
+    }
+
+    /**
+     * Returns the instant of this date-time.
+     *
+     * @return the instant of this date-time
+     */
+    public Instant toInstant() {
+        return Instant.ofEpochSecond(toEpochSecond(), toLocalTime().getNano());
+    }
+
+    /**
+     * Returns the equivalent Gregorian offset date-time of this Persian offset date-time.
+     *
+     * @return the equivalent Gregorian offset date-time
+     */
+    public OffsetDateTime toGregorian() {
+        return OffsetDateTime.of(dateTime.toGregorian(), offset);
+    }
+
+    /**
+     * Returns a {@link PersianZonedDateTime} of the same instant in the given zone.
+     *
+     * @param zone the time-zone, not {@code null}
+     * @return the zoned date-time of the same instant in the given zone
+     */
+    public PersianZonedDateTime atZoneSameInstant(final ZoneId zone) {
+        return PersianZonedDateTime.ofEpochSecond(toEpochSecond(), toLocalTime().getNano(), zone);
+    }
+
+    /**
+     * Returns a {@link PersianZonedDateTime} of the same local date-time in the given zone,
+     * retaining the offset of this date-time if it is valid in the zone.
+     *
+     * @param zone the time-zone, not {@code null}
+     * @return the zoned date-time of the same local date-time in the given zone
+     */
+    public PersianZonedDateTime atZoneSimilarLocal(final ZoneId zone) {
+        return PersianZonedDateTime.ofLocal(dateTime, zone, offset);
+    }
+
+    @Override
+    public boolean isSupported(final TemporalField field) {
+        return field instanceof ChronoField || (field != null && field.isSupportedBy(this));
+    }
+
+    @Override
+    public ValueRange range(final TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (field.isTimeBased()) {
+                return toLocalTime().range(field);
+            }
+            return field.isDateBased() ? toLocalDate().range(field) : field.range();
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(final TemporalField field) {
+        Objects.requireNonNull(field, "field");
+        if (field == INSTANT_SECONDS) {
+            return toEpochSecond();
+        }
+        if (field == OFFSET_SECONDS) {
+            return offset.getTotalSeconds();
+        }
+        return dateTime.getLong(field);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R query(final TemporalQuery<R> query) {
+        if (query == TemporalQueries.offset() || query == TemporalQueries.zone()) {
+            return (R) offset;
+        } else if (query == TemporalQueries.zoneId()) {
+            return null;
+        } else if (query == TemporalQueries.chronology()) {
+            return (R) PersianChronology.INSTANCE;
+        } else if (query == TemporalQueries.localDate()) {
+            return (R) toLocalDate().toGregorian();
+        } else if (query == TemporalQueries.localTime()) {
+            return (R) toLocalTime();
+        } else if (query == TemporalQueries.precision()) {
+            return (R) ChronoUnit.NANOS;
+        }
+        return query.queryFrom(this);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Compares this date-time to another date-time, based on the instant first and then on
+     * the local date-time. Therefore two instances of the same instant with different offsets
+     * are ordered, which is consistent with {@link #equals(Object)}.
+     *
+     * @param other the other date-time to compare to, not {@code null}
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(final PersianOffsetDateTime other) {
+        return INSTANT_COMPARATOR.compare(this, other);
+    }
+
+    /**
+     * Checks if the instant of this date-time is the same as that of the given date-time.
+     *
+     * @param other the other date-time to compare to, not {@code null}
+     * @return true if the instants are equal
+     */
+    public boolean isEqual(final PersianOffsetDateTime other) {
+        return toEpochSecond() == other.toEpochSecond() && toLocalTime().getNano() == other.toLocalTime().getNano();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof PersianOffsetDateTime) {
+            final PersianOffsetDateTime other = (PersianOffsetDateTime) obj;
+            return dateTime.equals(other.dateTime) && offset.equals(other.offset);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode() ^ offset.hashCode();
+    }
+
+    /**
+     * Returns the string representation of this date-time, such as {@code 1402-01-01T10:15:30+03:30}.
+     *
+     * @return a suitable representation of this Persian offset date-time
+     */
+    @Override
+    public String toString() {
+        return dateTime.toString() + offset.toString();
+    }
+}
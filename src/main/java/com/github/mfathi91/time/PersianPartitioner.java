@@ -0,0 +1,263 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Maps instants to partitions of Persian months, seasons or years, such as the partitions of a
+ * database table or the prefixes of an object store.
+ * <p>
+ * The partitions are the buckets of a {@link PersianBuckets} table, so the partition of an
+ * instant is found from the boundary table in constant time, with no {@link PersianDateTime}
+ * created per row. Partitions are identified by dense ids, from zero for the first partition,
+ * and the name of each partition is created once, with the partitioner. For example:
+ * <pre>
+ *     PersianPartitioner partitioner = PersianPartitioner.ofMonths(PersianYearMonth.of(1400, 1),
+ *             PersianYearMonth.of(1405, 12), ZoneId.of("Asia/Tehran"));
+ *     String prefix = "events/" + partitioner.getName(partitioner.partitionOf(epochMilli)) + "/";
+ *
+ *     for (int id = 0; id &lt; partitioner.size(); id++) {
+ *         ddl.append("PARTITION p").append(partitioner.getName(id).replace('-', '_'))
+ *            .append(" VALUES LESS THAN (").append(partitioner.getEndEpochMilli(id)).append("),\n");
+ *     }
+ * </pre>
+ * The default names are {@code 1402-07} for months, {@code 1402-Q3} for seasons, {@code 1402-H2}
+ * for half-years, {@code 1402} for years, and the first day of the partition, like
+ * {@code 1402-07-15}, for days and weeks.
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianPartitioner {
+
+    private final PersianBuckets buckets;
+    private final String[] names;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param buckets the buckets of the partitions
+     * @param namer the function from the first day of a partition to its name
+     */
+    private PersianPartitioner(PersianBuckets buckets, Function<? super PersianDate, String> namer) {
+        this.buckets = buckets;
+        this.names = new String[buckets.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = Objects.requireNonNull(namer.apply(buckets.getStartDate(i)), "name");
+        }
+    }
+
+    /**
+     * Obtains a partitioner of the buckets of a table, with the default names.
+     *
+     * @param buckets the buckets of the partitions, not null
+     * @return a new partitioner, not null
+     */
+    public static PersianPartitioner of(PersianBuckets buckets) {
+        Objects.requireNonNull(buckets, "buckets");
+        return new PersianPartitioner(buckets, defaultNamer(buckets));
+    }
+
+    /**
+     * Obtains a partitioner of the buckets of a table, naming each partition after its first day.
+     *
+     * @param buckets the buckets of the partitions, not null
+     * @param namer the function from the first day of a partition to its name, not null
+     * @return a new partitioner, not null
+     */
+    public static PersianPartitioner of(PersianBuckets buckets, Function<? super PersianDate, String> namer) {
+        Objects.requireNonNull(buckets, "buckets");
+        Objects.requireNonNull(namer, "namer");
+        return new PersianPartitioner(buckets, namer);
+    }
+
+    /**
+     * Obtains a partitioner of the Persian months from the first month to the last month,
+     * both inclusive, with the default names.
+     *
+     * @param firstInclusive the first month, not null
+     * @param lastInclusive the last month, not before the first month, not null
+     * @param zone the time-zone of the boundaries, not null
+     * @return a new partitioner, not null
+     * @throws DateTimeException if the last month is before the first month
+     */
+    public static PersianPartitioner ofMonths(PersianYearMonth firstInclusive, PersianYearMonth lastInclusive,
+                                              ZoneId zone) {
+        return of(PersianBuckets.of(firstInclusive.atDay(1), lastInclusive.atDay(1).plusDays(1),
+                ChronoUnit.MONTHS, zone));
+    }
+
+    /**
+     * Obtains a partitioner of the Persian years from the first year to the last year, both
+     * inclusive, with the default names.
+     *
+     * @param firstInclusive the first year
+     * @param lastInclusive the last year, not before the first year
+     * @param zone the time-zone of the boundaries, not null
+     * @return a new partitioner, not null
+     * @throws DateTimeException if any of the years is out of range, or the last year is
+     *                           before the first year
+     */
+    public static PersianPartitioner ofYears(int firstInclusive, int lastInclusive, ZoneId zone) {
+        return of(PersianBuckets.of(PersianDate.of(firstInclusive, 1, 1),
+                PersianDate.of(lastInclusive, 1, 1).plusDays(1), ChronoUnit.YEARS, zone));
+    }
+
+    private static Function<PersianDate, String> defaultNamer(PersianBuckets buckets) {
+        if (buckets.getUnit() == ChronoUnit.MONTHS) {
+            return date -> String.format("%04d-%02d", date.getYear(), date.getMonthValue());
+        } else if (buckets.getUnit() == PersianFields.QUARTER_YEARS) {
+            return date -> String.format("%04d-Q%d", date.getYear(), (date.getMonthValue() + 2) / 3);
+        } else if (buckets.getUnit() == PersianFields.HALF_YEARS) {
+            return date -> String.format("%04d-H%d", date.getYear(), (date.getMonthValue() + 5) / 6);
+        } else if (buckets.getUnit() == ChronoUnit.YEARS) {
+            return date -> String.format("%04d", date.getYear());
+        }
+        return PersianDate::toString;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the buckets of the partitions.
+     *
+     * @return the buckets, not null
+     */
+    public PersianBuckets getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Returns the number of partitions.
+     *
+     * @return the number of partitions
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the id of the partition that contains the given instant.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00Z
+     * @return the id of the partition, or -1 if the instant is out of all partitions
+     */
+    public int partitionOf(long epochMilli) {
+        return buckets.indexOf(epochMilli);
+    }
+
+    /**
+     * Returns the name of the partition that contains the given instant.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00Z
+     * @return the name of the partition, not null
+     * @throws DateTimeException if the instant is out of all partitions
+     */
+    public String partitionNameOf(long epochMilli) {
+        final int id = buckets.indexOf(epochMilli);
+        if (id < 0) {
+            throw new DateTimeException("Instant out of all partitions: " + epochMilli);
+        }
+        return names[id];
+    }
+
+    /**
+     * Returns the ids of the partitions that overlap the given interval of instants, which is
+     * the set of partitions to scan for the interval.
+     *
+     * @param startInclusive the start of the interval, as milliseconds from 1970-01-01T00:00Z
+     * @param endExclusive the end of the interval, as milliseconds from 1970-01-01T00:00Z
+     * @return the ids of the partitions in ascending order, empty if the interval is empty or
+     *         out of all partitions, not null
+     */
+    public int[] partitionsBetween(long startInclusive, long endExclusive) {
+        if (endExclusive <= startInclusive || names.length == 0
+                || endExclusive <= buckets.getStartEpochMilli(0)
+                || startInclusive >= buckets.getStartEpochMilli(names.length)) {
+            return new int[0];
+        }
+        final int first = Math.max(0, buckets.indexOf(startInclusive));
+        final int last = endExclusive >= buckets.getStartEpochMilli(names.length)
+                ? names.length - 1 : buckets.indexOf(endExclusive - 1);
+        final int[] ids = new int[last - first + 1];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = first + i;
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the name of a partition.
+     *
+     * @param id the id of the partition
+     * @return the name of the partition, not null
+     * @throws IndexOutOfBoundsException if the id is out of range
+     */
+    public String getName(int id) {
+        return names[id];
+    }
+
+    /**
+     * Returns the names of all partitions, in the order of their ids.
+     *
+     * @return an unmodifiable list of the names, not null
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Returns the first day of a partition.
+     *
+     * @param id the id of the partition
+     * @return the first day of the partition, not null
+     * @throws IndexOutOfBoundsException if the id is out of range
+     */
+    public PersianDate getStartDate(int id) {
+        return buckets.getStartDate(id);
+    }
+
+    /**
+     * Returns the start of a partition, inclusive.
+     *
+     * @param id the id of the partition
+     * @return the start, as milliseconds from 1970-01-01T00:00Z
+     * @throws IndexOutOfBoundsException if the id is out of range
+     */
+    public long getStartEpochMilli(int id) {
+        checkId(id);
+        return buckets.getStartEpochMilli(id);
+    }
+
+    /**
+     * Returns the end of a partition, exclusive, which is the start of the next partition.
+     *
+     * @param id the id of the partition
+     * @return the end, as milliseconds from 1970-01-01T00:00Z
+     * @throws IndexOutOfBoundsException if the id is out of range
+     */
+    public long getEndEpochMilli(int id) {
+        return buckets.getEndEpochMilli(id);
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= names.length) {
+            throw new IndexOutOfBoundsException("Id: " + id + ", size: " + names.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PersianPartitioner[" + buckets + "]";
+    }
+}
@@ -0,0 +1,487 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.chrono.ChronoPeriod;
+import java.time.chrono.Chronology;
+import java.time.temporal.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoUnit.*;
+
+/**
+ * A date-based amount of time in the Persian calendar system, such as
+ * "2 years, 3 months and 4 days".
+ * <p>
+ * {@code PersianPeriod} is the Persian counterpart of {@link java.time.Period}: it is a
+ * {@link ChronoPeriod} whose chronology is {@link PersianChronology}, so it can be added to
+ * and subtracted from {@link PersianDate} and the other Persian temporals. Months and years
+ * are Persian months and years, so adding a period of one month to {@code 1402-06-31}
+ * results in {@code 1402-07-30}.
+ * <p>
+ * For bulk computations, such as the ages or tenures of many people, the period between
+ * two dates is also available packed into a {@code long}, see
+ * {@link #betweenPacked(PersianDate, PersianDate)}, which creates no objects.
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianPeriod implements ChronoPeriod {
+
+    /**
+     * A constant for a period of zero.
+     */
+    public static final PersianPeriod ZERO = new PersianPeriod(0, 0, 0);
+
+    /**
+     * The supported units of a period.
+     */
+    private static final List<TemporalUnit> UNITS =
+            Collections.unmodifiableList(Arrays.<TemporalUnit>asList(YEARS, MONTHS, DAYS));
+
+    /**
+     * The years.
+     */
+    private final int years;
+
+    /**
+     * The months.
+     */
+    private final int months;
+
+    /**
+     * The days.
+     */
+    private final int days;
+
+    /**
+     * Creates a new instance of this class.
+     */
+    private PersianPeriod(int years, int months, int days) {
+        this.years = years;
+        this.months = months;
+        this.days = days;
+    }
+
+    /**
+     * Obtains a {@code PersianPeriod} representing an amount of years, months and days.
+     *
+     * @param years the amount of years, may be negative
+     * @param months the amount of months, may be negative
+     * @param days the amount of days, may be negative
+     * @return the period of years, months and days, not {@code null}
+     */
+    public static PersianPeriod of(final int years, final int months, final int days) {
+        if ((years | months | days) == 0) {
+            return ZERO;
+        }
+        return new PersianPeriod(years, months, days);
+    }
+
+    /**
+     * Obtains a {@code PersianPeriod} representing a number of years.
+     *
+     * @param years the number of years, may be negative
+     * @return the period of years, not {@code null}
+     */
+    public static PersianPeriod ofYears(final int years) {
+        return of(years, 0, 0);
+    }
+
+    /**
+     * Obtains a {@code PersianPeriod} representing a number of months.
+     *
+     * @param months the number of months, may be negative
+     * @return the period of months, not {@code null}
+     */
+    public static PersianPeriod ofMonths(final int months) {
+        return of(0, months, 0);
+    }
+
+    /**
+     * Obtains a {@code PersianPeriod} representing a number of days.
+     *
+     * @param days the number of days, may be negative
+     * @return the period of days, not {@code null}
+     */
+    public static PersianPeriod ofDays(final int days) {
+        return of(0, 0, days);
+    }
+
+    /**
+     * Obtains a {@code PersianPeriod} from a temporal amount. A {@link ChronoPeriod} must be
+     * of the Persian chronology, any other amount is read unit by unit and must only have
+     * the units {@code YEARS}, {@code MONTHS} and {@code DAYS}.
+     *
+     * @param amount the temporal amount to convert, not {@code null}
+     * @return the equivalent period, not {@code null}
+     * @throws DateTimeException if unable to convert to a {@code PersianPeriod}
+     * @throws ArithmeticException if the amount of years, months or days exceeds an int
+     */
+    public static PersianPeriod from(final TemporalAmount amount) {
+        Objects.requireNonNull(amount, "amount");
+        if (amount instanceof PersianPeriod) {
+            return (PersianPeriod) amount;
+        }
+        if (amount instanceof ChronoPeriod && !PersianChronology.INSTANCE.equals(((ChronoPeriod) amount).getChronology())) {
+            throw new DateTimeException("Period requires Persian chronology: " + amount);
+        }
+        int years = 0;
+        int months = 0;
+        int days = 0;
+        for (TemporalUnit unit : amount.getUnits()) {
+            final long value = amount.get(unit);
+            if (unit == YEARS) {
+                years = Math.toIntExact(value);
+            } else if (unit == MONTHS) {
+                months = Math.toIntExact(value);
+            } else if (unit == DAYS) {
+                days = Math.toIntExact(value);
+            } else {
+                throw new DateTimeException("Unit must be Years, Months or Days, but was " + unit);
+            }
+        }
+        return of(years, months, days);
+    }
+
+    /**
+     * Obtains the period between two dates, in the same way as
+     * {@link PersianDate#until(java.time.chrono.ChronoLocalDate)}.
+     *
+     * @param startInclusive the start date, inclusive, not {@code null}
+     * @param endExclusive the end date, exclusive, not {@code null}
+     * @return the period between the dates, not {@code null}
+     */
+    public static PersianPeriod between(final PersianDate startInclusive, final PersianDate endExclusive) {
+        final long packed = betweenPacked(startInclusive, endExclusive);
+        return of(unpackYears(packed), unpackMonths(packed), unpackDays(packed));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the period between two dates, packed into a {@code long}. The years, months and
+     * days are read with {@link #unpackYears(long)}, {@link #unpackMonths(long)} and
+     * {@link #unpackDays(long)}. This method creates no objects.
+     * <p>
+     * The period is calculated by removing complete Persian months, then calculating the
+     * remaining number of days, adjusting to ensure that both have the same sign. A month is
+     * considered complete if the end day-of-month is greater than or equal to the start
+     * day-of-month.
+     *
+     * @param startInclusive the start date, inclusive, not {@code null}
+     * @param endExclusive the end date, exclusive, not {@code null}
+     * @return the packed period between the dates
+     */
+    public static long betweenPacked(final PersianDate startInclusive, final PersianDate endExclusive) {
+        return between(startInclusive.getYear(), startInclusive.getMonthValue(), startInclusive.getDayOfMonth(),
+                endExclusive.getYear(), endExclusive.getMonthValue(), endExclusive.getDayOfMonth(),
+                endExclusive.toEpochDay());
+    }
+
+    /**
+     * Returns the period between two epoch days, packed into a {@code long}, as described in
+     * {@link #betweenPacked(PersianDate, PersianDate)}. This method creates no objects.
+     *
+     * @param startEpochDayInclusive the epoch day of the start date, inclusive
+     * @param endEpochDayExclusive the epoch day of the end date, exclusive
+     * @return the packed period between the epoch days
+     * @throws DateTimeException if any of the epoch days exceeds the supported date range
+     */
+    public static long betweenPacked(final long startEpochDayInclusive, final long endEpochDayExclusive) {
+        final int start = PersianDate.packedOfEpochDay(startEpochDayInclusive);
+        final int end = PersianDate.packedOfEpochDay(endEpochDayExclusive);
+        return between(start >>> 9, (start >>> 5) & 0xF, start & 0x1F,
+                end >>> 9, (end >>> 5) & 0xF, end & 0x1F, endEpochDayExclusive);
+    }
+
+    /**
+     * Returns the years of a packed period.
+     *
+     * @param packed the packed period
+     * @return the years
+     */
+    public static int unpackYears(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Returns the months of a packed period, from -11 to 11.
+     *
+     * @param packed the packed period
+     * @return the months
+     */
+    public static int unpackMonths(final long packed) {
+        return (short) (packed >> 16);
+    }
+
+    /**
+     * Returns the days of a packed period.
+     *
+     * @param packed the packed period
+     * @return the days
+     */
+    public static int unpackDays(final long packed) {
+        return (short) packed;
+    }
+
+    private static long between(int startYear, int startMonth, int startDay,
+                                int endYear, int endMonth, int endDay, long endEpochDay) {
+        long totalMonths = (endYear * 12L + endMonth) - (startYear * 12L + startMonth);
+        int days = endDay - startDay;
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            // the start date plus the complete months, with the day adjusted to the month
+            final long calcMonths = startYear * 12L + startMonth - 1 + totalMonths;
+            final int calcYear = (int) (calcMonths / 12);
+            final int calcMonth = (int) (calcMonths % 12) + 1;
+            final int calcDay = Math.min(startDay, PersianDate.lengthOfMonth(calcYear, calcMonth));
+            days = (int) (endEpochDay - PersianDate.toEpochDay(calcYear, calcMonth, calcDay));
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= PersianDate.lengthOfMonth(endYear, endMonth);
+        }
+        final long years = totalMonths / 12;
+        final long months = totalMonths % 12;
+        return years << 32 | (months & 0xFFFF) << 16 | (days & 0xFFFF);
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public long get(final TemporalUnit unit) {
+        if (unit == YEARS) {
+            return years;
+        } else if (unit == MONTHS) {
+            return months;
+        } else if (unit == DAYS) {
+            return days;
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    @Override
+    public List<TemporalUnit> getUnits() {
+        return UNITS;
+    }
+
+    @Override
+    public Chronology getChronology() {
+        return PersianChronology.INSTANCE;
+    }
+
+    /**
+     * @return the amount of years of this period
+     */
+    public int getYears() {
+        return years;
+    }
+
+    /**
+     * @return the amount of months of this period
+     */
+    public int getMonths() {
+        return months;
+    }
+
+    /**
+     * @return the amount of days of this period
+     */
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Returns the total number of months of this period, that is the years times 12 plus
+     * the months.
+     *
+     * @return the total number of months
+     */
+    public long toTotalMonths() {
+        return years * 12L + months;  // no overflow
+    }
+
+    /**
+     * Returns this period packed into a {@code long}, in the format of
+     * {@link #betweenPacked(PersianDate, PersianDate)}. The months and days must be in the
+     * range of a {@code short}, which is the case for normalized periods between dates.
+     *
+     * @return the packed period
+     * @throws ArithmeticException if the months or the days exceed a {@code short}
+     */
+    public long toPacked() {
+        if (months != (short) months || days != (short) days) {
+            throw new ArithmeticException("Months or days exceed a short: " + this);
+        }
+        return (long) years << 32 | (months & 0xFFFFL) << 16 | (days & 0xFFFFL);
+    }
+
+    @Override
+    public boolean isZero() {
+        return this == ZERO;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return years < 0 || months < 0 || days < 0;
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public PersianPeriod plus(final TemporalAmount amountToAdd) {
+        final PersianPeriod other = from(amountToAdd);
+        return of(Math.addExact(years, other.years), Math.addExact(months, other.months),
+                Math.addExact(days, other.days));
+    }
+
+    @Override
+    public PersianPeriod minus(final TemporalAmount amountToSubtract) {
+        final PersianPeriod other = from(amountToSubtract);
+        return of(Math.subtractExact(years, other.years), Math.subtractExact(months, other.months),
+                Math.subtractExact(days, other.days));
+    }
+
+    @Override
+    public PersianPeriod multipliedBy(final int scalar) {
+        if (this == ZERO || scalar == 1) {
+            return this;
+        }
+        return of(Math.multiplyExact(years, scalar), Math.multiplyExact(months, scalar),
+                Math.multiplyExact(days, scalar));
+    }
+
+    @Override
+    public PersianPeriod negated() {
+        return multipliedBy(-1);
+    }
+
+    /**
+     * Returns a copy of this period with the years and months normalized, so that the
+     * months are from -11 to 11 and have the same sign as the years. The days are unchanged.
+     *
+     * @return the normalized period, not {@code null}
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianPeriod normalized() {
+        final long totalMonths = toTotalMonths();
+        final long splitYears = totalMonths / 12;
+        final int splitMonths = (int) (totalMonths % 12);
+        if (splitYears == years && splitMonths == months) {
+            return this;
+        }
+        return of(Math.toIntExact(splitYears), splitMonths, days);
+    }
+
+    /**
+     * Adds this period to the given temporal object, which must be of the Persian calendar
+     * system. The months are added first, adjusting the day-of-month to the last valid day
+     * of the month where necessary, then the days are added.
+     *
+     * @param temporal the temporal object to adjust, not {@code null}
+     * @return an object of the same type with the period added, not {@code null}
+     * @throws DateTimeException if the temporal is of another calendar system, or the
+     *                           result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal addTo(Temporal temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (temporal instanceof PersianDate) {
+            return ((PersianDate) temporal).plusMonths(toTotalMonths()).plusDays(days);
+        }
+        validateChronology(temporal);
+        final long totalMonths = toTotalMonths();
+        if (totalMonths != 0) {
+            temporal = temporal.plus(totalMonths, MONTHS);
+        }
+        if (days != 0) {
+            temporal = temporal.plus(days, DAYS);
+        }
+        return temporal;
+    }
+
+    /**
+     * Subtracts this period from the given temporal object, which must be of the Persian
+     * calendar system. The months are subtracted first, adjusting the day-of-month to the
+     * last valid day of the month where necessary, then the days are subtracted.
+     *
+     * @param temporal the temporal object to adjust, not {@code null}
+     * @return an object of the same type with the period subtracted, not {@code null}
+     * @throws DateTimeException if the temporal is of another calendar system, or the
+     *                           result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal subtractFrom(Temporal temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (temporal instanceof PersianDate) {
+            return ((PersianDate) temporal).plusMonths(-toTotalMonths()).plusDays(-(long) days);
+        }
+        validateChronology(temporal);
+        final long totalMonths = toTotalMonths();
+        if (totalMonths != 0) {
+            temporal = temporal.minus(totalMonths, MONTHS);
+        }
+        if (days != 0) {
+            temporal = temporal.minus(days, DAYS);
+        }
+        return temporal;
+    }
+
+    private static void validateChronology(TemporalAccessor temporal) {
+        final Chronology chronology = temporal.query(TemporalQueries.chronology());
+        if (chronology != null && !PersianChronology.INSTANCE.equals(chronology)) {
+            throw new DateTimeException("Chronology mismatch, expected: Persian, actual: " + chronology.getId());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof PersianPeriod) {
+            final PersianPeriod other = (PersianPeriod) obj;
+            return years == other.years && months == other.months && days == other.days;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return years + Integer.rotateLeft(months, 8) + Integer.rotateLeft(days, 16);
+    }
+
+    /**
+     * Returns the string representation of this period, such as {@code Persian P1Y2M3D}.
+     *
+     * @return a suitable representation of this period
+     */
+    @Override
+    public String toString() {
+        if (this == ZERO) {
+            return "Persian P0D";
+        }
+        final StringBuilder builder = new StringBuilder("Persian P");
+        if (years != 0) {
+            builder.append(years).append('Y');
+        }
+        if (months != 0) {
+            builder.append(months).append('M');
+        }
+        if (days != 0) {
+            builder.append(days).append('D');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,381 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoUnit.DAYS;
+
+/**
+ * Common adjusters on the Persian calendar, like {@link TemporalAdjusters} but with months,
+ * quarters and years of the Persian calendar.
+ * <p>
+ * Adjusters are used with {@link PersianDate#with(TemporalAdjuster)}, for example:
+ * <pre>
+ *     PersianDate endOfSeason = date.with(PersianTemporalAdjusters.lastDayOfQuarter());
+ *     PersianDate payday = date.with(PersianTemporalAdjusters.lastInMonth(DayOfWeek.WEDNESDAY));
+ * </pre>
+ * When given a {@link PersianDate}, an adjuster computes its result from the year, month and
+ * day of the date and the tables of {@link PersianMonth}, without walking over days or
+ * converting to the ISO calendar. Any other temporal is adjusted through its epoch day, so
+ * that the adjustment is still made in the Persian calendar: the last day of the month of a
+ * {@code LocalDate} is the last day of its Persian month, and the time of a date-time is kept.
+ * <p>
+ * The quarters are the seasons, as in {@link PersianFields#QUARTER_OF_YEAR}.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianTemporalAdjusters {
+
+    private static final int MAX_YEAR = PersianDate.MAX.getYear();
+    private static final long MAX_EPOCH_DAY = PersianDate.MAX.toEpochDay();
+
+    // Ensure non-instantiability
+    private PersianTemporalAdjusters() {
+        throw new UnsupportedOperationException();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the "first day of month" adjuster, which returns a new date set to the first
+     * day of the current Persian month.
+     *
+     * @return the first day-of-month adjuster, not null
+     */
+    public static TemporalAdjuster firstDayOfMonth() {
+        return Simple.FIRST_DAY_OF_MONTH;
+    }
+
+    /**
+     * Returns the "last day of month" adjuster, which returns a new date set to the last
+     * day of the current Persian month, taking the leap year into account for Esfand.
+     *
+     * @return the last day-of-month adjuster, not null
+     */
+    public static TemporalAdjuster lastDayOfMonth() {
+        return Simple.LAST_DAY_OF_MONTH;
+    }
+
+    /**
+     * Returns the "first day of next month" adjuster, which returns a new date set to the
+     * first day of the next Persian month.
+     *
+     * @return the first day of next month adjuster, not null
+     */
+    public static TemporalAdjuster firstDayOfNextMonth() {
+        return Simple.FIRST_DAY_OF_NEXT_MONTH;
+    }
+
+    /**
+     * Returns the "first day of quarter" adjuster, which returns a new date set to the first
+     * day of the current season.
+     *
+     * @return the first day-of-quarter adjuster, not null
+     */
+    public static TemporalAdjuster firstDayOfQuarter() {
+        return Simple.FIRST_DAY_OF_QUARTER;
+    }
+
+    /**
+     * Returns the "last day of quarter" adjuster, which returns a new date set to the last
+     * day of the current season.
+     *
+     * @return the last day-of-quarter adjuster, not null
+     */
+    public static TemporalAdjuster lastDayOfQuarter() {
+        return Simple.LAST_DAY_OF_QUARTER;
+    }
+
+    /**
+     * Returns the "first day of year" adjuster, which returns a new date set to the first
+     * day of the current Persian year.
+     *
+     * @return the first day-of-year adjuster, not null
+     */
+    public static TemporalAdjuster firstDayOfYear() {
+        return Simple.FIRST_DAY_OF_YEAR;
+    }
+
+    /**
+     * Returns the "last day of year" adjuster, which returns a new date set to the last
+     * day of the current Persian year.
+     *
+     * @return the last day-of-year adjuster, not null
+     */
+    public static TemporalAdjuster lastDayOfYear() {
+        return Simple.LAST_DAY_OF_YEAR;
+    }
+
+    /**
+     * Returns the "next Nowruz" adjuster, which returns a new date set to the first day of
+     * the next Persian year. A date on Nowruz is moved to the Nowruz of the next year.
+     *
+     * @return the next Nowruz adjuster, not null
+     */
+    public static TemporalAdjuster nextNowruz() {
+        return Simple.NEXT_NOWRUZ;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the next day-of-week adjuster, which adjusts the date to the first occurrence
+     * of the specified day-of-week after the date being adjusted.
+     *
+     * @param dayOfWeek the day-of-week, not null
+     * @return the next day-of-week adjuster, not null
+     */
+    public static TemporalAdjuster next(DayOfWeek dayOfWeek) {
+        return new RelativeDayOfWeek(dayOfWeek, 1);
+    }
+
+    /**
+     * Returns the next-or-same day-of-week adjuster, which adjusts the date to the first
+     * occurrence of the specified day-of-week on or after the date being adjusted. For
+     * example, {@code nextOrSame(DayOfWeek.SATURDAY)} returns the start of the Persian week.
+     *
+     * @param dayOfWeek the day-of-week, not null
+     * @return the next-or-same day-of-week adjuster, not null
+     */
+    public static TemporalAdjuster nextOrSame(DayOfWeek dayOfWeek) {
+        return new RelativeDayOfWeek(dayOfWeek, 0);
+    }
+
+    /**
+     * Returns the previous day-of-week adjuster, which adjusts the date to the first
+     * occurrence of the specified day-of-week before the date being adjusted.
+     *
+     * @param dayOfWeek the day-of-week, not null
+     * @return the previous day-of-week adjuster, not null
+     */
+    public static TemporalAdjuster previous(DayOfWeek dayOfWeek) {
+        return new RelativeDayOfWeek(dayOfWeek, 3);
+    }
+
+    /**
+     * Returns the previous-or-same day-of-week adjuster, which adjusts the date to the first
+     * occurrence of the specified day-of-week on or before the date being adjusted.
+     *
+     * @param dayOfWeek the day-of-week, not null
+     * @return the previous-or-same day-of-week adjuster, not null
+     */
+    public static TemporalAdjuster previousOrSame(DayOfWeek dayOfWeek) {
+        return new RelativeDayOfWeek(dayOfWeek, 2);
+    }
+
+    /**
+     * Returns the first in month adjuster, which returns a new date in the same Persian
+     * month with the first matching day-of-week.
+     *
+     * @param dayOfWeek the day-of-week, not null
+     * @return the first in month adjuster, not null
+     */
+    public static TemporalAdjuster firstInMonth(DayOfWeek dayOfWeek) {
+        return dayOfWeekInMonth(1, dayOfWeek);
+    }
+
+    /**
+     * Returns the last in month adjuster, which returns a new date in the same Persian
+     * month with the last matching day-of-week.
+     *
+     * @param dayOfWeek the day-of-week, not null
+     * @return the last in month adjuster, not null
+     */
+    public static TemporalAdjuster lastInMonth(DayOfWeek dayOfWeek) {
+        return dayOfWeekInMonth(-1, dayOfWeek);
+    }
+
+    /**
+     * Returns the day-of-week in month adjuster, which returns a new date with the ordinal
+     * day-of-week based on the Persian month, with the same semantics as
+     * {@link TemporalAdjusters#dayOfWeekInMonth(int, DayOfWeek)}:
+     * <ul>
+     * <li>an ordinal of 1 to 4 finds the n-th matching day-of-week of the month, and 5 may
+     * move into the next month</li>
+     * <li>an ordinal of 0 finds the last matching day-of-week of the previous month</li>
+     * <li>an ordinal of -1 to -4 finds the n-th matching day-of-week counting back from the
+     * end of the month, and -5 may move into the previous month</li>
+     * </ul>
+     *
+     * @param ordinal the position within the month
+     * @param dayOfWeek the day-of-week, not null
+     * @return the day-of-week in month adjuster, not null
+     */
+    public static TemporalAdjuster dayOfWeekInMonth(int ordinal, DayOfWeek dayOfWeek) {
+        return new DayOfWeekInMonth(ordinal, dayOfWeek);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the date of an epoch day, which is known to have the given fields, checking
+     * only the upper end of the range of {@code PersianDate}.
+     */
+    private static PersianDate ofValidDate(int year, int month, int dayOfMonth, long epochDay) {
+        if (year > MAX_YEAR || epochDay > MAX_EPOCH_DAY) {
+            throw new DateTimeException("Out of the range of PersianDate: " + year + "-" + month + "-" + dayOfMonth);
+        }
+        return PersianDate.ofValidDate(year, month, dayOfMonth, (int) epochDay);
+    }
+
+    /**
+     * An adjuster that computes the adjusted {@code PersianDate} directly, and adjusts other
+     * temporals by the number of days between the Persian date of their epoch day and the
+     * adjusted date.
+     */
+    private interface DateAdjuster extends TemporalAdjuster {
+
+        PersianDate adjust(PersianDate date);
+
+        @Override
+        default Temporal adjustInto(Temporal temporal) {
+            if (temporal instanceof PersianDate) {
+                return adjust((PersianDate) temporal);
+            }
+            final long epochDay = temporal.getLong(EPOCH_DAY);
+            return temporal.plus(adjust(PersianDate.ofEpochDay(epochDay)).toEpochDay() - epochDay, DAYS);
+        }
+    }
+
+    private enum Simple implements DateAdjuster {
+        FIRST_DAY_OF_MONTH {
+            @Override
+            public PersianDate adjust(PersianDate date) {
+                return ofValidDate(date.getYear(), date.getMonthValue(), 1,
+                        date.toEpochDay() - date.getDayOfMonth() + 1);
+            }
+        },
+        LAST_DAY_OF_MONTH {
+            @Override
+            public PersianDate adjust(PersianDate date) {
+                final int length = date.lengthOfMonth();
+                return ofValidDate(date.getYear(), date.getMonthValue(), length,
+                        date.toEpochDay() - date.getDayOfMonth() + length);
+            }
+        },
+        FIRST_DAY_OF_NEXT_MONTH {
+            @Override
+            public PersianDate adjust(PersianDate date) {
+                final long epochDay = date.toEpochDay() - date.getDayOfMonth() + date.lengthOfMonth() + 1;
+                return date.getMonth() == PersianMonth.ESFAND
+                        ? ofValidDate(date.getYear() + 1, 1, 1, epochDay)
+                        : ofValidDate(date.getYear(), date.getMonthValue() + 1, 1, epochDay);
+            }
+        },
+        FIRST_DAY_OF_QUARTER {
+            @Override
+            public PersianDate adjust(PersianDate date) {
+                final PersianMonth first = firstMonthOfQuarter(date.getMonth());
+                return ofValidDate(date.getYear(), first.getValue(), 1,
+                        date.toEpochDay() - date.getDayOfYear() + first.daysToFirstOfMonth() + 1);
+            }
+        },
+        LAST_DAY_OF_QUARTER {
+            @Override
+            public PersianDate adjust(PersianDate date) {
+                final PersianMonth last = firstMonthOfQuarter(date.getMonth()).plus(2);
+                final int length = last.length(date.isLeapYear());
+                return ofValidDate(date.getYear(), last.getValue(), length,
+                        date.toEpochDay() - date.getDayOfYear() + last.daysToFirstOfMonth() + length);
+            }
+        },
+        FIRST_DAY_OF_YEAR {
+            @Override
+            public PersianDate adjust(PersianDate date) {
+                return ofValidDate(date.getYear(), 1, 1, date.toEpochDay() - date.getDayOfYear() + 1);
+            }
+        },
+        LAST_DAY_OF_YEAR {
+            @Override
+            public PersianDate adjust(PersianDate date) {
+                final int length = PersianMonth.ESFAND.length(date.isLeapYear());
+                return ofValidDate(date.getYear(), 12, length,
+                        date.toEpochDay() - date.getDayOfYear() + date.lengthOfYear());
+            }
+        },
+        NEXT_NOWRUZ {
+            @Override
+            public PersianDate adjust(PersianDate date) {
+                return ofValidDate(date.getYear() + 1, 1, 1,
+                        date.toEpochDay() - date.getDayOfYear() + date.lengthOfYear() + 1);
+            }
+        };
+
+        private static PersianMonth firstMonthOfQuarter(PersianMonth month) {
+            return PersianMonth.of((month.getValue() - 1) / 3 * 3 + 1);
+        }
+    }
+
+    /**
+     * The next, next-or-same, previous-or-same and previous day-of-week adjusters.
+     */
+    private static final class RelativeDayOfWeek implements DateAdjuster {
+
+        private final int dayOfWeek;
+
+        /**
+         * 0 for next-or-same, 1 for next, 2 for previous-or-same and 3 for previous.
+         */
+        private final int relative;
+
+        private RelativeDayOfWeek(DayOfWeek dayOfWeek, int relative) {
+            this.dayOfWeek = Objects.requireNonNull(dayOfWeek, "dayOfWeek").getValue();
+            this.relative = relative;
+        }
+
+        @Override
+        public PersianDate adjust(PersianDate date) {
+            final int current = date.getDayOfWeek().getValue();
+            if (relative < 2) {
+                if (relative == 0 && current == dayOfWeek) {
+                    return date;
+                }
+                final int days = current - dayOfWeek;
+                return date.plusDays(days >= 0 ? 7 - days : -days);
+            }
+            if (relative == 2 && current == dayOfWeek) {
+                return date;
+            }
+            final int days = dayOfWeek - current;
+            return date.plusDays(-(days >= 0 ? 7 - days : -days));
+        }
+    }
+
+    private static final class DayOfWeekInMonth implements DateAdjuster {
+
+        private final int ordinal;
+        private final int dayOfWeek;
+
+        private DayOfWeekInMonth(int ordinal, DayOfWeek dayOfWeek) {
+            this.ordinal = ordinal;
+            this.dayOfWeek = Objects.requireNonNull(dayOfWeek, "dayOfWeek").getValue();
+        }
+
+        @Override
+        public PersianDate adjust(PersianDate date) {
+            final long epochDay = date.toEpochDay();
+            if (ordinal >= 0) {
+                final long first = epochDay - date.getDayOfMonth() + 1;
+                final int diff = Math.floorMod(dayOfWeek - isoDayOfWeek(first), 7);
+                return date.plusDays(first + diff + (ordinal - 1L) * 7L - epochDay);
+            }
+            final long last = epochDay - date.getDayOfMonth() + date.lengthOfMonth();
+            final int diff = Math.floorMod(isoDayOfWeek(last) - dayOfWeek, 7);
+            return date.plusDays(last - diff + (ordinal + 1L) * 7L - epochDay);
+        }
+
+        private static int isoDayOfWeek(long epochDay) {
+            return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+        }
+    }
+}
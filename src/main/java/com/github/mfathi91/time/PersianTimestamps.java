@@ -0,0 +1,397 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.util.Objects;
+
+/**
+ * Static helper methods to work with Persian date-times packed into a single {@code long},
+ * for storage in columnar or primitive collections.
+ * <p>
+ * A packed timestamp holds a local Persian date-time with millisecond precision, laid out
+ * from the most significant bits to the least significant bits as follows:
+ * <pre>
+ *     year (11 bits) | month (4 bits) | day (5 bits) | hour (5 bits) | minute (6 bits) | second (6 bits) | millis (10 bits)
+ * </pre>
+ * All values are positive, therefore packed timestamps sort in the same order as the
+ * date-times they represent, and the fields can be read with shifts and masks. For example,
+ * {@code 1402-01-01T10:15:30.500} is packed as:
+ * <pre>
+ *     long packed = PersianTimestamps.of(1402, 1, 1, 10, 15, 30, 500);
+ *     PersianTimestamps.getYear(packed);                // 1402
+ *     PersianTimestamps.plusDays(packed, 1);            // 1402-01-02T10:15:30.500
+ *     PersianTimestamps.truncateToMonth(packed);        // 1402-01-01T00:00
+ * </pre>
+ * The calendar rules are those of {@link PersianDate} and {@link PersianDateTime}, and the
+ * range of the supported dates is the same. Apart from the methods that explicitly create a
+ * {@link PersianDateTime} and the methods that throw an exception, the methods of this class
+ * do not allocate any object.
+ * <p>
+ * The methods of this class do not validate their packed arguments, the result of passing a
+ * {@code long} that was not created by this class is unspecified.
+ * <p>
+ * This class is stateless and thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@ThreadSafe
+public final class PersianTimestamps {
+
+    private static final int MILLIS_BITS = 10;
+    private static final int SECOND_SHIFT = MILLIS_BITS;
+    private static final int MINUTE_SHIFT = SECOND_SHIFT + 6;
+    private static final int HOUR_SHIFT = MINUTE_SHIFT + 6;
+    private static final int DAY_SHIFT = HOUR_SHIFT + 5;
+    private static final int MONTH_SHIFT = DAY_SHIFT + 5;
+    private static final int YEAR_SHIFT = MONTH_SHIFT + 4;
+
+    /**
+     * Mask of the bits of the date part of a packed timestamp.
+     */
+    private static final long DATE_MASK = -1L << DAY_SHIFT;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    // Ensure non-instantiability
+    private PersianTimestamps() {
+        throw new UnsupportedOperationException();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the packed timestamp of the given Persian date-time fields.
+     *
+     * @param year the year, within the range of {@link PersianDate}
+     * @param month the month-of-year, from 1 to 12
+     * @param dayOfMonth the day-of-month, from 1 to 31
+     * @param hour the hour-of-day, from 0 to 23
+     * @param minute the minute-of-hour, from 0 to 59
+     * @param second the second-of-minute, from 0 to 59
+     * @param millis the milli-of-second, from 0 to 999
+     * @return the packed timestamp
+     * @throws DateTimeException if any of the values is out of range, or the day-of-month is
+     *                           invalid for the month-year
+     */
+    public static long of(int year, int month, int dayOfMonth, int hour, int minute, int second, int millis) {
+        PersianChronology.INSTANCE.checkValidValue(year, ChronoField.YEAR);
+        PersianChronology.INSTANCE.checkValidValue(month, ChronoField.MONTH_OF_YEAR);
+        PersianChronology.INSTANCE.checkValidValue(dayOfMonth, ChronoField.DAY_OF_MONTH);
+        if (dayOfMonth > PersianDate.lengthOfMonth(year, month)) {
+            throw new DateTimeException("Invalid date " + PersianMonth.of(month).name() + " " + dayOfMonth
+                    + " in year " + year);
+        }
+        ChronoField.HOUR_OF_DAY.checkValidValue(hour);
+        ChronoField.MINUTE_OF_HOUR.checkValidValue(minute);
+        ChronoField.SECOND_OF_MINUTE.checkValidValue(second);
+        ChronoField.MILLI_OF_SECOND.checkValidValue(millis);
+        return pack(year, month, dayOfMonth, (int) ((hour * 3600L + minute * 60L + second) * 1000L + millis));
+    }
+
+    /**
+     * Returns the packed timestamp of the given Persian date-time. The nano-of-second is
+     * truncated to milliseconds.
+     *
+     * @param dateTime the Persian date-time, not {@code null}
+     * @return the packed timestamp
+     */
+    public static long of(PersianDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        return ofLocalEpochDay(dateTime.getLong(ChronoField.EPOCH_DAY),
+                (int) (dateTime.getLong(ChronoField.NANO_OF_DAY) / 1_000_000L));
+    }
+
+    /**
+     * Returns the packed timestamp of the local Persian date-time of the given epoch
+     * milliseconds in the given zone.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00Z
+     * @param zone the time-zone, which may be an offset, not {@code null}
+     * @return the packed timestamp
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public static long ofEpochMilli(long epochMilli, ZoneId zone) {
+        final ZoneOffset offset = ZoneOffsetCache.of(zone).getOffset(Math.floorDiv(epochMilli, 1000L));
+        return ofLocalEpochMilli(epochMilli + offset.getTotalSeconds() * 1000L);
+    }
+
+    /**
+     * Returns the packed timestamp of the local Persian date-time of the given epoch
+     * milliseconds at the given offset.
+     *
+     * @param epochMilli the milliseconds from 1970-01-01T00:00Z
+     * @param offset the offset, not {@code null}
+     * @return the packed timestamp
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public static long ofEpochMilli(long epochMilli, ZoneOffset offset) {
+        return ofLocalEpochMilli(epochMilli + offset.getTotalSeconds() * 1000L);
+    }
+
+    /**
+     * Returns the Persian date-time of the given packed timestamp.
+     *
+     * @param packed the packed timestamp
+     * @return the Persian date-time of the packed timestamp, not {@code null}
+     */
+    public static PersianDateTime toPersianDateTime(long packed) {
+        return PersianDateTime.ofEpochDay(toEpochDay(packed), getMillisOfDay(packed) * 1_000_000L);
+    }
+
+    /**
+     * Returns the epoch milliseconds of the given packed timestamp in the given zone. Local
+     * date-times in a gap or an overlap of the zone are resolved in the same way as
+     * {@link java.time.ZonedDateTime#of(java.time.LocalDateTime, ZoneId)}.
+     *
+     * @param packed the packed timestamp
+     * @param zone the time-zone, which may be an offset, not {@code null}
+     * @return the milliseconds from 1970-01-01T00:00Z
+     */
+    public static long toEpochMilli(long packed, ZoneId zone) {
+        final long localEpochSecond = toEpochDay(packed) * 86400L + getMillisOfDay(packed) / 1000;
+        final ZoneOffset offset = ZoneOffsetCache.of(zone).getOffsetOfLocal(localEpochSecond);
+        return (localEpochSecond - offset.getTotalSeconds()) * 1000L + getMillis(packed);
+    }
+
+    /**
+     * Returns the epoch milliseconds of the given packed timestamp at the given offset.
+     *
+     * @param packed the packed timestamp
+     * @param offset the offset, not {@code null}
+     * @return the milliseconds from 1970-01-01T00:00Z
+     */
+    public static long toEpochMilli(long packed, ZoneOffset offset) {
+        return toLocalEpochMilli(packed) - offset.getTotalSeconds() * 1000L;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the year of the given packed timestamp.
+     *
+     * @param packed the packed timestamp
+     * @return the year
+     */
+    public static int getYear(long packed) {
+        return (int) (packed >>> YEAR_SHIFT);
+    }
+
+    /**
+     * Returns the month-of-year of the given packed timestamp, from 1 to 12.
+     *
+     * @param packed the packed timestamp
+     * @return the month-of-year
+     */
+    public static int getMonthValue(long packed) {
+        return (int) (packed >>> MONTH_SHIFT) & 0xF;
+    }
+
+    /**
+     * Returns the day-of-month of the given packed timestamp, from 1 to 31.
+     *
+     * @param packed the packed timestamp
+     * @return the day-of-month
+     */
+    public static int getDayOfMonth(long packed) {
+        return (int) (packed >>> DAY_SHIFT) & 0x1F;
+    }
+
+    /**
+     * Returns the hour-of-day of the given packed timestamp, from 0 to 23.
+     *
+     * @param packed the packed timestamp
+     * @return the hour-of-day
+     */
+    public static int getHour(long packed) {
+        return (int) (packed >>> HOUR_SHIFT) & 0x1F;
+    }
+
+    /**
+     * Returns the minute-of-hour of the given packed timestamp, from 0 to 59.
+     *
+     * @param packed the packed timestamp
+     * @return the minute-of-hour
+     */
+    public static int getMinute(long packed) {
+        return (int) (packed >>> MINUTE_SHIFT) & 0x3F;
+    }
+
+    /**
+     * Returns the second-of-minute of the given packed timestamp, from 0 to 59.
+     *
+     * @param packed the packed timestamp
+     * @return the second-of-minute
+     */
+    public static int getSecond(long packed) {
+        return (int) (packed >>> SECOND_SHIFT) & 0x3F;
+    }
+
+    /**
+     * Returns the milli-of-second of the given packed timestamp, from 0 to 999.
+     *
+     * @param packed the packed timestamp
+     * @return the milli-of-second
+     */
+    public static int getMillis(long packed) {
+        return (int) packed & 0x3FF;
+    }
+
+    /**
+     * Returns the milli-of-day of the given packed timestamp.
+     *
+     * @param packed the packed timestamp
+     * @return the milli-of-day, from 0 to 24 * 60 * 60 * 1000 - 1
+     */
+    public static int getMillisOfDay(long packed) {
+        return ((getHour(packed) * 60 + getMinute(packed)) * 60 + getSecond(packed)) * 1000 + getMillis(packed);
+    }
+
+    /**
+     * Returns the day-of-week of the given packed timestamp.
+     *
+     * @param packed the packed timestamp
+     * @return the day-of-week, not {@code null}
+     */
+    public static DayOfWeek getDayOfWeek(long packed) {
+        return DayOfWeek.of((int) Math.floorMod(toEpochDay(packed) + 3, 7L) + 1);
+    }
+
+    /**
+     * Returns the epoch day of the date part of the given packed timestamp.
+     *
+     * @param packed the packed timestamp
+     * @return the epoch day
+     */
+    public static long toEpochDay(long packed) {
+        return PersianDate.toEpochDay(getYear(packed), getMonthValue(packed), getDayOfMonth(packed));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the given packed timestamp with the specified number of milliseconds added,
+     * on the local time-line.
+     *
+     * @param packed the packed timestamp
+     * @param millisToAdd the milliseconds to add, may be negative
+     * @return the packed timestamp with the milliseconds added
+     * @throws DateTimeException if the result exceeds the supported date range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusMillis(long packed, long millisToAdd) {
+        if (millisToAdd == 0) {
+            return packed;
+        }
+        return ofLocalEpochMilli(Math.addExact(toLocalEpochMilli(packed), millisToAdd));
+    }
+
+    /**
+     * Returns the given packed timestamp with the specified number of days added. The time
+     * part is unchanged.
+     *
+     * @param packed the packed timestamp
+     * @param daysToAdd the days to add, may be negative
+     * @return the packed timestamp with the days added
+     * @throws DateTimeException if the result exceeds the supported date range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusDays(long packed, long daysToAdd) {
+        if (daysToAdd == 0) {
+            return packed;
+        }
+        final int day = getDayOfMonth(packed);
+        final int lengthOfMonth = PersianDate.lengthOfMonth(getYear(packed), getMonthValue(packed));
+        if (daysToAdd > -day && daysToAdd <= lengthOfMonth - day) {
+            return packed + (daysToAdd << DAY_SHIFT);
+        }
+        final int date = PersianDate.packedOfEpochDay(Math.addExact(toEpochDay(packed), daysToAdd));
+        return ((long) date << DAY_SHIFT) | (packed & ~DATE_MASK);
+    }
+
+    /**
+     * Returns the given packed timestamp with the specified number of Persian months added.
+     * The day-of-month is adjusted to the last valid day of the resulting month if it would
+     * be invalid, in the same way as {@link PersianDate#plusMonths(long)}. The time part is
+     * unchanged.
+     *
+     * @param packed the packed timestamp
+     * @param monthsToAdd the months to add, may be negative
+     * @return the packed timestamp with the months added
+     * @throws DateTimeException if the result exceeds the supported date range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static long plusPersianMonths(long packed, long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        final long monthCount = getYear(packed) * 12L + (getMonthValue(packed) - 1);
+        final long calcMonths = Math.addExact(monthCount, monthsToAdd);
+        final int year = PersianChronology.INSTANCE.range(ChronoField.YEAR)
+                .checkValidIntValue(Math.floorDiv(calcMonths, 12L), ChronoField.YEAR);
+        final int month = (int) Math.floorMod(calcMonths, 12L) + 1;
+        final int day = Math.min(getDayOfMonth(packed), PersianDate.lengthOfMonth(year, month));
+        return pack(year, month, day, 0) | (packed & ~DATE_MASK);
+    }
+
+    /**
+     * Returns the given packed timestamp truncated to the start of its day.
+     *
+     * @param packed the packed timestamp
+     * @return the packed timestamp at midnight of the same day
+     */
+    public static long truncateToDay(long packed) {
+        return packed & DATE_MASK;
+    }
+
+    /**
+     * Returns the given packed timestamp truncated to the start of its Persian month.
+     *
+     * @param packed the packed timestamp
+     * @return the packed timestamp at midnight of the first day of the same month
+     */
+    public static long truncateToMonth(long packed) {
+        return (packed & (-1L << MONTH_SHIFT)) | (1L << DAY_SHIFT);
+    }
+
+    /**
+     * Returns the given packed timestamp truncated to the start of its Persian year.
+     *
+     * @param packed the packed timestamp
+     * @return the packed timestamp at midnight of the first of Farvardin of the same year
+     */
+    public static long truncateToYear(long packed) {
+        return (packed & (-1L << YEAR_SHIFT)) | (1L << MONTH_SHIFT) | (1L << DAY_SHIFT);
+    }
+
+    //-----------------------------------------------------------------------
+
+    private static long pack(int year, int month, int dayOfMonth, int millisOfDay) {
+        final int secondOfDay = millisOfDay / 1000;
+        return (long) year << YEAR_SHIFT
+                | (long) month << MONTH_SHIFT
+                | (long) dayOfMonth << DAY_SHIFT
+                | (long) (secondOfDay / 3600) << HOUR_SHIFT
+                | (long) (secondOfDay / 60 % 60) << MINUTE_SHIFT
+                | (long) (secondOfDay % 60) << SECOND_SHIFT
+                | millisOfDay % 1000;
+    }
+
+    private static long ofLocalEpochDay(long epochDay, int millisOfDay) {
+        final int date = PersianDate.packedOfEpochDay(epochDay);
+        return pack(date >>> 9, (date >>> 5) & 0xF, date & 0x1F, millisOfDay);
+    }
+
+    private static long ofLocalEpochMilli(long localEpochMilli) {
+        return ofLocalEpochDay(Math.floorDiv(localEpochMilli, MILLIS_PER_DAY),
+                (int) Math.floorMod(localEpochMilli, MILLIS_PER_DAY));
+    }
+
+    private static long toLocalEpochMilli(long packed) {
+        return toEpochDay(packed) * MILLIS_PER_DAY + getMillisOfDay(packed);
+    }
+}
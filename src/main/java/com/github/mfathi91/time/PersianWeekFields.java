@@ -0,0 +1,453 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.chrono.ChronoLocalDate;
+import java.time.format.ResolverStyle;
+import java.time.temporal.*;
+import java.util.Map;
+
+import static java.time.temporal.ChronoField.DAY_OF_WEEK;
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.FOREVER;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
+
+/**
+ * Week definition of the Persian calendar, where weeks start on Saturday and end on Friday.
+ * <p>
+ * This is the Persian counterpart of {@link WeekFields}: the first week of a year is the
+ * first Saturday-to-Friday week that has at least {@link #getMinimalDaysInFirstWeek()} days
+ * in that year. The days of the previous year that precede it belong to week zero of the
+ * year, and to the last week of the previous week-based-year. The {@link #STANDARD} rule,
+ * which uses a minimum of one day, makes the week of Nowruz the first week of the year.
+ * <p>
+ * Each instance holds a table of the start epoch day of the first week of every year, so
+ * the week of a date and the first day of a week are found without iteration. The fields
+ * returned by {@link #dayOfWeek()}, {@link #weekOfYear()}, {@link #weekOfWeekBasedYear()}
+ * and {@link #weekBasedYear()} can be used with {@link PersianDate} and a
+ * {@link java.time.format.DateTimeFormatter} of the Persian chronology. A date is resolved
+ * from a week-based-year, a week-of-week-based-year and a day-of-week.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianWeekFields {
+
+    /**
+     * The epoch day of a Saturday, 1970-01-03.
+     */
+    private static final int SATURDAY_EPOCH_DAY = 2;
+
+    /**
+     * The first year in the week tables; year zero is needed for the days of year 1
+     * that fall in the last week of the previous year.
+     */
+    private static final int FIRST_TABLE_YEAR = 0;
+
+    /**
+     * The last year in the week tables; one year past the maximum, to bound the last
+     * week-based-year.
+     */
+    private static final int LAST_TABLE_YEAR = PersianDate.MAX.getYear() + 2;
+
+    /**
+     * The instances of week fields, indexed by the minimal days in the first week.
+     */
+    private static final PersianWeekFields[] CACHE = new PersianWeekFields[8];
+
+    static {
+        for (int minimalDays = 1; minimalDays <= 7; minimalDays++) {
+            CACHE[minimalDays] = new PersianWeekFields(minimalDays);
+        }
+    }
+
+    /**
+     * The week definition used in Iran, where the week containing Farvardin 1 is the first
+     * week of the year.
+     */
+    public static final PersianWeekFields STANDARD = CACHE[1];
+
+    private final int minimalDays;
+
+    /**
+     * The start epoch day of week one of each year, indexed by year.
+     */
+    private final int[] weekOneStarts;
+
+    private final TemporalField dayOfWeek = new ComputedField(this, Kind.DAY_OF_WEEK);
+    private final TemporalField weekOfYear = new ComputedField(this, Kind.WEEK_OF_YEAR);
+    private final TemporalField weekOfWeekBasedYear = new ComputedField(this, Kind.WEEK_OF_WEEK_BASED_YEAR);
+    private final TemporalField weekBasedYear = new ComputedField(this, Kind.WEEK_BASED_YEAR);
+
+    private PersianWeekFields(int minimalDays) {
+        this.minimalDays = minimalDays;
+        this.weekOneStarts = new int[LAST_TABLE_YEAR + 1];
+        for (int year = FIRST_TABLE_YEAR; year <= LAST_TABLE_YEAR; year++) {
+            final int firstDay = (int) PersianDate.toEpochDay(year, 1, 1);
+            final int offset = saturdayOffset(firstDay);
+            final int weekStart = firstDay - offset;
+            weekOneStarts[year] = 7 - offset >= minimalDays ? weekStart : weekStart + 7;
+        }
+    }
+
+    /**
+     * Obtains an instance of {@code PersianWeekFields} with weeks starting on Saturday and
+     * the given minimal number of days in the first week.
+     *
+     * @param minimalDaysInFirstWeek the minimal number of days in the first week, from 1 to 7
+     * @return the week definition, not null
+     * @throws IllegalArgumentException if the minimal days value is less than one or greater than 7
+     */
+    public static PersianWeekFields of(int minimalDaysInFirstWeek) {
+        MyUtils.intRequireRange(minimalDaysInFirstWeek, 1, 7, "minimalDaysInFirstWeek");
+        return CACHE[minimalDaysInFirstWeek];
+    }
+
+    /**
+     * Returns the first day of week, which is always {@link DayOfWeek#SATURDAY}.
+     *
+     * @return the first day of week, not null
+     */
+    public DayOfWeek getFirstDayOfWeek() {
+        return DayOfWeek.SATURDAY;
+    }
+
+    /**
+     * Returns the minimal number of days in the first week.
+     *
+     * @return the minimal number of days in the first week, from 1 to 7
+     */
+    public int getMinimalDaysInFirstWeek() {
+        return minimalDays;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns a field to access the day of week, where Saturday is 1 and Friday is 7.
+     *
+     * @return a field providing access to the day-of-week, not null
+     */
+    public TemporalField dayOfWeek() {
+        return dayOfWeek;
+    }
+
+    /**
+     * Returns a field to access the week of the Persian year, from 0 to 53. Days of the
+     * year before week one are in week zero.
+     *
+     * @return a field providing access to the week-of-year, not null
+     */
+    public TemporalField weekOfYear() {
+        return weekOfYear;
+    }
+
+    /**
+     * Returns a field to access the week of the week-based-year, from 1 to 53.
+     *
+     * @return a field providing access to the week-of-week-based-year, not null
+     */
+    public TemporalField weekOfWeekBasedYear() {
+        return weekOfWeekBasedYear;
+    }
+
+    /**
+     * Returns a field to access the week-based-year, the Persian year that owns the week of
+     * a date.
+     *
+     * @return a field providing access to the week-based-year, not null
+     */
+    public TemporalField weekBasedYear() {
+        return weekBasedYear;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the epoch day of the Saturday that starts the week of the given epoch day.
+     * The result can be used as a key to group days by week.
+     *
+     * @param epochDay the epoch day
+     * @return the epoch day of the first day of the week
+     */
+    public static long startOfWeek(long epochDay) {
+        return epochDay - saturdayOffset(epochDay);
+    }
+
+    /**
+     * Returns the week-based-year of the given epoch day.
+     *
+     * @param epochDay the epoch day, within the range of {@code PersianDate}
+     * @return the week-based-year
+     * @throws DateTimeException if the epoch day is out of the range of {@code PersianDate}
+     */
+    public int getWeekBasedYear(long epochDay) {
+        return weekBasedYearOf(epochDay, yearOf(epochDay));
+    }
+
+    /**
+     * Returns the week-of-week-based-year of the given epoch day.
+     *
+     * @param epochDay the epoch day, within the range of {@code PersianDate}
+     * @return the week-of-week-based-year, from 1 to 53
+     * @throws DateTimeException if the epoch day is out of the range of {@code PersianDate}
+     */
+    public int getWeekOfWeekBasedYear(long epochDay) {
+        final int weekBasedYear = weekBasedYearOf(epochDay, yearOf(epochDay));
+        return (int) (epochDay - weekOneStarts[weekBasedYear]) / 7 + 1;
+    }
+
+    /**
+     * Returns the number of weeks in the given week-based-year.
+     *
+     * @param weekBasedYear the week-based-year, from 0 to 2000
+     * @return the number of weeks, 52 or 53
+     * @throws IllegalArgumentException if the week-based-year is out of range
+     */
+    public int weeksInWeekBasedYear(int weekBasedYear) {
+        MyUtils.intRequireRange(weekBasedYear, FIRST_TABLE_YEAR, LAST_TABLE_YEAR - 1, "weekBasedYear");
+        return (weekOneStarts[weekBasedYear + 1] - weekOneStarts[weekBasedYear]) / 7;
+    }
+
+    /**
+     * Returns the epoch day of the Saturday that starts the given week.
+     *
+     * @param weekBasedYear the week-based-year, from 0 to 2000
+     * @param week the week-of-week-based-year, from 1 to 53
+     * @return the epoch day of the first day of the week
+     * @throws IllegalArgumentException if the week-based-year or the week is out of range
+     */
+    public long getWeekStartEpochDay(int weekBasedYear, int week) {
+        MyUtils.intRequireRange(week, 1, weeksInWeekBasedYear(weekBasedYear), "week");
+        return weekOneStarts[weekBasedYear] + (week - 1) * 7L;
+    }
+
+    private static int saturdayOffset(long epochDay) {
+        return (int) Math.floorMod(epochDay - SATURDAY_EPOCH_DAY, 7L);
+    }
+
+    private static int yearOf(long epochDay) {
+        final int year = PersianDate.packedOfEpochDay(epochDay) >>> 9;
+        PersianChronology.INSTANCE.checkValidValue(year, YEAR);
+        return year;
+    }
+
+    private int weekBasedYearOf(long epochDay, int year) {
+        if (epochDay < weekOneStarts[year]) {
+            return year - 1;
+        }
+        return epochDay >= weekOneStarts[year + 1] ? year + 1 : year;
+    }
+
+    private int weekOfYearOf(long epochDay, int year) {
+        return (int) Math.floorDiv(epochDay - weekOneStarts[year], 7L) + 1;
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return minimalDays;
+    }
+
+    /**
+     * Returns a string representation of this definition, like
+     * {@code PersianWeekFields[SATURDAY,1]}.
+     *
+     * @return a string representation of this definition, not null
+     */
+    @Override
+    public String toString() {
+        return "PersianWeekFields[SATURDAY," + minimalDays + ']';
+    }
+
+    //-----------------------------------------------------------------------
+
+    private enum Kind {
+        DAY_OF_WEEK("DayOfWeek", DAYS, WEEKS, ValueRange.of(1, 7)),
+        WEEK_OF_YEAR("WeekOfYear", WEEKS, YEARS, ValueRange.of(0, 1, 52, 53)),
+        WEEK_OF_WEEK_BASED_YEAR("WeekOfWeekBasedYear", WEEKS, YEARS, ValueRange.of(1, 52, 53)),
+        WEEK_BASED_YEAR("WeekBasedYear", YEARS, FOREVER, ValueRange.of(FIRST_TABLE_YEAR, LAST_TABLE_YEAR - 1));
+
+        private final String name;
+        private final TemporalUnit baseUnit;
+        private final TemporalUnit rangeUnit;
+        private final ValueRange range;
+
+        Kind(String name, TemporalUnit baseUnit, TemporalUnit rangeUnit, ValueRange range) {
+            this.name = name;
+            this.baseUnit = baseUnit;
+            this.rangeUnit = rangeUnit;
+            this.range = range;
+        }
+    }
+
+    /**
+     * A field of a week definition, computed from the epoch day and the year of a temporal.
+     */
+    private static final class ComputedField implements TemporalField {
+
+        private final PersianWeekFields weekDef;
+        private final Kind kind;
+
+        private ComputedField(PersianWeekFields weekDef, Kind kind) {
+            this.weekDef = weekDef;
+            this.kind = kind;
+        }
+
+        @Override
+        public TemporalUnit getBaseUnit() {
+            return kind.baseUnit;
+        }
+
+        @Override
+        public TemporalUnit getRangeUnit() {
+            return kind.rangeUnit;
+        }
+
+        @Override
+        public boolean isDateBased() {
+            return true;
+        }
+
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+
+        @Override
+        public ValueRange range() {
+            return kind.range;
+        }
+
+        @Override
+        public boolean isSupportedBy(TemporalAccessor temporal) {
+            if (temporal instanceof PersianDate) {
+                return true;
+            }
+            return temporal.isSupported(EPOCH_DAY)
+                    && (kind == Kind.DAY_OF_WEEK
+                    || PersianChronology.INSTANCE.equals(temporal.query(TemporalQueries.chronology())));
+        }
+
+        @Override
+        public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+            requireSupported(temporal);
+            switch (kind) {
+                case WEEK_OF_YEAR: {
+                    final int year = yearOf(temporal);
+                    final long firstDay = PersianDate.toEpochDay(year, 1, 1);
+                    final long lastDay = PersianDate.toEpochDay(year + 1, 1, 1) - 1;
+                    return ValueRange.of(weekDef.weekOneStarts[year] > firstDay ? 0 : 1,
+                            weekDef.weekOfYearOf(lastDay, year));
+                }
+                case WEEK_OF_WEEK_BASED_YEAR: {
+                    final long epochDay = temporal.getLong(EPOCH_DAY);
+                    return ValueRange.of(1, weekDef.weeksInWeekBasedYear(weekDef.weekBasedYearOf(epochDay, yearOf(temporal))));
+                }
+                default:
+                    return kind.range;
+            }
+        }
+
+        @Override
+        public long getFrom(TemporalAccessor temporal) {
+            requireSupported(temporal);
+            final long epochDay = temporal.getLong(EPOCH_DAY);
+            switch (kind) {
+                case DAY_OF_WEEK:
+                    return saturdayOffset(epochDay) + 1;
+                case WEEK_OF_YEAR:
+                    return weekDef.weekOfYearOf(epochDay, yearOf(temporal));
+                case WEEK_OF_WEEK_BASED_YEAR: {
+                    final int weekBasedYear = weekDef.weekBasedYearOf(epochDay, yearOf(temporal));
+                    return (epochDay - weekDef.weekOneStarts[weekBasedYear]) / 7 + 1;
+                }
+                default:
+                    return weekDef.weekBasedYearOf(epochDay, yearOf(temporal));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+            final long current = getFrom(temporal);
+            if (kind == Kind.WEEK_BASED_YEAR) {
+                final int weekBasedYear = range().checkValidIntValue(newValue, this);
+                final long epochDay = temporal.getLong(EPOCH_DAY);
+                final int week = Math.min(weekDef.getWeekOfWeekBasedYear(epochDay),
+                        weekDef.weeksInWeekBasedYear(weekBasedYear));
+                final long target = weekDef.weekOneStarts[weekBasedYear] + (week - 1) * 7L + saturdayOffset(epochDay);
+                return (R) temporal.plus(target - epochDay, DAYS);
+            }
+            rangeRefinedBy(temporal).checkValidValue(newValue, this);
+            return (R) temporal.plus(newValue - current, kind == Kind.DAY_OF_WEEK ? DAYS : WEEKS);
+        }
+
+        @Override
+        public ChronoLocalDate resolve(Map<TemporalField, Long> fieldValues,
+                                       TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
+            if (kind != Kind.WEEK_OF_WEEK_BASED_YEAR) {
+                return null;
+            }
+            final Long weekBasedYearLong = fieldValues.get(weekDef.weekBasedYear);
+            final TemporalField dayField = fieldValues.containsKey(weekDef.dayOfWeek) ? weekDef.dayOfWeek
+                    : (fieldValues.containsKey(DAY_OF_WEEK) ? DAY_OF_WEEK : null);
+            if (weekBasedYearLong == null || dayField == null) {
+                return null;
+            }
+            if (!PersianChronology.INSTANCE.equals(partialTemporal.query(TemporalQueries.chronology()))) {
+                throw new DateTimeException("Resolve requires Persian chronology: " + partialTemporal);
+            }
+            final int weekBasedYear = weekDef.weekBasedYear.range().checkValidIntValue(weekBasedYearLong, weekDef.weekBasedYear);
+            final long week = fieldValues.get(this);
+            final long dayValue = fieldValues.get(dayField);
+            final int dayOfWeek;
+            if (dayField == DAY_OF_WEEK) {
+                // ISO day-of-week, Monday is 1
+                dayOfWeek = (int) Math.floorMod(DAY_OF_WEEK.checkValidValue(dayValue) + 1, 7L) + 1;
+            } else {
+                dayOfWeek = weekDef.dayOfWeek.range().checkValidIntValue(dayValue, weekDef.dayOfWeek);
+            }
+            final long weekOneStart = weekDef.weekOneStarts[weekBasedYear];
+            if (resolverStyle != ResolverStyle.LENIENT) {
+                ValueRange.of(1, weekDef.weeksInWeekBasedYear(weekBasedYear)).checkValidValue(week, this);
+            }
+            final PersianDate date = PersianDate.ofEpochDay(Math.addExact(weekOneStart, Math.multiplyExact(week - 1, 7L)) + dayOfWeek - 1);
+            fieldValues.remove(this);
+            fieldValues.remove(weekDef.weekBasedYear);
+            fieldValues.remove(dayField);
+            return date;
+        }
+
+        private static int yearOf(TemporalAccessor temporal) {
+            if (temporal instanceof PersianDate) {
+                return ((PersianDate) temporal).getYear();
+            }
+            return temporal.get(YEAR);
+        }
+
+        private void requireSupported(TemporalAccessor temporal) {
+            if (!isSupportedBy(temporal)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return kind.name + "[" + weekDef + "]";
+        }
+    }
+}
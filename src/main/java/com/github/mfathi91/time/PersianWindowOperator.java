@@ -0,0 +1,383 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Event-time windows over the buckets of a {@link PersianBuckets} table, such as one window
+ * per Persian month, or a window of 7 days sliding by one day.
+ * <p>
+ * A window is a run of {@code size} consecutive buckets, and window {@code w} starts at bucket
+ * {@code w * slide}. A tumbling window has a size and a slide of one bucket. As the buckets are
+ * Persian days, weeks, months or years in a time-zone, the windows are aligned to the Persian
+ * calendar of the zone, including months of 29, 30 and 31 days and days of 23 or 25 hours.
+ * <p>
+ * Events are added with {@link #add(long, double)}, and the count, sum, minimum and maximum of
+ * the values are kept per bucket, so an event updates a single bucket whatever the number of
+ * windows it belongs to. A window is fired when the watermark, advanced with
+ * {@link #advanceWatermark(long)}, passes the end of the window plus the allowed lateness.
+ * The windows are fired in order, and only those with at least one event. The statistics of
+ * a window are then combined from its buckets, and the buckets that no later window needs
+ * are released, so the memory used is bounded by the buckets between the oldest open window
+ * and the latest event. An event whose windows have all been fired is late, and is dropped.
+ * For example:
+ * <pre>
+ *     PersianBuckets days = PersianBuckets.of(start, end, ChronoUnit.DAYS, ZoneId.of("Asia/Tehran"));
+ *     PersianWindowOperator weekly = PersianWindowOperator.sliding(days, 7, 1, Duration.ofMinutes(5),
+ *             window -&gt; sink.emit(window.getStartDate(), window.getStats().getSum()));
+ *     for (Event event : events) {
+ *         weekly.add(event.epochMilli, event.value);
+ *         weekly.advanceWatermark(event.epochMilli);
+ *     }
+ * </pre>
+ * <p>
+ * This class is mutable and not thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+public final class PersianWindowOperator {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final PersianBuckets buckets;
+    private final int size;
+    private final int slide;
+    private final long allowedLateness;
+    private final Consumer<? super Window> listener;
+
+    /**
+     * The number of windows that lie within the buckets.
+     */
+    private final int windowCount;
+
+    /**
+     * The statistics of the buckets from {@link #basePane}, in a ring buffer whose capacity
+     * is a power of two.
+     */
+    private long[] counts;
+    private double[] sums;
+    private double[] mins;
+    private double[] maxs;
+
+    /**
+     * The first bucket kept, which is the first bucket of {@link #nextWindow}.
+     */
+    private int basePane;
+
+    /**
+     * The index of the next window to fire.
+     */
+    private int nextWindow;
+
+    private long watermark = Long.MIN_VALUE;
+    private long dropped;
+
+    /**
+     * Creates a new instance of this class.
+     */
+    private PersianWindowOperator(PersianBuckets buckets, int size, int slide, Duration allowedLateness,
+                                  Consumer<? super Window> listener) {
+        this.buckets = Objects.requireNonNull(buckets, "buckets");
+        this.size = MyUtils.intRequirePositive(size, "size");
+        this.slide = MyUtils.intRequirePositive(slide, "slide");
+        Objects.requireNonNull(allowedLateness, "allowedLateness");
+        if (allowedLateness.isNegative()) {
+            throw new IllegalArgumentException("allowedLateness " + allowedLateness + " is negative");
+        }
+        this.allowedLateness = allowedLateness.toMillis();
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.windowCount = buckets.size() < size ? 0 : (buckets.size() - size) / slide + 1;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Obtains an operator of tumbling windows, one window per bucket.
+     *
+     * @param buckets the buckets, not null
+     * @param allowedLateness the time by which the firing of a window is delayed after its end,
+     *                        not negative, not null
+     * @param listener the listener of the fired windows, not null
+     * @return a new operator, not null
+     * @throws IllegalArgumentException if the allowed lateness is negative
+     */
+    public static PersianWindowOperator tumbling(PersianBuckets buckets, Duration allowedLateness,
+                                                 Consumer<? super Window> listener) {
+        return new PersianWindowOperator(buckets, 1, 1, allowedLateness, listener);
+    }
+
+    /**
+     * Obtains an operator of sliding windows of {@code size} buckets, starting every
+     * {@code slide} buckets. A slide larger than the size leaves gaps between the windows.
+     *
+     * @param buckets the buckets, not null
+     * @param size the number of buckets of a window, positive
+     * @param slide the number of buckets between the starts of two windows, positive
+     * @param allowedLateness the time by which the firing of a window is delayed after its end,
+     *                        not negative, not null
+     * @param listener the listener of the fired windows, not null
+     * @return a new operator, not null
+     * @throws IllegalArgumentException if the size or the slide is not positive, or the
+     *                                  allowed lateness is negative
+     */
+    public static PersianWindowOperator sliding(PersianBuckets buckets, int size, int slide, Duration allowedLateness,
+                                                Consumer<? super Window> listener) {
+        return new PersianWindowOperator(buckets, size, slide, allowedLateness, listener);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the buckets of the windows.
+     *
+     * @return the buckets, not null
+     */
+    public PersianBuckets getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Returns the current watermark, or {@code Long.MIN_VALUE} if it was never advanced.
+     *
+     * @return the watermark, as milliseconds from 1970-01-01T00:00Z
+     */
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Returns the number of events that were dropped, because they were out of all windows
+     * or because all of their windows had been fired.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Adds an event.
+     *
+     * @param epochMilli the event time, as milliseconds from 1970-01-01T00:00Z
+     * @param value the value of the event
+     * @return true if the event was added, false if it was dropped
+     */
+    public boolean add(long epochMilli, double value) {
+        final int bucket = buckets.indexOf(epochMilli);
+        if (bucket < basePane || bucket >= windowEndPane() || bucket % slide >= size) {
+            // before all open windows, after the last window, or between two windows
+            dropped++;
+            return false;
+        }
+        if (bucket - basePane >= counts.length) {
+            grow(bucket - basePane + 1);
+        }
+        final int slot = bucket & (counts.length - 1);
+        counts[slot]++;
+        sums[slot] += value;
+        if (value < mins[slot]) {
+            mins[slot] = value;
+        }
+        if (value > maxs[slot]) {
+            maxs[slot] = value;
+        }
+        return true;
+    }
+
+    /**
+     * Advances the watermark, and fires in order the windows whose end plus the allowed
+     * lateness is at or before the new watermark. A watermark before the current one is
+     * ignored.
+     *
+     * @param epochMilli the new watermark, as milliseconds from 1970-01-01T00:00Z
+     * @return the number of windows fired
+     */
+    public int advanceWatermark(long epochMilli) {
+        if (epochMilli <= watermark) {
+            return 0;
+        }
+        watermark = epochMilli;
+        final long threshold = epochMilli < Long.MIN_VALUE + allowedLateness
+                ? Long.MIN_VALUE : epochMilli - allowedLateness;
+        int fired = 0;
+        while (nextWindow < windowCount) {
+            final int first = nextWindow * slide;
+            if (buckets.getStartEpochMilli(first + size) > threshold) {
+                break;
+            }
+            if (fire(nextWindow, first)) {
+                fired++;
+            }
+            nextWindow++;
+            release(Math.min(nextWindow * slide, buckets.size()));
+        }
+        return fired;
+    }
+
+    /**
+     * Fires the remaining windows that have events, as if the watermark had passed the end of
+     * all buckets.
+     *
+     * @return the number of windows fired
+     */
+    public int flush() {
+        return advanceWatermark(Long.MAX_VALUE);
+    }
+
+    private boolean fire(int window, int first) {
+        long count = 0;
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        final int mask = counts.length - 1;
+        final int limit = Math.min(first + size, basePane + counts.length);
+        for (int bucket = first; bucket < limit; bucket++) {
+            final int slot = bucket & mask;
+            count += counts[slot];
+            sum += sums[slot];
+            min = Math.min(min, mins[slot]);
+            max = Math.max(max, maxs[slot]);
+        }
+        if (count == 0) {
+            return false;
+        }
+        listener.accept(new Window(buckets, window, first, first + size,
+                new PersianBucketAggregator.Stats(count, sum, min, max)));
+        return true;
+    }
+
+    private int windowEndPane() {
+        return windowCount == 0 ? 0 : (windowCount - 1) * slide + size;
+    }
+
+    /**
+     * Releases the buckets before the given bucket.
+     */
+    private void release(int newBase) {
+        final int mask = counts.length - 1;
+        final int end = Math.min(newBase, basePane + counts.length);
+        for (int bucket = basePane; bucket < end; bucket++) {
+            final int slot = bucket & mask;
+            counts[slot] = 0;
+            sums[slot] = 0;
+            mins[slot] = Double.POSITIVE_INFINITY;
+            maxs[slot] = Double.NEGATIVE_INFINITY;
+        }
+        basePane = Math.max(basePane, newBase);
+    }
+
+    private void allocate(int capacity) {
+        counts = new long[capacity];
+        sums = new double[capacity];
+        mins = new double[capacity];
+        maxs = new double[capacity];
+        Arrays.fill(mins, Double.POSITIVE_INFINITY);
+        Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+    }
+
+    private void grow(int minCapacity) {
+        final long[] oldCounts = counts;
+        final double[] oldSums = sums;
+        final double[] oldMins = mins;
+        final double[] oldMaxs = maxs;
+        final int oldMask = oldCounts.length - 1;
+        allocate(Integer.highestOneBit(minCapacity - 1) << 1);
+        final int mask = counts.length - 1;
+        for (int bucket = basePane; bucket < basePane + oldCounts.length; bucket++) {
+            counts[bucket & mask] = oldCounts[bucket & oldMask];
+            sums[bucket & mask] = oldSums[bucket & oldMask];
+            mins[bucket & mask] = oldMins[bucket & oldMask];
+            maxs[bucket & mask] = oldMaxs[bucket & oldMask];
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A fired window, with the statistics of its events.
+     * <p>
+     * This class is immutable and can be used in multi-threaded environments.
+     */
+    @Immutable
+    public static final class Window {
+
+        private final PersianBuckets buckets;
+        private final int index;
+        private final int firstBucket;
+        private final int endBucket;
+        private final PersianBucketAggregator.Stats stats;
+
+        Window(PersianBuckets buckets, int index, int firstBucket, int endBucket,
+               PersianBucketAggregator.Stats stats) {
+            this.buckets = buckets;
+            this.index = index;
+            this.firstBucket = firstBucket;
+            this.endBucket = endBucket;
+            this.stats = stats;
+        }
+
+        /**
+         * Returns the index of this window, from zero.
+         *
+         * @return the index of this window
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the index of the first bucket of this window.
+         *
+         * @return the index of the first bucket
+         */
+        public int getFirstBucket() {
+            return firstBucket;
+        }
+
+        /**
+         * Returns the first day of this window.
+         *
+         * @return the first day, not null
+         */
+        public PersianDate getStartDate() {
+            return buckets.getStartDate(firstBucket);
+        }
+
+        /**
+         * Returns the start of this window, inclusive.
+         *
+         * @return the start, as milliseconds from 1970-01-01T00:00Z
+         */
+        public long getStartEpochMilli() {
+            return buckets.getStartEpochMilli(firstBucket);
+        }
+
+        /**
+         * Returns the end of this window, exclusive.
+         *
+         * @return the end, as milliseconds from 1970-01-01T00:00Z
+         */
+        public long getEndEpochMilli() {
+            return buckets.getStartEpochMilli(endBucket);
+        }
+
+        /**
+         * Returns the statistics of the events of this window.
+         *
+         * @return the statistics, not null
+         */
+        public PersianBucketAggregator.Stats getStats() {
+            return stats;
+        }
+
+        @Override
+        public String toString() {
+            return "Window[" + getStartDate() + ", buckets=" + firstBucket + ".." + endBucket + ", " + stats + "]";
+        }
+    }
+}
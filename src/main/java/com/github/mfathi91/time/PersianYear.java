@@ -0,0 +1,400 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.*;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.*;
+
+/**
+ * A year in the Persian calendar system, such as {@code 1402}, along with its precomputed
+ * calendar metadata.
+ * <p>
+ * There is exactly one instance of each supported year, created up front. Each instance
+ * keeps whether the year is leap, its length, and the epoch days of Farvardin 1 and of the
+ * first day of every month, so code that iterates over the days of a year or reports per
+ * year can read them instead of repeating the leap year rule and the julian day conversion
+ * for every day. For example:
+ * <pre>
+ *     PersianYear year = PersianYear.of(1402);
+ *     for (int dayOfYear = 1; dayOfYear &lt;= year.length(); dayOfYear++) {
+ *         PersianDate date = year.atDay(dayOfYear);
+ *         ...
+ *     }
+ * </pre>
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianYear implements TemporalAccessor, Comparable<PersianYear> {
+
+    /**
+     * The first supported year.
+     */
+    private static final int MIN_YEAR = PersianDate.MIN.getYear();
+
+    /**
+     * The last supported year.
+     */
+    private static final int MAX_YEAR = PersianDate.MAX.getYear();
+
+    /**
+     * The canonical instances, indexed by the year minus {@link #MIN_YEAR}.
+     */
+    private static final PersianYear[] CACHE = new PersianYear[MAX_YEAR - MIN_YEAR + 1];
+
+    static {
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            CACHE[year - MIN_YEAR] = new PersianYear(year);
+        }
+    }
+
+    /**
+     * The year.
+     */
+    private final int year;
+
+    /**
+     * Whether the year is leap.
+     */
+    private final boolean leap;
+
+    /**
+     * The epoch days of the first day of each month, indexed by the month-of-year minus one.
+     */
+    private final int[] monthStarts;
+
+    /**
+     * Creates a new instance of this class, computing the metadata of the given year.
+     *
+     * @param year the year, from 1 to 1999
+     */
+    private PersianYear(int year) {
+        this.year = year;
+        this.leap = PersianDate.isLeapYear(year);
+        this.monthStarts = new int[12];
+        final int firstEpochDay = (int) PersianDate.toEpochDay(year, 1, 1);
+        for (PersianMonth month : PersianMonth.values()) {
+            monthStarts[month.getValue() - 1] = firstEpochDay + month.daysToFirstOfMonth();
+        }
+    }
+
+    /**
+     * Obtains the current year from the system clock in the default time zone.
+     *
+     * @return the current year from the system clock in the default time zone
+     */
+    public static PersianYear now() {
+        return of(PersianDate.now().getYear());
+    }
+
+    /**
+     * Obtains the current year from the system clock in the given time zone.
+     *
+     * @param zone the time-zone, not {@code null}
+     * @return the current year from the system clock in the given time zone
+     */
+    public static PersianYear now(final ZoneId zone) {
+        return of(PersianDate.ofEpochDay(LocalDate.now(zone).toEpochDay()).getYear());
+    }
+
+    /**
+     * Obtains an instance of {@code PersianYear}.
+     *
+     * @param year the year, from 1 to 1999
+     * @return the year, not {@code null}
+     * @throws DateTimeException if the year is out of range
+     */
+    public static PersianYear of(final int year) {
+        PersianChronology.INSTANCE.checkValidValue(year, YEAR);
+        return CACHE[year - MIN_YEAR];
+    }
+
+    /**
+     * Obtains an instance of {@code PersianYear} from a temporal object. The year is read
+     * from temporal objects of the Persian calendar system that support it, other temporal
+     * objects are converted to {@link PersianDate} first.
+     *
+     * @param temporal the temporal object to convert, not {@code null}
+     * @return the year, not {@code null}
+     * @throws DateTimeException if unable to convert to a {@code PersianYear}
+     */
+    public static PersianYear from(final TemporalAccessor temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (temporal instanceof PersianYear) {
+            return (PersianYear) temporal;
+        }
+        if (temporal.query(TemporalQueries.chronology()) == PersianChronology.INSTANCE
+                && temporal.isSupported(YEAR)) {
+            return of(temporal.get(YEAR));
+        }
+        return of(PersianChronology.INSTANCE.date(temporal).getYear());
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the year, from 1 to 1999
+     */
+    public int getValue() {
+        return year;
+    }
+
+    /**
+     * Returns true if this year is a leap year in the Persian calendar.
+     *
+     * @return true if this year is a leap year
+     */
+    public boolean isLeap() {
+        return leap;
+    }
+
+    /**
+     * Returns the length of this year in days, either 365 or 366.
+     *
+     * @return the length of this year in days
+     */
+    public int length() {
+        return leap ? 366 : 365;
+    }
+
+    /**
+     * Returns the length of the given month of this year in days.
+     *
+     * @param month the month-of-year, from 1 to 12
+     * @return the length of the month in days
+     * @throws DateTimeException if the month is out of range
+     */
+    public int lengthOfMonth(final int month) {
+        PersianChronology.INSTANCE.checkValidValue(month, MONTH_OF_YEAR);
+        return month < 7 ? 31 : (month < 12 || leap ? 30 : 29);
+    }
+
+    /**
+     * Returns the epoch day of Farvardin 1 of this year.
+     *
+     * @return the epoch day of the first day of this year
+     */
+    public long getFirstEpochDay() {
+        return monthStarts[0];
+    }
+
+    /**
+     * Returns the epoch day of the last day of this year.
+     *
+     * @return the epoch day of the last day of this year
+     */
+    public long getLastEpochDay() {
+        return monthStarts[0] + length() - 1;
+    }
+
+    /**
+     * Returns the epoch day of the first day of the given month of this year.
+     *
+     * @param month the month-of-year, from 1 to 12
+     * @return the epoch day of the first day of the month
+     * @throws DateTimeException if the month is out of range
+     */
+    public long getMonthStartEpochDay(final int month) {
+        PersianChronology.INSTANCE.checkValidValue(month, MONTH_OF_YEAR);
+        return monthStarts[month - 1];
+    }
+
+    /**
+     * Returns the day-of-week of Nowruz, the first day of this year.
+     *
+     * @return the day-of-week of Farvardin 1, not {@code null}
+     */
+    public DayOfWeek getNowruzDayOfWeek() {
+        return DayOfWeek.of(Math.floorMod(monthStarts[0] + 3, 7) + 1);
+    }
+
+    /**
+     * Checks if the given day-of-year is valid for this year.
+     *
+     * @param dayOfYear the day-of-year to check
+     * @return true if the day-of-year is valid for this year
+     */
+    public boolean isValidDay(final int dayOfYear) {
+        return dayOfYear >= 1 && dayOfYear <= length();
+    }
+
+    /**
+     * Returns the date of the given day-of-year of this year, in constant time.
+     *
+     * @param dayOfYear the day-of-year, from 1 to the length of the year
+     * @return the date of the given day-of-year, not {@code null}
+     * @throws DateTimeException if the day-of-year is invalid for this year
+     */
+    public PersianDate atDay(final int dayOfYear) {
+        if (!isValidDay(dayOfYear)) {
+            throw new DateTimeException("Invalid value for dayOfYear: " + dayOfYear + " ");
+        }
+        final int epochDay = monthStarts[0] + dayOfYear - 1;
+        if (dayOfYear <= 186) {
+            return PersianDate.ofValidDate(year, (dayOfYear - 1) / 31 + 1, (dayOfYear - 1) % 31 + 1, epochDay);
+        }
+        return PersianDate.ofValidDate(year, (dayOfYear - 187) / 30 + 7, (dayOfYear - 187) % 30 + 1, epochDay);
+    }
+
+    /**
+     * Returns the date of the given month and day-of-month of this year.
+     *
+     * @param month the month-of-year, from 1 to 12
+     * @param dayOfMonth the day-of-month, from 1 to the length of the month
+     * @return the date of the given month and day-of-month, not {@code null}
+     * @throws DateTimeException if the month or the day-of-month is invalid for this year
+     */
+    public PersianDate atMonthDay(final int month, final int dayOfMonth) {
+        return atMonth(month).atDay(dayOfMonth);
+    }
+
+    /**
+     * Returns the year-month of the given month of this year.
+     *
+     * @param month the month-of-year, from 1 to 12
+     * @return the year-month, not {@code null}
+     * @throws DateTimeException if the month is out of range
+     */
+    public PersianYearMonth atMonth(final int month) {
+        return PersianYearMonth.of(year, month);
+    }
+
+    /**
+     * Returns the year that is the given number of years after this year.
+     *
+     * @param yearsToAdd the years to add, may be negative
+     * @return the year with the years added, not {@code null}
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public PersianYear plusYears(final long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        return CACHE[PersianChronology.INSTANCE.range(YEAR).checkValidIntValue(year + yearsToAdd, YEAR) - MIN_YEAR];
+    }
+
+    /**
+     * Returns the year that is the given number of years before this year.
+     *
+     * @param yearsToSubtract the years to subtract, may be negative
+     * @return the year with the years subtracted, not {@code null}
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public PersianYear minusYears(final long yearsToSubtract) {
+        return yearsToSubtract == Long.MIN_VALUE
+                ? plusYears(Long.MAX_VALUE).plusYears(1)
+                : plusYears(-yearsToSubtract);
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean isSupported(final TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field == YEAR || field == YEAR_OF_ERA || field == ERA;
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    @Override
+    public ValueRange range(final TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (isSupported(field)) {
+                return PersianChronology.INSTANCE.range((ChronoField) field);
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(final TemporalField field) {
+        Objects.requireNonNull(field, "field");
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case YEAR_OF_ERA:
+                case YEAR:
+                    return year;
+                case ERA:
+                    return 1;
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.getFrom(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R query(final TemporalQuery<R> query) {
+        if (query == TemporalQueries.chronology()) {
+            return (R) PersianChronology.INSTANCE;
+        } else if (query == TemporalQueries.precision()) {
+            return (R) ChronoUnit.YEARS;
+        }
+        return TemporalAccessor.super.query(query);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Compares this year to another year.
+     *
+     * @param other the other year to compare to, not {@code null}
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(final PersianYear other) {
+        return Integer.compare(year, other.year);
+    }
+
+    /**
+     * Checks if this year is after the given year.
+     *
+     * @param other the other year to compare to, not {@code null}
+     * @return true if this is after the given year
+     */
+    public boolean isAfter(final PersianYear other) {
+        return year > other.year;
+    }
+
+    /**
+     * Checks if this year is before the given year.
+     *
+     * @param other the other year to compare to, not {@code null}
+     * @return true if this is before the given year
+     */
+    public boolean isBefore(final PersianYear other) {
+        return year < other.year;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof PersianYear && year == ((PersianYear) obj).year;
+    }
+
+    @Override
+    public int hashCode() {
+        return year;
+    }
+
+    /**
+     * Returns the string representation of this year, such as {@code 1402}.
+     *
+     * @return a suitable representation of this year
+     */
+    @Override
+    public String toString() {
+        return Integer.toString(year);
+    }
+}
@@ -0,0 +1,500 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.temporal.*;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.*;
+
+/**
+ * A year-month in the Persian calendar system, such as {@code 1402-01}.
+ * <p>
+ * {@code PersianYearMonth} is the Persian counterpart of {@link java.time.YearMonth}. It is
+ * intended as a compact key to group and aggregate dates by month, for example in a
+ * {@link java.util.HashMap}. There is exactly one instance of each year-month in the
+ * supported range, created up front, so obtaining an instance never allocates, and
+ * {@link #equals(Object)}, {@link #hashCode()} and {@link #compareTo(PersianYearMonth)} are
+ * simple integer operations. The epoch days of the first and last days of the month are
+ * precomputed, which makes {@link #atDay(int)} a constant time operation.
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianYearMonth implements TemporalAccessor, Comparable<PersianYearMonth> {
+
+    /**
+     * The formatter of the {@code yyyy-MM} format.
+     */
+    private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
+            .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
+            .appendLiteral('-')
+            .appendValue(MONTH_OF_YEAR, 2)
+            .toFormatter()
+            .withChronology(PersianChronology.INSTANCE);
+
+    /**
+     * The first supported year.
+     */
+    private static final int MIN_YEAR = PersianDate.MIN.getYear();
+
+    /**
+     * The canonical instances, indexed by the number of months from the first month of
+     * {@link #MIN_YEAR}.
+     */
+    private static final PersianYearMonth[] CACHE;
+
+    static {
+        final int maxYear = PersianDate.MAX.getYear();
+        CACHE = new PersianYearMonth[(maxYear - MIN_YEAR + 1) * 12];
+        for (int year = MIN_YEAR; year <= maxYear; year++) {
+            final boolean leapYear = PersianDate.isLeapYear(year);
+            for (PersianMonth month : PersianMonth.values()) {
+                final int index = (year - MIN_YEAR) * 12 + month.getValue() - 1;
+                final int firstEpochDay = (int) PersianDate.toEpochDay(year, month.getValue(), 1);
+                // the last month is cut at PersianDate.MAX
+                final int length = (int) Math.min(month.length(leapYear), PersianDate.MAX.toEpochDay() - firstEpochDay + 1);
+                CACHE[index] = new PersianYearMonth(year, month.getValue(), index, firstEpochDay, length);
+            }
+        }
+    }
+
+    /**
+     * The year.
+     */
+    private final int year;
+
+    /**
+     * The month-of-year, from 1 to 12.
+     */
+    private final int month;
+
+    /**
+     * The index of this instance in {@link #CACHE}.
+     */
+    private final int index;
+
+    /**
+     * The epoch day of the first day of the month.
+     */
+    private final int firstEpochDay;
+
+    /**
+     * The length of the month in days.
+     */
+    private final int length;
+
+    /**
+     * Creates a new instance of this class.
+     */
+    private PersianYearMonth(int year, int month, int index, int firstEpochDay, int length) {
+        this.year = year;
+        this.month = month;
+        this.index = index;
+        this.firstEpochDay = firstEpochDay;
+        this.length = length;
+    }
+
+    /**
+     * Obtains the current year-month from the system clock in the default time zone.
+     *
+     * @return the current year-month from the system clock in the default time zone
+     */
+    public static PersianYearMonth now() {
+        return of(PersianDate.now());
+    }
+
+    /**
+     * Obtains the current year-month from the system clock in the given time zone.
+     *
+     * @param zone the time-zone, not {@code null}
+     * @return the current year-month from the system clock in the given time zone
+     */
+    public static PersianYearMonth now(final ZoneId zone) {
+        return of(PersianDate.ofEpochDay(LocalDate.now(zone).toEpochDay()));
+    }
+
+    /**
+     * Obtains an instance of {@code PersianYearMonth} from a year and a month.
+     *
+     * @param year the year, from 1 to 1999
+     * @param month the month-of-year, from 1 to 12
+     * @return the year-month, not {@code null}
+     * @throws DateTimeException if any of the values is out of range
+     */
+    public static PersianYearMonth of(final int year, final int month) {
+        PersianChronology.INSTANCE.checkValidValue(year, YEAR);
+        PersianChronology.INSTANCE.checkValidValue(month, MONTH_OF_YEAR);
+        return CACHE[(year - MIN_YEAR) * 12 + month - 1];
+    }
+
+    /**
+     * Obtains an instance of {@code PersianYearMonth} from a year and a month.
+     *
+     * @param year the year, from 1 to 1999
+     * @param month the month-of-year, not {@code null}
+     * @return the year-month, not {@code null}
+     * @throws DateTimeException if the year is out of range
+     */
+    public static PersianYearMonth of(final int year, final PersianMonth month) {
+        Objects.requireNonNull(month, "month");
+        return of(year, month.getValue());
+    }
+
+    /**
+     * Returns the year-month of the given date.
+     *
+     * @param date the date, not {@code null}
+     * @return the year-month of the date, not {@code null}
+     */
+    public static PersianYearMonth of(final PersianDate date) {
+        Objects.requireNonNull(date, "date");
+        return CACHE[(date.getYear() - MIN_YEAR) * 12 + date.getMonthValue() - 1];
+    }
+
+    /**
+     * Obtains an instance of {@code PersianYearMonth} from a temporal object. The year and
+     * the month-of-year are read from temporal objects of the Persian calendar system that
+     * support them, other temporal objects are converted to {@link PersianDate} first.
+     *
+     * @param temporal the temporal object to convert, not {@code null}
+     * @return the year-month, not {@code null}
+     * @throws DateTimeException if unable to convert to a {@code PersianYearMonth}
+     */
+    public static PersianYearMonth from(final TemporalAccessor temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (temporal instanceof PersianYearMonth) {
+            return (PersianYearMonth) temporal;
+        }
+        if (temporal instanceof PersianDate) {
+            return of((PersianDate) temporal);
+        }
+        final Chronology chronology = temporal.query(TemporalQueries.chronology());
+        if (chronology == PersianChronology.INSTANCE
+                && temporal.isSupported(YEAR) && temporal.isSupported(MONTH_OF_YEAR)) {
+            return of(temporal.get(YEAR), temporal.get(MONTH_OF_YEAR));
+        }
+        return of(PersianChronology.INSTANCE.date(temporal));
+    }
+
+    /**
+     * Obtains an instance of {@code PersianYearMonth} from a text such as {@code 1402-01}.
+     *
+     * @param text the text to parse, not {@code null}
+     * @return the parsed year-month, not {@code null}
+     * @throws java.time.format.DateTimeParseException if the text cannot be parsed
+     */
+    public static PersianYearMonth parse(final CharSequence text) {
+        return parse(text, FORMATTER);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianYearMonth} from a text using a specific formatter.
+     *
+     * @param text the text to parse, not {@code null}
+     * @param formatter the formatter to use, not {@code null}
+     * @return the parsed year-month, not {@code null}
+     * @throws java.time.format.DateTimeParseException if the text cannot be parsed
+     */
+    public static PersianYearMonth parse(final CharSequence text, final DateTimeFormatter formatter) {
+        Objects.requireNonNull(formatter, "formatter");
+        return formatter.withChronology(PersianChronology.INSTANCE).parse(text, PersianYearMonth::from);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the year, from 1 to 1999
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return the month-of-year field using the {@code PersianMonth} enum
+     * @see #getMonthValue()
+     */
+    public PersianMonth getMonth() {
+        return PersianMonth.of(month);
+    }
+
+    /**
+     * @return the month-of-year, from 1 to 12
+     * @see #getMonth()
+     */
+    public int getMonthValue() {
+        return month;
+    }
+
+    /**
+     * Returns true if the year of this year-month is a leap year.
+     *
+     * @return true if the year is a leap year
+     */
+    public boolean isLeapYear() {
+        return PersianDate.isLeapYear(year);
+    }
+
+    /**
+     * Returns the length of the month in days, from 29 to 31.
+     *
+     * @return the length of the month in days
+     */
+    public int lengthOfMonth() {
+        return length;
+    }
+
+    /**
+     * Returns the length of the year in days, either 365 or 366.
+     *
+     * @return the length of the year in days
+     */
+    public int lengthOfYear() {
+        return isLeapYear() ? 366 : 365;
+    }
+
+    /**
+     * Checks if the given day-of-month is valid for this year-month.
+     *
+     * @param dayOfMonth the day-of-month to check
+     * @return true if the day is valid for this year-month
+     */
+    public boolean isValidDay(final int dayOfMonth) {
+        return dayOfMonth >= 1 && dayOfMonth <= length;
+    }
+
+    /**
+     * Returns the epoch day of the first day of this year-month.
+     *
+     * @return the epoch day of the first day of the month
+     */
+    public long getFirstEpochDay() {
+        return firstEpochDay;
+    }
+
+    /**
+     * Returns the epoch day of the last day of this year-month.
+     *
+     * @return the epoch day of the last day of the month
+     */
+    public long getLastEpochDay() {
+        return firstEpochDay + length - 1;
+    }
+
+    /**
+     * Returns the date of the given day-of-month in this year-month.
+     *
+     * @param dayOfMonth the day-of-month, from 1 to the length of the month
+     * @return the date of the given day-of-month, not {@code null}
+     * @throws DateTimeException if the day is invalid for this year-month
+     */
+    public PersianDate atDay(final int dayOfMonth) {
+        if (!isValidDay(dayOfMonth)) {
+            if (month == 12 && dayOfMonth == 30) {
+                throw new DateTimeException("Invalid date ESFAND 30, as " + year + " is not a leap year");
+            }
+            throw new DateTimeException("Invalid date " + PersianMonth.of(month).name() + " " + dayOfMonth);
+        }
+        return PersianDate.ofValidDate(year, month, dayOfMonth, firstEpochDay + dayOfMonth - 1);
+    }
+
+    /**
+     * Returns the date of the last day of this year-month.
+     *
+     * @return the date of the last day of the month, not {@code null}
+     */
+    public PersianDate atEndOfMonth() {
+        return atDay(length);
+    }
+
+    /**
+     * Returns the year-month of the given number of months after this year-month.
+     *
+     * @param monthsToAdd the months to add, may be negative
+     * @return the year-month with the months added, not {@code null}
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public PersianYearMonth plusMonths(final long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return this;
+        }
+        final long newIndex = index + monthsToAdd;  // no overflow, as index is small
+        if (newIndex < 0 || newIndex >= CACHE.length) {
+            throw new DateTimeException("Invalid value for Year, " + this + " plus " + monthsToAdd
+                    + " months is out of range");
+        }
+        return CACHE[(int) newIndex];
+    }
+
+    /**
+     * Returns the year-month of the given number of months before this year-month.
+     *
+     * @param monthsToSubtract the months to subtract, may be negative
+     * @return the year-month with the months subtracted, not {@code null}
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public PersianYearMonth minusMonths(final long monthsToSubtract) {
+        return monthsToSubtract == Long.MIN_VALUE
+                ? plusMonths(Long.MAX_VALUE).plusMonths(1)
+                : plusMonths(-monthsToSubtract);
+    }
+
+    /**
+     * Returns the year-month of the given number of years after this year-month.
+     *
+     * @param yearsToAdd the years to add, may be negative
+     * @return the year-month with the years added, not {@code null}
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public PersianYearMonth plusYears(final long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        final int newYear = PersianChronology.INSTANCE.range(YEAR).checkValidIntValue(year + yearsToAdd, YEAR);
+        return CACHE[(newYear - MIN_YEAR) * 12 + month - 1];
+    }
+
+    /**
+     * Returns the year-month of the given number of years before this year-month.
+     *
+     * @param yearsToSubtract the years to subtract, may be negative
+     * @return the year-month with the years subtracted, not {@code null}
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public PersianYearMonth minusYears(final long yearsToSubtract) {
+        return yearsToSubtract == Long.MIN_VALUE
+                ? plusYears(Long.MAX_VALUE).plusYears(1)
+                : plusYears(-yearsToSubtract);
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean isSupported(final TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field == YEAR || field == MONTH_OF_YEAR || field == PROLEPTIC_MONTH
+                    || field == YEAR_OF_ERA || field == ERA;
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    @Override
+    public ValueRange range(final TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (isSupported(field)) {
+                return PersianChronology.INSTANCE.range((ChronoField) field);
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(final TemporalField field) {
+        Objects.requireNonNull(field, "field");
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case MONTH_OF_YEAR:
+                    return month;
+                case PROLEPTIC_MONTH:
+                    return year * 12L + month - 1;
+                case YEAR_OF_ERA:
+                case YEAR:
+                    return year;
+                case ERA:
+                    return 1;
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.getFrom(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R query(final TemporalQuery<R> query) {
+        if (query == TemporalQueries.chronology()) {
+            return (R) PersianChronology.INSTANCE;
+        } else if (query == TemporalQueries.precision()) {
+            return (R) ChronoUnit.MONTHS;
+        }
+        return TemporalAccessor.super.query(query);
+    }
+
+    /**
+     * Formats this year-month using the given formatter.
+     *
+     * @param formatter the formatter to use, not {@code null}
+     * @return the formatted year-month, not {@code null}
+     * @throws DateTimeException if an error occurs during printing
+     */
+    public String format(final DateTimeFormatter formatter) {
+        Objects.requireNonNull(formatter, "formatter");
+        return formatter.format(this);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Compares this year-month to another year-month, from earliest to latest.
+     *
+     * @param other the other year-month to compare to, not {@code null}
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(final PersianYearMonth other) {
+        return Integer.compare(index, other.index);
+    }
+
+    /**
+     * Checks if this year-month is after the given year-month.
+     *
+     * @param other the other year-month to compare to, not {@code null}
+     * @return true if this is after the given year-month
+     */
+    public boolean isAfter(final PersianYearMonth other) {
+        return index > other.index;
+    }
+
+    /**
+     * Checks if this year-month is before the given year-month.
+     *
+     * @param other the other year-month to compare to, not {@code null}
+     * @return true if this is before the given year-month
+     */
+    public boolean isBefore(final PersianYearMonth other) {
+        return index < other.index;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        // instances are canonical, this is only reached for unequal year-months
+        return obj instanceof PersianYearMonth && index == ((PersianYearMonth) obj).index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
+    /**
+     * Returns the string representation of this year-month, such as {@code 1402-01}.
+     *
+     * @return a suitable representation of this year-month
+     */
+    @Override
+    public String toString() {
+        return String.format("%04d-%02d", year, month);
+    }
+}
@@ -0,0 +1,434 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.*;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.INSTANT_SECONDS;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+
+/**
+ * A Persian date-time with a time-zone, such as {@code 1402-01-01T10:15:30+03:30[Asia/Tehran]}.
+ * <p>
+ * {@code PersianZonedDateTime} is the zoned counterpart of {@link PersianDateTime}, the same as
+ * {@link ZonedDateTime} is for {@link LocalDateTime}. It stores a Persian date-time, the offset
+ * in effect and the zone.
+ * <p>
+ * Conversions from an instant resolve the offset using a per-zone cache of offset transitions,
+ * so converting a large number of instants does not query {@link ZoneRules} for each of them.
+ * Conversions from a local date-time follow the rules of {@link ZonedDateTime#ofLocal}: a local
+ * date-time in a gap is moved forward by the length of the gap, and in an overlap the preferred
+ * offset is retained if valid, otherwise the earlier offset is used.
+ * <p>
+ * This class is immutable and can be used in multi-threaded environments.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianZonedDateTime implements ChronoZonedDateTime<PersianDate> {
+
+    /**
+     * The local date-time.
+     */
+    private final PersianDateTime dateTime;
+
+    /**
+     * The offset from UTC/Greenwich.
+     */
+    private final ZoneOffset offset;
+
+    /**
+     * The time-zone.
+     */
+    private final ZoneId zone;
+
+    /**
+     * Returns the current date-time from the system clock in the default time-zone.
+     *
+     * @return the current date-time from the system clock in the default time-zone
+     */
+    public static PersianZonedDateTime now() {
+        return now(ZoneId.systemDefault());
+    }
+
+    /**
+     * Returns the current date-time from the system clock in the given time-zone.
+     *
+     * @param zone the zone, not {@code null}
+     * @return the current date-time from the system clock in the given time-zone
+     */
+    public static PersianZonedDateTime now(final ZoneId zone) {
+        return ofInstant(Instant.now(), zone);
+    }
+
+    /**
+     * Obtains an instance of this class from a local date-time, resolving the offset with the
+     * rules of the given zone.
+     *
+     * @param dateTime the local date-time, not {@code null}
+     * @param zone the time-zone, not {@code null}
+     * @return an instance of {@code PersianZonedDateTime}
+     */
+    public static PersianZonedDateTime of(final PersianDateTime dateTime, final ZoneId zone) {
+        return ofLocal(dateTime, zone, null);
+    }
+
+    /**
+     * Obtains an instance of this class from a local date-time, resolving the offset with the
+     * rules of the given zone and using the given offset in an overlap, if it is valid.
+     *
+     * @param dateTime the local date-time, not {@code null}
+     * @param zone the time-zone, not {@code null}
+     * @param preferredOffset the offset to use in an overlap, {@code null} for the earlier offset
+     * @return an instance of {@code PersianZonedDateTime}
+     */
+    public static PersianZonedDateTime ofLocal(final PersianDateTime dateTime, final ZoneId zone,
+            final ZoneOffset preferredOffset) {
+
+        Objects.requireNonNull(dateTime, "dateTime");
+        Objects.requireNonNull(zone, "zone");
+        if (zone instanceof ZoneOffset) {
+            return new PersianZonedDateTime(dateTime, (ZoneOffset) zone, zone);
+        }
+        final ZoneRules rules = zone.getRules();
+        final LocalDateTime isoDateTime = dateTime.toGregorian();
+        final List<ZoneOffset> validOffsets = rules.getValidOffsets(isoDateTime);
+        if (validOffsets.size() == 1) {
+            return new PersianZonedDateTime(dateTime, validOffsets.get(0), zone);
+        }
+        if (validOffsets.isEmpty()) {
+            final ZoneOffsetTransition gap = rules.getTransition(isoDateTime);
+            final LocalDateTime adjusted = isoDateTime.plusSeconds(gap.getDuration().getSeconds());
+            return new PersianZonedDateTime(PersianDateTime.fromGregorian(adjusted), gap.getOffsetAfter(), zone);
+        }
+        final ZoneOffset offset = (preferredOffset != null && validOffsets.contains(preferredOffset))
+                ? preferredOffset : validOffsets.get(0);
+        return new PersianZonedDateTime(dateTime, offset, zone);
+    }
+
+    /**
+     * Obtains an instance of this class from an instant.
+     *
+     * @param instant the instant, not {@code null}
+     * @param zone the time-zone, not {@code null}
+     * @return an instance of {@code PersianZonedDateTime}
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public static PersianZonedDateTime ofInstant(final Instant instant, final ZoneId zone) {
+        Objects.requireNonNull(instant, "instant");
+        return ofEpochSecond(instant.getEpochSecond(), instant.getNano(), zone);
+    }
+
+    /**
+     * Obtains an instance of this class from the seconds since 1970-01-01T00:00Z.
+     *
+     * @param epochSecond the seconds since 1970-01-01T00:00Z
+     * @param nanoOfSecond the nanosecond of the second, from 0 to 999,999,999
+     * @param zone the time-zone, not {@code null}
+     * @return an instance of {@code PersianZonedDateTime}
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public static PersianZonedDateTime ofEpochSecond(final long epochSecond, final int nanoOfSecond,
+            final ZoneId zone) {
+
+        Objects.requireNonNull(zone, "zone");
+        NANO_OF_SECOND.checkValidValue(nanoOfSecond);
+        final ZoneOffset offset = ZoneOffsetCache.of(zone).getOffset(epochSecond);
+        return new PersianZonedDateTime(toLocal(epochSecond, nanoOfSecond, offset), offset, zone);
+    }
+
+    /**
+     * Returns the Persian zoned date-time of the given Gregorian zoned date-time.
+     *
+     * @param zonedDateTime the Gregorian zoned date-time, not {@code null}
+     * @return the corresponding Persian zoned date-time
+     */
+    public static PersianZonedDateTime fromGregorian(final ZonedDateTime zonedDateTime) {
+        Objects.requireNonNull(zonedDateTime, "zonedDateTime");
+        return new PersianZonedDateTime(PersianDateTime.fromGregorian(zonedDateTime.toLocalDateTime()),
+                zonedDateTime.getOffset(), zonedDateTime.getZone());
+    }
+
+    /**
+     * Obtains an instance of this class from the given temporal object.
+     *
+     * @param temporal the temporal object to convert, not {@code null}
+     * @return an instance of {@code PersianZonedDateTime}
+     * @throws DateTimeException if unable to convert to a {@code PersianZonedDateTime}
+     */
+    public static PersianZonedDateTime from(final TemporalAccessor temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (temporal instanceof PersianZonedDateTime) {
+            return (PersianZonedDateTime) temporal;
+        }
+        try {
+            final ZoneId zone = ZoneId.from(temporal);
+            if (temporal.isSupported(INSTANT_SECONDS)) {
+                return ofEpochSecond(temporal.getLong(INSTANT_SECONDS), temporal.get(NANO_OF_SECOND), zone);
+            }
+            return of(PersianDateTime.from(temporal), zone);
+        } catch (final DateTimeException ex) {
+            throw new DateTimeException(
+                    String.format("Unable to obtain PersianZonedDateTime from TemporalAccessor: %s", temporal), ex);
+        }
+    }
+
+    /**
+     * Converts an epoch second to a local date-time with the given offset.
+     */
+    static PersianDateTime toLocal(final long epochSecond, final int nanoOfSecond, final ZoneOffset offset) {
+        final long localSecond = epochSecond + offset.getTotalSeconds();
+        final long epochDay = Math.floorDiv(localSecond, 86400L);
+        final long secondOfDay = Math.floorMod(localSecond, 86400L);
+        return PersianDateTime.ofEpochDay(epochDay, secondOfDay * 1_000_000_000L + nanoOfSecond);
+    }
+
+    /**
+     * Creates a new instance of this class, without validating the offset.
+     *
+     * @param dateTime the local date-time, not {@code null}
+     * @param offset the offset, valid for the local date-time in the zone, not {@code null}
+     * @param zone the time-zone, not {@code null}
+     */
+    PersianZonedDateTime(final PersianDateTime dateTime, final ZoneOffset offset, final ZoneId zone) {
+        this.dateTime = dateTime;
+        this.offset = offset;
+        this.zone = zone;
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public PersianDateTime toLocalDateTime() {
+        return dateTime;
+    }
+
+    @Override
+    public PersianDate toLocalDate() {
+        return dateTime.toLocalDate();
+    }
+
+    @Override
+    public LocalTime toLocalTime() {
+        return dateTime.toLocalTime();
+    }
+
+    @Override
+    public ZoneOffset getOffset() {
+        return offset;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns the equivalent Gregorian zoned date-time of this Persian zoned date-time.
+     *
+     * @return the equivalent Gregorian zoned date-time
+     */
+    public ZonedDateTime toGregorian() {
+        return ZonedDateTime.ofLocal(dateTime.toGregorian(), zone, offset);
+    }
+
+    /**
+     * Returns this date-time as a {@link PersianOffsetDateTime}.
+     *
+     * @return the offset date-time with the same local date-time and offset
+     */
+    public PersianOffsetDateTime toOffsetDateTime() {
+        return PersianOffsetDateTime.of(dateTime, offset);
+    }
+
+    @Override
+    public PersianZonedDateTime withEarlierOffsetAtOverlap() {
+        return withOffsetAtOverlap(true);
+    }
+
+    @Override
+    public PersianZonedDateTime withLaterOffsetAtOverlap() {
+        return withOffsetAtOverlap(false);
+    }
+
+    private PersianZonedDateTime withOffsetAtOverlap(final boolean earlier) {
+        final ZoneOffsetTransition transition = zone.getRules().getTransition(dateTime.toGregorian());
+        if (transition != null && transition.isOverlap()) {
+            final ZoneOffset newOffset = earlier ? transition.getOffsetBefore() : transition.getOffsetAfter();
+            if (!newOffset.equals(offset)) {
+                return new PersianZonedDateTime(dateTime, newOffset, zone);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public PersianZonedDateTime withZoneSameLocal(final ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        return this.zone.equals(zone) ? this : ofLocal(dateTime, zone, offset);
+    }
+
+    @Override
+    public PersianZonedDateTime withZoneSameInstant(final ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        return this.zone.equals(zone) ? this : ofEpochSecond(toEpochSecond(), toLocalTime().getNano(), zone);
+    }
+
+    @Override
+    public boolean isSupported(final TemporalField field) {
+        return field instanceof ChronoField || (field != null && field.isSupportedBy(this));
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public PersianZonedDateTime with(final TemporalField field, final long newValue) {
+        Objects.requireNonNull(field, "field");
+        if (field instanceof ChronoField) {
+            final ChronoField chronoField = (ChronoField) field;
+            switch (chronoField) {
+                case INSTANT_SECONDS:
+                    return ofEpochSecond(newValue, toLocalTime().getNano(), zone);
+                case OFFSET_SECONDS:
+                    final ZoneOffset newOffset = ZoneOffset.ofTotalSeconds(chronoField.checkValidIntValue(newValue));
+                    return ofLocal(dateTime, zone, newOffset);
+                default:
+                    final PersianDate date = toLocalDate();
+                    final LocalTime time = toLocalTime();
+                    final PersianDateTime newDateTime = chronoField.isTimeBased()
+                            ? PersianDateTime.of(date, time.with(field, newValue))
+                            : PersianDateTime.of(date.with(field, newValue), time);
+                    return ofLocal(newDateTime, zone, offset);
+            }
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    @Override
+    public PersianZonedDateTime with(final TemporalAdjuster adjuster) {
+        Objects.requireNonNull(adjuster, "adjuster");
+        if (adjuster instanceof PersianDate) {
+            return ofLocal(PersianDateTime.of((PersianDate) adjuster, toLocalTime()), zone, offset);
+        }
+        if (adjuster instanceof LocalTime) {
+            return ofLocal(PersianDateTime.of(toLocalDate(), (LocalTime) adjuster), zone, offset);
+        }
+        return (PersianZonedDateTime) adjuster.adjustInto(this);
+    }
+
+    /**
+     * Returns a copy of this date-time with the given amount added.
+     * <p>
+     * Date-based units are added to the local date-time, and the offset is then resolved with
+     * the rules of the zone, retaining the current offset if possible. Time-based units are
+     * added to the instant, so the result is always the given duration apart from this
+     * date-time.
+     *
+     * @param amountToAdd the amount of the unit to add, may be negative
+     * @param unit the unit of the amount to add, not {@code null}
+     * @return a {@code PersianZonedDateTime} based on this date-time with the amount added
+     * @throws DateTimeException if the addition cannot be made
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    @Override
+    public PersianZonedDateTime plus(final long amountToAdd, final TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        if (unit instanceof ChronoUnit) {
+            if (unit.isDateBased()) {
+                final PersianDate date = toLocalDate().plus(amountToAdd, unit);
+                return ofLocal(PersianDateTime.of(date, toLocalTime()), zone, offset);
+            }
+            return ofInstant(toInstant().plus(amountToAdd, unit), zone);
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    @Override
+    public PersianZonedDateTime plus(final TemporalAmount amount) {
+        Objects.requireNonNull(amount, "amount");
+        return (PersianZonedDateTime) amount.addTo(this);
+    }
+
+    @Override
+    public PersianZonedDateTime minus(final long amountToSubtract, final TemporalUnit unit) {
+        return (amountToSubtract == Long.MIN_VALUE
+                ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit));
+    }
+
+    @Override
+    public PersianZonedDateTime minus(final TemporalAmount amount) {
+        Objects.requireNonNull(amount, "amount");
+        return (PersianZonedDateTime) amount.subtractFrom(this);
+    }
+
+    /**
+     * Calculates the amount of time until another date-time in terms of the given unit.
+     * <p>
+     * The end date-time is first converted to the zone of this date-time. Date-based units are
+     * then calculated on the local date-times, and time-based units on the instants.
+     *
+     * @param endExclusive the end date-time, exclusive, not {@code null}
+     * @param unit the unit to measure the amount in, not {@code null}
+     * @return the amount of time between this date-time and the end date-time
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    @Override
+    public long until(final Temporal endExclusive, final TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        final PersianZonedDateTime end = from(endExclusive).withZoneSameInstant(zone);
+        if (unit instanceof ChronoUnit) {
+            if (unit.isDateBased()) {
+                final PersianDate startDate = toLocalDate();
+                PersianDate endDate = end.toLocalDate();
+                if (endDate.isAfter(startDate) && end.toLocalTime().isBefore(toLocalTime())) {
+                    endDate = endDate.plusDays(-1);
+                } else if (endDate.isBefore(startDate) && end.toLocalTime().isAfter(toLocalTime())) {
+                    endDate = endDate.plusDays(1);
+                }
+                return startDate.until(endDate, unit);
+            }
+            return toInstant().until(end.toInstant(), unit);
+        }
+        return unit.between(this, end);
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof PersianZonedDateTime) {
+            final PersianZonedDateTime other = (PersianZonedDateTime) obj;
+            return dateTime.equals(other.dateTime) && offset.equals(other.offset) && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode() ^ offset.hashCode() ^ Integer.rotateLeft(zone.hashCode(), 3);
+    }
+
+    /**
+     * Returns the string representation of this date-time, such as
+     * {@code 1402-01-01T10:15:30+03:30[Asia/Tehran]}. The zone is omitted if it is the same
+     * as the offset.
+     *
+     * @return a suitable representation of this Persian zoned date-time
+     */
+    @Override
+    public String toString() {
+        final String str = dateTime.toString() + offset.toString();
+        return offset != zone ? str + '[' + zone.toString() + ']' : str;
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A per-zone cache of offset transitions, used to resolve the offset of an instant
+ * without calling {@link ZoneRules} for every lookup.
+ * <p>
+ * The transitions of a zone are expanded once, up to the end of the supported Persian
+ * date range, into a sorted array of epoch seconds. An offset lookup is then either a hit
+ * on the interval found by the previous lookup, which is the common case for a stream of
+ * instants, or a binary search over the transitions. Zones with few transitions, such as
+ * {@code Asia/Tehran}, fit in a handful of array entries.
+ * <p>
+ * This class is thread-safe. The index of the last hit is shared between threads without
+ * synchronization, which is benign as it is only used as a hint and always re-validated.
+ *
+ * @author Mahmoud Fathi
+ */
+@ThreadSafe
+final class ZoneOffsetCache {
+
+    /**
+     * Cached instances, keyed by zone.
+     */
+    private static final ConcurrentMap<ZoneId, ZoneOffsetCache> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Epoch second up to which transitions are expanded, the day after {@link PersianDate#MAX}.
+     */
+    private static final long HORIZON = (PersianDate.MAX.toEpochDay() + 2) * 86400L;
+
+    /**
+     * The rules of the zone, used only beyond the horizon.
+     */
+    private final ZoneRules rules;
+
+    /**
+     * Epoch seconds of the transitions, sorted ascending.
+     */
+    private final long[] transitions;
+
+    /**
+     * The offsets, where {@code offsets[i]} is in effect from {@code transitions[i - 1]}
+     * inclusive until {@code transitions[i]} exclusive.
+     */
+    private final ZoneOffset[] offsets;
+
+    /**
+     * Index into {@link #offsets} of the last lookup.
+     */
+    private int lastIndex;
+
+    /**
+     * Returns the cache of the given zone, creating it on first use.
+     *
+     * @param zone the zone, not {@code null}
+     * @return the cache of the given zone, not {@code null}
+     */
+    static ZoneOffsetCache of(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        ZoneOffsetCache cache = CACHE.get(zone);
+        if (cache == null) {
+            cache = CACHE.computeIfAbsent(zone, z -> new ZoneOffsetCache(z.getRules()));
+        }
+        return cache;
+    }
+
+    private ZoneOffsetCache(ZoneRules rules) {
+        this.rules = rules;
+        if (rules.isFixedOffset()) {
+            this.transitions = new long[0];
+            this.offsets = new ZoneOffset[]{rules.getOffset(Instant.EPOCH)};
+            return;
+        }
+        List<ZoneOffsetTransition> list = new ArrayList<>(rules.getTransitions());
+        if (!rules.getTransitionRules().isEmpty()) {
+            ZoneOffsetTransition next = list.isEmpty()
+                    ? rules.nextTransition(Instant.EPOCH)
+                    : rules.nextTransition(list.get(list.size() - 1).getInstant());
+            while (next != null && next.toEpochSecond() < HORIZON) {
+                list.add(next);
+                next = rules.nextTransition(next.getInstant());
+            }
+        }
+        this.transitions = new long[list.size()];
+        this.offsets = new ZoneOffset[list.size() + 1];
+        this.offsets[0] = list.isEmpty() ? rules.getOffset(Instant.EPOCH) : list.get(0).getOffsetBefore();
+        for (int i = 0; i < list.size(); i++) {
+            transitions[i] = list.get(i).toEpochSecond();
+            offsets[i + 1] = list.get(i).getOffsetAfter();
+        }
+    }
+
+    /**
+     * Returns the offset in effect at the given instant.
+     *
+     * @param instant the instant, not {@code null}
+     * @return the offset in effect at the given instant, not {@code null}
+     */
+    ZoneOffset getOffset(Instant instant) {
+        return getOffset(instant.getEpochSecond());
+    }
+
+    /**
+     * Returns the offset in effect at the given epoch second.
+     *
+     * @param epochSecond the seconds from 1970-01-01T00:00Z
+     * @return the offset in effect at the given epoch second, not {@code null}
+     */
+    ZoneOffset getOffset(long epochSecond) {
+        final long[] transitions = this.transitions;
+        if (transitions.length == 0) {
+            return offsets[0];
+        }
+        if (epochSecond >= HORIZON && !rules.getTransitionRules().isEmpty()) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond));
+        }
+        int index = lastIndex;
+        if ((index == 0 || transitions[index - 1] <= epochSecond)
+                && (index == transitions.length || epochSecond < transitions[index])) {
+            return offsets[index];
+        }
+        index = Arrays.binarySearch(transitions, epochSecond);
+        index = index >= 0 ? index + 1 : -index - 1;
+        lastIndex = index;
+        return offsets[index];
+    }
+
+    /**
+     * Returns the offset to use for the given local date-time, expressed as seconds from
+     * 1970-01-01T00:00 in the local time-line, in the same way as
+     * {@link java.time.ZonedDateTime#of(java.time.LocalDateTime, ZoneId)}. In an overlap the
+     * earlier offset is returned, and in a gap the offset before the gap is returned, so that
+     * subtracting the offset moves the local date-time forward by the length of the gap.
+     * <p>
+     * The offsets on both sides of a local date-time are taken one day apart, so this method
+     * assumes that at most one transition happens within any two days.
+     *
+     * @param localEpochSecond the seconds from 1970-01-01T00:00 in the local time-line
+     * @return the offset to use for the given local date-time, not {@code null}
+     */
+    ZoneOffset getOffsetOfLocal(long localEpochSecond) {
+        if (transitions.length == 0) {
+            return offsets[0];
+        }
+        final ZoneOffset before = getOffset(localEpochSecond - 86400L);
+        final ZoneOffset after = getOffset(localEpochSecond + 86400L);
+        if (before.getTotalSeconds() == after.getTotalSeconds()) {
+            return before;
+        }
+        // the earlier offset if valid, otherwise the later offset if valid, otherwise a gap
+        if (getOffset(localEpochSecond - before.getTotalSeconds()).getTotalSeconds() == before.getTotalSeconds()) {
+            return before;
+        }
+        if (getOffset(localEpochSecond - after.getTotalSeconds()).getTotalSeconds() == after.getTotalSeconds()) {
+            return after;
+        }
+        return before;
+    }
+
+    /**
+     * Returns the epoch second of the latest transition at or before the given epoch second,
+     * or {@link Long#MIN_VALUE} if there is none. Beyond the cached range, the given epoch
+     * second itself is returned, which is always a valid lower bound.
+     *
+     * @param epochSecond the seconds from 1970-01-01T00:00Z
+     * @return the epoch second of the previous transition
+     */
+    long previousTransition(long epochSecond) {
+        if (epochSecond >= HORIZON && !rules.getTransitionRules().isEmpty()) {
+            return epochSecond;
+        }
+        int index = Arrays.binarySearch(transitions, epochSecond);
+        index = index >= 0 ? index : -index - 2;
+        return index >= 0 ? transitions[index] : Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the epoch second of the earliest transition after the given epoch second, or
+     * {@link Long#MAX_VALUE} if there is none. Beyond the cached range, the epoch second
+     * following the given one is returned, which is always a valid upper bound.
+     *
+     * @param epochSecond the seconds from 1970-01-01T00:00Z
+     * @return the epoch second of the next transition
+     */
+    long nextTransition(long epochSecond) {
+        if (epochSecond >= HORIZON && !rules.getTransitionRules().isEmpty()) {
+            return epochSecond + 1;
+        }
+        int index = Arrays.binarySearch(transitions, epochSecond);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return index < transitions.length ? transitions[index] : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of cached transitions.
+     *
+     * @return the number of cached transitions
+     */
+    int size() {
+        return transitions.length;
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Provides unit tests for {@link PersianAnniversaryIndex}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianAnniversaryIndexTest {
+
+    @Test
+    public void testIdsOn() {
+        final PersianAnniversaryIndex index = PersianAnniversaryIndex.builder()
+                .add(1, PersianDate.of(1370, 5, 10))
+                .add(2, PersianDate.of(1365, 5, 10))
+                .add(3, PersianMonthDay.of(5, 11))
+                .add(4, PersianDate.of(1399, 12, 30))
+                .add(5, PersianDate.of(1380, 12, 29))
+                .build();
+        assertEquals(5, index.size());
+        assertArrayEquals(new long[]{1, 2}, index.idsOn(PersianDate.of(1402, 5, 10)));
+        assertArrayEquals(new long[]{3}, index.idsOn(PersianDate.of(1402, 5, 11)));
+        assertArrayEquals(new long[0], index.idsOn(PersianDate.of(1402, 5, 12)));
+        // Esfand 30 is observed on Esfand 29 of non-leap years
+        assertArrayEquals(new long[]{5, 4}, index.idsOn(PersianDate.of(1402, 12, 29)));
+        assertArrayEquals(new long[]{5}, index.idsOn(PersianDate.of(1403, 12, 29)));
+        assertArrayEquals(new long[]{4}, index.idsOn(PersianDate.of(1403, 12, 30)));
+        assertArrayEquals(new long[]{4}, index.idsOf(PersianMonthDay.of(12, 30)));
+        assertEquals(2, index.count(PersianMonthDay.of(5, 10)));
+    }
+
+    @Test
+    public void testIdsInNextDays() {
+        final PersianAnniversaryIndex index = PersianAnniversaryIndex.builder()
+                .add(1, PersianMonthDay.of(12, 28))
+                .add(2, PersianMonthDay.of(12, 30))
+                .add(3, PersianMonthDay.of(1, 1))
+                .add(4, PersianMonthDay.of(1, 3))
+                .build();
+        assertArrayEquals(new long[]{1, 2, 3}, index.idsInNextDays(PersianDate.of(1402, 12, 28), 3));
+        assertArrayEquals(new long[]{1, 2, 3, 4}, index.idsInNextDays(PersianDate.of(1403, 12, 28), 6));
+        assertArrayEquals(new long[0], index.idsInNextDays(PersianDate.of(1403, 12, 28), 0));
+        final List<String> found = new ArrayList<>();
+        index.forEachInNextDays(PersianDate.of(1402, 12, 28), 4, (date, id) -> found.add(date + "=" + id));
+        assertEquals(Arrays.asList("1402-12-28=1", "1402-12-29=2", "1403-01-01=3"), found);
+    }
+
+    @Test
+    public void testAgainstScan() {
+        final Random random = new Random(35);
+        final PersianAnniversaryIndex.Builder builder = PersianAnniversaryIndex.builder();
+        final PersianDate[] birthDates = new PersianDate[5_000];
+        for (int id = 0; id < birthDates.length; id++) {
+            birthDates[id] = PersianDate.ofEpochDay(random.nextInt(40_000) - 20_000);
+            builder.add(id, birthDates[id]);
+        }
+        final PersianAnniversaryIndex index = builder.build();
+        for (PersianDate date = PersianDate.of(1402, 1, 1); date.getYear() < 1404; date = date.plusDays(1)) {
+            final List<Long> expected = new ArrayList<>();
+            for (int id = 0; id < birthDates.length; id++) {
+                if (PersianMonthDay.of(birthDates[id]).atYear(date.getYear()).equals(date)) {
+                    expected.add((long) id);
+                }
+            }
+            final long[] actual = index.idsOn(date);
+            Arrays.sort(actual);
+            assertEquals(expected.toString(), Arrays.toString(actual));
+        }
+    }
+}
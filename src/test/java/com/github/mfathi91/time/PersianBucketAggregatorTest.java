@@ -0,0 +1,135 @@
+package com.github.mfathi91.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianBucketAggregator}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianBucketAggregatorTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    private static final PersianBuckets MONTHS = PersianBuckets.of(PersianDate.of(1401, 1, 1),
+            PersianDate.of(1402, 1, 1), ChronoUnit.MONTHS, TEHRAN);
+
+    private static long epochMilli(int year, int month, int day, int hour) {
+        return PersianDateTime.of(year, month, day, hour, 0).atZone(TEHRAN).toInstant().toEpochMilli();
+    }
+
+    @Test
+    public void testAdd() {
+        final PersianBucketAggregator aggregator = new PersianBucketAggregator(MONTHS);
+        assertTrue(aggregator.add(epochMilli(1401, 2, 31, 23), 4));
+        assertTrue(aggregator.add(epochMilli(1401, 2, 1, 0), -1));
+        assertTrue(aggregator.add(epochMilli(1401, 3, 1, 0), 10));
+        assertFalse(aggregator.add(epochMilli(1402, 1, 1, 0), 10));
+        assertEquals(2, aggregator.getCount(1));
+        assertEquals(3, aggregator.getSum(1), 0);
+        assertEquals(-1, aggregator.getMin(1), 0);
+        assertEquals(4, aggregator.getMax(1), 0);
+        assertEquals(1.5, aggregator.getStats(1).getMean(), 0);
+        assertEquals(1, aggregator.getCount(2));
+        assertEquals(0, aggregator.getCount(0));
+        assertEquals(1, aggregator.getRejectedCount());
+        assertTrue(Double.isNaN(aggregator.getStats(0).getMean()));
+    }
+
+    @Test
+    public void testMatchesHashMapGrouping() {
+        final PersianBuckets days = PersianBuckets.of(PersianDate.of(1398, 12, 1), PersianDate.of(1399, 2, 1),
+                ChronoUnit.DAYS, TEHRAN);
+        final long from = days.getStartEpochMilli(0);
+        final long to = days.getStartEpochMilli(days.size());
+        final Random random = new Random(7);
+        final long[] millis = new long[50_000];
+        final double[] values = new double[millis.length];
+        final Map<PersianDate, double[]> expected = new HashMap<>();
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = from + (long) (random.nextDouble() * (to - from));
+            values[i] = random.nextInt(1000);
+            final PersianDate date = PersianDate.fromGregorian(
+                    java.time.Instant.ofEpochMilli(millis[i]).atZone(TEHRAN).toLocalDate());
+            final double[] stats = expected.computeIfAbsent(date, d -> new double[]{0, 0, Double.MAX_VALUE, -1});
+            stats[0]++;
+            stats[1] += values[i];
+            stats[2] = Math.min(stats[2], values[i]);
+            stats[3] = Math.max(stats[3], values[i]);
+        }
+        final SortedMap<PersianDate, PersianBucketAggregator.Stats> actual =
+                new PersianBucketAggregator(days).addAll(millis, values).toMap();
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<PersianDate, double[]> entry : expected.entrySet()) {
+            final PersianBucketAggregator.Stats stats = actual.get(entry.getKey());
+            assertEquals((long) entry.getValue()[0], stats.getCount());
+            assertEquals(entry.getValue()[1], stats.getSum(), 0);
+            assertEquals(entry.getValue()[2], stats.getMin(), 0);
+            assertEquals(entry.getValue()[3], stats.getMax(), 0);
+        }
+    }
+
+    @Test
+    public void testMerge() {
+        final PersianBucketAggregator first = new PersianBucketAggregator(MONTHS);
+        final PersianBucketAggregator second = new PersianBucketAggregator(MONTHS);
+        final PersianBucketAggregator all = new PersianBucketAggregator(MONTHS);
+        final Random random = new Random(3);
+        for (int i = 0; i < 1000; i++) {
+            final long epochMilli = epochMilli(1401, random.nextInt(12) + 1, random.nextInt(29) + 1, random.nextInt(24));
+            final double value = random.nextGaussian();
+            (i % 2 == 0 ? first : second).add(epochMilli, value);
+            all.add(epochMilli, value);
+        }
+        first.merge(second);
+        for (int i = 0; i < MONTHS.size(); i++) {
+            assertEquals(all.getCount(i), first.getCount(i));
+            assertEquals(all.getSum(i), first.getSum(i), 1e-9);
+            assertEquals(all.getMin(i), first.getMin(i), 0);
+            assertEquals(all.getMax(i), first.getMax(i), 0);
+        }
+        first.clear();
+        assertTrue(first.toMap().isEmpty());
+    }
+
+    @Test
+    public void testMergeDifferentBuckets() {
+        final PersianBuckets utc = PersianBuckets.of(PersianDate.of(1401, 1, 1), PersianDate.of(1402, 1, 1),
+                ChronoUnit.MONTHS, ZoneOffset.UTC);
+        exception.expect(IllegalArgumentException.class);
+        new PersianBucketAggregator(MONTHS).merge(new PersianBucketAggregator(utc));
+    }
+
+    @Test
+    public void testToYearMonthMap() {
+        final PersianBucketAggregator aggregator = new PersianBucketAggregator(MONTHS);
+        aggregator.add(epochMilli(1401, 7, 15, 12), 2);
+        final SortedMap<PersianYearMonth, PersianBucketAggregator.Stats> map = aggregator.toYearMonthMap();
+        assertEquals(1, map.size());
+        assertEquals(new PersianBucketAggregator.Stats(1, 2, 2, 2), map.get(PersianYearMonth.of(1401, 7)));
+    }
+
+    @Test
+    public void testToYearMonthMapOfDays() {
+        final PersianBuckets days = PersianBuckets.of(PersianDate.of(1401, 1, 1), PersianDate.of(1401, 2, 1),
+                ChronoUnit.DAYS, TEHRAN);
+        exception.expect(UnsupportedTemporalTypeException.class);
+        new PersianBucketAggregator(days).toYearMonthMap();
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.mfathi91.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianBuckets}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianBucketsTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    @Test
+    public void testMonths() {
+        final PersianBuckets months = PersianBuckets.of(PersianDate.of(1400, 1, 10), PersianDate.of(1403, 1, 1),
+                ChronoUnit.MONTHS, TEHRAN);
+        assertEquals(36, months.size());
+        assertEquals(PersianDate.of(1400, 1, 1), months.getStartDate(0));
+        assertEquals(PersianYearMonth.of(1402, 12), months.getYearMonth(35));
+        assertEquals(PersianDate.of(1403, 1, 1).toEpochDay(), months.getStartEpochDay(36));
+        assertEquals(PersianDate.of(1401, 7, 1).toGregorian().atStartOfDay(TEHRAN).toInstant().toEpochMilli(),
+                months.getStartEpochMilli(18));
+        assertEquals(months.getStartEpochMilli(19), months.getEndEpochMilli(18));
+        assertEquals("Months[1400-01-01, size=36, Asia/Tehran]", months.toString());
+    }
+
+    @Test
+    public void testAlignment() {
+        final PersianDate start = PersianDate.of(1402, 5, 17);
+        final PersianDate end = PersianDate.of(1402, 5, 18);
+        assertEquals(PersianDate.of(1402, 5, 14), PersianBuckets.of(start, end, ChronoUnit.WEEKS, TEHRAN).getStartDate(0));
+        assertEquals(PersianDate.of(1402, 4, 1),
+                PersianBuckets.of(start, end, PersianFields.QUARTER_YEARS, TEHRAN).getStartDate(0));
+        assertEquals(PersianDate.of(1402, 1, 1),
+                PersianBuckets.of(start, end, PersianFields.HALF_YEARS, TEHRAN).getStartDate(0));
+        assertEquals(PersianDate.of(1403, 1, 1).toEpochDay(),
+                PersianBuckets.of(start, end, ChronoUnit.YEARS, TEHRAN).getStartEpochDay(1));
+        assertEquals(0, PersianBuckets.of(start, start, ChronoUnit.DAYS, TEHRAN).size());
+    }
+
+    @Test
+    public void testEmpty() {
+        final PersianDate start = PersianDate.of(1402, 5, 17);
+        for (TemporalUnit unit : Arrays.asList(ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS,
+                PersianFields.QUARTER_YEARS, PersianFields.HALF_YEARS, ChronoUnit.YEARS)) {
+            final PersianBuckets buckets = PersianBuckets.of(start, start, unit, TEHRAN);
+            assertEquals(unit.toString(), 0, buckets.size());
+            assertEquals(-1, buckets.indexOf(buckets.getStartEpochMilli(0)));
+        }
+        assertEquals(0, PersianBuckets.of(PersianDate.MAX, PersianDate.MAX, ChronoUnit.YEARS, TEHRAN).size());
+    }
+
+    @Test
+    public void testIndexOfMatchesZonedDateTime() {
+        final PersianDate start = PersianDate.of(1395, 3, 5);
+        final PersianDate end = PersianDate.of(1403, 2, 1);
+        final TemporalUnit[] units = {ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS,
+                PersianFields.QUARTER_YEARS, ChronoUnit.YEARS};
+        final Random random = new Random(42);
+        for (TemporalUnit unit : units) {
+            final PersianBuckets buckets = PersianBuckets.of(start, end, unit, TEHRAN);
+            final long from = buckets.getStartEpochMilli(0) - 86_400_000L;
+            final long to = buckets.getStartEpochMilli(buckets.size()) + 86_400_000L;
+            for (int i = 0; i < 20_000; i++) {
+                final long epochMilli = from + (long) (random.nextDouble() * (to - from));
+                final long epochDay = Instant.ofEpochMilli(epochMilli).atZone(TEHRAN).toLocalDate().toEpochDay();
+                assertEquals(unit + " " + epochMilli, buckets.indexOfEpochDay(epochDay), buckets.indexOf(epochMilli));
+            }
+            for (int i = 0; i <= buckets.size(); i++) {
+                final long boundary = buckets.getStartEpochMilli(i);
+                assertEquals(i == buckets.size() ? -1 : i, buckets.indexOf(boundary));
+                assertEquals(i - 1, buckets.indexOf(boundary - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testDaylightSavingGap() {
+        // clocks moved from 1399-01-02T00:00 to 01:00 in Tehran
+        final PersianBuckets days = PersianBuckets.of(PersianDate.of(1399, 1, 1), PersianDate.of(1399, 1, 5),
+                ChronoUnit.DAYS, TEHRAN);
+        assertEquals(23 * 3_600_000L, days.getEndEpochMilli(1) - days.getStartEpochMilli(1));
+        assertEquals(24 * 3_600_000L, days.getEndEpochMilli(2) - days.getStartEpochMilli(2));
+    }
+
+    @Test
+    public void testIndexOfEpochDay() {
+        final PersianBuckets weeks = PersianBuckets.of(PersianDate.of(1402, 8, 6), PersianDate.of(1402, 9, 1),
+                ChronoUnit.WEEKS, ZoneOffset.UTC);
+        assertEquals(4, weeks.size());
+        assertEquals(0, weeks.indexOf(PersianDate.of(1402, 8, 12)));
+        assertEquals(1, weeks.indexOf(PersianDate.of(1402, 8, 13)));
+        assertEquals(-1, weeks.indexOf(PersianDate.of(1402, 8, 5)));
+        assertEquals(-1, weeks.indexOf(PersianDate.of(1402, 9, 4)));
+    }
+
+    @Test
+    public void testEquals() {
+        final PersianDate start = PersianDate.of(1402, 1, 1);
+        final PersianDate end = PersianDate.of(1403, 1, 1);
+        assertEquals(PersianBuckets.of(start, end, ChronoUnit.MONTHS, TEHRAN),
+                PersianBuckets.of(start.plusDays(3), end, ChronoUnit.MONTHS, TEHRAN));
+        assertNotEquals(PersianBuckets.of(start, end, ChronoUnit.MONTHS, TEHRAN),
+                PersianBuckets.of(start, end, ChronoUnit.MONTHS, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testUnsupportedUnit() {
+        exception.expect(UnsupportedTemporalTypeException.class);
+        PersianBuckets.of(PersianDate.of(1402, 1, 1), PersianDate.of(1403, 1, 1), ChronoUnit.HOURS, TEHRAN);
+    }
+
+    @Test
+    public void testEndBeforeStart() {
+        exception.expect(DateTimeException.class);
+        PersianBuckets.of(PersianDate.of(1402, 1, 1), PersianDate.of(1401, 1, 1), ChronoUnit.DAYS, TEHRAN);
+    }
+}
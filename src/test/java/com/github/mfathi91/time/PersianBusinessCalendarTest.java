@@ -0,0 +1,127 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianBusinessCalendar}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianBusinessCalendarTest {
+
+    private static PersianBusinessCalendar newCalendar() {
+        return PersianBusinessCalendar.builder()
+                .years(1400, 1405)
+                .halfDays(DayOfWeek.THURSDAY)
+                .annualHoliday(PersianMonthDay.of(1, 1))
+                .annualHoliday(PersianMonthDay.of(1, 2))
+                .annualHoliday(PersianMonthDay.of(12, 29))
+                .holiday(PersianDate.of(1402, 4, 6))
+                .build();
+    }
+
+    @Test
+    public void testIsBusinessDay() {
+        final PersianBusinessCalendar calendar = newCalendar();
+        // 1402-01-01 is a Tuesday
+        assertFalse(calendar.isBusinessDay(PersianDate.of(1402, 1, 1)));
+        assertTrue(calendar.isHoliday(PersianDate.of(1402, 1, 2)));
+        assertTrue(calendar.isBusinessDay(PersianDate.of(1402, 1, 3)));
+        assertTrue(calendar.isHalfDay(PersianDate.of(1402, 1, 3)));
+        assertFalse(calendar.isBusinessDay(PersianDate.of(1402, 1, 4)));
+        assertFalse(calendar.isHoliday(PersianDate.of(1402, 1, 4)));
+        assertFalse(calendar.isBusinessDay(PersianDate.of(1402, 4, 6)));
+        assertFalse(calendar.isBusinessDay(PersianDate.of(1403, 12, 29)));
+        assertEquals(PersianDate.of(1400, 1, 1), calendar.getFirstDate());
+        assertEquals(PersianDate.of(1405, 12, 29), calendar.getLastDate());
+    }
+
+    @Test
+    public void testPlusBusinessDays() {
+        final PersianBusinessCalendar calendar = newCalendar();
+        final PersianDate date = PersianDate.of(1401, 12, 28);
+        assertEquals(PersianDate.of(1402, 1, 3), calendar.plusBusinessDays(date, 1));
+        assertEquals(PersianDate.of(1402, 1, 5), calendar.plusBusinessDays(date, 2));
+        assertEquals(PersianDate.of(1401, 12, 27), calendar.plusBusinessDays(date, -1));
+        assertEquals(PersianDate.of(1401, 12, 28), calendar.minusBusinessDays(PersianDate.of(1402, 1, 3), 1));
+        assertSame(date, calendar.plusBusinessDays(date, 0));
+        assertEquals(PersianDate.of(1402, 1, 3), calendar.nextBusinessDay(PersianDate.of(1402, 1, 1)));
+        assertEquals(PersianDate.of(1402, 1, 3), calendar.nextOrSameBusinessDay(PersianDate.of(1402, 1, 1)));
+        assertEquals(PersianDate.of(1402, 1, 3), calendar.nextOrSameBusinessDay(PersianDate.of(1402, 1, 3)));
+        assertEquals(PersianDate.of(1401, 12, 28), calendar.previousBusinessDay(PersianDate.of(1402, 1, 3)));
+    }
+
+    @Test
+    public void testAgainstScan() {
+        final PersianBusinessCalendar calendar = newCalendar();
+        final Random random = new Random(39);
+        for (int i = 0; i < 2_000; i++) {
+            final PersianDate start = PersianDate.of(1401, 1, 1).plusDays(random.nextInt(1_000));
+            final int amount = random.nextInt(200) - 100;
+            PersianDate expected = start;
+            for (int remaining = Math.abs(amount); remaining > 0; ) {
+                expected = expected.plusDays(Integer.signum(amount));
+                if (calendar.isBusinessDay(expected)) {
+                    remaining--;
+                }
+            }
+            assertEquals(expected, calendar.plusBusinessDays(start, amount));
+            int count = 0;
+            for (PersianDate date = start; date.isBefore(expected); date = date.plusDays(1)) {
+                count += calendar.isBusinessDay(date) ? 1 : 0;
+            }
+            for (PersianDate date = expected; date.isBefore(start); date = date.plusDays(1)) {
+                count -= calendar.isBusinessDay(date) ? 1 : 0;
+            }
+            assertEquals(count, calendar.businessDaysBetween(start, expected));
+        }
+    }
+
+    @Test
+    public void testWeekend() {
+        final PersianBusinessCalendar calendar = PersianBusinessCalendar.builder()
+                .years(1402, 1402)
+                .weekend(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)
+                .build();
+        assertEquals(5 * 52 + 1, calendar.businessDaysBetween(calendar.getFirstDate(), calendar.getLastDate().plusDays(1)));
+        assertEquals(5, calendar.businessDaysBetween(PersianDate.of(1402, 1, 5), PersianDate.of(1402, 1, 12)));
+        assertEquals(-5, calendar.businessDaysBetween(PersianDate.of(1402, 1, 12), PersianDate.of(1402, 1, 5)));
+    }
+
+    @Test
+    public void testChangeHolidays() {
+        final PersianBusinessCalendar calendar = newCalendar();
+        final PersianDate date = PersianDate.of(1402, 5, 1);
+        assertTrue(calendar.isBusinessDay(date));
+        calendar.addHoliday(date);
+        assertFalse(calendar.isBusinessDay(date));
+        assertEquals(PersianDate.of(1402, 5, 2), calendar.nextOrSameBusinessDay(date));
+        calendar.removeHoliday(date);
+        assertTrue(calendar.isBusinessDay(date));
+        final List<PersianDate> holidays = new ArrayList<>(Arrays.asList(date, PersianDate.of(1300, 1, 5)));
+        calendar.setHolidays(holidays);
+        assertFalse(calendar.isBusinessDay(date));
+        assertTrue(calendar.isBusinessDay(PersianDate.of(1402, 4, 6)));
+        // annual holidays are kept
+        assertFalse(calendar.isBusinessDay(PersianDate.of(1402, 1, 1)));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOutOfRange() {
+        newCalendar().isBusinessDay(PersianDate.of(1406, 1, 1));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testResultOutOfRange() {
+        newCalendar().plusBusinessDays(PersianDate.of(1405, 12, 1), 100);
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianBusinessHours}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianBusinessHoursTest {
+
+    private static PersianBusinessHours newHours() {
+        final PersianBusinessHours.Builder builder = PersianBusinessHours.builder();
+        for (DayOfWeek day : new DayOfWeek[]{DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.MONDAY,
+                DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY}) {
+            builder.shift(day, LocalTime.of(8, 0), LocalTime.of(16, 0));
+        }
+        return builder.shift(DayOfWeek.THURSDAY, LocalTime.of(8, 0), LocalTime.of(12, 0))
+                .holidays(PersianHolidays.official().getHolidays(1402))
+                .build();
+    }
+
+    @Test
+    public void testPlusWorkingTime() {
+        final PersianBusinessHours hours = newHours();
+        assertEquals(Duration.ofHours(44), hours.getWeeklyWorkingTime());
+        // 1402-08-06 is a Saturday, in a week without holidays
+        final PersianDateTime start = PersianDateTime.of(1402, 8, 6, 10, 0);
+        assertEquals(PersianDateTime.of(1402, 8, 7, 10, 0), hours.plusWorkingTime(start, Duration.ofHours(8)));
+        assertEquals(PersianDateTime.of(1402, 8, 6, 16, 0), hours.plusWorkingTime(start, Duration.ofHours(6)));
+        assertEquals(PersianDateTime.of(1402, 8, 13, 10, 0), hours.plusWorkingTime(start, Duration.ofHours(44)));
+        // Thursday afternoon and Friday are skipped
+        assertEquals(PersianDateTime.of(1402, 8, 13, 9, 0),
+                hours.plusWorkingTime(PersianDateTime.of(1402, 8, 11, 11, 0), Duration.ofHours(2)));
+        // out of hours, the clock starts at the next shift
+        assertEquals(PersianDateTime.of(1402, 8, 7, 9, 0),
+                hours.plusWorkingTime(PersianDateTime.of(1402, 8, 6, 20, 0), Duration.ofHours(1)));
+        // 1402-07-01 is a lunar holiday
+        assertEquals(PersianDateTime.of(1402, 7, 2, 16, 0),
+                hours.plusWorkingTime(PersianDateTime.of(1402, 7, 1, 10, 0), Duration.ofHours(8)));
+        assertSame(start, hours.plusWorkingTime(start, Duration.ZERO));
+    }
+
+    @Test
+    public void testHolidays() {
+        final PersianBusinessHours hours = newHours();
+        // Bahman 22 of 1402 is a Sunday
+        assertFalse(hours.isWorkingTime(PersianDateTime.of(1402, 11, 22, 10, 0)));
+        assertTrue(hours.isWorkingTime(PersianDateTime.of(1402, 11, 21, 10, 0)));
+        assertEquals(PersianDateTime.of(1402, 11, 23, 10, 0),
+                hours.plusWorkingTime(PersianDateTime.of(1402, 11, 21, 10, 0), Duration.ofHours(8)));
+        assertEquals(Duration.ofHours(8), hours.workingTimeBetween(
+                PersianDateTime.of(1402, 11, 21, 10, 0), PersianDateTime.of(1402, 11, 23, 10, 0)));
+    }
+
+    @Test
+    public void testAgainstScan() {
+        final PersianBusinessHours hours = PersianBusinessHours.builder()
+                .shift(DayOfWeek.SATURDAY, LocalTime.of(13, 0), LocalTime.of(17, 30))
+                .shift(DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(12, 0))
+                .shift(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(17, 0))
+                .shift(DayOfWeek.THURSDAY, LocalTime.of(8, 0), LocalTime.of(12, 0))
+                .holidays(PersianHolidays.official().getHolidays(1402))
+                .holidays(PersianHolidays.official().getHolidays(1403))
+                .build();
+        final Random random = new Random(41);
+        final PersianDateTime origin = PersianDateTime.of(1401, 11, 1, 0, 0);
+        for (int i = 0; i < 300; i++) {
+            final long minutes = random.nextInt(60 * 24 * 700);
+            final PersianDateTime start = PersianDateTime.ofEpochDay(
+                    origin.getLong(ChronoField.EPOCH_DAY) + minutes / 1440, minutes % 1440 * 60_000_000_000L);
+            final int workingMinutes = 1 + random.nextInt(60 * 60);
+            // scan minute by minute
+            long epochDay = start.toLocalDate().toEpochDay();
+            long minuteOfDay = minutes % 1440;
+            int remaining = workingMinutes;
+            while (true) {
+                final PersianDateTime current = PersianDateTime.ofEpochDay(epochDay, minuteOfDay * 60_000_000_000L);
+                if (hours.isWorkingTime(current)) {
+                    remaining--;
+                }
+                minuteOfDay++;
+                if (minuteOfDay == 1440) {
+                    minuteOfDay = 0;
+                    epochDay++;
+                }
+                if (remaining == 0) {
+                    break;
+                }
+            }
+            final PersianDateTime expected = PersianDateTime.ofEpochDay(epochDay, minuteOfDay * 60_000_000_000L);
+            final PersianDateTime actual = hours.plusWorkingTime(start, Duration.ofMinutes(workingMinutes));
+            assertEquals(Duration.ofMinutes(workingMinutes), hours.workingTimeBetween(start, actual));
+            assertEquals(Duration.ofMinutes(-workingMinutes), hours.workingTimeBetween(actual, start));
+            assertEquals(hours.workingTimeBetween(start, expected), hours.workingTimeBetween(start, actual));
+            assertFalse(actual.isAfter(expected));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverlappingShifts() {
+        PersianBusinessHours.builder()
+                .shift(DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(12, 0))
+                .shift(DayOfWeek.SATURDAY, LocalTime.of(11, 0), LocalTime.of(14, 0))
+                .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoWorkingTime() {
+        PersianBusinessHours.builder().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWorkingTime() {
+        newHours().plusWorkingTime(PersianDateTime.of(1402, 8, 6, 10, 0), Duration.ofHours(-1));
+    }
+}
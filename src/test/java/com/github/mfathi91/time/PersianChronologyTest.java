@@ -5,8 +5,13 @@ import org.junit.Test;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.chrono.JapaneseEra;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.time.temporal.ValueRange;
 import java.util.Arrays;
+import java.util.Locale;
 
 import static java.time.temporal.ChronoField.*;
 import static org.junit.Assert.*;
@@ -168,4 +173,81 @@ public class PersianChronologyTest {
         final ValueRange actual = PersianChronology.INSTANCE.range(ERA);
         assertEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    //-----------------------------------------------------
+
+    @Test
+    public void testOnDateYearDayAllDays() {
+        PersianDate expected = PersianDate.of(1387, 1, 1);
+        for (int dayOfYear = 1; dayOfYear <= 366; dayOfYear++) {
+            assertEquals(expected, PersianChronology.INSTANCE.dateYearDay(1387, dayOfYear));
+            expected = expected.plusDays(1);
+        }
+    }
+
+    @Test
+    public void testOnDateLocalDate() {
+        final LocalDate localDate = LocalDate.of(2023, 3, 21);
+        assertEquals(PersianDate.of(1402, 1, 1), PersianChronology.INSTANCE.date(localDate));
+        assertEquals(PersianDate.of(1402, 1, 1), PersianChronology.INSTANCE.date(localDate.atStartOfDay()));
+    }
+
+    @Test
+    public void testOnResolveYearMonthDay() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+        assertEquals(PersianDate.of(1400, 6, 15), PersianDate.parse("1400/06/15", formatter));
+        assertEquals(PersianDate.of(1400, 6, 15), PersianDate.parse("1400-06-15"));
+    }
+
+    @Test
+    public void testOnResolveSmart() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+        assertEquals(PersianDate.of(1400, 7, 30), PersianDate.parse("1400-07-31", formatter));
+        assertEquals(PersianDate.of(1400, 12, 29), PersianDate.parse("1400-12-30", formatter));
+        assertEquals(PersianDate.of(1399, 12, 30), PersianDate.parse("1399-12-30", formatter));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void testOnResolveStrict() {
+        PersianDate.parse("1400-07-31",
+                DateTimeFormatter.ofPattern("uuuu-MM-dd").withResolverStyle(ResolverStyle.STRICT));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void testOnResolveInvalidMonth() {
+        PersianDate.parse("1400-13-01", DateTimeFormatter.ofPattern("uuuu-MM-dd"));
+    }
+
+    @Test
+    public void testOnResolveLenient() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+                .withResolverStyle(ResolverStyle.LENIENT);
+        assertEquals(PersianDate.of(1401, 1, 1), PersianDate.parse("1400-12-30", formatter));
+        assertEquals(PersianDate.of(1401, 2, 1), PersianDate.parse("1400-14-01", formatter));
+    }
+
+    @Test
+    public void testOnResolveYearDay() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-DDD");
+        assertEquals(PersianDate.of(1400, 7, 1), PersianDate.parse("1400-187", formatter));
+        assertEquals(PersianDate.of(1387, 12, 30), PersianDate.parse("1387-366", formatter));
+    }
+
+    @Test
+    public void testOnResolveEpochDay() {
+        final DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendValue(EPOCH_DAY).toFormatter();
+        assertEquals(PersianDate.ofEpochDay(17468), PersianDate.parse("17468", formatter));
+    }
+
+    @Test
+    public void testOnResolveCrossCheck() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd EEEE", Locale.ENGLISH);
+        assertEquals(PersianDate.of(1400, 8, 15), PersianDate.parse("1400-08-15 Saturday", formatter));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void testOnResolveCrossCheckConflict() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd EEEE", Locale.ENGLISH);
+        PersianDate.parse("1400-08-15 Sunday", formatter);
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianDateCursor}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianDateCursorTest {
+
+    private static void assertAt(PersianDate expected, PersianDateCursor cursor) {
+        assertEquals(expected, cursor.toPersianDate());
+        assertEquals(expected.getYear(), cursor.getYear());
+        assertEquals(expected.getMonth(), cursor.getMonth());
+        assertEquals(expected.getMonthValue(), cursor.getMonthValue());
+        assertEquals(expected.getDayOfMonth(), cursor.getDayOfMonth());
+        assertEquals(expected.getDayOfYear(), cursor.getDayOfYear());
+        assertEquals(expected.toEpochDay(), cursor.getEpochDay());
+        assertEquals(expected.getDayOfWeek(), cursor.getDayOfWeek());
+        assertEquals(expected.isLeapYear(), cursor.isLeapYear());
+        assertEquals(expected.lengthOfMonth(), cursor.lengthOfMonth());
+        assertEquals(expected.toString(), cursor.toString());
+    }
+
+    @Test
+    public void testNextDay() {
+        final PersianDateCursor cursor = PersianDateCursor.of(PersianDate.of(1390, 1, 1));
+        for (PersianDate date = PersianDate.of(1390, 1, 1); date.getYear() < 1410; date = date.plusDays(1)) {
+            assertAt(date, cursor);
+            cursor.nextDay();
+        }
+    }
+
+    @Test
+    public void testNextDayOverWholeRange() {
+        final PersianDateCursor cursor = PersianDateCursor.of(PersianDate.MIN);
+        for (long epochDay = PersianDate.MIN.toEpochDay(); epochDay < PersianDate.MAX.toEpochDay(); epochDay++) {
+            final PersianDate expected = PersianDate.ofEpochDay(epochDay);
+            assertEquals(epochDay, cursor.getEpochDay());
+            if (cursor.getDayOfMonth() != expected.getDayOfMonth() || cursor.getMonthValue() != expected.getMonthValue()
+                    || cursor.getYear() != expected.getYear()) {
+                fail("Expected " + expected + " but was " + cursor);
+            }
+            cursor.nextDay();
+        }
+        assertEquals(PersianDate.MAX.toString(), cursor.toString());
+    }
+
+    @Test
+    public void testPrevDay() {
+        final PersianDateCursor cursor = PersianDateCursor.of(PersianDate.of(1409, 12, 29));
+        for (PersianDate date = PersianDate.of(1409, 12, 29); date.getYear() >= 1390; date = date.plusDays(-1)) {
+            assertAt(date, cursor);
+            cursor.prevDay();
+        }
+    }
+
+    @Test
+    public void testMonths() {
+        final PersianDateCursor cursor = PersianDateCursor.of(PersianDate.of(1402, 6, 15));
+        cursor.nextMonth();
+        assertAt(PersianDate.of(1402, 7, 1), cursor);
+        cursor.seek(PersianDate.of(1403, 12, 30)).nextMonth();
+        assertAt(PersianDate.of(1404, 1, 1), cursor);
+        cursor.prevMonth();
+        assertAt(PersianDate.of(1403, 12, 1), cursor);
+        cursor.seek(PersianDate.of(1403, 1, 20)).prevMonth();
+        assertAt(PersianDate.of(1402, 12, 1), cursor);
+        cursor.seek(PersianDate.of(1402, 8, 20)).prevMonth();
+        assertAt(PersianDate.of(1402, 7, 1), cursor);
+        for (PersianDate date = PersianDate.of(1390, 1, 1); date.getYear() < 1410; date = date.plusMonths(1)) {
+            assertAt(date, cursor.seek(date.toEpochDay()));
+            assertAt(date.plusMonths(1), PersianDateCursor.of(date.plusDays(10)).nextMonth());
+        }
+    }
+
+    @Test
+    public void testSeek() {
+        final PersianDateCursor cursor = PersianDateCursor.ofEpochDay(0);
+        assertAt(PersianDate.ofEpochDay(0), cursor);
+        assertAt(PersianDate.MAX, cursor.seek(PersianDate.MAX));
+        assertAt(PersianDate.MIN, cursor.seek(PersianDate.MIN));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testNextDayAfterMax() {
+        PersianDateCursor.of(PersianDate.MAX).nextDay();
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testPrevDayBeforeMin() {
+        PersianDateCursor.of(PersianDate.MIN).prevDay();
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testSeekOutOfRange() {
+        PersianDateCursor.ofEpochDay(PersianDate.MAX.toEpochDay() + 1);
+    }
+}
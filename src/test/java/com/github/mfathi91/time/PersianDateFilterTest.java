@@ -0,0 +1,211 @@
+package com.github.mfathi91.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianDateFilter}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianDateFilterTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static long epochDay(int year, int month, int day) {
+        return PersianDate.of(year, month, day).toEpochDay();
+    }
+
+    private static void assertMatchesTest(PersianDateFilter filter, long[] ranges, long start, long end) {
+        int range = 0;
+        for (long epochDay = start; epochDay < end; epochDay++) {
+            while (range < ranges.length && ranges[range + 1] <= epochDay) {
+                range += 2;
+            }
+            final boolean inRanges = range < ranges.length && ranges[range] <= epochDay;
+            assertEquals(String.valueOf(PersianDate.ofEpochDay(epochDay)),
+                    filter.test(PersianDate.ofEpochDay(epochDay)), inRanges);
+        }
+        for (int i = 2; i < ranges.length; i += 2) {
+            // the ranges are maximal, so they never touch
+            assertTrue(ranges[i] > ranges[i - 1]);
+        }
+    }
+
+    @Test
+    public void testYearAndMonth() {
+        final PersianDateFilter filter = PersianDateFilter.year(1402).and(PersianDateFilter.months(PersianMonth.MEHR));
+        assertArrayEquals(new long[]{epochDay(1402, 7, 1), epochDay(1402, 8, 1)}, filter.toEpochDayRanges());
+        final List<PersianDateRange> ranges = filter.toRanges();
+        assertEquals(1, ranges.size());
+        assertEquals(PersianDateRange.ofMonth(PersianYearMonth.of(1402, 7)), ranges.get(0));
+    }
+
+    @Test
+    public void testUnionAcrossYears() {
+        final PersianDateFilter filter = PersianDateFilter.years(1400, 1402)
+                .and(PersianDateFilter.months(PersianMonth.ESFAND, PersianMonth.FARVARDIN));
+        assertArrayEquals(new long[]{
+                epochDay(1400, 1, 1), epochDay(1400, 2, 1),
+                epochDay(1400, 12, 1), epochDay(1401, 2, 1),
+                epochDay(1401, 12, 1), epochDay(1402, 2, 1),
+                epochDay(1402, 12, 1), epochDay(1403, 1, 1)}, filter.toEpochDayRanges());
+    }
+
+    @Test
+    public void testBetween() {
+        final PersianDateFilter filter = PersianDateFilter.between(PersianDate.of(1401, 12, 15), PersianDate.of(1402, 1, 15));
+        assertArrayEquals(new long[]{epochDay(1401, 12, 15), epochDay(1402, 1, 16)}, filter.toEpochDayRanges());
+        final PersianDateFilter union = filter.or(PersianDateFilter.between(PersianDate.of(1402, 1, 16),
+                PersianDate.of(1402, 1, 20))).or(PersianDateFilter.between(PersianDate.of(1402, 3, 1),
+                PersianDate.of(1402, 3, 1)));
+        assertArrayEquals(new long[]{epochDay(1401, 12, 15), epochDay(1402, 1, 21),
+                epochDay(1402, 3, 1), epochDay(1402, 3, 2)}, union.toEpochDayRanges());
+    }
+
+    @Test
+    public void testQuartersAndDays() {
+        final PersianDateFilter autumnFridays = PersianDateFilter.year(1402)
+                .and(PersianDateFilter.quarters(3))
+                .and(PersianDateFilter.daysOfWeek(DayOfWeek.FRIDAY));
+        final long[] ranges = autumnFridays.toEpochDayRanges();
+        int fridays = 0;
+        for (long epochDay = epochDay(1402, 7, 1); epochDay < epochDay(1402, 10, 1); epochDay++) {
+            if (PersianDate.ofEpochDay(epochDay).getDayOfWeek() == DayOfWeek.FRIDAY) {
+                fridays++;
+            }
+        }
+        assertEquals(fridays * 2, ranges.length);
+        for (int i = 0; i < ranges.length; i += 2) {
+            assertEquals(1, ranges[i + 1] - ranges[i]);
+            final PersianDate date = PersianDate.ofEpochDay(ranges[i]);
+            assertEquals(DayOfWeek.FRIDAY, date.getDayOfWeek());
+            assertTrue(date.getMonthValue() >= 7 && date.getMonthValue() <= 9);
+        }
+        final PersianDateFilter firstDays = PersianDateFilter.daysOfMonth(1, 2);
+        assertArrayEquals(new long[]{epochDay(1402, 5, 1), epochDay(1402, 5, 3),
+                        epochDay(1402, 6, 1), epochDay(1402, 6, 3)},
+                firstDays.toEpochDayRanges(PersianDate.of(1402, 4, 5), PersianDate.of(1402, 6, 20)));
+    }
+
+    @Test
+    public void testMatchesTest() {
+        final PersianDateFilter filter = PersianDateFilter.years(1399, 1403)
+                .and(PersianDateFilter.quarters(1, 4).or(PersianDateFilter.daysOfMonth(31)))
+                .and(PersianDateFilter.daysOfWeek(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY).or(PersianDateFilter.months(PersianMonth.TIR)));
+        assertMatchesTest(filter, filter.toEpochDayRanges(), epochDay(1398, 12, 1), epochDay(1404, 2, 1));
+    }
+
+    @Test
+    public void testMonthsAndDaysMatchTest() {
+        final PersianDateFilter filter = PersianDateFilter.months(PersianMonth.MEHR, PersianMonth.ESFAND)
+                .or(PersianDateFilter.between(PersianDate.of(1402, 6, 20), PersianDate.of(1402, 8, 10)))
+                .or(PersianDateFilter.year(1400).and(PersianDateFilter.daysOfMonth(30, 31)))
+                .and(PersianDateFilter.between(PersianDate.of(1399, 12, 15), PersianDate.of(1403, 1, 10)).or(
+                        PersianDateFilter.daysOfWeek(DayOfWeek.MONDAY).and(PersianDateFilter.years(1390, 1410))));
+        final long start = epochDay(1385, 1, 1);
+        final long end = epochDay(1415, 1, 1);
+        assertMatchesTest(filter, filter.toEpochDayRanges(), start, end);
+        assertMatchesTest(filter, filter.toEpochDayRanges(PersianDate.ofEpochDay(start), PersianDate.ofEpochDay(end)),
+                start, end);
+    }
+
+    @Test
+    public void testBoundedDays() {
+        final PersianDateFilter fridays = PersianDateFilter.daysOfWeek(DayOfWeek.FRIDAY);
+        assertEquals(52 * 2, PersianDateFilter.year(1402).and(fridays).toEpochDayRanges().length);
+        assertEquals(2 * 2, fridays.toEpochDayRanges(PersianDate.of(1402, 1, 1), PersianDate.of(1402, 1, 15)).length);
+        assertEquals(2, PersianDateFilter.between(PersianDate.of(1402, 1, 1), PersianDate.of(1402, 1, 14))
+                .and(fridays).toRanges().size());
+        // the 48 Fridays of 1402 outside Mehr add a range each to the months of Mehr, except
+        // 1402-06-31, which is merged into the range of Mehr 1402
+        assertEquals(DayOfWeek.FRIDAY, PersianDate.of(1402, 6, 31).getDayOfWeek());
+        final long[] ranges = PersianDateFilter.months(PersianMonth.MEHR)
+                .or(PersianDateFilter.year(1402).and(fridays)).toEpochDayRanges();
+        assertEquals((1999 + 47) * 2, ranges.length);
+    }
+
+    @Test
+    public void testUnboundedDaysOfWeek() {
+        exception.expect(DateTimeException.class);
+        PersianDateFilter.daysOfWeek(DayOfWeek.FRIDAY).toEpochDayRanges();
+    }
+
+    @Test
+    public void testUnboundedDaysOfMonth() {
+        exception.expect(DateTimeException.class);
+        PersianDateFilter.daysOfMonth(1).or(PersianDateFilter.year(1402)).toRanges();
+    }
+
+    @Test
+    public void testUnboundedUnion() {
+        exception.expect(DateTimeException.class);
+        PersianDateFilter.year(1402).and(PersianDateFilter.daysOfWeek(DayOfWeek.FRIDAY))
+                .or(PersianDateFilter.daysOfMonth(1).and(PersianDateFilter.months(PersianMonth.MEHR)))
+                .toEpochMilliRanges(ZoneId.of("Asia/Tehran"));
+    }
+
+    @Test
+    public void testBefore1970() {
+        assertArrayEquals(new long[]{epochDay(1340, 1, 1), epochDay(1341, 1, 1)},
+                PersianDateFilter.year(1340).toEpochDayRanges());
+        assertArrayEquals(new long[]{epochDay(1300, 1, 1), epochDay(1300, 1, 6)},
+                PersianDateFilter.between(PersianDate.of(1300, 1, 1), PersianDate.of(1300, 1, 5)).toEpochDayRanges());
+        assertArrayEquals(new long[]{PersianDate.MIN.toEpochDay(), epochDay(1, 2, 1)},
+                PersianDateFilter.year(1).and(PersianDateFilter.months(PersianMonth.FARVARDIN)).toEpochDayRanges());
+    }
+
+    @Test
+    public void testAcross1970() {
+        // 1970-01-01 is 1348-10-11
+        assertEquals(0, epochDay(1348, 10, 11));
+        assertArrayEquals(new long[]{-10, 20},
+                PersianDateFilter.year(1348).and(PersianDateFilter.months(PersianMonth.DEY)).toEpochDayRanges());
+        assertArrayEquals(new long[]{-1, 1},
+                PersianDateFilter.between(PersianDate.ofEpochDay(-1), PersianDate.ofEpochDay(0)).toEpochDayRanges());
+        assertEquals(1999 * 2, PersianDateFilter.months(PersianMonth.MEHR).toEpochDayRanges().length);
+        final List<PersianDateRange> ranges = PersianDateFilter.months(PersianMonth.ESFAND).toRanges();
+        assertEquals(1999, ranges.size());
+        assertEquals(PersianDateRange.ofMonth(PersianYearMonth.of(1348, 12)), ranges.get(1347));
+        assertEquals("1999-12-01/2000-01-01", ranges.get(1998).toString());
+    }
+
+    @Test
+    public void testEpochMilliRanges() {
+        final ZoneId tehran = ZoneId.of("Asia/Tehran");
+        final long[] millis = PersianDateFilter.year(1399).and(PersianDateFilter.months(PersianMonth.FARVARDIN))
+                .toEpochMilliRanges(tehran);
+        assertArrayEquals(new long[]{
+                PersianDate.of(1399, 1, 1).toGregorian().atStartOfDay(tehran).toInstant().toEpochMilli(),
+                PersianDate.of(1399, 2, 1).toGregorian().atStartOfDay(tehran).toInstant().toEpochMilli()}, millis);
+        assertEquals(0, PersianDateFilter.months(PersianMonth.MEHR)
+                .toEpochMilliRanges(PersianDate.of(1402, 1, 1), PersianDate.of(1402, 7, 1), tehran).length);
+    }
+
+    @Test
+    public void testEmptyIntersection() {
+        assertEquals(0, PersianDateFilter.year(1400).and(PersianDateFilter.year(1401)).toEpochDayRanges().length);
+        assertTrue(PersianDateFilter.year(1400).and(PersianDateFilter.year(1401)).toRanges().isEmpty());
+    }
+
+    @Test
+    public void testInvalidQuarter() {
+        exception.expect(DateTimeException.class);
+        PersianDateFilter.quarters(5);
+    }
+
+    @Test
+    public void testInvalidYears() {
+        exception.expect(DateTimeException.class);
+        PersianDateFilter.years(1402, 1401);
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianDateRange}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianDateRangeTest {
+
+    @Test
+    public void testDailyRange() {
+        final PersianDateRange range = PersianDateRange.ofYear(1403);
+        assertEquals(366, range.size());
+        assertEquals(PersianDate.of(1403, 1, 1), range.getStart());
+        assertEquals(PersianDate.of(1404, 1, 1), range.getEnd());
+        assertEquals(PersianDate.of(1403, 12, 30), range.get(365));
+        assertEquals(PersianDate.of(1403, 12, 30).toEpochDay(), range.getEpochDay(365));
+        assertTrue(range.contains(PersianDate.of(1403, 7, 1)));
+        assertFalse(range.contains(PersianDate.of(1404, 1, 1)));
+        assertEquals(31, PersianDateRange.ofMonth(PersianYearMonth.of(1403, 1)).size());
+        assertEquals(1, PersianDateRange.ofClosed(PersianDate.of(1403, 1, 1), PersianDate.of(1403, 1, 1)).size());
+        assertTrue(PersianDateRange.of(PersianDate.of(1403, 1, 1), PersianDate.of(1403, 1, 1)).isEmpty());
+        assertEquals("1403-01-01/1404-01-01", range.toString());
+    }
+
+    @Test
+    public void testIteration() {
+        final PersianDateRange range = PersianDateRange.of(PersianDate.of(1402, 12, 25), PersianDate.of(1403, 1, 3));
+        final List<PersianDate> dates = new ArrayList<>();
+        for (PersianDate date : range) {
+            dates.add(date);
+        }
+        final List<PersianDate> expected = new ArrayList<>();
+        for (PersianDate date = range.getStart(); date.isBefore(range.getEnd()); date = date.plusDays(1)) {
+            expected.add(date);
+        }
+        assertEquals(expected, dates);
+        assertEquals(expected, range.stream().collect(Collectors.toList()));
+        assertArrayEquals(expected.stream().mapToLong(PersianDate::toEpochDay).toArray(), range.epochDays().toArray());
+        assertArrayEquals(expected.stream().mapToInt(date -> (int) date.toEpochDay()).toArray(),
+                range.intEpochDays().toArray());
+    }
+
+    @Test
+    public void testWeeklyRange() {
+        final PersianDateRange range = PersianDateRange.ofYear(1402).withStep(1, ChronoUnit.WEEKS);
+        assertEquals(53, range.size());
+        assertTrue(range.stream().allMatch(date -> date.getDayOfWeek() == DayOfWeek.TUESDAY));
+        assertEquals(PersianDate.of(1402, 12, 29), range.get(52));
+        assertTrue(range.contains(PersianDate.of(1402, 1, 8)));
+        assertFalse(range.contains(PersianDate.of(1402, 1, 9)));
+    }
+
+    @Test
+    public void testMonthlyRange() {
+        final PersianDateRange range = PersianDateRange.of(PersianDate.of(1402, 6, 31), PersianDate.of(1403, 1, 1))
+                .withStep(1, ChronoUnit.MONTHS);
+        assertEquals(7, range.size());
+        assertEquals(PersianDate.of(1402, 7, 30), range.get(1));
+        assertEquals(PersianDate.of(1402, 8, 30), range.get(2));
+        assertEquals(PersianDate.of(1402, 12, 29), range.get(6));
+        assertTrue(range.contains(PersianDate.of(1402, 12, 29)));
+        assertFalse(range.contains(PersianDate.of(1402, 12, 28)));
+        assertEquals("1402-06-31/1403-01-01/P1M", range.toString());
+        final PersianDateRange years = PersianDateRange.ofClosed(PersianDate.of(1399, 12, 30), PersianDate.of(1403, 12, 30))
+                .withStep(1, ChronoUnit.YEARS);
+        assertEquals(5, years.size());
+        assertEquals(PersianDate.of(1400, 12, 29), years.get(1));
+        assertEquals(PersianDate.of(1403, 12, 30), years.get(4));
+    }
+
+    @Test
+    public void testMonthlySizeAgainstPlusMonths() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            final PersianDate start = PersianDate.ofEpochDay(random.nextInt(20_000));
+            final PersianDate end = start.plusDays(random.nextInt(800));
+            final int months = 1 + random.nextInt(5);
+            final PersianDateRange range = PersianDateRange.of(start, end).withStep(months, ChronoUnit.MONTHS);
+            final List<PersianDate> expected = new ArrayList<>();
+            for (int k = 0; start.plusMonths((long) k * months).isBefore(end); k++) {
+                expected.add(start.plusMonths((long) k * months));
+            }
+            assertEquals(expected, range.stream().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testRangeEndingAtMax() {
+        final PersianDateRange year = PersianDateRange.ofYear(1999);
+        assertEquals(PersianDate.MAX, year.get(year.size() - 1));
+        assertEquals("1999-01-01/2000-01-01", year.toString());
+        final PersianDateRange months = year.withStep(1, ChronoUnit.MONTHS);
+        assertEquals(12, months.size());
+        assertEquals(PersianDate.of(1999, 12, 1), months.get(11));
+        assertEquals("1999-01-01/2000-01-01/P1M", months.toString());
+        final PersianDateRange lastDays = PersianDateRange.ofClosed(PersianDate.of(1998, 6, 31), PersianDate.MAX)
+                .withStep(3, ChronoUnit.MONTHS);
+        assertEquals(PersianDate.MAX, lastDays.get(lastDays.size() - 1));
+        assertEquals(7, lastDays.size());
+        assertEquals("1999-12-28/2000-01-01",
+                PersianDateRange.ofClosed(PersianDate.of(1999, 12, 28), PersianDate.MAX).toString());
+    }
+
+    @Test
+    public void testSpliterator() {
+        final PersianDateRange range = PersianDateRange.of(PersianDate.of(1390, 1, 1), PersianDate.of(1400, 1, 1));
+        final Spliterator<PersianDate> spliterator = range.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        final long size = spliterator.estimateSize();
+        final Spliterator<PersianDate> prefix = spliterator.trySplit();
+        assertEquals(size / 2, prefix.estimateSize());
+        assertEquals(size - size / 2, spliterator.estimateSize());
+        assertEquals(range.stream().collect(Collectors.toList()),
+                range.stream().parallel().collect(Collectors.toList()));
+        assertEquals(range.epochDays().sum(), range.epochDays().parallel().sum());
+        assertEquals(range.size(), range.intEpochDays().parallel().count());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testEndBeforeStart() {
+        PersianDateRange.of(PersianDate.of(1403, 1, 2), PersianDate.of(1403, 1, 1));
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void testUnsupportedStep() {
+        PersianDateRange.ofYear(1403).withStep(1, ChronoUnit.HOURS);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        PersianDateRange.ofYear(1403).get(366);
+    }
+}
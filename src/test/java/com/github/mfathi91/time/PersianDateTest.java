@@ -7,9 +7,12 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.chrono.ChronoPeriod;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -103,6 +106,17 @@ public class PersianDateTest {
         assertEquals(PersianDate.of(473, 1, 1), PersianDate.ofJulianDays(2120715));
         assertEquals(PersianDate.of(474, 1, 1), PersianDate.ofJulianDays(2121080));
         assertEquals(PersianDate.MAX, PersianDate.ofJulianDays(2678439));
+        assertEquals(PersianDate.MIN, PersianDate.ofJulianDays(PersianDate.MIN.toJulianDay()));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnOfEpochDayBeforeMin() {
+        PersianDate.ofEpochDay(PersianDate.MIN.toEpochDay() - 1);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnOfEpochDayAfterMax() {
+        PersianDate.ofEpochDay(PersianDate.MAX.toEpochDay() + 1);
     }
 
     //-----------------------------------------------------------------------
@@ -258,6 +272,118 @@ public class PersianDateTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testOnPlusWeeks() {
+        assertEquals(PersianDate.of(1400, 1, 8), PersianDate.of(1400, 1, 1).plusWeeks(1));
+        assertEquals(PersianDate.of(1399, 12, 24), PersianDate.of(1400, 1, 1).plusWeeks(-1));
+    }
+
+    @Test
+    public void testOnPlusDaysAgainstEpochDay() {
+        PersianDate start = PersianDate.of(1387, 11, 20);
+        for (int i = -400; i <= 400; i++) {
+            assertEquals(start.toEpochDay() + i, start.plusDays(i).toEpochDay());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnPlusTemporalUnit() {
+        PersianDate pd = PersianDate.of(1387, 12, 30);
+        assertEquals(PersianDate.of(1388, 1, 1), pd.plus(1, DAYS));
+        assertEquals(PersianDate.of(1388, 1, 7), pd.plus(1, WEEKS));
+        assertEquals(PersianDate.of(1388, 1, 30), pd.plus(1, MONTHS));
+        assertEquals(PersianDate.of(1388, 12, 29), pd.plus(1, YEARS));
+        assertEquals(PersianDate.of(1397, 12, 29), pd.plus(1, DECADES));
+        assertEquals(PersianDate.of(1487, 12, 29), pd.plus(1, CENTURIES));
+        assertEquals(PersianDate.of(1387, 11, 30), pd.minus(1, MONTHS));
+        assertEquals(pd, pd.plus(0, ERAS));
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void testOnPlusTemporalUnitUnsupported() {
+        PersianDate.of(1400, 1, 1).plus(1, HOURS);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnPlusYearsOutOfRange() {
+        PersianDate.MAX.plus(1, YEARS);
+    }
+
+    @Test
+    public void testOnWithTemporalField() {
+        PersianDate pd = PersianDate.of(1400, 8, 15);
+        assertEquals(PersianDate.of(1400, 8, 1), pd.with(DAY_OF_MONTH, 1));
+        assertEquals(PersianDate.of(1400, 1, 1), pd.with(DAY_OF_YEAR, 1));
+        assertEquals(PersianDate.of(1400, 12, 29), pd.with(DAY_OF_YEAR, 365));
+        assertEquals(PersianDate.of(1400, 7, 1), pd.with(DAY_OF_YEAR, 187));
+        assertEquals(PersianDate.of(1400, 6, 31), pd.with(DAY_OF_YEAR, 186));
+        assertEquals(PersianDate.of(1400, 2, 15), pd.with(MONTH_OF_YEAR, 2));
+        assertEquals(PersianDate.of(1401, 8, 15), pd.with(YEAR, 1401));
+        assertEquals(PersianDate.of(1401, 8, 15), pd.with(YEAR_OF_ERA, 1401));
+        assertEquals(PersianDate.of(1401, 1, 15), pd.with(PROLEPTIC_MONTH, 1401 * 12));
+        assertEquals(PersianDate.ofEpochDay(17468), pd.with(EPOCH_DAY, 17468));
+        assertEquals(pd, pd.with(ERA, 1));
+    }
+
+    @Test
+    public void testOnWithDayOfWeek() {
+        // 1400-08-15 is a Saturday
+        PersianDate pd = PersianDate.of(1400, 8, 15);
+        assertEquals(DayOfWeek.SATURDAY, pd.getDayOfWeek());
+        assertEquals(PersianDate.of(1400, 8, 16), pd.with(DAY_OF_WEEK, DayOfWeek.SUNDAY.getValue()));
+        assertEquals(PersianDate.of(1400, 8, 14), pd.with(DAY_OF_WEEK, DayOfWeek.FRIDAY.getValue()));
+        assertEquals(PersianDate.of(1400, 8, 8), pd.with(ALIGNED_WEEK_OF_MONTH, 2));
+        assertEquals(PersianDate.of(1400, 8, 19), pd.with(ALIGNED_DAY_OF_WEEK_IN_MONTH, 5));
+    }
+
+    @Test
+    public void testOnWithResolvesPreviousValid() {
+        assertEquals(PersianDate.of(1400, 7, 30), PersianDate.of(1400, 6, 31).with(MONTH_OF_YEAR, 7));
+        assertEquals(PersianDate.of(1388, 12, 29), PersianDate.of(1387, 12, 30).with(YEAR, 1388));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnWithInvalidDayOfMonth() {
+        PersianDate.of(1400, 7, 1).with(DAY_OF_MONTH, 31);
+    }
+
+    @Test
+    public void testOnWithDayOfMonth() {
+        for (PersianDate date = PersianDate.of(1399, 1, 1); date.isBefore(PersianDate.of(1404, 1, 1)); date = date.plusMonths(1)) {
+            for (int day = 1; day <= date.lengthOfMonth(); day++) {
+                final PersianDate adjusted = date.withDayOfMonth(day);
+                assertEquals(day, adjusted.getDayOfMonth());
+                assertEquals(PersianDate.of(date.getYear(), date.getMonthValue(), day).toEpochDay(), adjusted.toEpochDay());
+            }
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnWithDayOfMonthEsfand30NotLeapYear() {
+        PersianDate.of(1400, 12, 1).withDayOfMonth(30);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnWithInvalidDayOfYear() {
+        PersianDate.of(1400, 7, 1).with(DAY_OF_YEAR, 366);
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void testOnWithUnsupportedField() {
+        PersianDate.of(1400, 7, 1).with(HOUR_OF_DAY, 1);
+    }
+
+    @Test
+    public void testOnWithTemporalAdjusters() {
+        PersianDate pd = PersianDate.of(1400, 12, 10);
+        assertEquals(PersianDate.of(1400, 12, 29), pd.with(TemporalAdjusters.lastDayOfMonth()));
+        assertEquals(PersianDate.of(1400, 12, 1), pd.with(TemporalAdjusters.firstDayOfMonth()));
+        assertEquals(PersianDate.of(1401, 1, 1), pd.with(TemporalAdjusters.firstDayOfNextYear()));
+        assertEquals(PersianDate.of(1400, 12, 13), pd.with(TemporalAdjusters.next(DayOfWeek.FRIDAY)));
+        assertEquals(PersianDate.of(1400, 12, 10), pd.with(LocalDate.of(2022, 3, 1)));
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void testOnIsLeapYear() {
@@ -637,6 +763,41 @@ public class PersianDateTest {
         assertEquals(a.hashCode(), b.hashCode());
     }
 
+    @Test
+    public void testOnHashCodeAcrossMonths() {
+        Set<Integer> hashCodes = new HashSet<>();
+        PersianDate pd = PersianDate.of(1400, 1, 1);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(hashCodes.add(pd.hashCode()));
+            assertEquals(pd.hashCode(), PersianDate.of(pd.getYear(), pd.getMonthValue(), pd.getDayOfMonth()).hashCode());
+            pd = pd.plusDays(1);
+        }
+    }
+
+    @Test
+    public void testOnCompareTo() {
+        PersianDate pd1 = PersianDate.of(1400, 6, 31);
+        PersianDate pd2 = PersianDate.of(1400, 7, 1);
+        assertTrue(pd1.compareTo(pd2) < 0);
+        assertTrue(pd2.compareTo(pd1) > 0);
+        assertEquals(0, pd1.compareTo(PersianDate.of(1400, 6, 31)));
+        List<PersianDate> dates = Arrays.asList(pd2, PersianDate.MAX, pd1, PersianDate.MIN);
+        dates.sort(null);
+        assertEquals(Arrays.asList(PersianDate.MIN, pd1, pd2, PersianDate.MAX), dates);
+    }
+
+    @Test
+    public void testOnEpochDayConsistency() {
+        PersianDate pd = PersianDate.of(1399, 12, 1);
+        for (int i = 0; i < 100; i++) {
+            PersianDate next = pd.plusDays(1);
+            assertEquals(pd.toEpochDay() + 1, next.toEpochDay());
+            assertEquals(next, PersianDate.of(next.getYear(), next.getMonthValue(), next.getDayOfMonth()));
+            assertEquals(1, pd.until(next, DAYS));
+            pd = next;
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void testOnToString() {
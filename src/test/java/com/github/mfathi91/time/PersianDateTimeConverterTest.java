@@ -0,0 +1,70 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Provides unit tests for {@link PersianDateTimeConverter}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianDateTimeConverterTest {
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    @Test
+    public void testMonotonicStream() {
+        final PersianDateTimeConverter converter = PersianDateTimeConverter.of(TEHRAN);
+        // crosses a number of daylight saving time transitions of Tehran
+        for (long millis = 1_500_000_000_000L; millis < 1_700_000_000_000L; millis += 1_234_567L) {
+            assertEquals(PersianZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), TEHRAN).toLocalDateTime(),
+                    converter.toPersianDateTime(millis));
+        }
+    }
+
+    @Test
+    public void testAroundTransition() {
+        final PersianDateTimeConverter converter = PersianDateTimeConverter.of(TEHRAN);
+        final long transition = Instant.parse("2022-03-21T20:30:00Z").toEpochMilli();
+        assertEquals(PersianDateTime.of(1401, 1, 1, 23, 59, 59, 999_000_000), converter.toPersianDateTime(transition - 1));
+        assertEquals(PersianDateTime.of(1401, 1, 2, 1, 0), converter.toPersianDateTime(transition));
+        assertEquals(PersianDateTime.of(1401, 1, 1, 22, 0), converter.toPersianDateTime(transition - 7_200_000L));
+        assertEquals(ZoneOffset.ofHoursMinutes(4, 30), converter.toPersianZonedDateTime(transition).getOffset());
+    }
+
+    @Test
+    public void testZonedInOverlap() {
+        final PersianDateTimeConverter converter = PersianDateTimeConverter.of(TEHRAN);
+        // clocks moved back from 1401-06-31T00:00 to 1401-06-30T23:00 in Tehran
+        final long transition = Instant.parse("2022-09-21T19:30:00Z").toEpochMilli();
+        for (long millis = transition - 7_200_000L; millis < transition + 7_200_000L; millis += 60_000L) {
+            assertEquals(PersianZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), TEHRAN),
+                    converter.toPersianZonedDateTime(millis));
+        }
+    }
+
+    @Test
+    public void testOutOfOrder() {
+        final PersianDateTimeConverter converter = PersianDateTimeConverter.of(ZoneId.of("Europe/Berlin"));
+        final Random random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            final long millis = random.nextLong() % 4_000_000_000_000L;
+            assertEquals(PersianZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), converter.getZone()).toLocalDateTime(),
+                    converter.toPersianDateTime(millis));
+        }
+    }
+
+    @Test
+    public void testInstantKeepsNanos() {
+        final PersianDateTimeConverter converter = PersianDateTimeConverter.of(ZoneOffset.UTC);
+        final Instant instant = Instant.parse("2023-03-21T00:00:00.123456789Z");
+        assertEquals(PersianDateTime.of(1402, 1, 1, 0, 0, 0, 123_456_789), converter.toPersianDateTime(instant));
+        assertEquals(PersianDate.of(1402, 1, 1), converter.toPersianDate(instant.toEpochMilli()));
+    }
+}
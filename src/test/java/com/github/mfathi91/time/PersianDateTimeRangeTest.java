@@ -0,0 +1,165 @@
+package com.github.mfathi91.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianDateTimeRange}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianDateTimeRangeTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static final PersianDateTime START = PersianDateTime.of(1402, 12, 29, 22, 10);
+
+    @Test
+    public void testFixedStep() {
+        final PersianDateTimeRange range = PersianDateTimeRange.of(START, PersianDateTime.of(1403, 1, 1, 0, 0),
+                Duration.ofMinutes(15));
+        assertEquals(8, range.size());
+        final List<PersianDateTime> expected = new ArrayList<>();
+        for (PersianDateTime dateTime = START; dateTime.isBefore(range.getEnd()); dateTime = dateTime.plusMinutes(15)) {
+            expected.add(dateTime);
+        }
+        assertEquals(expected, range.stream().collect(Collectors.toList()));
+        assertEquals(PersianDateTime.of(1402, 12, 29, 23, 55), range.get(7));
+    }
+
+    @Test
+    public void testSizeMatchesIteration() {
+        final Duration[] steps = {Duration.ofNanos(7_000_001), Duration.ofSeconds(59, 999_999_999),
+                Duration.ofMinutes(7), Duration.ofHours(25)};
+        final PersianDateTime end = PersianDateTime.of(1403, 1, 3, 5, 0, 0, 1);
+        for (Duration step : steps) {
+            final PersianDateTimeRange range = PersianDateTimeRange.of(START, end, step);
+            long count = 0;
+            for (PersianDateTime dateTime = START; dateTime.isBefore(end); dateTime = dateTime.plus(step)) {
+                count++;
+            }
+            assertEquals(step.toString(), count, range.size());
+            assertEquals(START.plus(step.multipliedBy(count - 1)), range.get(count - 1));
+        }
+    }
+
+    @Test
+    public void testMonthlyStep() {
+        final PersianDateTime start = PersianDateTime.of(1402, 6, 31, 8, 30);
+        final PersianDateTimeRange range = PersianDateTimeRange.of(start, PersianDateTime.of(1403, 6, 31, 8, 30),
+                1, ChronoUnit.MONTHS);
+        assertEquals(12, range.size());
+        for (int i = 0; i < 12; i++) {
+            assertEquals(start.plusMonths(i), range.get(i));
+        }
+        assertEquals(PersianDateTime.of(1402, 7, 30, 8, 30), range.get(1));
+        assertEquals(PersianDateTime.of(1402, 8, 30, 8, 30), range.get(2));
+        assertEquals(13, PersianDateTimeRange.of(start, PersianDateTime.of(1403, 6, 31, 8, 31),
+                1, ChronoUnit.MONTHS).size());
+        assertEquals(3, PersianDateTimeRange.of(start, PersianDateTime.of(1405, 6, 31, 8, 30),
+                1, ChronoUnit.YEARS).size());
+        assertEquals(0, PersianDateTimeRange.of(start, start, 1, ChronoUnit.YEARS).size());
+    }
+
+    @Test
+    public void testUnits() {
+        final PersianDateTime end = START.plusDays(21);
+        assertEquals(3, PersianDateTimeRange.of(START, end, 1, ChronoUnit.WEEKS).size());
+        assertEquals(21, PersianDateTimeRange.of(START, end, 1, ChronoUnit.DAYS).size());
+        assertEquals(42, PersianDateTimeRange.of(START, end, 12, ChronoUnit.HOURS).size());
+        exception.expect(UnsupportedTemporalTypeException.class);
+        PersianDateTimeRange.of(START, end, 1, ChronoUnit.DECADES);
+    }
+
+    @Test
+    public void testEmptyRange() {
+        final PersianDateTimeRange range = PersianDateTimeRange.of(START, START, Duration.ofSeconds(1));
+        assertTrue(range.isEmpty());
+        assertFalse(range.iterator().hasNext());
+    }
+
+    @Test
+    public void testEndBeforeStart() {
+        exception.expect(DateTimeException.class);
+        PersianDateTimeRange.of(START, START.plusNanos(-1), Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void testNonPositiveStep() {
+        exception.expect(IllegalArgumentException.class);
+        PersianDateTimeRange.of(START, START.plusDays(1), Duration.ZERO);
+    }
+
+    @Test
+    public void testIndexOutOfBounds() {
+        final PersianDateTimeRange range = PersianDateTimeRange.of(START, START.plusHours(1), Duration.ofMinutes(30));
+        exception.expect(IndexOutOfBoundsException.class);
+        range.get(2);
+    }
+
+    @Test
+    public void testLongRangeOfNanos() {
+        final PersianDateTimeRange range = PersianDateTimeRange.of(PersianDateTime.of(1300, 1, 1, 0, 0),
+                PersianDateTime.of(1500, 1, 1, 0, 0), Duration.ofNanos(3));
+        final long last = range.size() - 1;
+        assertEquals(PersianDateTime.of(1300, 1, 1, 0, 0).plusNanos(3 * last), range.get(last));
+        assertTrue(range.get(last).plusNanos(3).isAfter(PersianDateTime.of(1499, 12, 29, 23, 59)));
+    }
+
+    @Test
+    public void testSpliterator() {
+        final PersianDateTimeRange range = PersianDateTimeRange.of(START, START.plusDays(10), Duration.ofHours(1));
+        final Spliterator<PersianDateTime> spliterator = range.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        final Spliterator<PersianDateTime> prefix = spliterator.trySplit();
+        assertEquals(120, prefix.estimateSize());
+        assertEquals(120, spliterator.estimateSize());
+        assertEquals(range.stream().collect(Collectors.toList()),
+                range.stream().parallel().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testEpochMillis() {
+        final PersianDateTimeRange range = PersianDateTimeRange.of(START, START.plusDays(2), Duration.ofMinutes(90));
+        final ZoneOffset offset = ZoneOffset.ofHoursMinutes(3, 30);
+        assertArrayEquals(range.stream().mapToLong(dateTime -> dateTime.toInstant(offset).toEpochMilli()).toArray(),
+                range.epochMillis(offset).toArray());
+        assertEquals(START.toInstant(offset).toEpochMilli(), range.getEpochMilli(0, offset));
+    }
+
+    @Test
+    public void testEpochMillisInZone() {
+        // Tehran observed daylight saving time until 1401
+        final ZoneId zone = ZoneId.of("Asia/Tehran");
+        final PersianDateTimeRange range = PersianDateTimeRange.of(PersianDateTime.of(1399, 1, 1, 22, 0),
+                PersianDateTime.of(1399, 1, 3, 2, 0), Duration.ofMinutes(20));
+        final long[] expected = range.stream()
+                .mapToLong(dateTime -> dateTime.toGregorian().atZone(zone).toInstant().toEpochMilli()).toArray();
+        assertArrayEquals(expected, range.epochMillis(zone).toArray());
+        assertArrayEquals(expected, range.epochMillis(zone).parallel().toArray());
+        assertEquals(expected[5], range.getEpochMilli(5, zone));
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("1402-12-29T22:10/1402-12-29T23:10/PT5M",
+                PersianDateTimeRange.of(START, START.plusHours(1), Duration.ofMinutes(5)).toString());
+        assertEquals("1402-12-29T22:10/1403-12-29T22:10/P3M",
+                PersianDateTimeRange.of(START, START.plusYears(1), 3, ChronoUnit.MONTHS).toString());
+    }
+}
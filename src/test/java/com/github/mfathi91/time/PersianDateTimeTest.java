@@ -7,12 +7,13 @@ import org.junit.rules.ExpectedException;
 import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.Month;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.*;
 
 /**
  * Provides unit tests for {@link PersianDateTime}.
@@ -204,4 +205,138 @@ public class PersianDateTimeTest {
         final PersianDateTime pdt6 = PersianDateTime.of(1404, PersianMonth.KHORDAD, 19, 8, 43, 59, 441235);
         assertNotEquals(pdt5.hashCode(), pdt6.hashCode());
     }
-}
\ No newline at end of file
+
+    //-----------------------------------------------------------------------
+
+    @Test
+    public void testRoundTripAtRangeLimits() {
+        final PersianDateTime min = PersianDateTime.of(PersianDate.MIN, LocalTime.MIN);
+        final PersianDateTime max = PersianDateTime.of(PersianDate.MAX, LocalTime.MAX);
+        assertEquals(PersianDate.MIN, min.toLocalDate());
+        assertEquals(LocalTime.MIN, min.toLocalTime());
+        assertEquals(PersianDate.MAX, max.toLocalDate());
+        assertEquals(LocalTime.MAX, max.toLocalTime());
+        assertEquals(min, PersianDateTime.fromGregorian(min.toGregorian()));
+        assertEquals(max, PersianDateTime.fromGregorian(max.toGregorian()));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testFromGregorianOutOfRange() {
+        PersianDateTime.fromGregorian(PersianDateTime.of(PersianDate.MAX, LocalTime.MAX).toGregorian().plusDays(1));
+    }
+
+    @Test
+    public void testToEpochSecond() {
+        final PersianDateTime dateTime = PersianDateTime.of(1402, 1, 1, 10, 15, 30, 5);
+        final LocalDateTime gregorian = dateTime.toGregorian();
+        final ZoneOffset offset = ZoneOffset.ofHoursMinutes(3, 30);
+        assertEquals(gregorian.toEpochSecond(offset), dateTime.toEpochSecond(offset));
+        assertEquals(gregorian.toInstant(offset), dateTime.toInstant(offset));
+        assertEquals(gregorian.toLocalDate().toEpochDay(), dateTime.getLong(ChronoField.EPOCH_DAY));
+        assertEquals(gregorian.toLocalTime().toNanoOfDay(), dateTime.getLong(ChronoField.NANO_OF_DAY));
+    }
+
+    @Test
+    public void testIsAfterIsBefore() {
+        final PersianDateTime pdt1 = PersianDateTime.of(1400, 12, 29, 23, 59);
+        final PersianDateTime pdt2 = PersianDateTime.of(1401, 1, 1, 0, 0);
+        assertTrue(pdt2.isAfter(pdt1));
+        assertTrue(pdt1.isBefore(pdt2));
+        assertFalse(pdt1.isEqual(pdt2));
+        assertTrue(pdt1.isEqual(PersianDateTime.of(1400, 12, 29, 23, 59)));
+    }
+
+    @Test
+    public void testPlus() {
+        final PersianDateTime dateTime = PersianDateTime.of(1402, 12, 29, 22, 30, 15, 500);
+        assertEquals(PersianDateTime.of(1403, 1, 1, 0, 30, 15, 500), dateTime.plusHours(2));
+        assertEquals(PersianDateTime.of(1402, 12, 29, 22, 29, 15, 500), dateTime.plusMinutes(-1));
+        assertEquals(PersianDateTime.of(1402, 12, 28, 22, 30, 15, 500), dateTime.plusDays(-1));
+        assertEquals(PersianDateTime.of(1403, 1, 14, 22, 30, 15, 500), dateTime.plusWeeks(2));
+        assertEquals(PersianDateTime.of(1403, 12, 29, 22, 30, 15, 500), dateTime.plusYears(1));
+        assertEquals(PersianDateTime.of(1402, 11, 29, 22, 30, 15, 500), dateTime.minus(1, ChronoUnit.MONTHS));
+        final LocalDateTime gregorian = dateTime.toGregorian();
+        for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.NANOS, ChronoUnit.MILLIS, ChronoUnit.SECONDS,
+                ChronoUnit.HOURS, ChronoUnit.HALF_DAYS, ChronoUnit.DAYS, ChronoUnit.WEEKS}) {
+            for (long amount : new long[]{-1_000_003, -7, 0, 1, 13, 999_999_999_999L}) {
+                final long unitSeconds = unit.getDuration().getSeconds();
+                if (unitSeconds > 0 && Math.abs(amount) > 1_000_003 || unitSeconds > 3600 && Math.abs(amount) > 10_000) {
+                    continue;
+                }
+                assertEquals(PersianDateTime.fromGregorian(gregorian.plus(amount, unit)), dateTime.plus(amount, unit));
+            }
+        }
+    }
+
+    @Test
+    public void testPlusOutOfRange() {
+        exception.expect(DateTimeException.class);
+        PersianDateTime.of(1999, 12, 29, 23, 0).plusHours(1);
+    }
+
+    @Test
+    public void testUntil() {
+        final PersianDateTime start = PersianDateTime.of(1401, 6, 31, 18, 45, 10, 7);
+        final PersianDateTime[] ends = {
+                PersianDateTime.of(1401, 6, 31, 18, 45, 10, 7),
+                PersianDateTime.of(1401, 7, 30, 18, 45, 10, 6),
+                PersianDateTime.of(1401, 7, 30, 18, 45, 10, 8),
+                PersianDateTime.of(1402, 1, 1, 0, 0),
+                PersianDateTime.of(1399, 6, 31, 18, 45, 10, 8),
+                PersianDateTime.of(1401, 6, 30, 23, 59)};
+        for (PersianDateTime end : ends) {
+            for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.NANOS, ChronoUnit.MINUTES, ChronoUnit.HOURS,
+                    ChronoUnit.DAYS, ChronoUnit.WEEKS}) {
+                assertEquals(start.toGregorian().until(end.toGregorian(), unit), start.until(end, unit));
+            }
+        }
+    }
+
+    @Test
+    public void testUntilMonths() {
+        final PersianDateTime start = PersianDateTime.of(1401, 2, 10, 18, 0);
+        assertEquals(2, start.until(PersianDateTime.of(1401, 5, 10, 17, 59), ChronoUnit.MONTHS));
+        assertEquals(3, start.until(PersianDateTime.of(1401, 5, 10, 18, 0), ChronoUnit.MONTHS));
+        assertEquals(-12, start.until(PersianDateTime.of(1400, 2, 10, 17, 0), ChronoUnit.MONTHS));
+        assertEquals(-11, start.until(PersianDateTime.of(1400, 2, 10, 19, 0), ChronoUnit.MONTHS));
+        assertEquals(1, start.until(PersianDateTime.of(1402, 2, 10, 18, 0), ChronoUnit.YEARS));
+    }
+
+    @Test
+    public void testIsSupported() {
+        final PersianDateTime dateTime = PersianDateTime.of(1402, 7, 15, 10, 30);
+        for (ChronoField field : ChronoField.values()) {
+            assertEquals(field.toString(), field.isDateBased() || field.isTimeBased(), dateTime.isSupported(field));
+        }
+        assertFalse(dateTime.isSupported((ChronoField) null));
+        assertEquals(30, dateTime.range(ChronoField.DAY_OF_MONTH).getMaximum());
+        assertEquals(23, dateTime.range(ChronoField.HOUR_OF_DAY).getMaximum());
+    }
+
+    @Test
+    public void testWithField() {
+        final PersianDateTime dateTime = PersianDateTime.of(1402, 6, 31, 10, 30, 15, 500);
+        assertEquals(PersianDateTime.of(1402, 6, 31, 0, 30, 15, 500), dateTime.with(ChronoField.HOUR_OF_DAY, 0));
+        assertEquals(PersianDateTime.of(1402, 6, 31, 10, 30), dateTime.with(ChronoField.NANO_OF_DAY, 37_800_000_000_000L));
+        assertEquals(PersianDateTime.of(1402, 7, 30, 10, 30, 15, 500), dateTime.with(ChronoField.MONTH_OF_YEAR, 7));
+        assertEquals(PersianDateTime.of(1402, 1, 1, 10, 30, 15, 500), dateTime.with(ChronoField.DAY_OF_YEAR, 1));
+        for (ChronoField field : ChronoField.values()) {
+            if (dateTime.isSupported(field)) {
+                assertEquals(field.toString(), dateTime.getLong(field), dateTime.with(field, dateTime.getLong(field)).getLong(field));
+            }
+        }
+    }
+
+    @Test
+    public void testWithAdjuster() {
+        final PersianDateTime dateTime = PersianDateTime.of(1402, 6, 31, 10, 30);
+        assertEquals(PersianDateTime.of(1402, 6, 31, 12, 0), dateTime.with(LocalTime.NOON));
+        assertEquals(PersianDateTime.of(1401, 1, 1, 10, 30), dateTime.with(PersianDate.of(1401, 1, 1)));
+        assertEquals(PersianDateTime.of(1402, 6, 1, 10, 30), dateTime.with(PersianTemporalAdjusters.firstDayOfMonth()));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testWithInvalidValue() {
+        PersianDateTime.of(1402, 7, 1, 10, 30).with(ChronoField.DAY_OF_MONTH, 31);
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.UnsupportedTemporalTypeException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianFields}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianFieldsTest {
+
+    private static final DateTimeFormatter QUARTER_FORMATTER = new DateTimeFormatterBuilder()
+            .appendValue(ChronoField.YEAR, 4)
+            .appendLiteral("-Q")
+            .appendValue(PersianFields.QUARTER_OF_YEAR, 1)
+            .appendLiteral('-')
+            .appendValue(PersianFields.DAY_OF_QUARTER, 2)
+            .toFormatter()
+            .withChronology(PersianChronology.INSTANCE);
+
+    @Test
+    public void testGetLong() {
+        final PersianDate date = PersianDate.of(1402, 8, 15);
+        assertEquals(3, date.getLong(PersianFields.QUARTER_OF_YEAR));
+        assertEquals(45, date.getLong(PersianFields.DAY_OF_QUARTER));
+        assertEquals(2, date.getLong(PersianFields.HALF_OF_YEAR));
+        assertEquals(7, date.getLong(PersianFields.WEEK_OF_QUARTER));
+        assertTrue(date.isSupported(PersianFields.DAY_OF_QUARTER));
+        assertEquals(1, PersianDate.of(1402, 1, 1).get(PersianFields.DAY_OF_QUARTER));
+        assertEquals(93, PersianDate.of(1402, 6, 31).get(PersianFields.DAY_OF_QUARTER));
+        assertEquals(90, PersianDate.of(1403, 12, 30).get(PersianFields.DAY_OF_QUARTER));
+        assertEquals(14, PersianDate.of(1402, 3, 31).get(PersianFields.WEEK_OF_QUARTER));
+    }
+
+    @Test
+    public void testAgainstDayOfYear() {
+        for (PersianDate date = PersianDate.of(1402, 1, 1); date.getYear() < 1404; date = date.plusDays(1)) {
+            final int quarter = date.get(PersianFields.QUARTER_OF_YEAR);
+            final PersianDate quarterStart = PersianDate.of(date.getYear(), (quarter - 1) * 3 + 1, 1);
+            assertEquals(date.getDayOfYear() - quarterStart.getDayOfYear() + 1, date.get(PersianFields.DAY_OF_QUARTER));
+            assertEquals((date.getMonthValue() + 5) / 6, date.get(PersianFields.HALF_OF_YEAR));
+            assertEquals(date.range(PersianFields.DAY_OF_QUARTER).getMaximum(),
+                    quarterStart.plusMonths(3).toEpochDay() - quarterStart.toEpochDay());
+            assertEquals(date, date.with(PersianFields.DAY_OF_QUARTER, date.get(PersianFields.DAY_OF_QUARTER)));
+        }
+    }
+
+    @Test
+    public void testRange() {
+        assertEquals(89, PersianDate.of(1402, 12, 1).range(PersianFields.DAY_OF_QUARTER).getMaximum());
+        assertEquals(90, PersianDate.of(1403, 12, 1).range(PersianFields.DAY_OF_QUARTER).getMaximum());
+        assertEquals(93, PersianDate.of(1403, 2, 1).range(PersianFields.DAY_OF_QUARTER).getMaximum());
+        assertEquals(13, PersianDate.of(1403, 7, 1).range(PersianFields.WEEK_OF_QUARTER).getMaximum());
+        assertEquals(4, PersianDate.of(1403, 7, 1).range(PersianFields.QUARTER_OF_YEAR).getMaximum());
+    }
+
+    @Test
+    public void testWith() {
+        final PersianDate date = PersianDate.of(1402, 6, 31);
+        assertEquals(PersianDate.of(1402, 9, 30), date.with(PersianFields.QUARTER_OF_YEAR, 3));
+        assertEquals(PersianDate.of(1402, 12, 29), date.with(PersianFields.HALF_OF_YEAR, 2));
+        assertEquals(PersianDate.of(1402, 4, 1), date.with(PersianFields.DAY_OF_QUARTER, 1));
+        assertEquals(PersianDate.of(1402, 4, 7), PersianDate.of(1402, 4, 14).with(PersianFields.WEEK_OF_QUARTER, 1));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testWithInvalidDayOfQuarter() {
+        PersianDate.of(1402, 12, 1).with(PersianFields.DAY_OF_QUARTER, 90);
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void testIsoDateUnsupported() {
+        LocalDate.of(2023, 3, 21).getLong(PersianFields.QUARTER_OF_YEAR);
+    }
+
+    @Test
+    public void testUnits() {
+        final PersianDate date = PersianDate.of(1402, 6, 31);
+        assertEquals(PersianDate.of(1402, 9, 30), date.plus(1, PersianFields.QUARTER_YEARS));
+        assertEquals(PersianDate.of(1403, 12, 30), date.plus(3, PersianFields.HALF_YEARS));
+        assertEquals(4, date.until(PersianDate.of(1403, 7, 1), PersianFields.QUARTER_YEARS));
+        assertEquals(1, PersianFields.HALF_YEARS.between(date, PersianDate.of(1403, 1, 1)));
+    }
+
+    @Test
+    public void testFormatAndParse() {
+        assertEquals("1402-Q3-45", PersianDate.of(1402, 8, 15).format(QUARTER_FORMATTER));
+        for (PersianDate date = PersianDate.of(1402, 1, 1); date.getYear() < 1404; date = date.plusDays(1)) {
+            assertEquals(date, PersianDate.parse(date.format(QUARTER_FORMATTER), QUARTER_FORMATTER));
+        }
+        assertEquals(PersianDate.of(1402, 12, 29), PersianDate.parse("1402-Q4-89", QUARTER_FORMATTER));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testParseStrictOutOfQuarter() {
+        PersianDate.parse("1402-Q4-90", QUARTER_FORMATTER.withResolverStyle(ResolverStyle.STRICT));
+    }
+
+    @Test
+    public void testParseLenient() {
+        final DateTimeFormatter lenient = QUARTER_FORMATTER.withResolverStyle(ResolverStyle.LENIENT);
+        assertEquals(PersianDate.of(1403, 1, 1), PersianDate.parse("1402-Q4-90", lenient));
+    }
+}
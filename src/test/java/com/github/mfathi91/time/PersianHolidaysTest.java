@@ -0,0 +1,139 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianHolidays}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianHolidaysTest {
+
+    @Test
+    public void testSolarHolidays() {
+        final PersianHolidays holidays = PersianHolidays.builder()
+                .solar(1, 1)
+                .solar(11, 22)
+                .solar(12, 30)
+                .build();
+        final List<PersianDate> dates = holidays.getHolidays(1402);
+        assertEquals(2, dates.size());
+        assertEquals(PersianDate.of(1402, 1, 1), dates.get(0));
+        assertEquals(PersianDate.of(1402, 11, 22), dates.get(1));
+        assertTrue(holidays.isHoliday(PersianDate.of(1403, 12, 30)));
+        assertEquals(3, holidays.getHolidays(1403).size());
+    }
+
+    @Test
+    public void testOfficialHolidays() {
+        final PersianHolidays holidays = PersianHolidays.official();
+        // Tasua and Ashura of 1445 AH
+        assertTrue(holidays.isHoliday(PersianDate.of(1402, 5, 5)));
+        assertTrue(holidays.isHoliday(PersianDate.of(1402, 5, 6)));
+        assertTrue(holidays.isHoliday(PersianDate.of(1402, 1, 13)));
+        assertFalse(holidays.isHoliday(PersianDate.of(1402, 1, 14)));
+        for (int year = 1395; year <= 1410; year++) {
+            final List<PersianDate> dates = holidays.getHolidays(year);
+            assertTrue(dates.size() >= 25);
+            for (int i = 1; i < dates.size(); i++) {
+                assertTrue(dates.get(i - 1).isBefore(dates.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testLunarHolidaysFollowHijrahDates() {
+        final PersianHolidays holidays = PersianHolidays.builder().lunar(10, 1).lunar(2, 30).build();
+        for (int year = 1390; year <= 1420; year++) {
+            for (PersianDate date : holidays.getHolidays(year)) {
+                final HijrahDate hijrahDate = HijrahChronology.INSTANCE.date(date);
+                final int month = hijrahDate.get(ChronoField.MONTH_OF_YEAR);
+                final int day = hijrahDate.get(ChronoField.DAY_OF_MONTH);
+                assertTrue(month == 10 && day == 1 || month == 2 && day == hijrahDate.lengthOfMonth());
+            }
+        }
+        // the solar year is longer than the lunar year, so Eid al-Fitr can occur twice
+        int total = 0;
+        for (int year = 1390; year <= 1420; year++) {
+            total += holidays.getHolidays(year).size();
+        }
+        assertTrue(total > 31 * 2);
+    }
+
+    @Test
+    public void testAdjust() {
+        final PersianHolidays holidays = PersianHolidays.builder().lunar(10, 1).solar(1, 1).build();
+        final PersianDate computed = holidays.getHolidays(1402).get(1);
+        final PersianDate announced = computed.plusDays(1);
+        assertFalse(holidays.isHoliday(announced));
+        holidays.adjust(computed, announced);
+        assertTrue(holidays.isHoliday(announced));
+        assertFalse(holidays.isHoliday(computed));
+        holidays.cancel(PersianDate.of(1402, 1, 1));
+        assertFalse(holidays.isHoliday(PersianDate.of(1402, 1, 1)));
+        assertEquals(1, holidays.getHolidayEpochDays(1402).length);
+        holidays.clearAdjustments();
+        assertTrue(holidays.isHoliday(computed));
+        assertTrue(holidays.isHoliday(PersianDate.of(1402, 1, 1)));
+    }
+
+    @Test
+    public void testAdjustTwice() {
+        final PersianHolidays holidays = PersianHolidays.builder().solar(3, 14).build();
+        holidays.adjust(PersianDate.of(1402, 3, 14), PersianDate.of(1402, 3, 16));
+        holidays.adjust(PersianDate.of(1402, 3, 14), PersianDate.of(1402, 3, 17));
+        assertEquals(Collections.singletonList(PersianDate.of(1402, 3, 17)), holidays.getHolidays(1402));
+    }
+
+    @Test
+    public void testAnnounce() {
+        final PersianHolidays holidays = PersianHolidays.builder().solar(1, 1).build();
+        holidays.announce(PersianDate.of(1402, 11, 14));
+        holidays.announce(PersianDate.of(1403, 9, 5));
+        assertEquals(Arrays.asList(PersianDate.of(1402, 1, 1), PersianDate.of(1402, 11, 14)), holidays.getHolidays(1402));
+        assertTrue(holidays.isHoliday(PersianDate.of(1403, 9, 5)));
+        holidays.cancel(PersianDate.of(1402, 11, 14));
+        assertFalse(holidays.isHoliday(PersianDate.of(1402, 11, 14)));
+        // announcing a cancelled computed holiday restores it
+        holidays.cancel(PersianDate.of(1402, 1, 1));
+        assertFalse(holidays.isHoliday(PersianDate.of(1402, 1, 1)));
+        holidays.announce(PersianDate.of(1402, 1, 1));
+        assertTrue(holidays.isHoliday(PersianDate.of(1402, 1, 1)));
+        assertEquals(1, holidays.getHolidayEpochDays(1402).length);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testAdjustNotAHoliday() {
+        PersianHolidays.official().adjust(PersianDate.of(1402, 1, 5), PersianDate.of(1402, 1, 6));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testCancelNotAHoliday() {
+        PersianHolidays.official().cancel(PersianDate.of(1402, 1, 5));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testAdjustToAnotherYear() {
+        PersianHolidays.official().adjust(PersianDate.of(1402, 12, 29), PersianDate.of(1403, 1, 1));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testLunarOutOfRange() {
+        PersianHolidays.official().getHolidays(1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLunarDay() {
+        PersianHolidays.builder().lunar(1, 31);
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianMonthDay}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianMonthDayTest {
+
+    @Test
+    public void testOf() {
+        final PersianMonthDay monthDay = PersianMonthDay.of(12, 30);
+        assertEquals(PersianMonth.ESFAND, monthDay.getMonth());
+        assertEquals(12, monthDay.getMonthValue());
+        assertEquals(30, monthDay.getDayOfMonth());
+        assertSame(monthDay, PersianMonthDay.of(PersianMonth.ESFAND, 30));
+        assertSame(monthDay, PersianMonthDay.of(PersianDate.of(1399, 12, 30)));
+        assertEquals(365, monthDay.ordinal());
+        assertEquals(0, PersianMonthDay.of(1, 1).ordinal());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOfInvalidDay() {
+        PersianMonthDay.of(7, 31);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOfInvalidMonth() {
+        PersianMonthDay.of(0, 1);
+    }
+
+    @Test
+    public void testOrdinalsFollowDaysOfYear() {
+        for (PersianDate date = PersianDate.of(1399, 1, 1); date.getYear() == 1399; date = date.plusDays(1)) {
+            final PersianMonthDay monthDay = PersianMonthDay.of(date);
+            assertEquals(date.getDayOfYear() - 1, monthDay.ordinal());
+            assertSame(monthDay, PersianMonthDay.ofOrdinal(monthDay.ordinal()));
+            assertEquals(date, monthDay.atYear(1399));
+        }
+    }
+
+    @Test
+    public void testAtYear() {
+        final PersianMonthDay esfand30 = PersianMonthDay.of(12, 30);
+        assertTrue(esfand30.isValidYear(1403));
+        assertFalse(esfand30.isValidYear(1402));
+        assertEquals(PersianDate.of(1403, 12, 30), esfand30.atYear(1403));
+        assertEquals(PersianDate.of(1402, 12, 29), esfand30.atYear(1402));
+        assertTrue(PersianMonthDay.of(12, 29).isValidYear(1402));
+        assertEquals(PersianDate.of(1402, 7, 1), PersianMonthDay.of(7, 1).atYear(1402));
+    }
+
+    @Test
+    public void testParseAndFormat() {
+        assertEquals(PersianMonthDay.of(12, 30), PersianMonthDay.parse("--12-30"));
+        assertEquals("--12-30", PersianMonthDay.of(12, 30).toString());
+        assertEquals("--01-05", PersianMonthDay.of(1, 5).toString());
+    }
+
+    @Test
+    public void testFrom() {
+        assertEquals(PersianMonthDay.of(1, 1), PersianMonthDay.from(LocalDate.of(2023, 3, 21)));
+        assertEquals(PersianMonthDay.of(1, 1), PersianMonthDay.from(PersianDateTime.of(1402, 1, 1, 10, 0)));
+        assertEquals(30, PersianMonthDay.of(12, 30).get(ChronoField.DAY_OF_MONTH));
+        assertEquals(29, PersianMonthDay.of(12, 1).range(ChronoField.DAY_OF_MONTH).getSmallestMaximum());
+    }
+
+    @Test
+    public void testCompare() {
+        assertTrue(PersianMonthDay.of(1, 31).isBefore(PersianMonthDay.of(2, 1)));
+        assertTrue(PersianMonthDay.of(7, 1).isAfter(PersianMonthDay.of(6, 31)));
+        assertTrue(PersianMonthDay.of(1, 31).compareTo(PersianMonthDay.of(2, 1)) < 0);
+        assertNotEquals(PersianMonthDay.of(1, 31), PersianMonthDay.of(2, 1));
+    }
+}
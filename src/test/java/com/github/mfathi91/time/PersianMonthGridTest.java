@@ -0,0 +1,129 @@
+package com.github.mfathi91.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianMonthGrid}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianMonthGridTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testOf() {
+        final PersianMonthGrid grid = PersianMonthGrid.of(1402, 1);
+        assertEquals(1402, grid.getYear());
+        assertEquals(PersianMonth.FARVARDIN, grid.getMonth());
+        assertEquals(PersianYearMonth.of(1402, 1), grid.getYearMonth());
+        assertEquals(DayOfWeek.TUESDAY, grid.getFirstDayOfWeek());
+        assertEquals(3, grid.getFirstDayIndex());
+        assertEquals(33, grid.getLastDayIndex());
+        assertEquals(31, grid.lengthOfMonth());
+        assertEquals(5, grid.getRowCount());
+        assertEquals("1402-01[3+31]", grid.toString());
+    }
+
+    @Test
+    public void testCached() {
+        assertSame(PersianMonthGrid.of(1402, 7), PersianMonthGrid.of(1402, PersianMonth.MEHR));
+        assertSame(PersianMonthGrid.of(1402, 7), PersianMonthGrid.of(PersianDate.of(1402, 7, 15)));
+    }
+
+    @Test
+    public void testCellsMatchPersianDate() {
+        for (int year = 1398; year <= 1404; year++) {
+            for (int month = 1; month <= 12; month++) {
+                final PersianMonthGrid grid = PersianMonthGrid.of(year, month);
+                final PersianDate first = PersianDate.of(year, month, 1);
+                final int[] epochDays = grid.getEpochDays();
+                final int[] days = grid.getDaysOfMonth();
+                for (int cell = 0; cell < PersianMonthGrid.CELLS; cell++) {
+                    final PersianDate date = first.plusDays(cell - grid.getFirstDayIndex());
+                    assertEquals(date.toEpochDay(), epochDays[cell]);
+                    assertEquals(date.toEpochDay(), grid.getEpochDay(cell));
+                    assertEquals(date.getDayOfMonth(), days[cell]);
+                    assertEquals(date.getDayOfMonth(), grid.getDayOfMonth(cell));
+                    assertEquals(DayOfWeek.SATURDAY.plus(cell % 7), date.getDayOfWeek());
+                    assertEquals(date.getMonthValue() == month, grid.isInMonth(cell));
+                    assertEquals(cell, grid.indexOf(date));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLeapEsfand() {
+        final PersianMonthGrid grid = PersianMonthGrid.of(1403, 12);
+        assertEquals(30, grid.lengthOfMonth());
+        assertEquals(30, grid.getDayOfMonth(grid.getLastDayIndex()));
+        assertEquals(1, grid.getDayOfMonth(grid.getLastDayIndex() + 1));
+        final PersianMonthGrid next = PersianMonthGrid.of(1404, 1);
+        assertEquals(DayOfWeek.FRIDAY, next.getFirstDayOfWeek());
+        assertEquals(30, next.getDayOfMonth(next.getFirstDayIndex() - 1));
+        assertEquals(6, next.getRowCount());
+    }
+
+    @Test
+    public void testMonthsDoNotOverlap() {
+        // PersianDate.isLeapYear(475) is true, but by the epoch days Esfand 475 has 29 days
+        assertEquals(29, PersianMonthGrid.of(475, 12).lengthOfMonth());
+        final PersianDateCursor cursor = PersianDateCursor.of(PersianDate.MIN);
+        for (int year = 1; year <= 1999; year++) {
+            for (int month = 1; month <= 12; month++) {
+                final PersianMonthGrid grid = PersianMonthGrid.of(year, month);
+                assertEquals(cursor.lengthOfMonth(), grid.lengthOfMonth());
+                assertEquals(cursor.getEpochDay(), grid.getEpochDay(grid.getFirstDayIndex()));
+                if (year < 1999 || month < 12) {
+                    cursor.nextMonth();
+                    assertEquals(cursor.getEpochDay(), grid.getEpochDay(grid.getLastDayIndex()) + 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIndexOf() {
+        final PersianMonthGrid grid = PersianMonthGrid.of(1402, 1);
+        assertEquals(-1, grid.indexOf(grid.getEpochDay(0) - 1));
+        assertEquals(-1, grid.indexOf(grid.getEpochDay(41) + 1));
+        assertEquals(0, grid.indexOf(grid.getEpochDay(0)));
+    }
+
+    @Test
+    public void testArraysAreCopies() {
+        final PersianMonthGrid grid = PersianMonthGrid.of(1402, 2);
+        grid.getDaysOfMonth()[0] = -1;
+        grid.getEpochDays()[0] = -1;
+        assertNotEquals(-1, grid.getDayOfMonth(0));
+        assertNotEquals(-1, grid.getEpochDay(0));
+    }
+
+    @Test
+    public void testMask() {
+        final PersianMonthGrid grid = PersianMonthGrid.of(1402, 1);
+        // Fridays are in the last column
+        final long fridays = grid.mask(epochDay -> Math.floorMod(epochDay + 3, 7) == 4);
+        for (int cell = 0; cell < PersianMonthGrid.CELLS; cell++) {
+            assertEquals(cell % 7 == 6, (fridays >>> cell & 1) != 0);
+        }
+        assertEquals(0, grid.mask(epochDay -> false));
+    }
+
+    @Test
+    public void testBounds() {
+        assertEquals(1, PersianMonthGrid.of(1, 1).getDayOfMonth(PersianMonthGrid.of(1, 1).getFirstDayIndex()));
+        assertEquals(1999, PersianMonthGrid.of(1999, 12).getYear());
+        exception.expect(DateTimeException.class);
+        PersianMonthGrid.of(1402, 13);
+    }
+}
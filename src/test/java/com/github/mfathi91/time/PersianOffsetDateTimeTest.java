@@ -0,0 +1,53 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.*;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalQueries;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianOffsetDateTime}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianOffsetDateTimeTest {
+
+    @Test
+    public void testOfInstant() {
+        final Instant instant = Instant.parse("2023-03-21T06:45:00Z");
+        final PersianOffsetDateTime odt = PersianOffsetDateTime.ofInstant(instant, ZoneId.of("Asia/Tehran"));
+        assertEquals(PersianDateTime.of(1402, 1, 1, 10, 15), odt.toLocalDateTime());
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), odt.getOffset());
+        assertEquals(instant, odt.toInstant());
+    }
+
+    @Test
+    public void testGregorianRoundTrip() {
+        final OffsetDateTime gregorian = OffsetDateTime.of(2023, 3, 21, 10, 15, 0, 0, ZoneOffset.ofHours(1));
+        final PersianOffsetDateTime odt = PersianOffsetDateTime.fromGregorian(gregorian);
+        assertEquals(PersianDateTime.of(1402, 1, 1, 10, 15), odt.toLocalDateTime());
+        assertEquals(gregorian, odt.toGregorian());
+    }
+
+    @Test
+    public void testGetLong() {
+        final PersianOffsetDateTime odt = PersianDateTime.of(1402, 1, 1, 10, 15).atOffset(ZoneOffset.ofHours(2));
+        assertEquals(7200, odt.getLong(ChronoField.OFFSET_SECONDS));
+        assertEquals(odt.toEpochSecond(), odt.getLong(ChronoField.INSTANT_SECONDS));
+        assertEquals(10, odt.get(ChronoField.HOUR_OF_DAY));
+        assertEquals(PersianChronology.INSTANCE, odt.query(TemporalQueries.chronology()));
+    }
+
+    @Test
+    public void testCompareTo() {
+        final PersianOffsetDateTime a = PersianDateTime.of(1402, 1, 1, 10, 0).atOffset(ZoneOffset.ofHours(1));
+        final PersianOffsetDateTime b = PersianDateTime.of(1402, 1, 1, 11, 0).atOffset(ZoneOffset.ofHours(2));
+        assertTrue(a.isEqual(b));
+        assertNotEquals(a, b);
+        assertTrue(a.compareTo(b) < 0);
+        assertEquals("1402-01-01T10:00+01:00", a.toString());
+    }
+}
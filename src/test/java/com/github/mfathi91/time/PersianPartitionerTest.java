@@ -0,0 +1,106 @@
+package com.github.mfathi91.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianPartitioner}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianPartitionerTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    private static final PersianPartitioner MONTHS = PersianPartitioner.ofMonths(PersianYearMonth.of(1400, 1),
+            PersianYearMonth.of(1405, 12), TEHRAN);
+
+    private static long epochMilli(int year, int month, int day, int hour) {
+        return PersianDateTime.of(year, month, day, hour, 0).atZone(TEHRAN).toInstant().toEpochMilli();
+    }
+
+    @Test
+    public void testMonths() {
+        assertEquals(72, MONTHS.size());
+        assertEquals("1400-01", MONTHS.getName(0));
+        assertEquals("1405-12", MONTHS.getName(71));
+        assertEquals(PersianDate.of(1402, 7, 1), MONTHS.getStartDate(30));
+        assertEquals(30, MONTHS.partitionOf(epochMilli(1402, 7, 30, 23)));
+        assertEquals("1402-07", MONTHS.partitionNameOf(epochMilli(1402, 7, 1, 0)));
+        assertEquals(-1, MONTHS.partitionOf(epochMilli(1406, 1, 1, 0)));
+        assertEquals(epochMilli(1402, 8, 1, 0), MONTHS.getEndEpochMilli(30));
+        assertEquals(MONTHS.getEndEpochMilli(29), MONTHS.getStartEpochMilli(30));
+    }
+
+    @Test
+    public void testMatchesPersianDateTime() {
+        final Random random = new Random(5);
+        final long from = MONTHS.getStartEpochMilli(0);
+        final long to = MONTHS.getEndEpochMilli(MONTHS.size() - 1);
+        for (int i = 0; i < 20_000; i++) {
+            final long epochMilli = from + (long) (random.nextDouble() * (to - from));
+            final PersianDate date = PersianDate.fromGregorian(
+                    Instant.ofEpochMilli(epochMilli).atZone(TEHRAN).toLocalDate());
+            assertEquals(String.format("%04d-%02d", date.getYear(), date.getMonthValue()),
+                    MONTHS.partitionNameOf(epochMilli));
+        }
+    }
+
+    @Test
+    public void testNames() {
+        assertEquals("1402", PersianPartitioner.ofYears(1402, 1403, TEHRAN).getName(0));
+        assertEquals(2, PersianPartitioner.ofYears(1402, 1403, TEHRAN).size());
+        final PersianBuckets seasons = PersianBuckets.of(PersianDate.of(1402, 1, 1), PersianDate.of(1403, 1, 1),
+                PersianFields.QUARTER_YEARS, TEHRAN);
+        assertEquals("1402-Q3", PersianPartitioner.of(seasons).getName(2));
+        final PersianBuckets halves = PersianBuckets.of(PersianDate.of(1402, 1, 1), PersianDate.of(1403, 1, 1),
+                PersianFields.HALF_YEARS, TEHRAN);
+        assertEquals("1402-H2", PersianPartitioner.of(halves).getName(1));
+        final PersianBuckets days = PersianBuckets.of(PersianDate.of(1402, 1, 1), PersianDate.of(1402, 1, 3),
+                ChronoUnit.DAYS, TEHRAN);
+        assertEquals("1402-01-02", PersianPartitioner.of(days).getName(1));
+        final PersianPartitioner custom = PersianPartitioner.of(MONTHS.getBuckets(),
+                date -> "p" + date.getYear() + "_" + date.getMonthValue());
+        assertEquals("p1400_1", custom.getName(0));
+        assertEquals(72, custom.getNames().size());
+    }
+
+    @Test
+    public void testPartitionsBetween() {
+        assertArrayEquals(new int[]{30, 31},
+                MONTHS.partitionsBetween(epochMilli(1402, 7, 15, 0), epochMilli(1402, 8, 2, 0)));
+        assertArrayEquals(new int[]{30},
+                MONTHS.partitionsBetween(epochMilli(1402, 7, 1, 0), epochMilli(1402, 8, 1, 0)));
+        assertArrayEquals(new int[]{0, 1},
+                MONTHS.partitionsBetween(Long.MIN_VALUE, epochMilli(1400, 2, 1, 1)));
+        assertArrayEquals(new int[]{71}, MONTHS.partitionsBetween(epochMilli(1405, 12, 1, 0), Long.MAX_VALUE));
+        assertEquals(0, MONTHS.partitionsBetween(epochMilli(1402, 7, 1, 0), epochMilli(1402, 7, 1, 0)).length);
+        assertEquals(0, MONTHS.partitionsBetween(epochMilli(1390, 1, 1, 0), epochMilli(1391, 1, 1, 0)).length);
+    }
+
+    @Test
+    public void testPartitionNameOutOfRange() {
+        exception.expect(DateTimeException.class);
+        MONTHS.partitionNameOf(epochMilli(1399, 12, 29, 0));
+    }
+
+    @Test
+    public void testLastMonthOfRange() {
+        final PersianPartitioner last = PersianPartitioner.ofMonths(PersianYearMonth.of(1999, 11),
+                PersianYearMonth.of(1999, 12), TEHRAN);
+        assertEquals(2, last.size());
+        assertEquals("1999-12", last.getName(1));
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianPeriod}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianPeriodTest {
+
+    @Test
+    public void testOf() {
+        final PersianPeriod period = PersianPeriod.of(1, 2, 3);
+        assertEquals(1, period.getYears());
+        assertEquals(2, period.getMonths());
+        assertEquals(3, period.getDays());
+        assertEquals(14, period.toTotalMonths());
+        assertEquals(3, period.get(ChronoUnit.DAYS));
+        assertSame(PersianChronology.INSTANCE, period.getChronology());
+        assertSame(PersianPeriod.ZERO, PersianPeriod.of(0, 0, 0));
+        assertTrue(PersianPeriod.ofDays(0).isZero());
+        assertTrue(PersianPeriod.ofMonths(-1).isNegative());
+        assertEquals("Persian P1Y2M3D", period.toString());
+        assertEquals("Persian P0D", PersianPeriod.ZERO.toString());
+    }
+
+    @Test
+    public void testUntil() {
+        final PersianDate start = PersianDate.of(1401, 1, 15);
+        assertEquals(PersianPeriod.of(1, 2, 3), start.until(PersianDate.of(1402, 3, 18)));
+        assertEquals(PersianPeriod.of(0, 0, 30), PersianDate.of(1402, 6, 31).until(PersianDate.of(1402, 7, 30)));
+        assertEquals(PersianPeriod.of(0, 1, 1), PersianDate.of(1402, 6, 31).until(PersianDate.of(1402, 8, 1)));
+        assertEquals(PersianPeriod.of(-1, -2, -3), PersianDate.of(1402, 3, 18).until(PersianDate.of(1401, 1, 15)));
+        assertEquals(PersianPeriod.of(1, 0, 0), PersianDate.of(1401, 1, 1).until(LocalDate.of(2023, 3, 21)));
+        assertSame(PersianChronology.INSTANCE, start.until(start).getChronology());
+    }
+
+    @Test
+    public void testBetweenAgainstDates() {
+        final Random random = new Random(36);
+        for (int i = 0; i < 20_000; i++) {
+            final PersianDate start = PersianDate.ofEpochDay(random.nextInt(40_000) - 20_000);
+            final PersianDate end = start.plusDays(random.nextInt(4_000) - 2_000);
+            final PersianPeriod period = PersianPeriod.between(start, end);
+            final long packed = PersianPeriod.betweenPacked(start, end);
+            assertEquals(packed, PersianPeriod.betweenPacked(start.toEpochDay(), end.toEpochDay()));
+            assertEquals(period.getYears(), PersianPeriod.unpackYears(packed));
+            assertEquals(period.getMonths(), PersianPeriod.unpackMonths(packed));
+            assertEquals(period.getDays(), PersianPeriod.unpackDays(packed));
+            assertEquals(packed, period.toPacked());
+            assertEquals(start.until(end, ChronoUnit.MONTHS), period.toTotalMonths());
+            if (!end.isBefore(start)) {
+                assertEquals(end, start.plus(period));
+                assertFalse(period.isNegative());
+            } else {
+                assertTrue(period.getYears() <= 0 && period.getMonths() <= 0 && period.getDays() <= 0);
+            }
+        }
+    }
+
+    @Test
+    public void testAddToAndSubtractFrom() {
+        final PersianDate date = PersianDate.of(1402, 6, 31);
+        assertEquals(PersianDate.of(1402, 7, 30), date.plus(PersianPeriod.ofMonths(1)));
+        assertEquals(PersianDate.of(1403, 9, 3), date.plus(PersianPeriod.of(1, 2, 3)));
+        assertEquals(PersianDate.of(1401, 4, 28), date.minus(PersianPeriod.of(1, 2, 3)));
+        assertEquals(PersianDate.of(1402, 7, 30), PersianPeriod.ofMonths(1).addTo(date));
+        final PersianDateTime dateTime = PersianDateTime.of(1402, 6, 31, 10, 0);
+        final PersianZonedDateTime zoned = PersianZonedDateTime.of(dateTime, ZoneId.of("Asia/Tehran"));
+        assertEquals(PersianDate.of(1402, 7, 30), zoned.plus(PersianPeriod.ofMonths(1)).toLocalDate());
+        assertEquals(PersianDate.of(1402, 5, 31), zoned.minus(PersianPeriod.ofMonths(1)).toLocalDate());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testAddToIsoDate() {
+        PersianPeriod.ofDays(1).addTo(LocalDate.of(2023, 1, 1));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testFromIsoPeriod() {
+        PersianPeriod.from(Period.ofDays(1));
+    }
+
+    @Test
+    public void testArithmetic() {
+        final PersianPeriod period = PersianPeriod.of(1, 11, 20);
+        assertEquals(PersianPeriod.of(2, 13, 23), period.plus(PersianPeriod.of(1, 2, 3)));
+        assertEquals(PersianPeriod.of(0, 9, 17), period.minus(PersianPeriod.of(1, 2, 3)));
+        assertEquals(PersianPeriod.of(2, 22, 40), period.multipliedBy(2));
+        assertEquals(PersianPeriod.of(-1, -11, -20), period.negated());
+        assertEquals(PersianPeriod.of(3, 10, 40), period.multipliedBy(2).normalized());
+        assertEquals(PersianPeriod.of(0, -1, 0), PersianPeriod.of(1, -13, 0).normalized());
+        assertEquals(PersianPeriod.of(1, 2, 3), PersianPeriod.from(PersianPeriod.of(1, 2, 3)));
+        assertEquals(PersianPeriod.of(1, 2, 3), PersianPeriod.of(1, 2, 3));
+        assertEquals(PersianPeriod.of(1, 2, 3).hashCode(), PersianPeriod.of(1, 2, 3).hashCode());
+        assertNotEquals(PersianPeriod.of(1, 2, 3), PersianPeriod.of(3, 2, 1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.mfathi91.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+
+import static com.github.mfathi91.time.PersianTemporalAdjusters.*;
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianTemporalAdjusters}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianTemporalAdjustersTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testMonthAdjusters() {
+        final PersianDate date = PersianDate.of(1403, 12, 17);
+        assertEquals(PersianDate.of(1403, 12, 1), date.with(firstDayOfMonth()));
+        assertEquals(PersianDate.of(1403, 12, 30), date.with(lastDayOfMonth()));
+        assertEquals(PersianDate.of(1402, 12, 29), PersianDate.of(1402, 12, 1).with(lastDayOfMonth()));
+        assertEquals(PersianDate.of(1404, 1, 1), date.with(firstDayOfNextMonth()));
+        assertEquals(PersianDate.of(1403, 7, 1), PersianDate.of(1403, 6, 31).with(firstDayOfNextMonth()));
+    }
+
+    @Test
+    public void testQuarterAdjusters() {
+        assertEquals(PersianDate.of(1402, 4, 1), PersianDate.of(1402, 6, 10).with(firstDayOfQuarter()));
+        assertEquals(PersianDate.of(1402, 6, 31), PersianDate.of(1402, 4, 1).with(lastDayOfQuarter()));
+        assertEquals(PersianDate.of(1402, 9, 30), PersianDate.of(1402, 7, 1).with(lastDayOfQuarter()));
+        assertEquals(PersianDate.of(1402, 12, 29), PersianDate.of(1402, 10, 5).with(lastDayOfQuarter()));
+        assertEquals(PersianDate.of(1403, 12, 30), PersianDate.of(1403, 11, 5).with(lastDayOfQuarter()));
+        assertEquals(PersianDate.of(1403, 10, 1), PersianDate.of(1403, 12, 30).with(firstDayOfQuarter()));
+    }
+
+    @Test
+    public void testYearAdjusters() {
+        final PersianDate date = PersianDate.of(1403, 8, 8);
+        assertEquals(PersianDate.of(1403, 1, 1), date.with(firstDayOfYear()));
+        assertEquals(PersianDate.of(1403, 12, 30), date.with(lastDayOfYear()));
+        assertEquals(PersianDate.of(1404, 12, 29), PersianDate.of(1404, 1, 1).with(lastDayOfYear()));
+        assertEquals(PersianDate.of(1404, 1, 1), date.with(nextNowruz()));
+        assertEquals(PersianDate.of(1405, 1, 1), PersianDate.of(1404, 1, 1).with(nextNowruz()));
+    }
+
+    @Test
+    public void testMatchesLoops() {
+        final TemporalAdjuster[] adjusters = {firstDayOfMonth(), lastDayOfMonth(), firstDayOfNextMonth(),
+                firstDayOfQuarter(), lastDayOfQuarter(), firstDayOfYear(), lastDayOfYear(), nextNowruz()};
+        for (PersianDate date = PersianDate.of(1398, 1, 1); date.getYear() < 1405; date = date.plusDays(1)) {
+            final PersianDate[] expected = {
+                    date.withDayOfMonth(1),
+                    date.withDayOfMonth(date.lengthOfMonth()),
+                    date.withDayOfMonth(1).plusMonths(1),
+                    date.withDayOfMonth(1).withMonth((date.getMonthValue() - 1) / 3 * 3 + 1),
+                    date.withDayOfMonth(1).withMonth((date.getMonthValue() - 1) / 3 * 3 + 1).plusMonths(3).plusDays(-1),
+                    date.withDayOfYear(1),
+                    date.withDayOfYear(1).plusYears(1).plusDays(-1),
+                    date.withDayOfYear(1).plusYears(1)};
+            for (int i = 0; i < adjusters.length; i++) {
+                final PersianDate actual = date.with(adjusters[i]);
+                assertEquals(date + " " + i, expected[i], actual);
+                assertEquals(date + " " + i, expected[i].toEpochDay(), actual.toEpochDay());
+            }
+        }
+    }
+
+    @Test
+    public void testDayOfWeekAdjusters() {
+        // 1402-08-06 is a Saturday
+        final PersianDate saturday = PersianDate.of(1402, 8, 6);
+        assertEquals(saturday, saturday.with(nextOrSame(DayOfWeek.SATURDAY)));
+        assertEquals(PersianDate.of(1402, 8, 13), saturday.with(next(DayOfWeek.SATURDAY)));
+        assertEquals(saturday, PersianDate.of(1402, 8, 10).with(previousOrSame(DayOfWeek.SATURDAY)));
+        assertEquals(PersianDate.of(1402, 7, 29), saturday.with(previous(DayOfWeek.SATURDAY)));
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            for (int i = 0; i < 7; i++) {
+                final PersianDate date = saturday.plusDays(i);
+                final LocalDate gregorian = date.toGregorian();
+                assertEquals(gregorian.with(TemporalAdjusters.next(dayOfWeek)),
+                        date.with(next(dayOfWeek)).toGregorian());
+                assertEquals(gregorian.with(TemporalAdjusters.nextOrSame(dayOfWeek)),
+                        date.with(nextOrSame(dayOfWeek)).toGregorian());
+                assertEquals(gregorian.with(TemporalAdjusters.previous(dayOfWeek)),
+                        date.with(previous(dayOfWeek)).toGregorian());
+                assertEquals(gregorian.with(TemporalAdjusters.previousOrSame(dayOfWeek)),
+                        date.with(previousOrSame(dayOfWeek)).toGregorian());
+            }
+        }
+    }
+
+    @Test
+    public void testDayOfWeekInMonth() {
+        // 1402-08-01 is a Monday, and Aban 1402 has 30 days
+        final PersianDate date = PersianDate.of(1402, 8, 15);
+        assertEquals(PersianDate.of(1402, 8, 6), date.with(firstInMonth(DayOfWeek.SATURDAY)));
+        assertEquals(PersianDate.of(1402, 8, 1), date.with(firstInMonth(DayOfWeek.MONDAY)));
+        assertEquals(PersianDate.of(1402, 8, 27), date.with(lastInMonth(DayOfWeek.SATURDAY)));
+        assertEquals(PersianDate.of(1402, 8, 30), date.with(lastInMonth(DayOfWeek.TUESDAY)));
+        assertEquals(PersianDate.of(1402, 8, 20), date.with(dayOfWeekInMonth(3, DayOfWeek.SATURDAY)));
+        assertEquals(PersianDate.of(1402, 7, 29), date.with(dayOfWeekInMonth(0, DayOfWeek.SATURDAY)));
+        assertEquals(PersianDate.of(1402, 9, 4), date.with(dayOfWeekInMonth(5, DayOfWeek.SATURDAY)));
+        assertEquals(PersianDate.of(1402, 8, 20), date.with(dayOfWeekInMonth(-2, DayOfWeek.SATURDAY)));
+    }
+
+    @Test
+    public void testOtherTemporals() {
+        final LocalDate gregorian = PersianDate.of(1402, 12, 10).toGregorian();
+        assertEquals(PersianDate.of(1402, 12, 29).toGregorian(), gregorian.with(lastDayOfMonth()));
+        final LocalDateTime gregorianDateTime = gregorian.atTime(10, 30);
+        assertEquals(PersianDate.of(1403, 1, 1).toGregorian().atTime(10, 30), gregorianDateTime.with(nextNowruz()));
+        final PersianDateTime dateTime = PersianDateTime.of(1402, 12, 10, 10, 30);
+        assertEquals(PersianDateTime.of(1402, 10, 1, 10, 30), firstDayOfQuarter().adjustInto(dateTime));
+    }
+
+    @Test
+    public void testOutOfRange() {
+        exception.expect(DateTimeException.class);
+        PersianDate.MAX.with(nextNowruz());
+    }
+}
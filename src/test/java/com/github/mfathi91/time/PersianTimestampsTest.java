@@ -0,0 +1,157 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Provides unit tests for {@link PersianTimestamps}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianTimestampsTest {
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    public void testFields() {
+        final long packed = PersianTimestamps.of(1402, 12, 29, 23, 59, 58, 999);
+        assertEquals(1402, PersianTimestamps.getYear(packed));
+        assertEquals(12, PersianTimestamps.getMonthValue(packed));
+        assertEquals(29, PersianTimestamps.getDayOfMonth(packed));
+        assertEquals(23, PersianTimestamps.getHour(packed));
+        assertEquals(59, PersianTimestamps.getMinute(packed));
+        assertEquals(58, PersianTimestamps.getSecond(packed));
+        assertEquals(999, PersianTimestamps.getMillis(packed));
+        assertEquals(LocalTime.of(23, 59, 58, 999_000_000).toNanoOfDay() / 1_000_000L,
+                PersianTimestamps.getMillisOfDay(packed));
+        final PersianDate date = PersianDate.of(1402, 12, 29);
+        assertEquals(date.toEpochDay(), PersianTimestamps.toEpochDay(packed));
+        assertEquals(date.getDayOfWeek(), PersianTimestamps.getDayOfWeek(packed));
+    }
+
+    @Test
+    public void testRoundTripPersianDateTime() {
+        final PersianDateTime dateTime = PersianDateTime.of(1399, 12, 30, 10, 15, 30, 123_000_000);
+        final long packed = PersianTimestamps.of(dateTime);
+        assertEquals(dateTime, PersianTimestamps.toPersianDateTime(packed));
+        assertEquals(PersianTimestamps.of(1399, 12, 30, 10, 15, 30, 123), packed);
+        final PersianDateTime min = PersianDateTime.of(PersianDate.MIN, LocalTime.MIN);
+        assertEquals(min, PersianTimestamps.toPersianDateTime(PersianTimestamps.of(min)));
+        final PersianDateTime max = PersianDateTime.of(PersianDate.MAX, LocalTime.of(23, 59, 59, 999_000_000));
+        assertEquals(max, PersianTimestamps.toPersianDateTime(PersianTimestamps.of(max)));
+    }
+
+    @Test
+    public void testOrdering() {
+        final Random random = new Random(1402);
+        long previousMillis = Long.MIN_VALUE;
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < 10_000; i++) {
+            final long millis = random.nextLong() % 15_000_000_000_000L;
+            final long packed = PersianTimestamps.ofEpochMilli(millis, ZoneOffset.UTC);
+            if (previousMillis != Long.MIN_VALUE) {
+                assertEquals(Long.signum(Long.compare(millis, previousMillis)), Long.signum(Long.compare(packed, previous)));
+            }
+            previousMillis = millis;
+            previous = packed;
+        }
+    }
+
+    @Test
+    public void testOfEpochMilli() {
+        for (long millis = 1_500_000_000_000L; millis < 1_700_000_000_000L; millis += 7_654_321L) {
+            final long packed = PersianTimestamps.ofEpochMilli(millis, TEHRAN);
+            final PersianDateTime expected = PersianZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), TEHRAN)
+                    .toLocalDateTime();
+            assertEquals(expected, PersianTimestamps.toPersianDateTime(packed));
+            // the instant is recovered, except for the later instant of an overlap
+            final long earlier = ZonedDateTime.of(expected.toGregorian(), TEHRAN).toInstant().toEpochMilli();
+            assertTrue(millis == earlier || millis == earlier + 3_600_000L);
+            assertEquals(earlier, PersianTimestamps.toEpochMilli(packed, TEHRAN));
+        }
+    }
+
+    @Test
+    public void testToEpochMilliInGapAndOverlap() {
+        for (ZoneId zone : new ZoneId[]{TEHRAN, NEW_YORK}) {
+            ZonedDateTime zdt = ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, zone);
+            for (int i = 0; i < 2 * 365 * 24 * 4; i++) {
+                // local date-times taken every 15 minutes, including those in gaps and overlaps
+                final PersianDateTime local = PersianDateTime.fromGregorian(zdt.toLocalDateTime().plusMinutes(15L * i));
+                final long expected = ZonedDateTime.of(local.toGregorian(), zone).toInstant().toEpochMilli();
+                assertEquals(local + " " + zone, expected, PersianTimestamps.toEpochMilli(PersianTimestamps.of(local), zone));
+            }
+        }
+    }
+
+    @Test
+    public void testPlusMillis() {
+        final long packed = PersianTimestamps.of(1401, 12, 29, 23, 59, 59, 999);
+        assertEquals(PersianTimestamps.of(1402, 1, 1, 0, 0, 0, 0), PersianTimestamps.plusMillis(packed, 1));
+        assertEquals(PersianTimestamps.of(1401, 12, 28, 23, 59, 59, 999), PersianTimestamps.plusMillis(packed, -86_400_000L));
+        assertEquals(packed, PersianTimestamps.plusMillis(packed, 0));
+    }
+
+    @Test
+    public void testPlusDays() {
+        final PersianDateTime dateTime = PersianDateTime.of(1399, 6, 31, 8, 30);
+        final long packed = PersianTimestamps.of(dateTime);
+        for (int days = -800; days <= 800; days += 7) {
+            final PersianDateTime expected = PersianDateTime.of(dateTime.toLocalDate().plusDays(days), dateTime.toLocalTime());
+            assertEquals(expected, PersianTimestamps.toPersianDateTime(PersianTimestamps.plusDays(packed, days)));
+        }
+    }
+
+    @Test
+    public void testPlusPersianMonths() {
+        final long packed = PersianTimestamps.of(1399, 6, 31, 8, 30, 0, 0);
+        for (int months = -40; months <= 40; months++) {
+            final PersianDate expected = PersianDate.of(1399, 6, 31).plusMonths(months);
+            final long result = PersianTimestamps.plusPersianMonths(packed, months);
+            assertEquals(expected, PersianTimestamps.toPersianDateTime(result).toLocalDate());
+            assertEquals(8, PersianTimestamps.getHour(result));
+            assertEquals(30, PersianTimestamps.getMinute(result));
+        }
+    }
+
+    @Test
+    public void testTruncate() {
+        final long packed = PersianTimestamps.of(1402, 8, 17, 13, 45, 12, 345);
+        assertEquals(PersianTimestamps.of(1402, 8, 17, 0, 0, 0, 0), PersianTimestamps.truncateToDay(packed));
+        assertEquals(PersianTimestamps.of(1402, 8, 1, 0, 0, 0, 0), PersianTimestamps.truncateToMonth(packed));
+        assertEquals(PersianTimestamps.of(1402, 1, 1, 0, 0, 0, 0), PersianTimestamps.truncateToYear(packed));
+        assertTrue(PersianTimestamps.truncateToYear(packed) < PersianTimestamps.truncateToMonth(packed));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOfInvalidDay() {
+        PersianTimestamps.of(1402, 12, 30, 0, 0, 0, 0);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOfInvalidMillis() {
+        PersianTimestamps.of(1402, 1, 1, 0, 0, 0, 1000);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testPlusDaysOutOfRange() {
+        PersianTimestamps.plusDays(PersianTimestamps.of(PersianDateTime.of(PersianDate.MAX, LocalTime.MIN)), 1);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testPlusPersianMonthsOutOfRange() {
+        PersianTimestamps.plusPersianMonths(PersianTimestamps.of(1, 1, 1, 0, 0, 0, 0), -1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalField;
+import java.time.temporal.WeekFields;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianWeekFields}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianWeekFieldsTest {
+
+    @Test
+    public void testOf() {
+        assertSame(PersianWeekFields.STANDARD, PersianWeekFields.of(1));
+        assertEquals(DayOfWeek.SATURDAY, PersianWeekFields.of(4).getFirstDayOfWeek());
+        assertEquals(4, PersianWeekFields.of(4).getMinimalDaysInFirstWeek());
+        assertEquals("PersianWeekFields[SATURDAY,4]", PersianWeekFields.of(4).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfInvalid() {
+        PersianWeekFields.of(8);
+    }
+
+    @Test
+    public void testDayOfWeek() {
+        final TemporalField dayOfWeek = PersianWeekFields.STANDARD.dayOfWeek();
+        // 1402-01-01 is a Tuesday
+        assertEquals(4, PersianDate.of(1402, 1, 1).get(dayOfWeek));
+        assertEquals(1, PersianDate.of(1401, 12, 27).get(dayOfWeek));
+        assertEquals(7, PersianDate.of(1402, 1, 4).get(dayOfWeek));
+        assertEquals(PersianDate.of(1401, 12, 27), PersianDate.of(1402, 1, 1).with(dayOfWeek, 1));
+        assertEquals(1, LocalDate.of(2023, 3, 18).get(dayOfWeek));
+    }
+
+    @Test
+    public void testStandardWeeks() {
+        final PersianWeekFields weekFields = PersianWeekFields.STANDARD;
+        final PersianDate nowruz = PersianDate.of(1402, 1, 1);
+        assertEquals(1, nowruz.get(weekFields.weekOfYear()));
+        assertEquals(1, nowruz.get(weekFields.weekOfWeekBasedYear()));
+        assertEquals(1402, nowruz.get(weekFields.weekBasedYear()));
+        assertEquals(2, PersianDate.of(1402, 1, 5).get(weekFields.weekOfYear()));
+        // the days of Esfand in the week of Nowruz belong to the next week-based-year
+        final PersianDate lastSaturday = PersianDate.of(1401, 12, 27);
+        assertEquals(1402, lastSaturday.get(weekFields.weekBasedYear()));
+        assertEquals(1, lastSaturday.get(weekFields.weekOfWeekBasedYear()));
+        assertEquals(53, lastSaturday.get(weekFields.weekOfYear()));
+    }
+
+    @Test
+    public void testAgainstWeekFields() {
+        for (int minimalDays = 1; minimalDays <= 7; minimalDays++) {
+            final PersianWeekFields persian = PersianWeekFields.of(minimalDays);
+            final WeekFields generic = WeekFields.of(DayOfWeek.SATURDAY, minimalDays);
+            for (PersianDate date = PersianDate.of(1398, 11, 1); date.getYear() < 1405; date = date.plusDays(1)) {
+                assertEquals(date.get(generic.dayOfWeek()), date.get(persian.dayOfWeek()));
+                assertEquals(date.get(generic.weekOfYear()), date.get(persian.weekOfYear()));
+                assertEquals(date.get(generic.weekOfWeekBasedYear()), date.get(persian.weekOfWeekBasedYear()));
+                assertEquals(date.get(generic.weekBasedYear()), date.get(persian.weekBasedYear()));
+                assertEquals(date.range(generic.weekOfYear()), date.range(persian.weekOfYear()));
+                assertEquals(date.range(generic.weekOfWeekBasedYear()), date.range(persian.weekOfWeekBasedYear()));
+                assertEquals(date.get(persian.weekBasedYear()), persian.getWeekBasedYear(date.toEpochDay()));
+                assertEquals(date.get(persian.weekOfWeekBasedYear()), persian.getWeekOfWeekBasedYear(date.toEpochDay()));
+            }
+        }
+    }
+
+    @Test
+    public void testWeekStart() {
+        final PersianWeekFields weekFields = PersianWeekFields.of(4);
+        final PersianDate date = PersianDate.of(1402, 5, 10);
+        final int week = date.get(weekFields.weekOfWeekBasedYear());
+        final long start = weekFields.getWeekStartEpochDay(date.get(weekFields.weekBasedYear()), week);
+        assertEquals(PersianWeekFields.startOfWeek(date.toEpochDay()), start);
+        assertEquals(DayOfWeek.SATURDAY, PersianDate.ofEpochDay(start).getDayOfWeek());
+        assertEquals(date.range(WeekFields.of(DayOfWeek.SATURDAY, 4).weekOfWeekBasedYear()).getMaximum(),
+                weekFields.weeksInWeekBasedYear(1402));
+    }
+
+    @Test
+    public void testWith() {
+        final PersianWeekFields weekFields = PersianWeekFields.STANDARD;
+        final PersianDate date = PersianDate.of(1402, 5, 10);
+        final PersianDate moved = date.with(weekFields.weekOfWeekBasedYear(), 10);
+        assertEquals(10, moved.get(weekFields.weekOfWeekBasedYear()));
+        assertEquals(date.getDayOfWeek(), moved.getDayOfWeek());
+        final PersianDate otherYear = date.with(weekFields.weekBasedYear(), 1400);
+        assertEquals(1400, otherYear.get(weekFields.weekBasedYear()));
+        assertEquals(date.get(weekFields.weekOfWeekBasedYear()), otherYear.get(weekFields.weekOfWeekBasedYear()));
+        assertEquals(date.getDayOfWeek(), otherYear.getDayOfWeek());
+    }
+
+    @Test
+    public void testFormatAndParse() {
+        final PersianWeekFields weekFields = PersianWeekFields.of(4);
+        final DateTimeFormatter formatter = new DateTimeFormatterBuilder()
+                .appendValue(weekFields.weekBasedYear(), 4)
+                .appendLiteral("-W")
+                .appendValue(weekFields.weekOfWeekBasedYear(), 2)
+                .appendLiteral('-')
+                .appendValue(weekFields.dayOfWeek(), 1)
+                .toFormatter()
+                .withChronology(PersianChronology.INSTANCE);
+        for (PersianDate date = PersianDate.of(1401, 12, 1); date.getYear() < 1403; date = date.plusDays(1)) {
+            assertEquals(date, PersianDate.parse(date.format(formatter), formatter));
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testParseInvalidWeek() {
+        final PersianWeekFields weekFields = PersianWeekFields.STANDARD;
+        final DateTimeFormatter formatter = new DateTimeFormatterBuilder()
+                .appendValue(weekFields.weekBasedYear(), 4)
+                .appendLiteral("-W")
+                .appendValue(weekFields.weekOfWeekBasedYear(), 2)
+                .appendLiteral('-')
+                .appendValue(weekFields.dayOfWeek(), 1)
+                .toFormatter()
+                .withChronology(PersianChronology.INSTANCE);
+        PersianDate.parse("1402-W60-1", formatter);
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianWindowOperator}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianWindowOperatorTest {
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    private static long epochMilli(int year, int month, int day, int hour) {
+        return PersianDateTime.of(year, month, day, hour, 0).atZone(TEHRAN).toInstant().toEpochMilli();
+    }
+
+    @Test
+    public void testTumblingMonths() {
+        final PersianBuckets months = PersianBuckets.of(PersianDate.of(1402, 1, 1), PersianDate.of(1403, 1, 1),
+                ChronoUnit.MONTHS, TEHRAN);
+        final List<PersianWindowOperator.Window> fired = new ArrayList<>();
+        final PersianWindowOperator operator = PersianWindowOperator.tumbling(months, Duration.ZERO, fired::add);
+        assertTrue(operator.add(epochMilli(1402, 6, 31, 23), 1));
+        assertTrue(operator.add(epochMilli(1402, 7, 1, 0), 2));
+        assertEquals(0, operator.advanceWatermark(epochMilli(1402, 6, 31, 23)));
+        assertEquals(1, operator.advanceWatermark(epochMilli(1402, 7, 1, 0)));
+        assertEquals(PersianDate.of(1402, 6, 1), fired.get(0).getStartDate());
+        assertEquals(1, fired.get(0).getStats().getSum(), 0);
+        assertEquals(epochMilli(1402, 7, 1, 0), fired.get(0).getEndEpochMilli());
+        // the window of Shahrivar has been fired, so the event is late
+        assertFalse(operator.add(epochMilli(1402, 6, 15, 0), 5));
+        assertEquals(1, operator.getDroppedCount());
+        assertEquals(1, operator.flush());
+        assertEquals(PersianDate.of(1402, 7, 1), fired.get(1).getStartDate());
+        assertEquals(2, fired.size());
+    }
+
+    @Test
+    public void testAllowedLateness() {
+        final PersianBuckets days = PersianBuckets.of(PersianDate.of(1402, 1, 1), PersianDate.of(1402, 2, 1),
+                ChronoUnit.DAYS, TEHRAN);
+        final List<PersianWindowOperator.Window> fired = new ArrayList<>();
+        final PersianWindowOperator operator = PersianWindowOperator.tumbling(days, Duration.ofHours(1), fired::add);
+        operator.add(epochMilli(1402, 1, 5, 10), 1);
+        assertEquals(0, operator.advanceWatermark(epochMilli(1402, 1, 6, 0) + 59 * 60_000L));
+        assertTrue(operator.add(epochMilli(1402, 1, 5, 23), 1));
+        assertEquals(1, operator.advanceWatermark(epochMilli(1402, 1, 6, 1)));
+        assertEquals(2, fired.get(0).getStats().getCount());
+        assertEquals(0, operator.advanceWatermark(epochMilli(1402, 1, 5, 0)));
+        assertEquals(epochMilli(1402, 1, 6, 1), operator.getWatermark());
+    }
+
+    @Test
+    public void testSlidingMatchesBruteForce() {
+        final PersianBuckets days = PersianBuckets.of(PersianDate.of(1398, 12, 20), PersianDate.of(1399, 3, 1),
+                ChronoUnit.DAYS, TEHRAN);
+        final long from = days.getStartEpochMilli(0);
+        final long to = days.getStartEpochMilli(days.size());
+        final Random random = new Random(11);
+        final long[] millis = new long[20_000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = from + (long) (random.nextDouble() * (to - from));
+        }
+        java.util.Arrays.sort(millis);
+        for (int[] sizeAndSlide : new int[][]{{7, 1}, {7, 7}, {3, 5}, {30, 2}}) {
+            final int size = sizeAndSlide[0];
+            final int slide = sizeAndSlide[1];
+            final List<PersianWindowOperator.Window> fired = new ArrayList<>();
+            final PersianWindowOperator operator = PersianWindowOperator.sliding(days, size, slide,
+                    Duration.ofMinutes(10), fired::add);
+            for (int i = 0; i < millis.length; i++) {
+                // events arrive up to 5 minutes out of order
+                operator.add(millis[i], i);
+                operator.advanceWatermark(millis[i] - 5 * 60_000L);
+            }
+            operator.flush();
+            assertEquals(0, operator.getDroppedCount() - countOutOfWindows(days, millis, size, slide));
+            int expectedWindows = 0;
+            for (int window = 0; window * slide + size <= days.size(); window++) {
+                final long start = days.getStartEpochMilli(window * slide);
+                final long end = days.getStartEpochMilli(window * slide + size);
+                long count = 0;
+                double sum = 0;
+                for (int i = 0; i < millis.length; i++) {
+                    if (millis[i] >= start && millis[i] < end) {
+                        count++;
+                        sum += i;
+                    }
+                }
+                if (count > 0) {
+                    final PersianWindowOperator.Window actual = fired.get(expectedWindows++);
+                    assertEquals(window, actual.getIndex());
+                    assertEquals(start, actual.getStartEpochMilli());
+                    assertEquals(count, actual.getStats().getCount());
+                    assertEquals(sum, actual.getStats().getSum(), 0);
+                }
+            }
+            assertEquals(expectedWindows, fired.size());
+        }
+    }
+
+    private static long countOutOfWindows(PersianBuckets buckets, long[] millis, int size, int slide) {
+        final int end = buckets.size() < size ? 0 : (buckets.size() - size) / slide * slide + size;
+        long count = 0;
+        for (long epochMilli : millis) {
+            final int bucket = buckets.indexOf(epochMilli);
+            if (bucket >= end || bucket % slide >= size) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testDaylightSavingDay() {
+        // 1399-01-02 was 23 hours long in Tehran
+        final PersianBuckets days = PersianBuckets.of(PersianDate.of(1399, 1, 1), PersianDate.of(1399, 1, 5),
+                ChronoUnit.DAYS, TEHRAN);
+        final List<PersianWindowOperator.Window> fired = new ArrayList<>();
+        final PersianWindowOperator operator = PersianWindowOperator.tumbling(days, Duration.ZERO, fired::add);
+        for (long t = days.getStartEpochMilli(0); t < days.getStartEpochMilli(4); t += 3_600_000L) {
+            operator.add(t, 1);
+        }
+        operator.flush();
+        assertEquals(24, fired.get(0).getStats().getCount());
+        assertEquals(23, fired.get(1).getStats().getCount());
+        assertEquals(24, fired.get(2).getStats().getCount());
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianYearMonth}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianYearMonthTest {
+
+    @Test
+    public void testOf() {
+        final PersianYearMonth yearMonth = PersianYearMonth.of(1402, 7);
+        assertEquals(1402, yearMonth.getYear());
+        assertEquals(7, yearMonth.getMonthValue());
+        assertEquals(PersianMonth.MEHR, yearMonth.getMonth());
+        assertSame(yearMonth, PersianYearMonth.of(1402, PersianMonth.MEHR));
+        assertSame(yearMonth, PersianYearMonth.of(PersianDate.of(1402, 7, 15)));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOfInvalidYear() {
+        PersianYearMonth.of(2000, 1);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOfInvalidMonth() {
+        PersianYearMonth.of(1402, 13);
+    }
+
+    @Test
+    public void testAgainstPersianDate() {
+        for (int year = 1; year <= 1999; year++) {
+            for (int month = 1; month <= 12; month++) {
+                final PersianYearMonth yearMonth = PersianYearMonth.of(year, month);
+                final PersianDate first = PersianDate.of(year, month, 1);
+                final PersianDate last = yearMonth.atEndOfMonth();
+                assertEquals(first, yearMonth.atDay(1));
+                assertEquals(first.toEpochDay(), yearMonth.getFirstEpochDay());
+                assertEquals(last.toEpochDay(), yearMonth.getLastEpochDay());
+                assertEquals(first.isLeapYear(), yearMonth.isLeapYear());
+                assertEquals(first.lengthOfYear(), yearMonth.lengthOfYear());
+                if (year < 1999 || month < 12) {
+                    assertEquals(first.lengthOfMonth(), yearMonth.lengthOfMonth());
+                    assertEquals(last, PersianDate.of(year, month, first.lengthOfMonth()));
+                }
+            }
+        }
+        assertEquals(PersianDate.MAX, PersianYearMonth.of(1999, 12).atEndOfMonth());
+    }
+
+    @Test
+    public void testAtDay() {
+        final PersianDate date = PersianYearMonth.of(1399, 12).atDay(30);
+        assertEquals(PersianDate.of(1399, 12, 30), date);
+        assertEquals(PersianDate.of(1399, 12, 30).toEpochDay(), date.toEpochDay());
+        assertEquals(PersianDate.of(1400, 1, 1), date.plusDays(1));
+        assertTrue(PersianYearMonth.of(1399, 12).isValidDay(30));
+        assertFalse(PersianYearMonth.of(1400, 12).isValidDay(30));
+        assertFalse(PersianYearMonth.of(1400, 1).isValidDay(0));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testAtDayInvalid() {
+        PersianYearMonth.of(1400, 12).atDay(30);
+    }
+
+    @Test
+    public void testPlusMonths() {
+        final PersianYearMonth yearMonth = PersianYearMonth.of(1402, 11);
+        assertEquals(PersianYearMonth.of(1403, 1), yearMonth.plusMonths(2));
+        assertEquals(PersianYearMonth.of(1401, 11), yearMonth.plusMonths(-12));
+        assertEquals(PersianYearMonth.of(1401, 11), yearMonth.minusMonths(12));
+        assertEquals(PersianYearMonth.of(1412, 11), yearMonth.plusYears(10));
+        assertEquals(PersianYearMonth.of(1392, 11), yearMonth.minusYears(10));
+        assertSame(yearMonth, yearMonth.plusMonths(0));
+        for (int months = -30; months <= 30; months++) {
+            assertEquals(PersianYearMonth.of(PersianDate.of(1402, 11, 1).plusMonths(months)), yearMonth.plusMonths(months));
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testPlusMonthsOutOfRange() {
+        PersianYearMonth.of(1999, 12).plusMonths(1);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testMinusYearsOutOfRange() {
+        PersianYearMonth.of(1, 1).minusYears(1);
+    }
+
+    @Test
+    public void testParseAndFormat() {
+        assertEquals(PersianYearMonth.of(1402, 1), PersianYearMonth.parse("1402-01"));
+        assertEquals("1402-01", PersianYearMonth.of(1402, 1).toString());
+        assertEquals("0012-11", PersianYearMonth.of(12, 11).toString());
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/yyyy");
+        assertEquals("07/1402", PersianYearMonth.of(1402, 7).format(formatter));
+        assertEquals(PersianYearMonth.of(1402, 7), PersianYearMonth.parse("07/1402", formatter));
+        assertEquals(PersianYearMonth.of(1402, 7), PersianYearMonth.parse("1402-07-15", DateTimeFormatter.ISO_LOCAL_DATE));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void testParseInvalid() {
+        PersianYearMonth.parse("1402-13");
+    }
+
+    @Test
+    public void testFrom() {
+        assertEquals(PersianYearMonth.of(1402, 1), PersianYearMonth.from(LocalDate.of(2023, 3, 21)));
+        assertEquals(PersianYearMonth.of(1401, 12), PersianYearMonth.from(LocalDate.of(2023, 3, 20)));
+        assertEquals(PersianYearMonth.of(1402, 1), PersianYearMonth.from(PersianDateTime.of(1402, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void testTemporalAccessor() {
+        final PersianYearMonth yearMonth = PersianYearMonth.of(1402, 7);
+        assertEquals(1402, yearMonth.getLong(ChronoField.YEAR));
+        assertEquals(7, yearMonth.get(ChronoField.MONTH_OF_YEAR));
+        assertEquals(1402 * 12 + 6, yearMonth.getLong(ChronoField.PROLEPTIC_MONTH));
+        assertTrue(yearMonth.isSupported(ChronoField.YEAR));
+        assertFalse(yearMonth.isSupported(ChronoField.DAY_OF_MONTH));
+        assertEquals(PersianChronology.INSTANCE.range(ChronoField.YEAR), yearMonth.range(ChronoField.YEAR));
+    }
+
+    @Test
+    public void testCompareAndHash() {
+        final PersianYearMonth ym1 = PersianYearMonth.of(1401, 12);
+        final PersianYearMonth ym2 = PersianYearMonth.of(1402, 1);
+        assertTrue(ym1.compareTo(ym2) < 0);
+        assertTrue(ym2.compareTo(ym1) > 0);
+        assertTrue(ym1.isBefore(ym2));
+        assertTrue(ym2.isAfter(ym1));
+        assertNotEquals(ym1, ym2);
+        assertNotEquals(ym1.hashCode(), ym2.hashCode());
+
+        final Map<PersianYearMonth, Integer> counts = new HashMap<>();
+        for (PersianDate date = PersianDate.of(1401, 1, 1); date.getYear() < 1403; date = date.plusDays(1)) {
+            counts.merge(PersianYearMonth.of(date), 1, Integer::sum);
+        }
+        assertEquals(24, counts.size());
+        assertEquals(Integer.valueOf(31), counts.get(PersianYearMonth.of(1402, 1)));
+        assertEquals(Integer.valueOf(29), counts.get(PersianYearMonth.of(1402, 12)));
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+
+import static org.junit.Assert.*;
+
+/**
+ * Provides unit tests for {@link PersianYear}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianYearTest {
+
+    @Test
+    public void testOf() {
+        final PersianYear year = PersianYear.of(1403);
+        assertEquals(1403, year.getValue());
+        assertTrue(year.isLeap());
+        assertEquals(366, year.length());
+        assertSame(year, PersianYear.of(1403));
+        assertFalse(PersianYear.of(1402).isLeap());
+        assertEquals(365, PersianYear.of(1402).length());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOfInvalid() {
+        PersianYear.of(0);
+    }
+
+    @Test
+    public void testAgainstPersianDate() {
+        for (int y = 1; y <= 1999; y++) {
+            final PersianYear year = PersianYear.of(y);
+            final PersianDate nowruz = PersianDate.of(y, 1, 1);
+            assertEquals(PersianDate.isLeapYear(y), year.isLeap());
+            assertEquals(nowruz.lengthOfYear(), year.length());
+            assertEquals(nowruz.toEpochDay(), year.getFirstEpochDay());
+            assertEquals(nowruz.getDayOfWeek(), year.getNowruzDayOfWeek());
+            for (int month = 1; month <= 12; month++) {
+                final PersianDate first = PersianDate.of(y, month, 1);
+                assertEquals(first.toEpochDay(), year.getMonthStartEpochDay(month));
+                assertEquals(first.lengthOfMonth(), year.lengthOfMonth(month));
+            }
+            assertEquals(year.atDay(year.length()).toEpochDay(), year.getLastEpochDay());
+        }
+    }
+
+    @Test
+    public void testAtDay() {
+        final PersianYear year = PersianYear.of(1399);
+        for (int dayOfYear = 1; dayOfYear <= year.length(); dayOfYear++) {
+            final PersianDate date = year.atDay(dayOfYear);
+            assertEquals(dayOfYear, date.getDayOfYear());
+            assertEquals(1399, date.getYear());
+            assertEquals(PersianDate.of(1399, date.getMonthValue(), date.getDayOfMonth()).toEpochDay(), date.toEpochDay());
+            assertEquals(year.getFirstEpochDay() + dayOfYear - 1, date.toEpochDay());
+        }
+        assertEquals(PersianDate.of(1399, 12, 30), year.atDay(366));
+        assertEquals(PersianDate.of(1399, 7, 1), year.atMonthDay(7, 1));
+        assertEquals(PersianYearMonth.of(1399, 7), year.atMonth(7));
+        assertTrue(year.isValidDay(366));
+        assertFalse(PersianYear.of(1400).isValidDay(366));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testAtDayInvalid() {
+        PersianYear.of(1400).atDay(366);
+    }
+
+    @Test
+    public void testNowruzDayOfWeek() {
+        // 1402-01-01 is 2023-03-21, a Tuesday
+        assertEquals(DayOfWeek.TUESDAY, PersianYear.of(1402).getNowruzDayOfWeek());
+        assertEquals(LocalDate.of(2023, 3, 21).toEpochDay(), PersianYear.of(1402).getFirstEpochDay());
+    }
+
+    @Test
+    public void testPlusYears() {
+        assertEquals(PersianYear.of(1410), PersianYear.of(1400).plusYears(10));
+        assertEquals(PersianYear.of(1390), PersianYear.of(1400).minusYears(10));
+        assertSame(PersianYear.of(1400), PersianYear.of(1400).plusYears(0));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testPlusYearsOutOfRange() {
+        PersianYear.of(1999).plusYears(1);
+    }
+
+    @Test
+    public void testFrom() {
+        assertEquals(PersianYear.of(1402), PersianYear.from(LocalDate.of(2023, 3, 21)));
+        assertEquals(PersianYear.of(1401), PersianYear.from(LocalDate.of(2023, 3, 20)));
+        assertEquals(PersianYear.of(1402), PersianYear.from(PersianYearMonth.of(1402, 5)));
+        assertEquals(PersianYear.of(1402), PersianYear.from(PersianDate.of(1402, 5, 5)));
+        assertEquals(1402, PersianYear.of(1402).getLong(ChronoField.YEAR));
+    }
+
+    @Test
+    public void testCompareAndEquals() {
+        assertTrue(PersianYear.of(1401).compareTo(PersianYear.of(1402)) < 0);
+        assertTrue(PersianYear.of(1401).isBefore(PersianYear.of(1402)));
+        assertTrue(PersianYear.of(1402).isAfter(PersianYear.of(1401)));
+        assertNotEquals(PersianYear.of(1401), PersianYear.of(1402));
+        assertEquals(1402, PersianYear.of(1402).hashCode());
+        assertEquals("1402", PersianYear.of(1402).toString());
+    }
+}
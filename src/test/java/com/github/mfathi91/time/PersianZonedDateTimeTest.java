@@ -0,0 +1,107 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Provides unit tests for {@link PersianZonedDateTime}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class PersianZonedDateTimeTest {
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    @Test
+    public void testOfInstantMatchesZonedDateTime() {
+        final ZoneId[] zones = {TEHRAN, ZoneId.of("Europe/Berlin"), ZoneOffset.ofHours(-5)};
+        for (ZoneId zone : zones) {
+            for (long epochSecond = 0; epochSecond < 2_000_000_000L; epochSecond += 86_399_917L) {
+                final Instant instant = Instant.ofEpochSecond(epochSecond, 123);
+                final ZonedDateTime expected = ZonedDateTime.ofInstant(instant, zone);
+                final PersianZonedDateTime actual = PersianZonedDateTime.ofInstant(instant, zone);
+                assertEquals(PersianZonedDateTime.fromGregorian(expected), actual);
+                assertEquals(expected, actual.toGregorian());
+                assertEquals(instant, actual.toInstant());
+            }
+        }
+    }
+
+    @Test
+    public void testOfInstantAcrossTehranDst() {
+        // 1401-01-02 00:00 +03:30 was the last switch to daylight saving time in Tehran
+        final PersianZonedDateTime before = PersianZonedDateTime.ofInstant(Instant.parse("2022-03-21T20:29:59Z"), TEHRAN);
+        final PersianZonedDateTime after = PersianZonedDateTime.ofInstant(Instant.parse("2022-03-21T20:30:00Z"), TEHRAN);
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), before.getOffset());
+        assertEquals(ZoneOffset.ofHoursMinutes(4, 30), after.getOffset());
+        assertEquals(PersianDateTime.of(1401, 1, 1, 23, 59, 59), before.toLocalDateTime());
+        assertEquals(PersianDateTime.of(1401, 1, 2, 1, 0), after.toLocalDateTime());
+    }
+
+    @Test
+    public void testOfLocalInGap() {
+        final PersianZonedDateTime zdt = PersianDateTime.of(1401, 1, 2, 0, 30).atZone(TEHRAN);
+        assertEquals(PersianDateTime.of(1401, 1, 2, 1, 30), zdt.toLocalDateTime());
+        assertEquals(ZoneOffset.ofHoursMinutes(4, 30), zdt.getOffset());
+    }
+
+    @Test
+    public void testOfLocalInOverlap() {
+        final PersianDateTime local = PersianDateTime.of(1400, 6, 30, 23, 30);
+        final PersianZonedDateTime earlier = local.atZone(TEHRAN);
+        final PersianZonedDateTime later = earlier.withLaterOffsetAtOverlap();
+        assertEquals(ZoneOffset.ofHoursMinutes(4, 30), earlier.getOffset());
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), later.getOffset());
+        assertEquals(earlier, later.withEarlierOffsetAtOverlap());
+        assertEquals(3600, later.toEpochSecond() - earlier.toEpochSecond());
+    }
+
+    @Test
+    public void testWithZoneSameInstant() {
+        final PersianZonedDateTime tehran = PersianDateTime.of(1402, 5, 10, 12, 0).atZone(TEHRAN);
+        final PersianZonedDateTime utc = tehran.withZoneSameInstant(ZoneOffset.UTC);
+        assertEquals(PersianDateTime.of(1402, 5, 10, 8, 30), utc.toLocalDateTime());
+        assertEquals(tehran.toInstant(), utc.toInstant());
+        assertNotEquals(tehran, utc);
+    }
+
+    @Test
+    public void testPlus() {
+        final PersianZonedDateTime zdt = PersianDateTime.of(1400, 12, 29, 22, 0).atZone(TEHRAN);
+        assertEquals(PersianDateTime.of(1401, 1, 1, 22, 0), zdt.plus(1, ChronoUnit.DAYS).toLocalDateTime());
+        assertEquals(PersianDateTime.of(1401, 1, 29, 22, 0), zdt.plus(1, ChronoUnit.MONTHS).toLocalDateTime());
+        assertEquals(PersianDateTime.of(1401, 1, 1, 0, 0), zdt.plus(2, ChronoUnit.HOURS).toLocalDateTime());
+        assertEquals(PersianDateTime.of(1400, 12, 29, 21, 0), zdt.minus(Duration.ofHours(1)).toLocalDateTime());
+    }
+
+    @Test
+    public void testUntil() {
+        final PersianZonedDateTime start = PersianDateTime.of(1401, 1, 1, 12, 0).atZone(TEHRAN);
+        final PersianZonedDateTime end = PersianDateTime.of(1401, 1, 3, 11, 0).atZone(TEHRAN);
+        assertEquals(1, start.until(end, ChronoUnit.DAYS));
+        // one hour is skipped by the daylight saving time transition
+        assertEquals(46, start.until(end, ChronoUnit.HOURS));
+        assertEquals(-1, end.until(start, ChronoUnit.DAYS));
+    }
+
+    @Test
+    public void testToString() {
+        final PersianZonedDateTime zdt = PersianDateTime.of(1402, 1, 1, 10, 15, 30).atZone(TEHRAN);
+        assertEquals("1402-01-01T10:15:30+03:30[Asia/Tehran]", zdt.toString());
+        assertEquals("1402-01-01T10:15:30Z", PersianDateTime.of(1402, 1, 1, 10, 15, 30)
+                .atZone(ZoneOffset.UTC).toString());
+    }
+
+    @Test
+    public void testToOffsetDateTime() {
+        final PersianZonedDateTime zdt = PersianDateTime.of(1402, 1, 1, 10, 15).atZone(TEHRAN);
+        final PersianOffsetDateTime odt = zdt.toOffsetDateTime();
+        assertEquals(zdt.toInstant(), odt.toInstant());
+        assertEquals(zdt, odt.atZoneSameInstant(TEHRAN));
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Provides unit tests for {@link ZoneOffsetCache}.
+ *
+ * @author Mahmoud Fathi
+ */
+public class ZoneOffsetCacheTest {
+
+    @Test
+    public void testOfReturnsSameInstance() {
+        assertSame(ZoneOffsetCache.of(ZoneId.of("Asia/Tehran")), ZoneOffsetCache.of(ZoneId.of("Asia/Tehran")));
+    }
+
+    @Test
+    public void testFixedOffset() {
+        final ZoneOffsetCache cache = ZoneOffsetCache.of(ZoneOffset.ofHoursMinutes(3, 30));
+        assertEquals(0, cache.size());
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), cache.getOffset(Long.MIN_VALUE / 2));
+    }
+
+    @Test
+    public void testGetOffsetMatchesZoneRules() {
+        for (String id : new String[]{"Asia/Tehran", "America/New_York", "Australia/Sydney"}) {
+            final ZoneRules rules = ZoneId.of(id).getRules();
+            final ZoneOffsetCache cache = ZoneOffsetCache.of(ZoneId.of(id));
+            // ascending, descending and random access all go through the last-hit check
+            for (long s = -3_000_000_000L; s < 5_000_000_000L; s += 3_599_999L) {
+                assertEquals(rules.getOffset(Instant.ofEpochSecond(s)), cache.getOffset(s));
+            }
+            for (long s = 5_000_000_000L; s > -3_000_000_000L; s -= 7_777_777L) {
+                assertEquals(rules.getOffset(Instant.ofEpochSecond(s)), cache.getOffset(s));
+            }
+        }
+    }
+
+    @Test
+    public void testGetOffsetAtTransition() {
+        final ZoneOffsetCache cache = ZoneOffsetCache.of(ZoneId.of("Asia/Tehran"));
+        final long transition = Instant.parse("2022-03-21T20:30:00Z").getEpochSecond();
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), cache.getOffset(transition - 1));
+        assertEquals(ZoneOffset.ofHoursMinutes(4, 30), cache.getOffset(transition));
+    }
+}